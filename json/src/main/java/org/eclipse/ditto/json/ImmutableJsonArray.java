@@ -87,6 +87,19 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation));
     }
 
+    /**
+     * Returns a new JSON array whose values are parsed from the given string on first access.
+     * Nested objects and arrays are parsed lazily as well.
+     *
+     * @param json a validated JSON string which contains the array.
+     * @param offset the position of the array's opening bracket within {@code json}.
+     * @return the JSON array.
+     * @see LazyJsonParser
+     */
+    static ImmutableJsonArray lazilyParsed(final String json, final int offset) {
+        return new ImmutableJsonArray(SoftReferencedValueList.lazilyParsed(json, offset));
+    }
+
     private static void checkValue(final Object value) {
         requireNonNull(value, "The value to add must not be null!");
     }
@@ -237,16 +250,38 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return valueList.asJsonArrayString();
     }
 
+    /**
+     * Returns the string representation of this array if it is already known, i. e. without creating it.
+     *
+     * @return the string representation or {@code null}.
+     */
+    @Nullable
+    String getStringRepresentationIfKnown() {
+        return valueList.jsonArrayStringRepresentation;
+    }
+
     @Immutable
     static final class SoftReferencedValueList {
 
-        private final String jsonArrayStringRepresentation;
+        @Nullable private String jsonArrayStringRepresentation;
         private int hashCode;
         private SoftReference<List<JsonValue>> valuesReference;
+        @Nullable private final String lazilyParsedJson;
+        private final int lazilyParsedOffset;
 
         private SoftReferencedValueList(final List<JsonValue> jsonValueList, final String stringRepresentation) {
             jsonArrayStringRepresentation = stringRepresentation;
             valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            lazilyParsedJson = null;
+            lazilyParsedOffset = 0;
+            hashCode = 0;
+        }
+
+        private SoftReferencedValueList(final String json, final int offset) {
+            jsonArrayStringRepresentation = null;
+            valuesReference = new SoftReference<>(null);
+            lazilyParsedJson = json;
+            lazilyParsedOffset = offset;
             hashCode = 0;
         }
 
@@ -254,6 +289,10 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return of(Collections.emptyList(), "[]");
         }
 
+        static SoftReferencedValueList lazilyParsed(final String json, final int offset) {
+            return new SoftReferencedValueList(json, offset);
+        }
+
         static SoftReferencedValueList of(final List<JsonValue> values) {
             return of(values, null);
         }
@@ -314,7 +353,12 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         private List<JsonValue> values() {
             List<JsonValue> result = valuesReference.get();
             if (null == result) {
-                result = parseToList(jsonArrayStringRepresentation);
+                if (null != lazilyParsedJson) {
+                    result = Collections.unmodifiableList(
+                            LazyJsonParser.parseValues(lazilyParsedJson, lazilyParsedOffset));
+                } else {
+                    result = parseToList(asJsonArrayString());
+                }
                 valuesReference = new SoftReference<>(result);
             }
             return result;
@@ -343,12 +387,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 return false;
             }
             final SoftReferencedValueList that = (SoftReferencedValueList) o;
-            if (jsonArrayStringRepresentation.equals(that.jsonArrayStringRepresentation)) {
-                return true;
-            } else if (jsonArrayStringRepresentation.length() == that.jsonArrayStringRepresentation.length()) {
-                return Objects.equals(values(), that.values());
+            final String stringRepresentation = jsonArrayStringRepresentation;
+            final String thatStringRepresentation = that.jsonArrayStringRepresentation;
+            if (null != stringRepresentation && null != thatStringRepresentation) {
+                if (stringRepresentation.equals(thatStringRepresentation)) {
+                    return true;
+                } else if (stringRepresentation.length() != thatStringRepresentation.length()) {
+                    return false;
+                }
             }
-            return false;
+            return Objects.equals(values(), that.values());
         }
 
         @Override
@@ -362,7 +410,13 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         String asJsonArrayString() {
-            return jsonArrayStringRepresentation;
+            String result = jsonArrayStringRepresentation;
+            if (null == result) {
+                // only lazily parsed arrays lack a string representation
+                result = createStringRepresentation(values());
+                jsonArrayStringRepresentation = result;
+            }
+            return result;
         }
 
     }
@@ -25,6 +25,13 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    /**
+     * Keys are mostly the field names of a few schemas like {@code thingId}, {@code features} or {@code value}; they
+     * are shared among all parsed JSON objects and JSON pointers.
+     */
+    private static final InterningCache<JsonKey> KEY_CACHE =
+            InterningCache.newInstance(4096, 64, ImmutableJsonKey::new);
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -32,10 +39,10 @@ final class ImmutableJsonKey implements JsonKey {
     }
 
     /**
-     * Returns a new JSON Key based on the provided string.
+     * Returns a JSON Key based on the provided string. Keys of frequently used strings are shared.
      *
      * @param keyValue the character sequence forming the keyValue's value.
-     * @return a new JSON Key.
+     * @return the JSON Key.
      * @throws NullPointerException if {@code keyValue} is {@code null}.
      * @throws IllegalArgumentException if {@code keyValue} is empty.
      */
@@ -48,7 +55,7 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        return KEY_CACHE.get(keyValue.toString());
     }
 
     @Override
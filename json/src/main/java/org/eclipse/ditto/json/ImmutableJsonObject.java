@@ -94,6 +94,19 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are parsed from the given string on first access.
+     * Nested objects and arrays are parsed lazily as well.
+     *
+     * @param json a validated JSON string which contains the object.
+     * @param offset the position of the object's opening brace within {@code json}.
+     * @return the JSON object.
+     * @see LazyJsonParser
+     */
+    static ImmutableJsonObject lazilyParsed(final String json, final int offset) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazilyParsed(json, offset));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -508,21 +521,69 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.asJsonObjectString();
     }
 
+    /**
+     * Returns the string representation of this object if it is already known, i. e. without creating it.
+     *
+     * @return the string representation or {@code null}.
+     */
+    @Nullable
+    String getStringRepresentationIfKnown() {
+        return fieldMap.jsonObjectStringRepresentation;
+    }
+
+    /**
+     * The fields of a JSON object in a {@link PersistentFieldMap}, so that altered objects share the unaltered fields.
+     * The string representation is created on first use. The fields of a JSON object which was parsed from a string
+     * are only softly referenced; they get parsed again from the string representation if they were garbage
+     * collected. The fields of a lazily parsed JSON object are parsed on first access from the JSON string which
+     * contains the object; its string representation is created from the fields like for any other object.
+     */
     @Immutable
     static final class SoftReferencedFieldMap {
 
-        private final String jsonObjectStringRepresentation;
+        private static final SoftReferencedFieldMap EMPTY =
+                new SoftReferencedFieldMap(PersistentFieldMap.empty(), "{}");
+
+        @Nullable private final PersistentFieldMap strongFields;
+        @Nullable private String jsonObjectStringRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private SoftReference<PersistentFieldMap> fieldsReference;
+        @Nullable private final String lazilyParsedJson;
+        private final int lazilyParsedOffset;
+
+        private SoftReferencedFieldMap(final PersistentFieldMap fields) {
+            strongFields = fields;
+            jsonObjectStringRepresentation = null;
+            fieldsReference = null;
+            lazilyParsedJson = null;
+            lazilyParsedOffset = 0;
+            hashCode = 0;
+        }
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap, final String stringRepresentation) {
+        private SoftReferencedFieldMap(final PersistentFieldMap fields, final String stringRepresentation) {
+            strongFields = null;
             jsonObjectStringRepresentation = stringRepresentation;
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            fieldsReference = new SoftReference<>(fields);
+            lazilyParsedJson = null;
+            lazilyParsedOffset = 0;
+            hashCode = 0;
+        }
+
+        private SoftReferencedFieldMap(final String json, final int offset) {
+            strongFields = null;
+            jsonObjectStringRepresentation = null;
+            fieldsReference = null;
+            lazilyParsedJson = json;
+            lazilyParsedOffset = offset;
             hashCode = 0;
         }
 
         static SoftReferencedFieldMap empty() {
-            return of(Collections.emptyMap(), "{}");
+            return EMPTY;
+        }
+
+        static SoftReferencedFieldMap lazilyParsed(final String json, final int offset) {
+            return new SoftReferencedFieldMap(json, offset);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
@@ -532,17 +593,18 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
 
+            final PersistentFieldMap fields = PersistentFieldMap.of(jsonFieldMap);
             if (null != stringRepresentation) {
-                return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation);
+                return new SoftReferencedFieldMap(fields, stringRepresentation);
             }
-            return new SoftReferencedFieldMap(jsonFieldMap, createStringRepresentation(jsonFieldMap));
+            return new SoftReferencedFieldMap(fields);
         }
 
-        private static String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
+        private static String createStringRepresentation(final Iterable<JsonField> jsonFields) {
             final StringBuilder stringBuilder = new StringBuilder(512);
             stringBuilder.append('{');
             String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
+            for (final JsonField jsonField : jsonFields) {
                 stringBuilder.append(delimiter);
                 stringBuilder.append(jsonField);
                 delimiter = ",";
@@ -570,48 +632,49 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+            return new SoftReferencedFieldMap(fields().put(key, value));
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            PersistentFieldMap result = fields();
+            for (final JsonField jsonField : jsonFields) {
+                result = result.put(jsonField.getKeyName(), jsonField);
+            }
+            return new SoftReferencedFieldMap(result);
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(fields().remove(key));
         }
 
         Stream<JsonField> getStream() {
-            return fields().values().stream();
+            return fields().stream();
         }
 
         Iterator<JsonField> getIterator() {
-            return fields().values().iterator();
+            return fields().iterator();
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+        private PersistentFieldMap fields() {
+            if (null != strongFields) {
+                return strongFields;
+            }
+            PersistentFieldMap result = null != fieldsReference ? fieldsReference.get() : null;
             if (null == result) {
-                result = parseToMap(jsonObjectStringRepresentation);
+                if (null != lazilyParsedJson) {
+                    result = PersistentFieldMap.of(LazyJsonParser.parseFields(lazilyParsedJson, lazilyParsedOffset));
+                } else {
+                    result = parseToMap(asJsonObjectString());
+                }
                 fieldsReference = new SoftReference<>(result);
             }
             return result;
         }
 
-        private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
+        private static PersistentFieldMap parseToMap(final String jsonObjectString) {
             final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
             JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+            return PersistentFieldMap.of(jsonHandler.getValue());
         }
 
         @Override
@@ -623,12 +686,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return false;
             }
             final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
-            if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
-                return true;
-            } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                return Objects.equals(fields(), that.fields());
+            final String stringRepresentation = jsonObjectStringRepresentation;
+            final String thatStringRepresentation = that.jsonObjectStringRepresentation;
+            if (null != stringRepresentation && null != thatStringRepresentation) {
+                if (stringRepresentation.equals(thatStringRepresentation)) {
+                    return true;
+                } else if (stringRepresentation.length() != thatStringRepresentation.length()) {
+                    return false;
+                }
             }
-            return false;
+            return Objects.equals(fields(), that.fields());
         }
 
         @Override
@@ -642,7 +709,13 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         String asJsonObjectString() {
-            return jsonObjectStringRepresentation;
+            String result = jsonObjectStringRepresentation;
+            if (null == result) {
+                // objects with strongly referenced fields and lazily parsed objects lack a string representation
+                result = createStringRepresentation(fields());
+                jsonObjectStringRepresentation = result;
+            }
+            return result;
         }
 
     }
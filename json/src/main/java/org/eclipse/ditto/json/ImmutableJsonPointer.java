@@ -44,6 +44,12 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
+    /**
+     * Parsed pointers like the paths of field definitions or of signals are shared instead of being parsed again.
+     */
+    private static final InterningCache<ImmutableJsonPointer> POINTER_CACHE =
+            InterningCache.newInstance(1024, 128, ImmutableJsonPointer::parse);
+
     private final List<JsonKey> jsonKeyHierarchy;
 
     private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
@@ -60,12 +66,12 @@ final class ImmutableJsonPointer implements JsonPointer {
     }
 
     /**
-     * Parses the given character sequence to obtain a new JSON pointer instance. This method is the inverse of
-     * {@link ImmutableJsonPointer#toString()}.
+     * Parses the given character sequence to obtain a JSON pointer instance. This method is the inverse of
+     * {@link ImmutableJsonPointer#toString()}. Pointers of frequently parsed strings are shared.
      *
      * @param slashDelimitedCharSequence a character sequence representing a JSON pointer. The leading slash may be
      * omitted.
-     * @return a new JSON pointer consisting of the JSON keys which were extracted from {@code
+     * @return a JSON pointer consisting of the JSON keys which were extracted from {@code
      * slashDelimitedCharSequence}.
      * @throws NullPointerException if {@code slashDelimitedCharSequence} is {@code null}.
      */
@@ -81,20 +87,24 @@ final class ImmutableJsonPointer implements JsonPointer {
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .filter(keyName -> !keyName.equals(SLASH)) // ignore "/" segments
-                    .map(ImmutableJsonPointer::decodeSlash)
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = POINTER_CACHE.get(slashDelimitedCharSequence.toString());
         }
 
         return result;
     }
 
+    private static ImmutableJsonPointer parse(final String slashDelimitedString) {
+        final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedString))
+                .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
+                .filter(keyName -> !keyName.equals(SLASH)) // ignore "/" segments
+                .map(ImmutableJsonPointer::decodeSlash)
+                .map(ImmutableJsonPointer::decodeTilde)
+                .map(JsonFactory::newKey)
+                .collect(toList());
+
+        return newInstance(jsonKeys);
+    }
+
     private static String decodeSlash(final CharSequence keyString) {
         final Matcher matcher = ESCAPED_SLASH_PATTERN.matcher(keyString);
         return matcher.replaceAll(SLASH);
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache of immutable instances which are created from strings, e. g. JSON keys, so that equal strings which
+ * occur over and over again, like the field names of a schema, share one instance instead of filling the heap with
+ * equal copies.
+ * <p>
+ * The cache is a fixed size array indexed by the hash of the string. An entry is replaced if another string with the
+ * same index is looked up; frequently used strings therefore stay in the cache while rarely used ones, e. g. IDs,
+ * are displaced. Lookups never block, and strings longer than the configured maximum are not cached at all.
+ * </p>
+ *
+ * @param <T> the type of the cached instances.
+ */
+@ThreadSafe
+final class InterningCache<T> {
+
+    private final AtomicReferenceArray<Entry<T>> entries;
+    private final int mask;
+    private final int maxStringLength;
+    private final Function<String, T> factory;
+
+    private InterningCache(final int capacity, final int maxStringLength, final Function<String, T> factory) {
+        entries = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        this.maxStringLength = maxStringLength;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a new cache.
+     *
+     * @param capacity the number of instances to cache at most; must be a power of two.
+     * @param maxStringLength the maximum length of strings whose instances are cached.
+     * @param factory creates the instance of a string; the created instances must be immutable.
+     * @param <T> the type of the cached instances.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code capacity} is no power of two.
+     */
+    static <T> InterningCache<T> newInstance(final int capacity, final int maxStringLength,
+            final Function<String, T> factory) {
+
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two but was <" + capacity + ">!");
+        }
+        return new InterningCache<>(capacity, maxStringLength, factory);
+    }
+
+    /**
+     * Returns the cached instance for the given string or creates it.
+     *
+     * @param string the string.
+     * @return the instance.
+     */
+    T get(final String string) {
+        if (string.length() > maxStringLength) {
+            return factory.apply(string);
+        }
+        final int hash = string.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        @Nullable final Entry<T> entry = entries.get(index);
+        if (null != entry && entry.string.equals(string)) {
+            return entry.instance;
+        }
+        final T result = factory.apply(string);
+        entries.lazySet(index, new Entry<>(string, result));
+        return result;
+    }
+
+    @Immutable
+    private static final class Entry<T> {
+
+        private final String string;
+        private final T instance;
+
+        private Entry(final String string, final T instance) {
+            this.string = string;
+            this.instance = instance;
+        }
+
+    }
+
+}
@@ -14,7 +14,10 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
@@ -136,6 +139,20 @@ public final class JsonFactory {
         return ImmutableJsonDouble.of(value);
     }
 
+    /**
+     * Indicates whether the given JSON value is a floating point number, i. e. it was created by
+     * {@link #newValue(double)} or parsed from a number with a fraction or an exponent. A floating point number keeps
+     * its type even if its value is a whole number and thus {@link JsonValue#isLong()} returns {@code true} for it.
+     *
+     * @param jsonValue the JSON value to check.
+     * @return {@code true} if {@code jsonValue} is a floating point number, {@code false} else.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     */
+    public static boolean isFloatingPointNumber(final JsonValue jsonValue) {
+        requireNonNull(jsonValue, "The JSON value to be checked must not be null!");
+        return jsonValue instanceof ImmutableJsonDouble;
+    }
+
     /**
      * Returns a JsonValue that represents the given Java string as JSON string. For example the Java string
      * {@code "foo"} would be {@code "\"foo\""} as JSON string.
@@ -193,6 +210,60 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Parses the remaining bytes of the given buffer as UTF-8 encoded JSON value. Keys and strings are decoded directly
+     * from the bytes, i. e. the input is not decoded to a string first. The position of the buffer is set to its limit.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON value.
+     * @return a JSON value which represents the read bytes.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer) {
+        return Utf8JsonParser.parse(byteBuffer);
+    }
+
+    /**
+     * Parses the given bytes as UTF-8 encoded JSON value. Keys and strings are decoded directly from the bytes, i. e.
+     * the input is not decoded to a string first.
+     *
+     * @param bytes the UTF-8 encoded JSON value.
+     * @return a JSON value which represents the read bytes.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     */
+    public static JsonValue readFrom(final byte[] bytes) {
+        requireNonNull(bytes, "The bytes to read from must not be null!");
+        return Utf8JsonParser.parse(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Writes the UTF-8 encoded string representation of the given JSON value to the given buffer, starting at its
+     * current position. Keys and strings are encoded directly into the buffer.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} do not suffice; the
+     * position of the buffer is undefined afterwards.
+     */
+    public static void writeTo(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        Utf8JsonWriter.write(jsonValue, byteBuffer);
+    }
+
+    /**
+     * Writes the UTF-8 encoded string representation of the given JSON value to the given stream. Keys and strings are
+     * encoded directly into an internal buffer. The stream is neither flushed nor closed.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param outputStream the stream to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    public static void writeTo(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        Utf8JsonWriter.write(jsonValue, outputStream);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -253,6 +324,39 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which materializes its fields only when they are accessed.
+     * The string is validated completely, but nested objects and arrays are parsed level by level on first access.
+     * Nested objects and arrays only keep a reference to the given string and their position within it. The string
+     * representation of the returned object equals the one of an object created by {@link #newObject(String)}.
+     * <p>
+     * This is cheaper than {@link #newObject(String)} for large JSON objects of which only few fields are accessed.
+     * </p>
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the JSON object that has been created from the string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     */
+    public static JsonObject newObjectLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        } else {
+            final JsonValue jsonValue = LazyJsonParser.parse(jsonString);
+            if (!jsonValue.isObject()) {
+                final String msgPattern = "<{0}> is not a valid JSON object!";
+                throw JsonParseException.newBuilder().message(MessageFormat.format(msgPattern, jsonString)).build();
+            }
+            return jsonValue.asObject();
+        }
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return "null".equals(s);
     }
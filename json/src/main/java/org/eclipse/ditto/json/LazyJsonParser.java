@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Parser which validates a JSON string completely but materializes only the top level of a JSON object or array.
+ * Nested objects and arrays keep a reference to the original JSON string and their offset within it; they are
+ * materialized level by level on first access of their fields or values. The string representation of a lazily
+ * parsed object or array is created from its materialized fields or values, thus it equals the string
+ * representation of the same object or array parsed by {@link JsonFactory#newObject(String)}.
+ */
+@NotThreadSafe
+final class LazyJsonParser {
+
+    /**
+     * Integers of at most this many characters, including the sign, fit into a long.
+     */
+    private static final int MAX_SAFE_INTEGER_LENGTH = 18;
+
+    private final String json;
+    private int position;
+
+    private LazyJsonParser(final String json, final int offset) {
+        this.json = json;
+        position = offset;
+    }
+
+    /**
+     * Validates the given JSON string and returns its value. Objects and arrays are materialized lazily.
+     *
+     * @param jsonString the JSON string.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is no valid JSON.
+     */
+    static JsonValue parse(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+        final LazyJsonParser parser = new LazyJsonParser(jsonString, 0);
+        try {
+            parser.skipWhitespace();
+            final int start = parser.position;
+            parser.skipValue();
+            final int end = parser.position;
+            parser.skipWhitespace();
+            if (parser.position < jsonString.length()) {
+                throw parser.unexpectedCharacter();
+            }
+            return parser.valueOf(start, end);
+        } catch (final IllegalArgumentException | StackOverflowError e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON string ''{0}''!", jsonString))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Materializes the fields of a JSON object within an already validated JSON string.
+     *
+     * @param json the validated JSON string which contains the object.
+     * @param offset the position of the object's opening brace within {@code json}.
+     * @return the fields of the object by their key names.
+     */
+    static Map<String, JsonField> parseFields(final String json, final int offset) {
+        final LazyJsonParser parser = new LazyJsonParser(json, offset);
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        parser.skipWhitespace();
+        parser.expect('{');
+        parser.skipWhitespace();
+        if (parser.consumeIf('}')) {
+            return result;
+        }
+        do {
+            parser.skipWhitespace();
+            final String key = parser.readString();
+            parser.skipWhitespace();
+            parser.expect(':');
+            parser.skipWhitespace();
+            final int start = parser.position;
+            parser.skipValue();
+            final JsonField field = JsonField.newInstance(key, parser.valueOf(start, parser.position));
+            // the key name of the field is shared among all objects with the same key
+            result.put(field.getKeyName(), field);
+            parser.skipWhitespace();
+        } while (parser.consumeIf(','));
+        parser.expect('}');
+        return result;
+    }
+
+    /**
+     * Materializes the values of a JSON array within an already validated JSON string.
+     *
+     * @param json the validated JSON string which contains the array.
+     * @param offset the position of the array's opening bracket within {@code json}.
+     * @return the values of the array.
+     */
+    static List<JsonValue> parseValues(final String json, final int offset) {
+        final LazyJsonParser parser = new LazyJsonParser(json, offset);
+        final List<JsonValue> result = new ArrayList<>();
+        parser.skipWhitespace();
+        parser.expect('[');
+        parser.skipWhitespace();
+        if (parser.consumeIf(']')) {
+            return result;
+        }
+        do {
+            parser.skipWhitespace();
+            final int start = parser.position;
+            parser.skipValue();
+            result.add(parser.valueOf(start, parser.position));
+            parser.skipWhitespace();
+        } while (parser.consumeIf(','));
+        parser.expect(']');
+        return result;
+    }
+
+    private JsonValue valueOf(final int start, final int end) {
+        final char c = json.charAt(start);
+        switch (c) {
+            case '{':
+                return ImmutableJsonObject.lazilyParsed(json, start);
+            case '[':
+                return ImmutableJsonArray.lazilyParsed(json, start);
+            case '"':
+                position = start;
+                return ImmutableJsonString.of(readString());
+            case 't':
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                return ImmutableJsonNull.getInstance();
+            default:
+                return DefaultDittoJsonHandler.getNumberFor(json.substring(start, end));
+        }
+    }
+
+    private void skipValue() {
+        if (position >= json.length()) {
+            throw unexpectedEnd();
+        }
+        switch (json.charAt(position)) {
+            case '{':
+                skipObject();
+                break;
+            case '[':
+                skipArray();
+                break;
+            case '"':
+                skipString();
+                break;
+            case 't':
+                skipLiteral("true");
+                break;
+            case 'f':
+                skipLiteral("false");
+                break;
+            case 'n':
+                skipLiteral("null");
+                break;
+            default:
+                skipNumber();
+        }
+    }
+
+    private void skipObject() {
+        expect('{');
+        skipWhitespace();
+        if (consumeIf('}')) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            final int keyStart = position;
+            skipString();
+            if (position - keyStart == 2) {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("Empty key at position {0} is not allowed!", keyStart));
+            }
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            skipValue();
+            skipWhitespace();
+        } while (consumeIf(','));
+        expect('}');
+    }
+
+    private void skipArray() {
+        expect('[');
+        skipWhitespace();
+        if (consumeIf(']')) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            skipValue();
+            skipWhitespace();
+        } while (consumeIf(','));
+        expect(']');
+    }
+
+    private void skipString() {
+        expect('"');
+        while (position < json.length()) {
+            final char c = json.charAt(position++);
+            if ('"' == c) {
+                return;
+            } else if ('\\' == c) {
+                skipEscapeSequence();
+            } else if (c < 0x20) {
+                position--;
+                throw unexpectedCharacter();
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    private void skipEscapeSequence() {
+        if (position >= json.length()) {
+            throw unexpectedEnd();
+        }
+        final char c = json.charAt(position++);
+        if ('u' == c) {
+            for (int i = 0; i < 4; i++) {
+                if (position >= json.length()) {
+                    throw unexpectedEnd();
+                }
+                if (Character.digit(json.charAt(position++), 16) < 0) {
+                    position--;
+                    throw unexpectedCharacter();
+                }
+            }
+        } else if ("\"\\/bfnrt".indexOf(c) < 0) {
+            position--;
+            throw unexpectedCharacter();
+        }
+    }
+
+    private String readString() {
+        expect('"');
+        final int start = position;
+        @Nullable StringBuilder builder = null;
+        int chunkStart = start;
+        while (true) {
+            final char c = json.charAt(position);
+            if ('"' == c) {
+                final String result;
+                if (null == builder) {
+                    result = json.substring(start, position);
+                } else {
+                    result = builder.append(json, chunkStart, position).toString();
+                }
+                position++;
+                return result;
+            } else if ('\\' == c) {
+                if (null == builder) {
+                    builder = new StringBuilder(position - start + 16);
+                }
+                builder.append(json, chunkStart, position);
+                position++;
+                builder.append(readEscapedChar());
+                chunkStart = position;
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private char readEscapedChar() {
+        final char c = json.charAt(position++);
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                final char result = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+                position += 4;
+                return result;
+            default:
+                // '"', '\\' and '/'
+                return c;
+        }
+    }
+
+    private void skipLiteral(final String literal) {
+        if (!json.startsWith(literal, position)) {
+            throw unexpectedCharacter();
+        }
+        position += literal.length();
+    }
+
+    private void skipNumber() {
+        final int start = position;
+        consumeIf('-');
+        if (!consumeIf('0') && !skipDigits()) {
+            throw unexpectedCharacter();
+        }
+        boolean isDecimal = false;
+        if (consumeIf('.')) {
+            isDecimal = true;
+            if (!skipDigits()) {
+                throw unexpectedCharacter();
+            }
+        }
+        if (consumeIf('e') || consumeIf('E')) {
+            isDecimal = true;
+            if (!consumeIf('+')) {
+                consumeIf('-');
+            }
+            if (!skipDigits()) {
+                throw unexpectedCharacter();
+            }
+        }
+        if (!isDecimal && position - start > MAX_SAFE_INTEGER_LENGTH) {
+            // fail now instead of on materialization if the integer exceeds the range of long
+            DefaultDittoJsonHandler.getNumberFor(json.substring(start, position));
+        }
+    }
+
+    private boolean skipDigits() {
+        final int start = position;
+        while (position < json.length() && isDigit(json.charAt(position))) {
+            position++;
+        }
+        return position > start;
+    }
+
+    private static boolean isDigit(final char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length()) {
+            final char c = json.charAt(position);
+            if (' ' != c && '\t' != c && '\n' != c && '\r' != c) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private boolean consumeIf(final char c) {
+        if (position < json.length() && json.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (position >= json.length()) {
+            throw unexpectedEnd();
+        }
+        if (json.charAt(position) != c) {
+            throw unexpectedCharacter();
+        }
+        position++;
+    }
+
+    private IllegalArgumentException unexpectedCharacter() {
+        if (position >= json.length()) {
+            return unexpectedEnd();
+        }
+        return new IllegalArgumentException(
+                MessageFormat.format("Unexpected character <{0}> at position {1}!", json.charAt(position), position));
+    }
+
+    private static IllegalArgumentException unexpectedEnd() {
+        return new IllegalArgumentException("Unexpected end of input!");
+    }
+
+}
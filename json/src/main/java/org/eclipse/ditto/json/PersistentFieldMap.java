@@ -0,0 +1,570 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Persistent map of JSON fields by their key names which keeps the insertion order of the keys like a
+ * {@link java.util.LinkedHashMap}.
+ * <p>
+ * The fields are held in a hash array mapped trie for lookup and in a persistent vector for iteration order.
+ * Both structures share all unaffected nodes with the map an altered map was derived from, thus {@code put} and
+ * {@code remove} take {@code O(log n)} time and space instead of copying all fields.
+ * Removed fields leave a gap in the vector which is compacted once more than half of its slots are gaps.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap implements Iterable<JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(BitmapNode.EMPTY, EntryVector.EMPTY, 0);
+
+    private final Node root;
+    private final EntryVector entries;
+    private final int size;
+
+    private PersistentFieldMap(final Node root, final EntryVector entries, final int size) {
+        this.root = root;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map which contains the entries of the given map in its iteration order.
+     *
+     * @param fields the fields by their key names.
+     * @return the map.
+     */
+    static PersistentFieldMap of(final Map<String, JsonField> fields) {
+        PersistentFieldMap result = EMPTY;
+        for (final Map.Entry<String, JsonField> entry : fields.entrySet()) {
+            result = result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Nullable
+    JsonField get(final String key) {
+        final Entry entry = root.find(key, hash(key), 0);
+        return null != entry ? entry.field : null;
+    }
+
+    boolean containsKey(final String key) {
+        return null != root.find(key, hash(key), 0);
+    }
+
+    /**
+     * Associates a field with a key. A field replacing the field of an existing key keeps the position of that key.
+     *
+     * @param key the key name.
+     * @param field the field.
+     * @return the altered map.
+     */
+    PersistentFieldMap put(final String key, final JsonField field) {
+        final int hash = hash(key);
+        final Entry existing = root.find(key, hash, 0);
+        if (null != existing) {
+            final Entry replacement = new Entry(key, field, existing.index);
+            return new PersistentFieldMap(root.put(replacement, hash, 0), entries.set(existing.index, replacement),
+                    size);
+        }
+        final Entry entry = new Entry(key, field, entries.size);
+        return new PersistentFieldMap(root.put(entry, hash, 0), entries.append(entry), size + 1);
+    }
+
+    /**
+     * Removes the field of a key.
+     *
+     * @param key the key name.
+     * @return the altered map or this map if it does not contain the key.
+     */
+    PersistentFieldMap remove(final String key) {
+        final int hash = hash(key);
+        final Entry existing = root.find(key, hash, 0);
+        if (null == existing) {
+            return this;
+        }
+        final Node newRoot = root.remove(key, hash, 0);
+        final PersistentFieldMap result = new PersistentFieldMap(null != newRoot ? newRoot : BitmapNode.EMPTY,
+                entries.set(existing.index, null), size - 1);
+        if (WIDTH < result.entries.size && result.size * 2 < result.entries.size) {
+            return result.compact();
+        }
+        return result;
+    }
+
+    private PersistentFieldMap compact() {
+        PersistentFieldMap result = EMPTY;
+        for (final Iterator<Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+            final Entry entry = iterator.next();
+            result = result.put(entry.key, entry.field);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<JsonField> iterator() {
+        final Iterator<Entry> entryIterator = entries.iterator();
+        return new Iterator<JsonField>() {
+            @Override
+            public boolean hasNext() {
+                return entryIterator.hasNext();
+            }
+
+            @Override
+            public JsonField next() {
+                return entryIterator.next().field;
+            }
+        };
+    }
+
+    Stream<JsonField> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.IMMUTABLE), false);
+    }
+
+    private static int hash(final String key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Compares the key-field associations regardless of their order like {@link Map#equals(Object)}.
+     */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PersistentFieldMap that = (PersistentFieldMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (final Iterator<Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+            final Entry entry = iterator.next();
+            final Entry otherEntry = that.root.find(entry.key, hash(entry.key), 0);
+            if (null == otherEntry || !entry.field.equals(otherEntry.field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the hash code like {@link Map#hashCode()}.
+     */
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (final Iterator<Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+            final Entry entry = iterator.next();
+            result += entry.key.hashCode() ^ entry.field.hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "size=" + size +
+                "]";
+    }
+
+    @Immutable
+    private static final class Entry {
+
+        private final String key;
+        private final JsonField field;
+        private final int index;
+
+        private Entry(final String key, final JsonField field, final int index) {
+            this.key = key;
+            this.field = field;
+            this.index = index;
+        }
+
+    }
+
+    /**
+     * Node of the hash array mapped trie.
+     */
+    private interface Node {
+
+        @Nullable
+        Entry find(String key, int hash, int shift);
+
+        Node put(Entry entry, int hash, int shift);
+
+        /**
+         * @return the node without the key, this node if it does not contain the key or {@code null} if the node
+         * would be empty.
+         */
+        @Nullable
+        Node remove(String key, int hash, int shift);
+
+    }
+
+    /**
+     * Node whose slots are either entries or sub nodes; a bitmap of the hash bits of the level tells which slots are
+     * present.
+     */
+    @Immutable
+    private static final class BitmapNode implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Nullable
+        @Override
+        public Entry find(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object slot = slots[index(bit)];
+            if (slot instanceof Entry) {
+                final Entry entry = (Entry) slot;
+                return entry.key.equals(key) ? entry : null;
+            }
+            return ((Node) slot).find(key, hash, shift + BITS);
+        }
+
+        @Override
+        public Node put(final Entry entry, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            final int index = index(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof Entry) {
+                final Entry existing = (Entry) slot;
+                if (existing.key.equals(entry.key)) {
+                    newSlot = entry;
+                } else {
+                    newSlot = createNode(existing, hash(existing.key), entry, hash, shift + BITS);
+                }
+            } else {
+                newSlot = ((Node) slot).put(entry, hash, shift + BITS);
+            }
+            final Object[] newSlots = slots.clone();
+            newSlots[index] = newSlot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object slot = slots[index];
+            if (slot instanceof Entry) {
+                return ((Entry) slot).key.equals(key) ? withoutSlot(bit, index) : this;
+            }
+            final Node node = (Node) slot;
+            final Node newNode = node.remove(key, hash, shift + BITS);
+            if (newNode == node) {
+                return this;
+            } else if (null == newNode) {
+                return withoutSlot(bit, index);
+            }
+            final Object[] newSlots = slots.clone();
+            newSlots[index] = newNode;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        @Nullable
+        private BitmapNode withoutSlot(final int bit, final int index) {
+            if (1 == slots.length) {
+                return null;
+            }
+            final Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private static Node createNode(final Entry first, final int firstHash, final Entry second,
+                final int secondHash, final int shift) {
+
+            if (shift >= Integer.SIZE) {
+                // all hash bits are consumed: the hashes are equal
+                return new CollisionNode(new Entry[]{first, second});
+            }
+            return EMPTY.put(first, firstHash, shift).put(second, secondHash, shift);
+        }
+
+    }
+
+    /**
+     * Node of entries whose keys have the same hash.
+     */
+    @Immutable
+    private static final class CollisionNode implements Node {
+
+        private final Entry[] entries;
+
+        private CollisionNode(final Entry[] entries) {
+            this.entries = entries;
+        }
+
+        @Nullable
+        @Override
+        public Entry find(final String key, final int hash, final int shift) {
+            for (final Entry entry : entries) {
+                if (entry.key.equals(key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Node put(final Entry entry, final int hash, final int shift) {
+            for (int i = 0; i < entries.length; ++i) {
+                if (entries[i].key.equals(entry.key)) {
+                    final Entry[] newEntries = entries.clone();
+                    newEntries[i] = entry;
+                    return new CollisionNode(newEntries);
+                }
+            }
+            final Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            return new CollisionNode(newEntries);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(final String key, final int hash, final int shift) {
+            for (int i = 0; i < entries.length; ++i) {
+                if (entries[i].key.equals(key)) {
+                    if (1 == entries.length) {
+                        return null;
+                    }
+                    final Entry[] newEntries = new Entry[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                    return new CollisionNode(newEntries);
+                }
+            }
+            return this;
+        }
+
+    }
+
+    /**
+     * Persistent vector of entries in insertion order: a trie of arrays with {@value #WIDTH} slots plus a tail array
+     * which takes the appended entries until it is full. Removed entries are {@code null}.
+     */
+    @Immutable
+    private static final class EntryVector {
+
+        private static final EntryVector EMPTY = new EntryVector(0, BITS, new Object[WIDTH], new Object[0]);
+
+        private final int size;
+        private final int shift;
+        private final Object[] root;
+        private final Object[] tail;
+
+        private EntryVector(final int size, final int shift, final Object[] root, final Object[] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        private int tailOffset() {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        private Object[] leafFor(final int index) {
+            if (index >= tailOffset()) {
+                return tail;
+            }
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            return node;
+        }
+
+        private EntryVector append(final Entry entry) {
+            if (size - tailOffset() < WIDTH) {
+                final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+                newTail[tail.length] = entry;
+                return new EntryVector(size + 1, shift, root, newTail);
+            }
+            final Object[] newRoot;
+            int newShift = shift;
+            if ((size >>> BITS) > (1 << shift)) {
+                // the trie is full: add a level
+                newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                newRoot[1] = newPath(shift, tail);
+                newShift += BITS;
+            } else {
+                newRoot = pushTail(shift, root, tail);
+            }
+            return new EntryVector(size + 1, newShift, newRoot, new Object[]{entry});
+        }
+
+        private Object[] pushTail(final int level, final Object[] parent, final Object[] tailNode) {
+            final int subIndex = ((size - 1) >>> level) & MASK;
+            final Object[] result = parent.clone();
+            final Object[] nodeToInsert;
+            if (BITS == level) {
+                nodeToInsert = tailNode;
+            } else {
+                final Object[] child = (Object[]) parent[subIndex];
+                nodeToInsert = null != child
+                        ? pushTail(level - BITS, child, tailNode)
+                        : newPath(level - BITS, tailNode);
+            }
+            result[subIndex] = nodeToInsert;
+            return result;
+        }
+
+        private static Object[] newPath(final int level, final Object[] node) {
+            if (0 == level) {
+                return node;
+            }
+            final Object[] result = new Object[WIDTH];
+            result[0] = newPath(level - BITS, node);
+            return result;
+        }
+
+        private EntryVector set(final int index, @Nullable final Entry entry) {
+            if (index >= tailOffset()) {
+                final Object[] newTail = tail.clone();
+                newTail[index & MASK] = entry;
+                return new EntryVector(size, shift, root, newTail);
+            }
+            return new EntryVector(size, shift, set(shift, root, index, entry), tail);
+        }
+
+        private static Object[] set(final int level, final Object[] node, final int index,
+                @Nullable final Entry entry) {
+
+            final Object[] result = node.clone();
+            if (0 == level) {
+                result[index & MASK] = entry;
+            } else {
+                final int subIndex = (index >>> level) & MASK;
+                result[subIndex] = set(level - BITS, (Object[]) node[subIndex], index, entry);
+            }
+            return result;
+        }
+
+        /**
+         * @return an iterator of the present entries.
+         */
+        private Iterator<Entry> iterator() {
+            return new Iterator<Entry>() {
+                private int index = 0;
+                @Nullable
+                private Object[] leaf = null;
+                @Nullable
+                private Entry next = advance();
+
+                @Nullable
+                private Entry advance() {
+                    while (index < size) {
+                        if (null == leaf || 0 == (index & MASK)) {
+                            leaf = leafFor(index);
+                        }
+                        final Object slot = leaf[index & MASK];
+                        index++;
+                        if (null != slot) {
+                            return (Entry) slot;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return null != next;
+                }
+
+                @Override
+                public Entry next() {
+                    final Entry result = next;
+                    if (null == result) {
+                        throw new NoSuchElementException();
+                    }
+                    next = advance();
+                    return result;
+                }
+            };
+        }
+
+    }
+
+}
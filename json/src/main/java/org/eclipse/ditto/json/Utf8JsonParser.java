@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Parser of UTF-8 encoded JSON which reads the bytes directly instead of decoding them to a String first.
+ * Keys and string values are decoded from the bytes into a reused char buffer. Malformed UTF-8 sequences are replaced
+ * by {@code U+FFFD} exactly like {@link java.nio.charset.Charset#decode(ByteBuffer)} does.
+ */
+@NotThreadSafe
+final class Utf8JsonParser {
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private char[] chars;
+    private int charCount;
+
+    private Utf8JsonParser(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        limit = buffer.limit();
+        position = buffer.position();
+        chars = new char[64];
+        charCount = 0;
+    }
+
+    /**
+     * Parses the remaining bytes of the given buffer. The buffer's position is set to its limit afterwards.
+     *
+     * @param byteBuffer the buffer containing UTF-8 encoded JSON.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     */
+    static JsonValue parse(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to be parsed must not be null!");
+        final Utf8JsonParser parser = new Utf8JsonParser(byteBuffer);
+        try {
+            parser.skipWhitespace();
+            final JsonValue result = parser.parseValue();
+            parser.skipWhitespace();
+            if (parser.position < parser.limit) {
+                throw parser.unexpectedByte();
+            }
+            byteBuffer.position(parser.limit);
+            return result;
+        } catch (final IllegalArgumentException | StackOverflowError e) {
+            // ditto-json throws IllegalArgumentException for example for empty keys
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from UTF-8 bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private JsonValue parseValue() {
+        switch (peek()) {
+            case '{':
+                return parseObject();
+            case '[':
+                return parseArray();
+            case '"':
+                return ImmutableJsonString.of(readString());
+            case 't':
+                skipLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                skipLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                skipLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            default:
+                return parseNumber();
+        }
+    }
+
+    private JsonValue parseObject() {
+        expect('{');
+        skipWhitespace();
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        if (!consumeIf('}')) {
+            do {
+                skipWhitespace();
+                final String key = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                final JsonField field = JsonField.newInstance(key, parseValue());
+                fields.put(field.getKeyName(), field);
+                skipWhitespace();
+            } while (consumeIf(','));
+            expect('}');
+        }
+        return ImmutableJsonObject.of(fields);
+    }
+
+    private JsonValue parseArray() {
+        expect('[');
+        skipWhitespace();
+        final List<JsonValue> values = new ArrayList<>();
+        if (!consumeIf(']')) {
+            do {
+                skipWhitespace();
+                values.add(parseValue());
+                skipWhitespace();
+            } while (consumeIf(','));
+            expect(']');
+        }
+        return ImmutableJsonArray.of(values);
+    }
+
+    private JsonValue parseNumber() {
+        final int start = position;
+        consumeIf('-');
+        if (!consumeIf('0') && !skipDigits()) {
+            throw unexpectedByte();
+        }
+        if (consumeIf('.') && !skipDigits()) {
+            throw unexpectedByte();
+        }
+        if (consumeIf('e') || consumeIf('E')) {
+            if (!consumeIf('+')) {
+                consumeIf('-');
+            }
+            if (!skipDigits()) {
+                throw unexpectedByte();
+            }
+        }
+        charCount = 0;
+        for (int i = start; i < position; i++) {
+            append((char) buffer.get(i));
+        }
+        return DefaultDittoJsonHandler.getNumberFor(new String(chars, 0, charCount));
+    }
+
+    private boolean skipDigits() {
+        final int start = position;
+        while (position < limit && isDigit(buffer.get(position))) {
+            position++;
+        }
+        return position > start;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return '0' <= b && b <= '9';
+    }
+
+    private String readString() {
+        expect('"');
+        charCount = 0;
+        while (true) {
+            final int b = nextByte();
+            if ('"' == b) {
+                return new String(chars, 0, charCount);
+            } else if ('\\' == b) {
+                append(readEscapedChar());
+            } else if (b < 0x20) {
+                position--;
+                throw unexpectedByte();
+            } else if (b < 0x80) {
+                append((char) b);
+            } else {
+                appendMultiByteCharacter(b);
+            }
+        }
+    }
+
+    private char readEscapedChar() {
+        final int b = nextByte();
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int result = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(nextByte(), 16);
+                    if (digit < 0) {
+                        position--;
+                        throw unexpectedByte();
+                    }
+                    result = (result << 4) | digit;
+                }
+                return (char) result;
+            default:
+                position--;
+                throw unexpectedByte();
+        }
+    }
+
+    private void appendMultiByteCharacter(final int firstByte) {
+        final int leadPosition = position - 1;
+        final int continuationBytes;
+        final int minCodePoint;
+        int codePoint;
+        if ((firstByte & 0xE0) == 0xC0) {
+            continuationBytes = 1;
+            minCodePoint = 0x80;
+            codePoint = firstByte & 0x1F;
+        } else if ((firstByte & 0xF0) == 0xE0) {
+            continuationBytes = 2;
+            minCodePoint = 0x800;
+            codePoint = firstByte & 0x0F;
+        } else if ((firstByte & 0xF8) == 0xF0) {
+            continuationBytes = 3;
+            minCodePoint = 0x10000;
+            codePoint = firstByte & 0x07;
+        } else {
+            appendMalformed(leadPosition);
+            return;
+        }
+        for (int i = 0; i < continuationBytes; i++) {
+            if (position >= limit || (buffer.get(position) & 0xC0) != 0x80) {
+                appendMalformed(leadPosition);
+                return;
+            }
+            codePoint = (codePoint << 6) | (buffer.get(position++) & 0x3F);
+        }
+        if (codePoint < minCodePoint || codePoint > Character.MAX_CODE_POINT ||
+                (Character.MIN_SURROGATE <= codePoint && codePoint <= Character.MAX_SURROGATE)) {
+            appendMalformed(leadPosition);
+        } else if (Character.isBmpCodePoint(codePoint)) {
+            append((char) codePoint);
+        } else {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    /**
+     * Decodes the non-ASCII bytes starting at the given position with the JDK decoder, which replaces malformed
+     * sequences, so that malformed input results in the same string as decoding it to a string first would.
+     */
+    private void appendMalformed(final int startPosition) {
+        int endPosition = startPosition;
+        while (endPosition < limit && buffer.get(endPosition) < 0) {
+            endPosition++;
+        }
+        final ByteBuffer malformedBytes = buffer.duplicate();
+        malformedBytes.limit(endPosition).position(startPosition);
+        final CharBuffer decoded = StandardCharsets.UTF_8.decode(malformedBytes);
+        while (decoded.hasRemaining()) {
+            append(decoded.get());
+        }
+        position = endPosition;
+    }
+
+    private void append(final char c) {
+        if (charCount == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        chars[charCount++] = c;
+    }
+
+    private void skipLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < limit) {
+            final byte b = buffer.get(position);
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private int peek() {
+        if (position >= limit) {
+            throw unexpectedEnd();
+        }
+        return buffer.get(position) & 0xFF;
+    }
+
+    private int nextByte() {
+        if (position >= limit) {
+            throw unexpectedEnd();
+        }
+        return buffer.get(position++) & 0xFF;
+    }
+
+    private boolean consumeIf(final char c) {
+        if (position < limit && buffer.get(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (peek() != c) {
+            throw unexpectedByte();
+        }
+        position++;
+    }
+
+    private IllegalArgumentException unexpectedByte() {
+        if (position >= limit) {
+            return unexpectedEnd();
+        }
+        return new IllegalArgumentException(MessageFormat.format("Unexpected byte <{0}> at position {1}!",
+                buffer.get(position) & 0xFF, position));
+    }
+
+    private static IllegalArgumentException unexpectedEnd() {
+        return new IllegalArgumentException("Unexpected end of input!");
+    }
+
+}
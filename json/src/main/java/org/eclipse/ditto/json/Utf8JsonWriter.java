@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writer of the UTF-8 encoded JSON representation of a {@link JsonValue} which encodes keys and string values directly
+ * into the target instead of creating the JSON string first. Objects and arrays which already have a string
+ * representation, e. g. because they were parsed from one, are written from that representation.
+ */
+@NotThreadSafe
+abstract class Utf8JsonWriter {
+
+    private static final byte[] NULL_BYTES = {'n', 'u', 'l', 'l'};
+
+    private final JsonCharEscaper charEscaper;
+
+    private Utf8JsonWriter() {
+        charEscaper = JsonCharEscaper.getInstance();
+    }
+
+    /**
+     * Writes the given JSON value to the given buffer starting at its position.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} do not suffice.
+     */
+    static void write(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(byteBuffer, "The ByteBuffer to write to must not be null!");
+        new ByteBufferWriter(byteBuffer).writeValue(jsonValue);
+    }
+
+    /**
+     * Writes the given JSON value to the given stream. The stream is neither flushed nor closed.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param outputStream the stream to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    static void write(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(outputStream, "The OutputStream to write to must not be null!");
+        final OutputStreamWriter writer = new OutputStreamWriter(outputStream);
+        try {
+            writer.writeValue(jsonValue);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flushBuffer();
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param b the byte.
+     */
+    abstract void put(int b);
+
+    /**
+     * Writes the given bytes.
+     *
+     * @param bytes the bytes.
+     */
+    abstract void put(byte[] bytes);
+
+    /**
+     * Writes the given JSON value.
+     *
+     * @param jsonValue the JSON value.
+     */
+    final void writeValue(final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            put(NULL_BYTES);
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue.isString()) {
+            writeString(jsonValue.asString());
+        } else {
+            // booleans and numbers
+            writeAscii(jsonValue.toString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) {
+        @Nullable final String stringRepresentation = jsonObject instanceof ImmutableJsonObject
+                ? ((ImmutableJsonObject) jsonObject).getStringRepresentationIfKnown()
+                : null;
+        if (null != stringRepresentation) {
+            writeEncoded(stringRepresentation);
+        } else {
+            put('{');
+            boolean isFirst = true;
+            for (final JsonField jsonField : jsonObject) {
+                if (!isFirst) {
+                    put(',');
+                }
+                isFirst = false;
+                writeString(jsonField.getKeyName());
+                put(':');
+                writeValue(jsonField.getValue());
+            }
+            put('}');
+        }
+    }
+
+    private void writeArray(final JsonArray jsonArray) {
+        @Nullable final String stringRepresentation = jsonArray instanceof ImmutableJsonArray
+                ? ((ImmutableJsonArray) jsonArray).getStringRepresentationIfKnown()
+                : null;
+        if (null != stringRepresentation) {
+            writeEncoded(stringRepresentation);
+        } else {
+            put('[');
+            boolean isFirst = true;
+            for (final JsonValue jsonValue : jsonArray) {
+                if (!isFirst) {
+                    put(',');
+                }
+                isFirst = false;
+                writeValue(jsonValue);
+            }
+            put(']');
+        }
+    }
+
+    private void writeString(final String s) {
+        put('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) {
+                @Nullable final String replacement = charEscaper.apply((int) c);
+                if (null == replacement) {
+                    put(c);
+                } else {
+                    writeAscii(replacement);
+                }
+            } else {
+                i = writeNonAsciiChar(s, i);
+            }
+        }
+        put('"');
+    }
+
+    private void writeEncoded(final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) {
+                put(c);
+            } else {
+                i = writeNonAsciiChar(s, i);
+            }
+        }
+    }
+
+    /**
+     * Writes the non-ASCII char at the given index of a string as UTF-8.
+     *
+     * @return the index of the last char which was written; surrogate pairs consist of two chars.
+     */
+    private int writeNonAsciiChar(final String s, final int index) {
+        final char c = s.charAt(index);
+        if (c < 0x800) {
+            put(0xC0 | (c >> 6));
+            put(0x80 | (c & 0x3F));
+        } else if (!Character.isSurrogate(c)) {
+            put(0xE0 | (c >> 12));
+            put(0x80 | ((c >> 6) & 0x3F));
+            put(0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < s.length() &&
+                Character.isLowSurrogate(s.charAt(index + 1))) {
+            final int codePoint = Character.toCodePoint(c, s.charAt(index + 1));
+            put(0xF0 | (codePoint >> 18));
+            put(0x80 | ((codePoint >> 12) & 0x3F));
+            put(0x80 | ((codePoint >> 6) & 0x3F));
+            put(0x80 | (codePoint & 0x3F));
+            return index + 1;
+        } else {
+            // like String#getBytes for malformed surrogates
+            put('?');
+        }
+        return index;
+    }
+
+    private void writeAscii(final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            put(s.charAt(i));
+        }
+    }
+
+    private static final class ByteBufferWriter extends Utf8JsonWriter {
+
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferWriter(final ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        void put(final int b) {
+            byteBuffer.put((byte) b);
+        }
+
+        @Override
+        void put(final byte[] bytes) {
+            byteBuffer.put(bytes);
+        }
+
+    }
+
+    private static final class OutputStreamWriter extends Utf8JsonWriter {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final OutputStream outputStream;
+        private final byte[] buffer;
+        private int count;
+
+        private OutputStreamWriter(final OutputStream outputStream) {
+            this.outputStream = outputStream;
+            buffer = new byte[BUFFER_SIZE];
+            count = 0;
+        }
+
+        @Override
+        void put(final int b) {
+            if (count == buffer.length) {
+                flushBufferUnchecked();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        void put(final byte[] bytes) {
+            for (final byte b : bytes) {
+                put(b);
+            }
+        }
+
+        private void flushBufferUnchecked() {
+            try {
+                flushBuffer();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            outputStream.write(buffer, 0, count);
+            count = 0;
+        }
+
+    }
+
+}
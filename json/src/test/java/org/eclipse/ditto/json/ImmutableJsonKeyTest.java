@@ -50,6 +50,15 @@ public final class ImmutableJsonKeyTest {
         ImmutableJsonKey.of("");
     }
 
+    /** */
+    @Test
+    public void keysOfEqualStringsAreShared() {
+        final JsonKey first = ImmutableJsonKey.of("thingId");
+        final JsonKey second = ImmutableJsonKey.of(new StringBuilder("thing").append("Id"));
+
+        assertThat(second).isSameAs(first);
+    }
+
     /** */
     @Test
     public void toStringReturnsExpected() {
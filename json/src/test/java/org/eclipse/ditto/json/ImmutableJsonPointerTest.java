@@ -280,6 +280,16 @@ public final class ImmutableJsonPointerTest {
         assertThat(newPointer).isSameAs(root);
     }
 
+    /** */
+    @Test
+    public void pointersOfEqualStringsAreShared() {
+        final JsonPointer first = ImmutableJsonPointer.ofParsed("/features/lamp/properties");
+        final JsonPointer second = ImmutableJsonPointer.ofParsed(new StringBuilder("/features/lamp/properties"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.get(0).get()).isSameAs(JsonFactory.newKey("features"));
+    }
+
     @Test
     public void createInstanceFromParsedStringWithEscapedSlashesWorksAsExpected() {
         final String key1 = "foo";
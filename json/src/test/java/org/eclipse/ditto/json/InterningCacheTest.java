@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InterningCache}.
+ */
+public final class InterningCacheTest {
+
+    @Test
+    public void equalStringsShareInstance() {
+        final InterningCache<StringBuilder> underTest = InterningCache.newInstance(16, 8, StringBuilder::new);
+
+        final StringBuilder first = underTest.get("value");
+        final StringBuilder second = underTest.get(new String("value"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.toString()).isEqualTo("value");
+    }
+
+    @Test
+    public void tooLongStringsAreNotCached() {
+        final InterningCache<StringBuilder> underTest = InterningCache.newInstance(16, 8, StringBuilder::new);
+
+        assertThat(underTest.get("properties")).isNotSameAs(underTest.get("properties"));
+    }
+
+    @Test
+    public void collidingStringReplacesEntry() {
+        final InterningCache<StringBuilder> underTest = InterningCache.newInstance(1, 8, StringBuilder::new);
+
+        final StringBuilder first = underTest.get("foo");
+        final StringBuilder colliding = underTest.get("bar");
+
+        assertThat(colliding.toString()).isEqualTo("bar");
+        assertThat(underTest.get("bar")).isSameAs(colliding);
+        assertThat(underTest.get("foo")).isNotSameAs(first).hasToString("foo");
+    }
+
+    @Test
+    public void capacityMustBePowerOfTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> InterningCache.newInstance(12, 8, StringBuilder::new));
+    }
+
+}
@@ -153,6 +153,18 @@ public final class JsonFactoryTest {
         assertThat(underTest.asDouble()).isEqualTo(doubleValue);
     }
 
+    @Test
+    public void wholeNumberDoubleIsFloatingPointNumber() {
+        final JsonValue wholeNumberDouble = JsonFactory.newValue(42.0D);
+
+        assertThat(wholeNumberDouble.isLong()).isTrue();
+        assertThat(JsonFactory.isFloatingPointNumber(wholeNumberDouble)).isTrue();
+        assertThat(JsonFactory.isFloatingPointNumber(JsonFactory.readFrom("1e2"))).isTrue();
+        assertThat(JsonFactory.isFloatingPointNumber(JsonFactory.newValue(42L))).isFalse();
+        assertThat(JsonFactory.isFloatingPointNumber(JsonFactory.newValue(42))).isFalse();
+        assertThat(JsonFactory.isFloatingPointNumber(JsonFactory.newValue("42.0"))).isFalse();
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewObjectBuilderFromNullObject() {
         JsonFactory.newObjectBuilder(null);
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyJsonParser}.
+ */
+public final class LazyJsonParserTest {
+
+    private static final String FEATURES = "{ \"lamp\" : { \"properties\" : { \"on\" : true, \"level\" : 150.0 } } }";
+
+    private static final String THING = "{\n" +
+            "  \"thingId\": \"org.eclipse.ditto:th\\u00efng\",\n" +
+            "  \"attributes\": {\"manufacturer\": \"ACME \\\"Inc.\\\"\", \"serial\": 1234567890123,\n" +
+            "    \"tags\": [ \"a\", 1, -0.5, null, false, { \"nested\": [] } ]},\n" +
+            "  \"features\": " + FEATURES + ",\n" +
+            "  \"empty\": {}\n" +
+            "}";
+
+    @Test
+    public void lazilyParsedObjectEqualsEagerlyParsedObject() {
+        final JsonValue lazilyParsed = LazyJsonParser.parse(THING);
+        final JsonObject eagerlyParsed = JsonFactory.newObject(THING);
+
+        assertThat(lazilyParsed).isEqualTo(eagerlyParsed);
+        assertThat(eagerlyParsed).isEqualTo(lazilyParsed);
+        assertThat(lazilyParsed.hashCode()).isEqualTo(eagerlyParsed.hashCode());
+    }
+
+    @Test
+    public void valuesAreMaterializedOnAccess() {
+        final JsonObject underTest = LazyJsonParser.parse(THING).asObject();
+
+        assertThat(underTest.getValue("thingId")).contains(JsonValue.of("org.eclipse.ditto:th\u00efng"));
+        assertThat(underTest.getValue("attributes/manufacturer")).contains(JsonValue.of("ACME \"Inc.\""));
+        assertThat(underTest.getValue("attributes/serial")).contains(JsonValue.of(1234567890123L));
+        assertThat(underTest.getValue("attributes/tags/5")).isEmpty();
+        assertThat(underTest.getValue("features/lamp/properties/level")).contains(JsonValue.of(150.0));
+        assertThat(underTest.getValue("empty")).contains(JsonObject.empty());
+    }
+
+    @Test
+    public void stringRepresentationEqualsEagerlyParsedOne() {
+        final JsonObject underTest = LazyJsonParser.parse(THING).asObject();
+        final JsonObject eagerlyParsed = JsonFactory.newObject(THING);
+
+        assertThat(underTest.toString()).isEqualTo(eagerlyParsed.toString());
+        assertThat(underTest.getValue("features").map(JsonValue::toString))
+                .isEqualTo(eagerlyParsed.getValue("features").map(JsonValue::toString));
+        assertThat(underTest.getValue("attributes/tags").map(JsonValue::toString))
+                .isEqualTo(eagerlyParsed.getValue("attributes/tags").map(JsonValue::toString));
+        assertThat(underTest.setValue("thingId", "org.eclipse.ditto:other").toString())
+                .isEqualTo(eagerlyParsed.setValue("thingId", "org.eclipse.ditto:other").toString());
+    }
+
+    @Test
+    public void parsePrimitives() {
+        assertThat(LazyJsonParser.parse(" 42 ")).isEqualTo(JsonValue.of(42));
+        assertThat(LazyJsonParser.parse("1.5e2")).isEqualTo(JsonValue.of(150.0));
+        assertThat(LazyJsonParser.parse("\"foo\"")).isEqualTo(JsonValue.of("foo"));
+        assertThat(LazyJsonParser.parse("true")).isEqualTo(JsonValue.of(true));
+        assertThat(LazyJsonParser.parse("null")).isEqualTo(JsonFactory.nullLiteral());
+    }
+
+    @Test
+    public void invalidJsonIsRejectedImmediately() {
+        final String[] invalidJsonStrings = {
+                "", "{", "{\"a\":}", "{\"a\" 1}", "{\"\":1}", "{\"a\":{\"\":1}}", "[1,]", "01", "-", "1.", "1e",
+                "{\"a\":1} x", "\"\\x\"", "\"\\u12\"", "\"a\nb\"", "nul", "99999999999999999999", "{'a':1}"
+        };
+
+        for (final String invalidJsonString : invalidJsonStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJsonString)
+                    .isThrownBy(() -> LazyJsonParser.parse(invalidJsonString));
+        }
+    }
+
+    @Test
+    public void newObjectLazilyRejectsNonObjects() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObjectLazily("[1,2]"));
+        assertThat(JsonFactory.newObjectLazily("null").isNull()).isTrue();
+    }
+
+}
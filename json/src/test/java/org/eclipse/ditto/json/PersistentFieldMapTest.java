@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void keepsInsertionOrderAndPositionOfReplacedKeys() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .put("c", field("c", 1))
+                .put("a", field("a", 2))
+                .put("b", field("b", 3))
+                .put("a", field("a", 4));
+
+        assertThat(underTest).containsExactly(field("c", 1), field("a", 4), field("b", 3));
+        assertThat(underTest.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void alteringDoesNotAffectOriginal() {
+        final PersistentFieldMap original = PersistentFieldMap.empty()
+                .put("a", field("a", 1))
+                .put("b", field("b", 2));
+
+        original.put("a", field("a", 3));
+        original.put("c", field("c", 4));
+        original.remove("b");
+
+        assertThat(original).containsExactly(field("a", 1), field("b", 2));
+    }
+
+    @Test
+    public void removingAbsentKeyReturnsSameMap() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty().put("a", field("a", 1));
+
+        assertThat(underTest.remove("b")).isSameAs(underTest);
+    }
+
+    @Test
+    public void keysWithEqualHashCodesAreDistinguished() {
+        // "Aa" and "BB" have the same hash code
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .put("Aa", field("Aa", 1))
+                .put("BB", field("BB", 2));
+
+        assertThat(underTest.get("Aa")).isEqualTo(field("Aa", 1));
+        assertThat(underTest.get("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.remove("Aa")).containsExactly(field("BB", 2));
+    }
+
+    @Test
+    public void equalityAndHashCodeIgnoreOrderLikeMap() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        fields.put("a", field("a", 1));
+        fields.put("b", field("b", 2));
+        final PersistentFieldMap forward = PersistentFieldMap.of(fields);
+        final PersistentFieldMap backward = PersistentFieldMap.empty()
+                .put("b", field("b", 2))
+                .put("a", field("a", 1));
+
+        assertThat(forward).isEqualTo(backward);
+        assertThat(forward.hashCode()).isEqualTo(backward.hashCode()).isEqualTo(fields.hashCode());
+        assertThat(forward).isNotEqualTo(backward.put("a", field("a", 3)));
+    }
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomOperations() {
+        final Random random = new Random(42L);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        for (int i = 0; i < 20_000; ++i) {
+            final String key = "key" + random.nextInt(2_000);
+            if (random.nextInt(3) < 2) {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.put(key, field);
+            } else {
+                expected.remove(key);
+                underTest = underTest.remove(key);
+            }
+        }
+
+        final PersistentFieldMap actual = underTest;
+        final List<JsonField> actualFields = new ArrayList<>();
+        actual.forEach(actualFields::add);
+        assertThat(actualFields).containsExactlyElementsOf(expected.values());
+        assertThat(actual.stream().collect(Collectors.toList())).containsExactlyElementsOf(expected.values());
+        assertThat(actual.size()).isEqualTo(expected.size());
+        expected.forEach((key, field) -> assertThat(actual.get(key)).isEqualTo(field));
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final String THING = "{\n" +
+            "  \"thingId\": \"org.eclipse.ditto:th\u00efng\",\n" +
+            "  \"attributes\": {\"manufacturer\": \"ACME \\\"Inc.\\\" \\u00e4\", \"serial\": 1234567890123,\n" +
+            "    \"emoji\": \"\uD83D\uDCA1\u20AC\", \"tags\": [ \"a\", 1, -0.5, null, false, { \"nested\": [] } ]},\n" +
+            "  \"features\": { \"lamp\" : { \"properties\" : { \"on\" : true, \"level\" : 150.0 } } },\n" +
+            "  \"empty\": {}\n" +
+            "}";
+
+    @Test
+    public void parsedValueEqualsValueParsedFromString() {
+        final JsonValue parsed = Utf8JsonParser.parse(utf8(THING));
+
+        assertThat(parsed).isEqualTo(JsonFactory.readFrom(THING));
+        assertThat(parsed.toString()).isEqualTo(JsonFactory.readFrom(THING).toString());
+    }
+
+    @Test
+    public void parseRemainingBytesAndConsumeThem() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+        byteBuffer.put((byte) 'x').put("[1,\"\u00e4\"]".getBytes(StandardCharsets.UTF_8)).flip();
+        byteBuffer.get();
+
+        final JsonValue parsed = Utf8JsonParser.parse(byteBuffer);
+
+        assertThat(parsed).isEqualTo(JsonFactory.newArrayBuilder().add(1).add("\u00e4").build());
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void parsePrimitives() {
+        assertThat(Utf8JsonParser.parse(utf8(" 42 "))).isEqualTo(JsonValue.of(42));
+        assertThat(Utf8JsonParser.parse(utf8("9223372036854775807"))).isEqualTo(JsonValue.of(Long.MAX_VALUE));
+        assertThat(Utf8JsonParser.parse(utf8("1.5e2"))).isEqualTo(JsonValue.of(150.0));
+        assertThat(Utf8JsonParser.parse(utf8("\"foo\""))).isEqualTo(JsonValue.of("foo"));
+        assertThat(Utf8JsonParser.parse(utf8("true"))).isEqualTo(JsonValue.of(true));
+        assertThat(Utf8JsonParser.parse(utf8("null"))).isEqualTo(JsonFactory.nullLiteral());
+    }
+
+    @Test
+    public void malformedUtf8IsReplacedLikeTheJdkDecoderDoes() {
+        final byte[] bytes = {'"', 'a', (byte) 0xDE, (byte) 0xC1, (byte) 0x98, 'b', (byte) 0xE2, (byte) 0x82, '"'};
+        final String expected =
+                StandardCharsets.UTF_8.decode(ByteBuffer.wrap(bytes, 1, bytes.length - 2)).toString();
+
+        assertThat(Utf8JsonParser.parse(ByteBuffer.wrap(bytes))).isEqualTo(JsonValue.of(expected));
+    }
+
+    @Test
+    public void invalidJsonIsRejected() {
+        final String[] invalidJsonStrings = {
+                "", "{", "{\"a\":}", "{\"a\" 1}", "{\"\":1}", "[1,]", "01", "-", "1.", "1e", "{\"a\":1} x",
+                "\"\\x\"", "\"\\u12\"", "\"a\nb\"", "nul", "99999999999999999999", "{'a':1}"
+        };
+        for (final String invalidJsonString : invalidJsonStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJsonString)
+                    .isThrownBy(() -> Utf8JsonParser.parse(utf8(invalidJsonString)));
+        }
+    }
+
+    private static ByteBuffer utf8(final String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonWriter}.
+ */
+public final class Utf8JsonWriterTest {
+
+    private static final JsonObject BUILT_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:th\u00efng")
+            .set("quote\"and\\backslash", "line\nbreak\ttab\u0001")
+            .set("emoji", "\uD83D\uDCA1\u20AC")
+            .set("number", 1.5)
+            .set("long", Long.MIN_VALUE)
+            .set("null", JsonFactory.nullLiteral())
+            .set("nullObject", JsonFactory.nullObject())
+            .set("array", JsonFactory.newArrayBuilder().add(true).add(JsonObject.empty()).build())
+            .set("nested", JsonObject.newBuilder().set("a", "\u00e4").build())
+            .build();
+
+    @Test
+    public void writtenBytesEqualUtf8EncodedStringRepresentation() {
+        final byte[] expected = BUILT_OBJECT.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(expected.length);
+
+        Utf8JsonWriter.write(BUILT_OBJECT, byteBuffer);
+
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+        assertThat(byteBuffer.array()).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeParsedObjectFromItsStringRepresentation() {
+        final JsonObject parsedObject = JsonFactory.newObjectLazily(BUILT_OBJECT.toString());
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+
+        Utf8JsonWriter.write(parsedObject, byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(StandardCharsets.UTF_8.decode(byteBuffer).toString()).isEqualTo(BUILT_OBJECT.toString());
+    }
+
+    @Test
+    public void writeLazilyParsedArrayFromItsValues() {
+        final JsonArray parsedArray = JsonFactory.newObjectLazily(BUILT_OBJECT.toString())
+                .getValue("array")
+                .map(JsonValue::asArray)
+                .orElseThrow(IllegalStateException::new);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+
+        Utf8JsonWriter.write(parsedArray, byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(StandardCharsets.UTF_8.decode(byteBuffer).toString()).isEqualTo("[true,{}]");
+        assertThat(((ImmutableJsonArray) parsedArray).getStringRepresentationIfKnown()).isNull();
+    }
+
+    @Test
+    public void writeToOutputStream() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Utf8JsonWriter.write(BUILT_OBJECT, outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(BUILT_OBJECT.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeIntoTooSmallBufferThrowsBufferOverflowException() {
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> Utf8JsonWriter.write(BUILT_OBJECT, ByteBuffer.allocate(16)));
+    }
+
+    @Test
+    public void writtenBytesCanBeParsedAgain() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+
+        JsonFactory.writeTo(BUILT_OBJECT, byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(JsonFactory.readFrom(byteBuffer)).isEqualTo(BUILT_OBJECT);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark of parsing a corpus of things and the paths of their properties, which share the same few keys.
+ * Run it with {@code -prof gc} to see the allocated bytes per operation; the heap retained by the parsed corpus is
+ * printed when the trial ends.
+ */
+@State(Scope.Benchmark)
+public class JsonKeyInterningBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1000"})
+    public int thingCount;
+
+    private List<String> thingJsonStrings;
+    private List<String> propertyPaths;
+
+    @Setup
+    public void setup() {
+        thingJsonStrings = new ArrayList<>(thingCount);
+        propertyPaths = new ArrayList<>();
+        for (int i = 0; i < thingCount; ++i) {
+            thingJsonStrings.add(createThing(i).toString());
+            propertyPaths.add("/features/sensor" + i % 10 + "/properties/value");
+            propertyPaths.add("/attributes/location/latitude");
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parseThings(final Blackhole blackhole) {
+        blackhole.consume(parseCorpus());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parsePointers(final Blackhole blackhole) {
+        for (final String propertyPath : propertyPaths) {
+            blackhole.consume(JsonPointer.of(propertyPath));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printRetainedHeap() {
+        final long before = usedHeapAfterGc();
+        final List<JsonObject> corpus = parseCorpus();
+        final long after = usedHeapAfterGc();
+        System.out.printf("Heap retained by %d parsed things: %d bytes%n", corpus.size(), after - before);
+    }
+
+    private List<JsonObject> parseCorpus() {
+        final List<JsonObject> result = new ArrayList<>(thingJsonStrings.size());
+        for (final String thingJsonString : thingJsonStrings) {
+            result.add(JsonFactory.newObject(thingJsonString));
+        }
+        return result;
+    }
+
+    private static long usedHeapAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static JsonObject createThing(final int index) {
+        final JsonObject features = JsonObject.newBuilder()
+                .set("sensor" + index % 10, JsonObject.newBuilder()
+                        .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                        .set("properties", JsonObject.newBuilder()
+                                .set("value", index * 0.5)
+                                .set("unit", "\u00b0C")
+                                .set("lastUpdate", "2019-06-0" + index % 10 + "T10:00:00Z")
+                                .build())
+                        .build())
+                .build();
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing-" + index)
+                .set("policyId", "org.eclipse.ditto:policy-" + index)
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder()
+                                .set("latitude", 47.68)
+                                .set("longitude", 9.38)
+                                .build())
+                        .build())
+                .set("features", features)
+                .set("_revision", index)
+                .build();
+    }
+
+}
@@ -17,9 +17,11 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +29,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonArray;
@@ -43,13 +46,23 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
 /**
  * Abstract immutable implementation of {@link DittoHeaders} which is heavily based on {@link AbstractMap}.
+ * Headers with JSON values are parsed at most once on first access; the parsed values are kept alongside the
+ * string map.
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
 public abstract class AbstractDittoHeaders extends AbstractMap<String, String> implements DittoHeaders {
 
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
     private final Map<String, String> headers;
 
+    // lazily parsed header values; the values are immutable, hence computing them more than once is harmless
+    @Nullable private List<String> authorizationSubjects;
+    @Nullable private Set<String> readSubjects;
+    @Nullable private AuthorizationContext authorizationContext;
+
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
      *
@@ -59,6 +72,9 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     protected AbstractDittoHeaders(final Map<String, String> headers) {
         checkNotNull(headers, "headers map");
         this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
+        authorizationSubjects = null;
+        readSubjects = null;
+        authorizationContext = null;
     }
 
     @Override
@@ -89,10 +105,20 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public List<String> getAuthorizationSubjects() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.AUTHORIZATION_SUBJECTS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .collect(Collectors.toList());
+        // the returned List may be modified by callers
+        return new ArrayList<>(getParsedAuthorizationSubjects());
+    }
+
+    private List<String> getParsedAuthorizationSubjects() {
+        List<String> result = authorizationSubjects;
+        if (null == result) {
+            final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.AUTHORIZATION_SUBJECTS);
+            result = Collections.unmodifiableList(jsonValueArray.stream()
+                    .map(JsonValue::asString)
+                    .collect(Collectors.toList()));
+            authorizationSubjects = result;
+        }
+        return result;
     }
 
     protected JsonArray getJsonArrayForDefinition(final HeaderDefinition definition) {
@@ -103,19 +129,34 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public AuthorizationContext getAuthorizationContext() {
-        final List<AuthorizationSubject> authSubjects = getAuthorizationSubjects()
-                .stream()
-                .map(AuthorizationModelFactory::newAuthSubject)
-                .collect(Collectors.toList());
-        return AuthorizationModelFactory.newAuthContext(authSubjects);
+        AuthorizationContext result = authorizationContext;
+        if (null == result) {
+            final List<AuthorizationSubject> authSubjects = getParsedAuthorizationSubjects()
+                    .stream()
+                    .map(AuthorizationModelFactory::newAuthSubject)
+                    .collect(Collectors.toList());
+            result = AuthorizationModelFactory.newAuthContext(authSubjects);
+            authorizationContext = result;
+        }
+        return result;
     }
 
     @Override
     public Set<String> getReadSubjects() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.READ_SUBJECTS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .collect(Collectors.toSet());
+        // the returned Set may be modified by callers
+        return new HashSet<>(getParsedReadSubjects());
+    }
+
+    private Set<String> getParsedReadSubjects() {
+        Set<String> result = readSubjects;
+        if (null == result) {
+            final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.READ_SUBJECTS);
+            result = Collections.unmodifiableSet(jsonValueArray.stream()
+                    .map(JsonValue::asString)
+                    .collect(Collectors.toSet()));
+            readSubjects = result;
+        }
+        return result;
     }
 
     @Override
@@ -138,10 +179,18 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     protected abstract Optional<HeaderDefinition> getSpecificDefinitionByKey(final CharSequence key);
 
     protected Optional<Boolean> getBooleanForDefinition(final HeaderDefinition definition) {
-        return getStringForDefinition(definition)
-                .map(JsonFactory::readFrom)
-                .filter(JsonValue::isBoolean)
-                .map(JsonValue::asBoolean);
+        return getStringForDefinition(definition).flatMap(AbstractDittoHeaders::parseBoolean);
+    }
+
+    private static Optional<Boolean> parseBoolean(final String value) {
+        // the JSON literals of booleans are by far the most common values; do not parse them as JSON
+        if (TRUE.equals(value)) {
+            return Optional.of(Boolean.TRUE);
+        } else if (FALSE.equals(value)) {
+            return Optional.of(Boolean.FALSE);
+        }
+        final JsonValue jsonValue = JsonFactory.readFrom(value);
+        return jsonValue.isBoolean() ? Optional.of(jsonValue.asBoolean()) : Optional.empty();
     }
 
     @Override
@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.base.headers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -67,13 +68,17 @@ public final class ImmutableDittoHeadersTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableDittoHeaders.class, areImmutable());
+        assertInstancesOf(ImmutableDittoHeaders.class,
+                areImmutable(),
+                assumingFields("authorizationSubjects", "readSubjects", "authorizationContext")
+                        .areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                .withIgnoredFields("authorizationSubjects", "readSubjects", "authorizationContext")
                 .verify();
     }
 
@@ -169,6 +174,30 @@ public final class ImmutableDittoHeadersTest {
         assertThat(underTest.getAuthorizationContext()).isEqualTo(authContext);
     }
 
+    @Test
+    public void typedHeadersAreParsedOnlyOnce() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .authorizationSubjects(AUTH_SUBJECTS)
+                .readSubjects(KNOWN_READ_SUBJECTS)
+                .build();
+
+        assertThat(underTest.getAuthorizationContext()).isSameAs(underTest.getAuthorizationContext());
+    }
+
+    @Test
+    public void changesOfReturnedSubjectsAreNotReflectedBack() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .authorizationSubjects(AUTH_SUBJECTS)
+                .readSubjects(KNOWN_READ_SUBJECTS)
+                .build();
+
+        underTest.getAuthorizationSubjects().add("foo");
+        underTest.getReadSubjects().add("foo");
+
+        assertThat(underTest.getAuthorizationSubjects()).isEqualTo(AUTH_SUBJECTS);
+        assertThat(underTest.getReadSubjects()).isEqualTo(KNOWN_READ_SUBJECTS);
+    }
+
     @Test
     public void getReadSubjectsReturnsExpected() {
         final DittoHeaders underTest = DittoHeaders.newBuilder().readSubjects(KNOWN_READ_SUBJECTS).build();
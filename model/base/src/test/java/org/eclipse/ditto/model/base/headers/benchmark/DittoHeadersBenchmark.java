@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark of the header accesses a command typically undergoes on its way through enforcement, pub-sub and
+ * the gateway.
+ */
+@State(Scope.Benchmark)
+public class DittoHeadersBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private DittoHeaders dittoHeaders;
+
+    @Setup
+    public void setup() {
+        dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("benchmark-correlation-id")
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .authorizationContext(AuthorizationModelFactory.newAuthContext(
+                        AuthorizationModelFactory.newAuthSubject("integration:solution:connection"),
+                        AuthorizationModelFactory.newAuthSubject("nginx:ditto")))
+                .readSubjects(Arrays.asList("integration:solution:connection", "nginx:ditto", "nginx:other"))
+                .contentType("application/json")
+                .responseRequired(true)
+                .putHeader("custom-header", "custom-value")
+                .build();
+    }
+
+    /**
+     * Accesses the headers of a command as many times as the services of a round trip do.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void accessTypedHeadersOfCommand(final Blackhole blackhole) {
+        // enforcement
+        blackhole.consume(dittoHeaders.getAuthorizationContext());
+        blackhole.consume(dittoHeaders.getAuthorizationSubjects());
+        blackhole.consume(dittoHeaders.isDryRun());
+        blackhole.consume(dittoHeaders.getSchemaVersion());
+        // pub-sub of the resulting event
+        blackhole.consume(dittoHeaders.getReadSubjects());
+        blackhole.consume(dittoHeaders.getReadSubjects());
+        // gateway
+        blackhole.consume(dittoHeaders.getAuthorizationContext());
+        blackhole.consume(dittoHeaders.getReadSubjects());
+        blackhole.consume(dittoHeaders.isResponseRequired());
+        blackhole.consume(dittoHeaders.getCorrelationId());
+    }
+
+    /**
+     * Builds fresh headers before accessing them, so that each access pattern includes parsing once.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void buildAndAccessTypedHeadersOfCommand(final Blackhole blackhole) {
+        final DittoHeaders copy = dittoHeaders.toBuilder().build();
+        blackhole.consume(copy.getAuthorizationContext());
+        blackhole.consume(copy.getAuthorizationSubjects());
+        blackhole.consume(copy.isDryRun());
+        blackhole.consume(copy.getReadSubjects());
+        blackhole.consume(copy.getReadSubjects());
+        blackhole.consume(copy.getAuthorizationContext());
+        blackhole.consume(copy.isResponseRequired());
+    }
+
+}
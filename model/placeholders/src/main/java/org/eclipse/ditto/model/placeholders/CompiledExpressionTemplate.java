@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.connectivity.UnresolvedPlaceholderException;
+
+/**
+ * An expression template split once into its literal parts and its placeholder expressions, each with a parsed
+ * {@link Pipeline}, so that resolving the template does not need to match regular expressions again.
+ * <p>
+ * Templates stem from connection configurations such as target addresses and header mappings; the compiled templates
+ * are therefore cached by their string representation.
+ * </p>
+ */
+@Immutable
+final class CompiledExpressionTemplate {
+
+    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
+
+    private static final String OR = "|";
+
+    private static final String NO_QUOTE = "[^|'\"]++";
+
+    private static final String SINGLE_QUOTED_STRING =
+            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
+
+    private static final String DOUBLE_QUOTED_STRING =
+            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
+
+    private static final String PIPE_STAGE =
+            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
+
+    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
+
+    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
+
+    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
+
+    /**
+     * The same pattern {@link org.eclipse.ditto.model.base.common.Placeholders} uses to find placeholders.
+     */
+    private static final Pattern PLACEHOLDER_PATTERN =
+            Pattern.compile("\\{{2}(?!\\s*\\{)\\s*+(?<ph>(([^}]|}[^}])*+))\\s*+" + Pattern.quote("}}"));
+
+    private static final String PLACEHOLDER_START = "{{";
+    private static final String LEGACY_PLACEHOLDER_START = "${";
+
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
+    private static final ConcurrentMap<String, Optional<CompiledExpressionTemplate>> COMPILED_TEMPLATES =
+            new ConcurrentHashMap<>();
+
+    private final String template;
+    private final List<String> literals;
+    private final List<PlaceholderExpression> placeholderExpressions;
+
+    private CompiledExpressionTemplate(final String template, final List<String> literals,
+            final List<PlaceholderExpression> placeholderExpressions) {
+
+        this.template = template;
+        this.literals = Collections.unmodifiableList(literals);
+        this.placeholderExpressions = Collections.unmodifiableList(placeholderExpressions);
+    }
+
+    /**
+     * Returns the compiled form of a template, compiling it on first use. Once the cache holds
+     * {@value #MAX_CACHED_TEMPLATES} templates, an arbitrary template is evicted for each newly compiled one.
+     *
+     * @param template the template.
+     * @return the compiled template, or an empty Optional if the template contains legacy placeholders, nested
+     * placeholders or placeholder expressions which cannot be parsed; those have to be resolved the non-compiled way
+     * in order to report errors.
+     */
+    static Optional<CompiledExpressionTemplate> of(final String template) {
+        final Optional<CompiledExpressionTemplate> cached = COMPILED_TEMPLATES.get(template);
+        if (null != cached) {
+            return cached;
+        }
+        // concurrent compilations of the same template only duplicate the work
+        final Optional<CompiledExpressionTemplate> compiled = compile(template);
+        if (COMPILED_TEMPLATES.size() >= MAX_CACHED_TEMPLATES) {
+            evictOneTemplate();
+        }
+        COMPILED_TEMPLATES.put(template, compiled);
+        return compiled;
+    }
+
+    private static void evictOneTemplate() {
+        final Iterator<String> templates = COMPILED_TEMPLATES.keySet().iterator();
+        if (templates.hasNext()) {
+            templates.next();
+            templates.remove();
+        }
+    }
+
+    /**
+     * Splits a placeholder expression into its stages: the placeholder and the function expressions.
+     *
+     * @param placeholderExpression the content of a placeholder, e.g. {@code thing:id | fn:upper()}.
+     * @return the trimmed stages.
+     * @throws UnresolvedPlaceholderException if the expression is no valid pipeline.
+     * @throws PlaceholderFunctionTooComplexException if the expression contains too many functions.
+     */
+    static List<String> getPipelineStagesExpressions(final String placeholderExpression) {
+
+        if (!PIPE_PATTERN.matcher(placeholderExpression).matches()) {
+            throw UnresolvedPlaceholderException.newBuilder(placeholderExpression).build();
+        }
+
+        final List<String> pipelineStagesExpressions = new ArrayList<>();
+        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(placeholderExpression);
+
+        while (matcher.find()) {
+            pipelineStagesExpressions.add(matcher.group().trim());
+
+            // +1 for the starting placeholder
+            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
+                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
+            }
+        }
+        return pipelineStagesExpressions;
+    }
+
+    /**
+     * Renders this template.
+     *
+     * @param placeholderResolver resolves a placeholder expression including its pipeline.
+     * @param allowUnresolved whether unresolved placeholders may remain in the result.
+     * @param unresolvedInputHandler creates the exception to throw if unresolved placeholders are not allowed.
+     * @return the rendered template, or {@code null} if a resolved value contains placeholders itself, in which case
+     * the template has to be resolved the non-compiled way, which resolves such placeholders as well.
+     */
+    @Nullable
+    String render(final Function<PlaceholderExpression, Optional<String>> placeholderResolver,
+            final boolean allowUnresolved,
+            final Function<String, DittoRuntimeException> unresolvedInputHandler) {
+
+        if (placeholderExpressions.isEmpty()) {
+            return template;
+        }
+        final StringBuilder builder = new StringBuilder(template.length() + 16 * placeholderExpressions.size());
+        boolean unresolved = false;
+        for (int i = 0; i < placeholderExpressions.size(); ++i) {
+            builder.append(literals.get(i));
+            final PlaceholderExpression placeholderExpression = placeholderExpressions.get(i);
+            final Optional<String> resolved = placeholderResolver.apply(placeholderExpression);
+            if (resolved.isPresent()) {
+                final String value = resolved.get();
+                if (containsPlaceholderStart(value)) {
+                    return null;
+                }
+                builder.append(value);
+            } else {
+                unresolved = true;
+                builder.append(placeholderExpression.source);
+            }
+        }
+        builder.append(literals.get(placeholderExpressions.size()));
+
+        final String result = builder.toString();
+        if (unresolved && !allowUnresolved) {
+            throw unresolvedInputHandler.apply(result);
+        }
+        return result;
+    }
+
+    private static Optional<CompiledExpressionTemplate> compile(final String template) {
+        if (template.contains(LEGACY_PLACEHOLDER_START)) {
+            return Optional.empty();
+        }
+        final List<String> literals = new ArrayList<>();
+        final List<PlaceholderExpression> placeholderExpressions = new ArrayList<>();
+        final Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            final PlaceholderExpression placeholderExpression =
+                    PlaceholderExpression.parse(matcher.group(), matcher.group("ph").trim());
+            if (null == placeholderExpression) {
+                return Optional.empty();
+            }
+            literals.add(template.substring(literalStart, matcher.start()));
+            placeholderExpressions.add(placeholderExpression);
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+        // nested placeholders such as "{{ {{ thing:id }} }}" leave placeholder starts in the literals
+        if (literals.stream().anyMatch(literal -> literal.contains(PLACEHOLDER_START))) {
+            return Optional.empty();
+        }
+        return Optional.of(new CompiledExpressionTemplate(template, literals, placeholderExpressions));
+    }
+
+    private static boolean containsPlaceholderStart(final String value) {
+        return value.contains(PLACEHOLDER_START) || value.contains(LEGACY_PLACEHOLDER_START);
+    }
+
+    /**
+     * A placeholder of a template with its parsed pipeline, e.g. {@code {{ thing:id | fn:upper() }}}.
+     */
+    @Immutable
+    static final class PlaceholderExpression {
+
+        private final String source;
+        private final String prefix;
+        private final String name;
+        private final Pipeline pipeline;
+
+        private PlaceholderExpression(final String source, final String prefix, final String name,
+                final Pipeline pipeline) {
+
+            this.source = source;
+            this.prefix = prefix;
+            this.name = name;
+            this.pipeline = pipeline;
+        }
+
+        @Nullable
+        private static PlaceholderExpression parse(final String source, final String expression) {
+            final List<String> stages;
+            try {
+                stages = getPipelineStagesExpressions(expression);
+            } catch (final DittoRuntimeException e) {
+                return null;
+            }
+            if (stages.isEmpty()) {
+                return null;
+            }
+            final String placeholder = stages.get(0);
+            final int separatorIndex = placeholder.indexOf(SEPARATOR);
+            if (separatorIndex == -1) {
+                return null;
+            }
+            return new PlaceholderExpression(source,
+                    placeholder.substring(0, separatorIndex).trim(),
+                    placeholder.substring(separatorIndex + 1).trim(),
+                    new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, stages.subList(1, stages.size())));
+        }
+
+        /**
+         * @return the prefix of the placeholder, e.g. {@code thing}.
+         */
+        String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * @return the name of the placeholder without prefix, e.g. {@code id}.
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the pipeline of functions to apply to the resolved placeholder.
+         */
+        Pipeline getPipeline() {
+            return pipeline;
+        }
+
+    }
+
+}
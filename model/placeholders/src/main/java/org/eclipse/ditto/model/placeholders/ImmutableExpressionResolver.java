@@ -21,8 +21,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -38,27 +36,6 @@ import org.eclipse.ditto.model.connectivity.UnresolvedPlaceholderException;
 @Immutable
 final class ImmutableExpressionResolver implements ExpressionResolver {
 
-    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
-
-    private static final String OR = "|";
-
-    private static final String NO_QUOTE = "[^|'\"]++";
-
-    private static final String SINGLE_QUOTED_STRING =
-            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
-
-    private static final String DOUBLE_QUOTED_STRING =
-            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
-
-    private static final String PIPE_STAGE =
-            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
-
-    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
-
-    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
-
-    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
-
     private static final Function<String, DittoRuntimeException> UNRESOLVED_INPUT_HANDLER = unresolvedInput ->
             UnresolvedPlaceholderException.newBuilder(unresolvedInput).build();
 
@@ -80,6 +57,19 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
     @Override
     public String resolve(final String expressionTemplate, final boolean allowUnresolved) {
 
+        if (placeholderResolvers.isEmpty()) {
+            return expressionTemplate;
+        }
+        final Optional<CompiledExpressionTemplate> compiledTemplate = CompiledExpressionTemplate.of(expressionTemplate);
+        if (compiledTemplate.isPresent()) {
+            final String rendered = compiledTemplate.get()
+                    .render(this::resolvePlaceholderExpression, allowUnresolved, UNRESOLVED_INPUT_HANDLER);
+            if (null != rendered) {
+                return rendered;
+            }
+        }
+
+        // legacy placeholders, invalid placeholders or resolved values containing placeholders themselves:
         String templateInWork = expressionTemplate;
         int placeholdersIdx = 0;
         while (Placeholders.containsAnyPlaceholder(templateInWork) && placeholdersIdx < placeholderResolvers.size()) {
@@ -111,6 +101,31 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return Optional.empty();
     }
 
+    private Optional<String> resolvePlaceholderExpression(
+            final CompiledExpressionTemplate.PlaceholderExpression placeholderExpression) {
+
+        for (final PlaceholderResolver<?> placeholderResolver : placeholderResolvers) {
+            if (placeholderExpression.getPrefix().equals(placeholderResolver.getPrefix())) {
+                final Optional<String> resolved =
+                        executePipeline(placeholderExpression.getPipeline(),
+                                resolvePlaceholder(placeholderResolver, placeholderExpression.getName()));
+                if (resolved.isPresent()) {
+                    return resolved;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> executePipeline(final Pipeline pipeline, final Optional<String> pipelineInput) {
+        if (Optional.of(placeholderReplacementInValidation).equals(pipelineInput)) {
+            pipeline.validate();
+            // let the input pass if validation succeeded:
+            return pipelineInput;
+        }
+        return pipeline.execute(pipelineInput, this);
+    }
+
     private Function<String, Optional<String>> makePlaceholderReplacerFunction(
             final PlaceholderResolver<?> placeholderResolver) {
 
@@ -124,36 +139,13 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                     resolvePlaceholderWithoutPrefixIfSupported(placeholderResolver, placeholderTemplate);
             return placeholderWithoutPrefix
                     .map(p -> resolvePlaceholder(placeholderResolver, p))
-                    .flatMap(pipelineInput -> {
-                        if (Optional.of(placeholderReplacementInValidation).equals(pipelineInput)) {
-                            pipeline.validate();
-                            // let the input pass if validation succeeded:
-                            return pipelineInput;
-                        }
-                        return pipeline.execute(pipelineInput, this);
-                    });
+                    .flatMap(pipelineInput -> executePipeline(pipeline, pipelineInput));
 
         };
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
-
-        if (!PIPE_PATTERN.matcher(template).matches()) {
-            throw UNRESOLVED_INPUT_HANDLER.apply(template);
-        }
-
-        final List<String> pipelineStagesExpressions = new ArrayList<>();
-        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(template);
-
-        while (matcher.find()) {
-            pipelineStagesExpressions.add(matcher.group().trim());
-
-            // +1 for the starting placeholder
-            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
-                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
-            }
-        }
-        return pipelineStagesExpressions;
+    private static List<String> getPipelineStagesExpressions(final String template) {
+        return CompiledExpressionTemplate.getPipelineStagesExpressions(template);
     }
 
     private String getFirstPlaceholderInPipe(final List<String> pipelineStagesExpressions) {
@@ -66,18 +66,34 @@ final class ImmutableFunctionExpression implements FunctionExpression {
     public Optional<String> resolve(final String expression, final Optional<String> resolvedInputValue,
             final ExpressionResolver expressionResolver) {
 
-        if (!supports(expression.replaceFirst(getPrefix() + ":", ""))) {
+        if (!supports(removeFirst(expression, getPrefix() + SEPARATOR))) {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
-        return SUPPORTED.stream()
-                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
-                .findFirst()
-                .flatMap(o -> o);
+        for (final PipelineFunction pf : SUPPORTED) {
+            final String prefixedName = getPrefix() + SEPARATOR + pf.getName();
+            if (expression.startsWith(prefixedName + "(")) {
+                return pf.apply(resolvedInputValue, expression.substring(prefixedName.length()).trim(),
+                        expressionResolver);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Removes the first occurrence of a literal string, like {@code String.replaceFirst} with a quoted pattern but
+     * without compiling a regular expression.
+     *
+     * @param string the string to remove from.
+     * @param toRemove the string to remove.
+     * @return {@code string} without the first occurrence of {@code toRemove}.
+     */
+    static String removeFirst(final String string, final String toRemove) {
+        final int index = string.indexOf(toRemove);
+        if (index < 0) {
+            return string;
+        }
+        return string.substring(0, index) + string.substring(index + toRemove.length());
     }
 
 }
@@ -47,8 +47,8 @@ final class ImmutablePipeline implements Pipeline {
     @Override
     public void validate() {
         stageExpressions.stream()
-                .map(expression -> expression.replaceFirst(
-                        functionExpression.getPrefix() + FunctionExpression.SEPARATOR, ""))
+                .map(expression -> ImmutableFunctionExpression.removeFirst(expression,
+                        functionExpression.getPrefix() + FunctionExpression.SEPARATOR))
                 .forEach(expression -> {
                     if (!functionExpression.supports(expression)) {
                         throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
@@ -12,12 +12,15 @@
  */
 package org.eclipse.ditto.model.placeholders;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -79,42 +82,88 @@ final class PipelineFunctionParameterResolverFactory {
 
         static final String PLACEHOLDER_PATTERN_STR = "\\(\\s*+(?<placeholder>\\w+:[^,\\s]+)[^,)]*+\\)";
 
+        /**
+         * Maximum number of distinct parameter strings whose parse result is remembered; parameters stem from
+         * connection configurations, so the number of distinct parameters is usually small.
+         */
+        private static final int MAX_CACHED_PARAMETERS = 1024;
+
         private final Pattern pattern;
+        private final Map<String, ParsedParameter> parsedParameters;
 
         private SingleParameterResolver(final String patternStr) {
             this.pattern = Pattern.compile(patternStr);
+            parsedParameters = new ConcurrentHashMap<>();
         }
 
         @Override
         public Optional<String> apply(final String paramsIncludingParentheses,
                 final ExpressionResolver expressionResolver) {
+
+            ParsedParameter parsedParameter = parsedParameters.get(paramsIncludingParentheses);
+            if (null == parsedParameter) {
+                parsedParameter = parse(paramsIncludingParentheses);
+                if (parsedParameters.size() < MAX_CACHED_PARAMETERS) {
+                    parsedParameters.put(paramsIncludingParentheses, parsedParameter);
+                }
+            }
+            return parsedParameter.resolve(expressionResolver);
+        }
+
+        private ParsedParameter parse(final String paramsIncludingParentheses) {
             final Matcher matcher = this.pattern.matcher(paramsIncludingParentheses);
             if (matcher.matches()) {
 
                 String constant = matcher.group("singleQuotedConstant");
                 constant = constant != null ? constant : matcher.group("doubleQuotedConstant");
                 if (constant != null) {
-                    return Optional.of(constant);
+                    return new ParsedParameter(constant, null);
                 }
 
                 final String placeholder = matcher.group("placeholder");
                 if (placeholder != null) {
+                    return new ParsedParameter(null, placeholder);
+                }
+            }
+
+            return new ParsedParameter(null, null);
+        }
+
+        /**
+         * A parameter parsed to either a constant, a placeholder or neither if it was invalid.
+         */
+        private static final class ParsedParameter {
+
+            @Nullable
+            private final String constant;
+            @Nullable
+            private final String placeholder;
+
+            private ParsedParameter(@Nullable final String constant, @Nullable final String placeholder) {
+                this.constant = constant;
+                this.placeholder = placeholder;
+            }
+
+            private Optional<String> resolve(final ExpressionResolver expressionResolver) {
+                if (constant != null) {
+                    return Optional.of(constant);
+                } else if (placeholder != null) {
                     return Optional.of(expressionResolver.resolveSinglePlaceholder(placeholder).orElse(placeholder));
                 }
+                return Optional.empty();
             }
 
-            return Optional.empty();
         }
 
     }
 
     static class EmptyParameterResolver implements Predicate<String> {
 
-        private static final String EMPTY_PARENTHESES_PATTERN = "\\(\\s*+\\)";
+        private static final Pattern EMPTY_PARENTHESES_PATTERN = Pattern.compile("\\(\\s*+\\)");
 
         @Override
         public boolean test(final String paramsIncludingParentheses) {
-            return paramsIncludingParentheses.matches(EMPTY_PARENTHESES_PATTERN);
+            return EMPTY_PARENTHESES_PATTERN.matcher(paramsIncludingParentheses).matches();
         }
 
     }
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -211,4 +212,25 @@ public class ImmutableExpressionResolverTest {
                         "{{ header:unknown | fn:default('fallback') | fn:upper() | fn:lower() | fn:upper() | fn:lower() | fn:upper() | fn:lower() | fn:upper() | fn:lower() | fn:upper() | fn:lower() }}",
                         false));
     }
+
+    @Test
+    public void testRepeatedResolutionOfTemplateWithLiterals() {
+        final String template = "prefix/{{ thing:namespace }}/{{ header:unknown | fn:default(thing:name) }}/suffix";
+        final String expected = "prefix/" + THING_NAMESPACE + "/" + THING_NAME + "/suffix";
+
+        for (int i = 0; i < 3; ++i) {
+            assertThat(underTest.resolve(template, false)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testResolvedValuesContainingPlaceholdersAreResolvedAsWell() {
+        final ImmutableExpressionResolver resolver = new ImmutableExpressionResolver(Arrays.asList(
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newHeadersPlaceholder(),
+                        Collections.singletonMap("address", "{{ thing:name }}"), false),
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newThingPlaceholder(), THING_ID, false)));
+
+        assertThat(resolver.resolve("target/{{ header:address }}", false)).isEqualTo("target/" + THING_NAME);
+    }
+
 }
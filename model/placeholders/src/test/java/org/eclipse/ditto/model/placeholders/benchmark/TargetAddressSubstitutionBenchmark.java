@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.HeadersPlaceholder;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.placeholders.ThingPlaceholder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark of the substitution of placeholders in target addresses, which happens for each outbound signal of a
+ * connection.
+ */
+@State(Scope.Benchmark)
+public class TargetAddressSubstitutionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final HeadersPlaceholder HEADERS_PLACEHOLDER = PlaceholderFactory.newHeadersPlaceholder();
+    private static final ThingPlaceholder THING_PLACEHOLDER = PlaceholderFactory.newThingPlaceholder();
+
+    private static final String PLAIN_ADDRESS = "telemetry/plain";
+    private static final String ADDRESS = "telemetry/{{ thing:namespace }}/{{ thing:name }}";
+    private static final String ADDRESS_WITH_FUNCTIONS =
+            "telemetry/{{ thing:namespace | fn:upper() }}/{{ header:device-id | fn:default(thing:name) }}";
+
+    private Map<String, String> headers;
+
+    @Setup
+    public void setup() {
+        headers = new HashMap<>();
+        headers.put("correlation-id", "benchmark-correlation-id");
+        headers.put("content-type", "application/json");
+    }
+
+    /**
+     * Substitutes the placeholders in the target addresses of one outbound signal.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void substituteTargetAddresses(final Blackhole blackhole) {
+        final ExpressionResolver expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(HEADERS_PLACEHOLDER, headers),
+                PlaceholderFactory.newPlaceholderResolver(THING_PLACEHOLDER, "org.eclipse.ditto:benchmark-thing"));
+
+        blackhole.consume(PlaceholderFilter.apply(PLAIN_ADDRESS, expressionResolver, true));
+        blackhole.consume(PlaceholderFilter.apply(ADDRESS, expressionResolver, true));
+        blackhole.consume(PlaceholderFilter.apply(ADDRESS_WITH_FUNCTIONS, expressionResolver, true));
+    }
+
+}
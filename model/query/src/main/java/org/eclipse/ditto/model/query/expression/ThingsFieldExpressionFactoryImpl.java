@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -138,4 +139,20 @@ public final class ThingsFieldExpressionFactoryImpl implements ThingsFieldExpres
         throw new IllegalArgumentException("Unknown property name: " + propertyName);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ThingsFieldExpressionFactoryImpl that = (ThingsFieldExpressionFactoryImpl) o;
+        return Objects.equals(simpleFieldMappings, that.simpleFieldMappings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(simpleFieldMappings);
+    }
 }
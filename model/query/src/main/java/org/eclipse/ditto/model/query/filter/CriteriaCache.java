@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.filter;
+
+import java.util.function.Function;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+
+/**
+ * Cache of {@link Criteria} parsed from filter strings by a {@link QueryFilterCriteriaFactory}.
+ * Implementations must be thread-safe; parse failures must not be cached.
+ */
+@FunctionalInterface
+public interface CriteriaCache {
+
+    /**
+     * Returns the criteria of a filter string, parsing it only if it is not cached yet.
+     *
+     * @param filter the filter string.
+     * @param fieldExpressionFactory the field expression factory the filter is parsed with; part of the cache key.
+     * @param parser parses the filter string.
+     * @return the criteria of the filter string.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the parser fails.
+     */
+    Criteria get(String filter, ThingsFieldExpressionFactory fieldExpressionFactory,
+            Function<String, Criteria> parser);
+
+    /**
+     * Returns a CriteriaCache which does not cache at all.
+     *
+     * @return the CriteriaCache.
+     */
+    static CriteriaCache noCache() {
+        return (filter, fieldExpressionFactory, parser) -> parser.apply(filter);
+    }
+
+}
@@ -34,11 +34,26 @@ public final class QueryFilterCriteriaFactory {
     private final CriteriaFactory criteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final RqlPredicateParser rqlPredicateParser;
+    private final CriteriaCache criteriaCache;
 
     public QueryFilterCriteriaFactory(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory) {
+        this(criteriaFactory, fieldExpressionFactory, CriteriaCache.noCache());
+    }
+
+    /**
+     * Creates a QueryFilterCriteriaFactory which looks up parsed filter strings in a cache before parsing them.
+     *
+     * @param criteriaFactory the criteria factory.
+     * @param fieldExpressionFactory the field expression factory.
+     * @param criteriaCache the cache of parsed filter strings; may be shared among factories.
+     */
+    public QueryFilterCriteriaFactory(final CriteriaFactory criteriaFactory,
+            final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final CriteriaCache criteriaCache) {
         this.criteriaFactory = criteriaFactory;
         this.fieldExpressionFactory = fieldExpressionFactory;
+        this.criteriaCache = ConditionChecker.checkNotNull(criteriaCache, "criteriaCache");
         this.rqlPredicateParser = new RqlPredicateParser();
     }
 
@@ -88,6 +103,10 @@ public final class QueryFilterCriteriaFactory {
     }
 
     private Criteria mapCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        return criteriaCache.get(filter, fieldExpressionFactory, f -> parseCriteria(f, dittoHeaders));
+    }
+
+    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
         try {
             final ParameterPredicateVisitor visitor =
                     new ParameterPredicateVisitor(criteriaFactory, fieldExpressionFactory);
@@ -14,13 +14,18 @@ package org.eclipse.ditto.model.query.things;
 
 import java.util.function.Predicate;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
 import org.eclipse.ditto.model.things.Thing;
 
 /**
  * ExistsFieldExpressionVisitor for Java {@link Predicate}s of {@link Thing}s.
+ *
+ * @deprecated compile criteria with
+ * {@link ThingPredicateVisitor#apply(org.eclipse.ditto.model.query.criteria.Criteria)} instead.
  */
+@Deprecated
 public final class ExistsThingPredicateVisitor implements ExistsFieldExpressionVisitor<Predicate<Thing>> {
 
     public static Predicate<Thing> apply(final ExistsFieldExpression expression) {
@@ -29,27 +34,25 @@ public final class ExistsThingPredicateVisitor implements ExistsFieldExpressionV
 
     @Override
     public Predicate<Thing> visitAttribute(final String key) {
-        return thing -> thing.getAttributes().map(attributes -> attributes.getValue(key).isPresent())
-                .orElse(false);
+        return exists(FieldPointerVisitor.getInstance().visitAttribute(key));
     }
 
     @Override
     public Predicate<Thing> visitFeature(final String featureId) {
-        return thing -> thing.getFeatures()
-                .map(features -> features.getFeature(featureId).isPresent())
-                .orElse(false);
+        return exists(FieldPointerVisitor.getInstance().visitFeature(featureId));
     }
 
     @Override
     public Predicate<Thing> visitFeatureIdProperty(final String featureId, final String property) {
-        return thing -> thing.getFeatures()
-                .flatMap(features -> features.getFeature(featureId))
-                .map(feature -> feature.getProperty(property).isPresent())
-                .orElse(false);
+        return exists(FieldPointerVisitor.getInstance().visitFeatureIdProperty(featureId, property));
     }
 
     @Override
     public Predicate<Thing> visitSimple(final String fieldName) {
-        return thing -> thing.toJson().getValue(fieldName).isPresent();
+        return exists(FieldPointerVisitor.getInstance().visitSimple(fieldName));
+    }
+
+    private static Predicate<Thing> exists(final JsonPointer pointer) {
+        return thing -> thing.toJson(field -> true).getValue(pointer).isPresent();
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
+
+/**
+ * FieldExpressionVisitor resolving field expressions to their location in the JSON representation of a
+ * {@link org.eclipse.ditto.model.things.Thing}.
+ */
+final class FieldPointerVisitor implements FieldExpressionVisitor<JsonPointer> {
+
+    private static final FieldPointerVisitor INSTANCE = new FieldPointerVisitor();
+
+    private FieldPointerVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * @return the instance of this visitor.
+     */
+    static FieldPointerVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public JsonPointer visitAttribute(final String key) {
+        return JsonPointer.of("/attributes/" + key);
+    }
+
+    @Override
+    public JsonPointer visitFeature(final String featureId) {
+        return JsonPointer.of("/features/" + featureId);
+    }
+
+    @Override
+    public JsonPointer visitFeatureIdProperty(final String featureId, final String property) {
+        return JsonPointer.of("/features/" + featureId + "/properties/" + property);
+    }
+
+    @Override
+    public JsonPointer visitSimple(final String fieldName) {
+        return JsonPointer.of(fieldName);
+    }
+
+}
@@ -21,7 +21,11 @@ import org.eclipse.ditto.model.things.Thing;
 
 /**
  * FilterFieldExpressionVisitor for Java {@link Predicate}s of {@link Thing}s.
+ *
+ * @deprecated compile criteria with
+ * {@link ThingPredicateVisitor#apply(org.eclipse.ditto.model.query.criteria.Criteria)} instead.
  */
+@Deprecated
 public final class FilterThingPredicateVisitor implements FilterFieldExpressionVisitor<Predicate<Thing>> {
 
     private final Function<String, Predicate<Thing>> predicateFunction;
@@ -37,12 +41,13 @@ public final class FilterThingPredicateVisitor implements FilterFieldExpressionV
 
     @Override
     public Predicate<Thing> visitAttribute(final String key) {
-        return predicateFunction.apply("/attributes/" + key);
+        return predicateFunction.apply(FieldPointerVisitor.getInstance().visitAttribute(key).toString());
     }
 
     @Override
     public Predicate<Thing> visitFeatureIdProperty(final String featureId, final String property) {
-        return predicateFunction.apply("/features/" + featureId + "/properties/" + property);
+        return predicateFunction.apply(
+                FieldPointerVisitor.getInstance().visitFeatureIdProperty(featureId, property).toString());
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * A PredicateVisitor compiling Ditto query predicates to Java {@link Predicate}s of the JSON representation of
+ * {@link org.eclipse.ditto.model.things.Thing}s. Values, e. g. regular expressions of {@code like} and the
+ * numeric representation of compared values, are prepared once, so that the returned predicates may be tested
+ * repeatedly at low cost.
+ */
+final class JsonObjectPredicatePredicateVisitor
+        implements PredicateVisitor<Function<JsonPointer, Predicate<JsonObject>>> {
+
+    private static final JsonObjectPredicatePredicateVisitor INSTANCE = new JsonObjectPredicatePredicateVisitor();
+
+    private JsonObjectPredicatePredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * @return the instance of this visitor.
+     */
+    static JsonObjectPredicatePredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitEq(@Nullable final Object value) {
+        return pointer -> jsonObject -> isEqual(value, getJavaValue(jsonObject, pointer));
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitNe(@Nullable final Object value) {
+        return pointer -> jsonObject -> !isEqual(value, getJavaValue(jsonObject, pointer));
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitGe(@Nullable final Object value) {
+        return comparing(value, comparison -> comparison >= 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitGt(@Nullable final Object value) {
+        return comparing(value, comparison -> comparison > 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLe(@Nullable final Object value) {
+        return comparing(value, comparison -> comparison <= 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLt(@Nullable final Object value) {
+        return comparing(value, comparison -> comparison < 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitIn(final List<?> values) {
+        final Set<?> valueSet = new HashSet<>(values);
+        return pointer -> jsonObject -> {
+            final Object javaValue = getJavaValue(jsonObject, pointer);
+            return null != javaValue && valueSet.contains(javaValue);
+        };
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
+        return pointer -> jsonObject -> jsonObject.getValue(pointer)
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .filter(str -> pattern.matcher(str).matches())
+                .isPresent();
+    }
+
+    private static boolean isEqual(@Nullable final Object value, @Nullable final Object javaValue) {
+        return null != javaValue && javaValue.equals(value);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Function<JsonPointer, Predicate<JsonObject>> comparing(@Nullable final Object value,
+            final IntPredicate comparisonPredicate) {
+
+        if (!(value instanceof Comparable)) {
+            return pointer -> jsonObject -> false;
+        }
+        final Comparable comparableValue = asNumber((Comparable) value);
+        final BigDecimal numericValue =
+                comparableValue instanceof String ? parseNumber((String) comparableValue) : null;
+        return pointer -> jsonObject -> {
+            final Object javaValue = getJavaValue(jsonObject, pointer);
+            return javaValue instanceof Comparable &&
+                    comparisonPredicate.test(compare(comparableValue, numericValue, (Comparable) javaValue));
+        };
+    }
+
+    /**
+     * Compares a value of a Thing to the value of a predicate.
+     *
+     * @param value the value of the predicate, already converted to BigDecimal if it is a number.
+     * @param valueAsNumber the value of the predicate as number if it is a string representing a number.
+     * @param obj the value of the Thing.
+     * @return the comparison of {@code obj} to {@code value}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compare(final Comparable value, @Nullable final BigDecimal valueAsNumber,
+            final Comparable obj) {
+
+        final Comparable comparableObj = asNumber(obj);
+        // best effort try to convert both values to a BigDecimal in order to compare them:
+        if (valueAsNumber != null && comparableObj instanceof BigDecimal) {
+            return comparableObj.compareTo(valueAsNumber);
+        } else if (value instanceof BigDecimal && comparableObj instanceof String) {
+            final BigDecimal objAsNumber = parseNumber((String) comparableObj);
+            if (objAsNumber != null) {
+                return objAsNumber.compareTo(value);
+            }
+        }
+
+        if (value.getClass().equals(comparableObj.getClass())) {
+            // only compare same classes:
+            return comparableObj.compareTo(value);
+        } else {
+            // as a fallback, for different types, compare by their string representation:
+            return comparableObj.toString().compareTo(value.toString());
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable asNumber(final Comparable comparable) {
+        return comparable instanceof Number ? new BigDecimal(comparable.toString()) : comparable;
+    }
+
+    @Nullable
+    private static BigDecimal parseNumber(final String string) {
+        try {
+            return new BigDecimal(string);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Object getJavaValue(final JsonObject jsonObject, final JsonPointer pointer) {
+        return jsonObject.getValue(pointer)
+                .map(JsonObjectPredicatePredicateVisitor::mapJsonValueToJava)
+                .orElse(null);
+    }
+
+    @Nullable
+    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+        final Object result;
+
+        if (jsonValue.isString()) {
+            result = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            result = jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                result = jsonValue.asLong();
+            } else {
+                result = jsonValue.asDouble();
+            }
+        } else {
+            // filtering null, arrays and objects is not supported
+            result = null;
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+
+/**
+ * CriteriaVisitor compiling {@link Criteria} to reusable Java {@link Predicate}s of the JSON representation of
+ * {@link org.eclipse.ditto.model.things.Thing}s including all fields. Field locations, regular expressions and
+ * compared values are resolved once during compilation.
+ */
+public final class JsonObjectPredicateVisitor implements CriteriaVisitor<Predicate<JsonObject>> {
+
+    private static final JsonObjectPredicateVisitor INSTANCE = new JsonObjectPredicateVisitor();
+
+    private JsonObjectPredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Compiles criteria to a predicate which may be tested any number of times.
+     *
+     * @param criteria the criteria.
+     * @return the predicate.
+     */
+    public static Predicate<JsonObject> apply(final Criteria criteria) {
+        return criteria.accept(INSTANCE);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAnd(final Stream<Predicate<JsonObject>> conjuncts) {
+        final List<Predicate<JsonObject>> predicates = conjuncts.collect(Collectors.toList());
+        return jsonObject -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (!predicate.test(jsonObject)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAny() {
+        return any -> true;
+    }
+
+    @Override
+    public Predicate<JsonObject> visitExists(final ExistsFieldExpression fieldExpression) {
+        final JsonPointer pointer = fieldExpression.acceptExistsVisitor(FieldPointerVisitor.getInstance());
+        return jsonObject -> jsonObject.getValue(pointer).isPresent();
+    }
+
+    @Override
+    public Predicate<JsonObject> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+        final JsonPointer pointer = fieldExpression.acceptFilterVisitor(FieldPointerVisitor.getInstance());
+        return predicate.accept(JsonObjectPredicatePredicateVisitor.getInstance()).apply(pointer);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitNor(final Stream<Predicate<JsonObject>> negativeDisjoints) {
+        final List<Predicate<JsonObject>> predicates = negativeDisjoints.collect(Collectors.toList());
+        return jsonObject -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (predicate.test(jsonObject)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<JsonObject> visitOr(final Stream<Predicate<JsonObject>> disjoints) {
+        final List<Predicate<JsonObject>> predicates = disjoints.collect(Collectors.toList());
+        return jsonObject -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (predicate.test(jsonObject)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+}
@@ -18,6 +18,7 @@ import static org.eclipse.ditto.model.query.expression.FieldExpressionUtil.FIELD
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
@@ -59,4 +60,21 @@ public final class ModelBasedThingsFieldExpressionFactory implements ThingsField
     public SortFieldExpression sortBy(final String propertyName) {
         return delegate.sortBy(propertyName);
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ModelBasedThingsFieldExpressionFactory that = (ModelBasedThingsFieldExpressionFactory) o;
+        return Objects.equals(delegate, that.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegate);
+    }
 }
@@ -12,9 +12,12 @@
  */
 package org.eclipse.ditto.model.query.things;
 
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
@@ -22,7 +25,8 @@ import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.things.Thing;
 
 /**
- * CriteriaVisitor for Java {@link Predicate}s of {@link Thing}s.
+ * CriteriaVisitor for Java {@link Predicate}s of {@link Thing}s. Criteria are compiled by
+ * {@link JsonObjectPredicateVisitor}; the visit methods only remain for compatibility.
  */
 public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Thing>> {
 
@@ -30,25 +34,51 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
         // only internally instantiable
     }
 
+    /**
+     * Compiles criteria to a predicate of Things which may be tested any number of times. Each test evaluates the
+     * criteria on one JSON representation of the Thing.
+     *
+     * @param criteria the criteria.
+     * @return the predicate.
+     * @see JsonObjectPredicateVisitor
+     */
     public static Predicate<Thing> apply(final Criteria criteria) {
-        return criteria.accept(new ThingPredicateVisitor());
+        final Predicate<JsonObject> jsonObjectPredicate = JsonObjectPredicateVisitor.apply(criteria);
+        return thing -> jsonObjectPredicate.test(thing.toJson(field -> true));
     }
 
+    /**
+     * @deprecated use {@link #apply(Criteria)} instead.
+     */
+    @Deprecated
     @Override
     public Predicate<Thing> visitAnd(final Stream<Predicate<Thing>> conjuncts) {
-        return thing -> conjuncts.allMatch(p -> p.test(thing));
+        final List<Predicate<Thing>> predicates = conjuncts.collect(Collectors.toList());
+        return thing -> predicates.stream().allMatch(p -> p.test(thing));
     }
 
+    /**
+     * @deprecated use {@link #apply(Criteria)} instead.
+     */
+    @Deprecated
     @Override
     public Predicate<Thing> visitAny() {
         return any -> true;
     }
 
+    /**
+     * @deprecated use {@link #apply(Criteria)} instead.
+     */
+    @Deprecated
     @Override
     public Predicate<Thing> visitExists(final ExistsFieldExpression fieldExpression) {
         return ExistsThingPredicateVisitor.apply(fieldExpression);
     }
 
+    /**
+     * @deprecated use {@link #apply(Criteria)} instead.
+     */
+    @Deprecated
     @Override
     public Predicate<Thing> visitField(final FilterFieldExpression fieldExpression,
             final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
@@ -56,13 +86,23 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
                 predicate.accept(ThingPredicatePredicateVisitor.getInstance()));
     }
 
+    /**
+     * @deprecated use {@link #apply(Criteria)} instead.
+     */
+    @Deprecated
     @Override
     public Predicate<Thing> visitNor(final Stream<Predicate<Thing>> negativeDisjoints) {
-        return thing -> negativeDisjoints.noneMatch(p -> p.test(thing));
+        final List<Predicate<Thing>> predicates = negativeDisjoints.collect(Collectors.toList());
+        return thing -> predicates.stream().noneMatch(p -> p.test(thing));
     }
 
+    /**
+     * @deprecated use {@link #apply(Criteria)} instead.
+     */
+    @Deprecated
     @Override
     public Predicate<Thing> visitOr(final Stream<Predicate<Thing>> disjoints) {
-        return thing -> disjoints.anyMatch(p -> p.test(thing));
+        final List<Predicate<Thing>> predicates = disjoints.collect(Collectors.toList());
+        return thing -> predicates.stream().anyMatch(p -> p.test(thing));
     }
 }
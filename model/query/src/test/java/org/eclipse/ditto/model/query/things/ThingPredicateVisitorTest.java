@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.function.Predicate;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -469,4 +470,33 @@ public final class ThingPredicateVisitorTest {
                 .isEqualTo(true);
     }
 
+    @Test
+    public void compiledPredicateIsReusable() {
+        final String filter = "and(" +
+                "like(attributes/aString,\"ccc*\")," +
+                "or(gt(attributes/anInteger,\"" + (MATCHING_THING_INTEGER - 1) + "\"),exists(attributes/missing))," +
+                "in(features/foo/properties/aBoolean," + MATCHING_THING_BOOLEAN + ")" +
+                ")";
+        final Predicate<Thing> thingPredicate = createPredicate(filter);
+
+        for (int i = 0; i < 3; ++i) {
+            assertThat(thingPredicate.test(MATCHING_THING))
+                    .as("Filtering '%s' should be true in round %d", filter, i)
+                    .isTrue();
+            assertThat(thingPredicate.test(NON_MATCHING_THING_LESSER))
+                    .as("Filtering '%s' should be false in round %d", filter, i)
+                    .isFalse();
+        }
+    }
+
+    @Test
+    public void testFilterJsonObjectOfThing() {
+        final Predicate<JsonObject> jsonObjectPredicate =
+                JsonObjectPredicateVisitor.apply(createCriteria("eq(features/foo/properties/aLong," +
+                        MATCHING_THING_LONG + ")"));
+
+        assertThat(jsonObjectPredicate.test(MATCHING_THING.toJson())).isTrue();
+        assertThat(jsonObjectPredicate.test(NON_MATCHING_THING_LESSER.toJson())).isFalse();
+    }
+
 }
@@ -17,12 +17,12 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -328,30 +328,46 @@ abstract class AbstractAdapter<T extends Jsonifiable> implements Adapter<T> {
 
     /**
      * Utility class for matching {@link Payload} path.
+     * <p>
+     * The known paths are compiled into a trie of path segments which is walked along the levels of the matched
+     * {@link JsonPointer}. At each level, a literal segment takes precedence over a placeholder for an arbitrary
+     * segment, which takes precedence over a placeholder for all remaining segments. Hence the most specific entity
+     * name is found.
+     * </p>
      */
     static final class PathMatcher {
 
-        static final Map<String, Pattern> PATTERNS = new HashMap<>();
+        /**
+         * Placeholder for exactly one arbitrary segment.
+         */
+        private static final String ANY_SEGMENT = "*";
+
+        /**
+         * Placeholder for one or more arbitrary segments.
+         */
+        private static final String ANY_SEGMENTS = "**";
+
+        private static final Node ROOT = new Node();
 
         static {
-            PATTERNS.put("thing", Pattern.compile("^/$"));
-            PATTERNS.put("acl", Pattern.compile("^/acl$"));
-            PATTERNS.put("aclEntry", Pattern.compile("^/acl/[^/]*$"));
-            PATTERNS.put("policyId", Pattern.compile("^/policyId$"));
-            PATTERNS.put("policy", Pattern.compile("^/_policy"));
-            PATTERNS.put("policyEntries", Pattern.compile("^/_policy/entries$"));
-            PATTERNS.put("policyEntry", Pattern.compile("^/_policy/entries/.*$"));
-            PATTERNS.put("policyEntrySubjects", Pattern.compile("^/_policy/entries/[^/]*/subjects$"));
-            PATTERNS.put("policyEntrySubject", Pattern.compile("^/_policy/entries/[^/]*/subjects/.*$"));
-            PATTERNS.put("policyEntryResources", Pattern.compile("^/_policy/entries/[^/]*/resources$"));
-            PATTERNS.put("policyEntryResource", Pattern.compile("^/_policy/entries/[^/]*/resources/.*$"));
-            PATTERNS.put("attributes", Pattern.compile("^/attributes$"));
-            PATTERNS.put("attribute", Pattern.compile("^/attributes/.*$"));
-            PATTERNS.put("features", Pattern.compile("^/features$"));
-            PATTERNS.put("feature", Pattern.compile("^/features/[^/]*$"));
-            PATTERNS.put("featureDefinition", Pattern.compile("^/features/[^/]*/definition$"));
-            PATTERNS.put("featureProperties", Pattern.compile("^/features/[^/]*/properties$"));
-            PATTERNS.put("featureProperty", Pattern.compile("^/features/[^/]*/properties/.*$"));
+            add("thing");
+            add("acl", "acl");
+            add("aclEntry", "acl", ANY_SEGMENT);
+            add("policyId", "policyId");
+            add("policy", "_policy");
+            add("policyEntries", "_policy", "entries");
+            add("policyEntry", "_policy", "entries", ANY_SEGMENTS);
+            add("policyEntrySubjects", "_policy", "entries", ANY_SEGMENT, "subjects");
+            add("policyEntrySubject", "_policy", "entries", ANY_SEGMENT, "subjects", ANY_SEGMENTS);
+            add("policyEntryResources", "_policy", "entries", ANY_SEGMENT, "resources");
+            add("policyEntryResource", "_policy", "entries", ANY_SEGMENT, "resources", ANY_SEGMENTS);
+            add("attributes", "attributes");
+            add("attribute", "attributes", ANY_SEGMENTS);
+            add("features", "features");
+            add("feature", "features", ANY_SEGMENT);
+            add("featureDefinition", "features", ANY_SEGMENT, "definition");
+            add("featureProperties", "features", ANY_SEGMENT, "properties");
+            add("featureProperty", "features", ANY_SEGMENT, "properties", ANY_SEGMENTS);
         }
 
         private PathMatcher() {
@@ -366,18 +382,60 @@ abstract class AbstractAdapter<T extends Jsonifiable> implements Adapter<T> {
          * @throws UnknownPathException if {@code path} matched no known scheme.
          */
         static String match(final JsonPointer path) {
-            final Predicate<Map.Entry<String, Pattern>> pathMatchesPattern = entry -> {
-                final Pattern pattern = entry.getValue();
-                final Matcher matcher = pattern.matcher(path);
-                return matcher.matches();
-            };
-
-            return PATTERNS.entrySet()
-                    .stream()
-                    .filter(pathMatchesPattern)
-                    .findFirst()
-                    .map(Map.Entry::getKey)
-                    .orElseThrow(() -> UnknownPathException.newBuilder(path).build());
+            final String entityName = match(ROOT, path, 0);
+            if (null == entityName) {
+                throw UnknownPathException.newBuilder(path).build();
+            }
+            return entityName;
+        }
+
+        @Nullable
+        private static String match(final Node node, final JsonPointer path, final int level) {
+            if (level == path.getLevelCount()) {
+                return node.entityName;
+            }
+            final JsonKey segment = path.get(level).orElseThrow(IllegalStateException::new);
+            final Node literalChild = node.children.get(segment);
+            String result = null != literalChild ? match(literalChild, path, level + 1) : null;
+            if (null == result && null != node.anySegmentChild) {
+                result = match(node.anySegmentChild, path, level + 1);
+            }
+            if (null == result) {
+                result = node.anySegmentsEntityName;
+            }
+            return result;
+        }
+
+        private static void add(final String entityName, final String... segments) {
+            Node node = ROOT;
+            for (int i = 0; i < segments.length; i++) {
+                final String segment = segments[i];
+                if (ANY_SEGMENTS.equals(segment)) {
+                    // only allowed as the last segment
+                    node.anySegmentsEntityName = entityName;
+                    return;
+                } else if (ANY_SEGMENT.equals(segment)) {
+                    if (null == node.anySegmentChild) {
+                        node.anySegmentChild = new Node();
+                    }
+                    node = node.anySegmentChild;
+                } else {
+                    node = node.children.computeIfAbsent(JsonKey.of(segment), key -> new Node());
+                }
+            }
+            node.entityName = entityName;
+        }
+
+        /**
+         * Node of the trie of known paths. The trie is only modified during class initialization.
+         */
+        private static final class Node {
+
+            private final Map<JsonKey, Node> children = new HashMap<>();
+            @Nullable private Node anySegmentChild;
+            @Nullable private String entityName;
+            @Nullable private String anySegmentsEntityName;
+
         }
 
     }
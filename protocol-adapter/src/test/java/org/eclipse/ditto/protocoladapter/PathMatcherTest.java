@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AbstractAdapter.PathMatcher}.
+ */
+public final class PathMatcherTest {
+
+    @Test
+    public void matchThingPaths() {
+        assertMatch("/", "thing");
+        assertMatch("/acl", "acl");
+        assertMatch("/acl/subject", "aclEntry");
+        assertMatch("/policyId", "policyId");
+        assertMatch("/_policy", "policy");
+        assertMatch("/attributes", "attributes");
+        assertMatch("/attributes/location", "attribute");
+        assertMatch("/attributes/location/latitude", "attribute");
+    }
+
+    @Test
+    public void matchFeaturePaths() {
+        assertMatch("/features", "features");
+        assertMatch("/features/lamp", "feature");
+        assertMatch("/features/lamp/definition", "featureDefinition");
+        assertMatch("/features/lamp/properties", "featureProperties");
+        assertMatch("/features/lamp/properties/on", "featureProperty");
+        assertMatch("/features/lamp/properties/color/r", "featureProperty");
+    }
+
+    @Test
+    public void matchMostSpecificPolicyPaths() {
+        assertMatch("/_policy/entries", "policyEntries");
+        assertMatch("/_policy/entries/label", "policyEntry");
+        assertMatch("/_policy/entries/label/subjects", "policyEntrySubjects");
+        assertMatch("/_policy/entries/label/subjects/issuer:subject", "policyEntrySubject");
+        assertMatch("/_policy/entries/label/resources", "policyEntryResources");
+        assertMatch("/_policy/entries/label/resources/thing:", "policyEntryResource");
+        assertMatch("/_policy/entries/label/other", "policyEntry");
+    }
+
+    @Test
+    public void literalSegmentsAreNotTreatedAsPlaceholders() {
+        assertMatch("/features/properties/properties", "featureProperties");
+        assertMatch("/features/definition", "feature");
+    }
+
+    @Test
+    public void unknownPathsAreRejected() {
+        assertUnknown("/unknown");
+        assertUnknown("/acl/subject/other");
+        assertUnknown("/features/lamp/other");
+        assertUnknown("/policyId/other");
+        assertUnknown("/_policy/other");
+    }
+
+    private static void assertMatch(final String path, final String expectedEntityName) {
+        assertThat(AbstractAdapter.PathMatcher.match(JsonPointer.of(path)))
+                .describedAs(path)
+                .isEqualTo(expectedEntityName);
+    }
+
+    private static void assertUnknown(final String path) {
+        assertThatExceptionOfType(UnknownPathException.class)
+                .isThrownBy(() -> AbstractAdapter.PathMatcher.match(JsonPointer.of(path)));
+    }
+
+}
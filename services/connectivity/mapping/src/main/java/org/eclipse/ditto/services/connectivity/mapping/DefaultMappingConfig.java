@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -33,10 +34,14 @@ public final class DefaultMappingConfig implements MappingConfig {
 
     private final String factoryName;
     private final JavaScriptConfig javaScriptConfig;
+    private final int maxBatchSize;
+    private final Duration maxBatchDelay;
 
     private DefaultMappingConfig(final ScopedConfig config, final JavaScriptConfig theJavaScriptConfig) {
         factoryName = config.getString(MappingConfigValue.FACTORY.getConfigPath());
         javaScriptConfig = theJavaScriptConfig;
+        maxBatchSize = config.getInt(MappingConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        maxBatchDelay = config.getDuration(MappingConfigValue.MAX_BATCH_DELAY.getConfigPath());
     }
 
     /**
@@ -63,6 +68,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         return javaScriptConfig;
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Duration getMaxBatchDelay() {
+        return maxBatchDelay;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -72,13 +87,15 @@ public final class DefaultMappingConfig implements MappingConfig {
             return false;
         }
         final DefaultMappingConfig that = (DefaultMappingConfig) o;
-        return Objects.equals(factoryName, that.factoryName) &&
-                Objects.equals(javaScriptConfig, that.javaScriptConfig);
+        return maxBatchSize == that.maxBatchSize &&
+                Objects.equals(factoryName, that.factoryName) &&
+                Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
+                Objects.equals(maxBatchDelay, that.maxBatchDelay);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(factoryName, javaScriptConfig);
+        return Objects.hash(factoryName, javaScriptConfig, maxBatchSize, maxBatchDelay);
     }
 
     @Override
@@ -86,6 +103,8 @@ public final class DefaultMappingConfig implements MappingConfig {
         return getClass().getSimpleName() + " [" +
                 "factoryName=" + factoryName +
                 ", javaScriptConfig=" + javaScriptConfig +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxBatchDelay=" + maxBatchDelay +
                 "]";
     }
 
@@ -14,11 +14,14 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.base.common.CharsetDeterminer;
@@ -69,14 +72,34 @@ public final class DittoMessageMapper implements MessageMapper {
 
     @Override
     public Optional<Adaptable> map(final ExternalMessage message) {
-        final String payload = extractPayloadAsString(message);
+        return Optional.of(mapToAdaptable(message, DittoMessageMapper::determineCharset));
+    }
+
+    @Override
+    public List<Optional<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        // the messages of a batch usually share their content type; determine its charset only once
+        final Map<String, Charset> charsets = new HashMap<>();
+        final Function<Map<String, String>, Charset> charsetDeterminer = headers -> charsets.computeIfAbsent(
+                String.valueOf(headers.get(ExternalMessage.CONTENT_TYPE_HEADER)),
+                contentType -> determineCharset(headers));
+
+        final List<Optional<Adaptable>> adaptables = new ArrayList<>(messages.size());
+        for (final ExternalMessage message : messages) {
+            adaptables.add(Optional.of(mapToAdaptable(message, charsetDeterminer)));
+        }
+        return adaptables;
+    }
+
+    private static Adaptable mapToAdaptable(final ExternalMessage message,
+            final Function<Map<String, String>, Charset> charsetDeterminer) {
+
+        final String payload = extractPayloadAsString(message, charsetDeterminer);
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(() ->
                 ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(payload))
         );
 
         final DittoHeaders mergedHeaders = mergeHeaders(message, jsonifiableAdaptable);
-        return Optional.of(
-                ProtocolFactory.newAdaptableBuilder(jsonifiableAdaptable).withHeaders(mergedHeaders).build());
+        return ProtocolFactory.newAdaptableBuilder(jsonifiableAdaptable).withHeaders(mergedHeaders).build();
     }
 
     @Override
@@ -96,12 +119,14 @@ public final class DittoMessageMapper implements MessageMapper {
                         .build());
     }
 
-    private static String extractPayloadAsString(final ExternalMessage message) {
+    private static String extractPayloadAsString(final ExternalMessage message,
+            final Function<Map<String, String>, Charset> charsetDeterminer) {
+
         final Optional<String> payload;
         if (message.isTextMessage()) {
             payload = message.getTextPayload();
         } else if (message.isBytesMessage()) {
-            final Charset charset = determineCharset(message.getHeaders());
+            final Charset charset = charsetDeterminer.apply(message.getHeaders());
             payload = message.getBytePayload().map(charset::decode).map(CharBuffer::toString);
         } else {
             payload = Optional.empty();
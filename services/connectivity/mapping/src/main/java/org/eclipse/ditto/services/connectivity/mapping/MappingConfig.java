@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptConfig;
@@ -37,6 +39,21 @@ public interface MappingConfig {
      */
     JavaScriptConfig getJavaScriptConfig();
 
+    /**
+     * Returns the maximum number of inbound messages which are mapped together as one batch. A value of 1 or less
+     * maps each inbound message on its own.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns how long to wait for further inbound messages before mapping an incomplete batch.
+     *
+     * @return the maximum batch delay.
+     */
+    Duration getMaxBatchDelay();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MappingConfig}.
@@ -46,7 +63,17 @@ public interface MappingConfig {
         /**
          * The name of the class which is used for creating message mapping objects.
          */
-        FACTORY("factory", "org.eclipse.ditto.services.connectivity.mapping.MessageMappers");
+        FACTORY("factory", "org.eclipse.ditto.services.connectivity.mapping.MessageMappers"),
+
+        /**
+         * The maximum number of inbound messages which are mapped together as one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 1),
+
+        /**
+         * How long to wait for further inbound messages before mapping an incomplete batch.
+         */
+        MAX_BATCH_DELAY("max-batch-delay", Duration.ofMillis(10L));
 
         private final String path;
         private final Object defaultValue;
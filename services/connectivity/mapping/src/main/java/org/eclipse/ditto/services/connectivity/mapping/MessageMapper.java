@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -62,6 +64,26 @@ public interface MessageMapper {
      */
     Optional<Adaptable> map(ExternalMessage message);
 
+    /**
+     * Maps a batch of {@link ExternalMessage}s to {@link Adaptable}s. Mappers which can share work between the
+     * messages of a batch should override this method; the default implementation maps the messages one by one.
+     *
+     * @param messages the ExternalMessages to map
+     * @return the mapped Adaptables in the order of {@code messages}, each one empty if the respective ExternalMessage
+     * should not be mapped after all
+     * @throws org.eclipse.ditto.model.connectivity.MessageMappingFailedException if one of the given messages can not
+     * be mapped; callers may map the messages one by one afterwards in order to find out which ones can be mapped
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if anything during Ditto Adaptable creation
+     * went wrong
+     */
+    default List<Optional<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        final List<Optional<Adaptable>> adaptables = new ArrayList<>(messages.size());
+        for (final ExternalMessage message : messages) {
+            adaptables.add(map(message));
+        }
+        return adaptables;
+    }
+
     /**
      * Maps an {@link Adaptable} to an {@link ExternalMessage}
      *
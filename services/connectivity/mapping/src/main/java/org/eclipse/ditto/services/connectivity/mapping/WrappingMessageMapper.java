@@ -14,9 +14,12 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -66,37 +69,23 @@ final class WrappingMessageMapper implements MessageMapper {
 
     @Override
     public Optional<Adaptable> map(final ExternalMessage message) {
-        final ExternalMessage enhancedMessage;
-        final String correlationId;
-        if (!message.getHeaders().containsKey(DittoHeaderDefinition.CORRELATION_ID.getKey())) {
-            // if no correlation-id was provided in the ExternalMessage, generate one here:
-            correlationId = UUID.randomUUID().toString();
-            enhancedMessage = ExternalMessageFactory.newExternalMessageBuilder(message)
-                    .withAdditionalHeaders(DittoHeaderDefinition.CORRELATION_ID.getKey(),
-                            correlationId)
-                    .build();
-        } else {
-            correlationId = message.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
-            enhancedMessage = message;
-        }
-
-        final Optional<Adaptable> mappedOpt = delegate.map(enhancedMessage);
-
-        return mappedOpt.map(mapped -> {
-            final DittoHeadersBuilder headersBuilder = DittoHeaders.newBuilder();
-            headersBuilder.correlationId(correlationId);
-
-            Optional.ofNullable(message.getHeaders().get(ExternalMessage.REPLY_TO_HEADER)).ifPresent(replyTo ->
-                    headersBuilder.putHeader(ExternalMessage.REPLY_TO_HEADER, replyTo)
-            );
-
-            final Optional<DittoHeaders> headersOpt = mapped.getHeaders();
-            headersOpt.ifPresent(headersBuilder::putHeaders); // overwrite with mapped headers (if any)
+        final ExternalMessage enhancedMessage = enhanceWithCorrelationId(message);
+        return delegate.map(enhancedMessage).map(mapped -> enhanceHeaders(enhancedMessage, mapped));
+    }
 
-            return ProtocolFactory.newAdaptableBuilder(mapped)
-                    .withHeaders(headersBuilder.build())
-                    .build();
-        });
+    @Override
+    public List<Optional<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        final List<ExternalMessage> enhancedMessages = messages.stream()
+                .map(WrappingMessageMapper::enhanceWithCorrelationId)
+                .collect(Collectors.toList());
+        final List<Optional<Adaptable>> mappedOpts = delegate.mapBatch(enhancedMessages);
+
+        final List<Optional<Adaptable>> result = new ArrayList<>(mappedOpts.size());
+        for (int i = 0; i < mappedOpts.size(); i++) {
+            final ExternalMessage enhancedMessage = enhancedMessages.get(i);
+            result.add(mappedOpts.get(i).map(mapped -> enhanceHeaders(enhancedMessage, mapped)));
+        }
+        return result;
     }
 
     @Override
@@ -114,6 +103,33 @@ final class WrappingMessageMapper implements MessageMapper {
         });
     }
 
+    private static ExternalMessage enhanceWithCorrelationId(final ExternalMessage message) {
+        if (!message.getHeaders().containsKey(DittoHeaderDefinition.CORRELATION_ID.getKey())) {
+            // if no correlation-id was provided in the ExternalMessage, generate one here:
+            return ExternalMessageFactory.newExternalMessageBuilder(message)
+                    .withAdditionalHeaders(DittoHeaderDefinition.CORRELATION_ID.getKey(),
+                            UUID.randomUUID().toString())
+                    .build();
+        }
+        return message;
+    }
+
+    private static Adaptable enhanceHeaders(final ExternalMessage enhancedMessage, final Adaptable mapped) {
+        final DittoHeadersBuilder headersBuilder = DittoHeaders.newBuilder();
+        headersBuilder.correlationId(enhancedMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey()));
+
+        Optional.ofNullable(enhancedMessage.getHeaders().get(ExternalMessage.REPLY_TO_HEADER)).ifPresent(replyTo ->
+                headersBuilder.putHeader(ExternalMessage.REPLY_TO_HEADER, replyTo)
+        );
+
+        final Optional<DittoHeaders> headersOpt = mapped.getHeaders();
+        headersOpt.ifPresent(headersBuilder::putHeaders); // overwrite with mapped headers (if any)
+
+        return ProtocolFactory.newAdaptableBuilder(mapped)
+                .withHeaders(headersBuilder.build())
+                .build();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
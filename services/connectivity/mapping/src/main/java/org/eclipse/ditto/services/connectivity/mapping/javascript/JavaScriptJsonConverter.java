@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Undefined;
+
+/**
+ * Converts JavaScript values returned by Rhino directly to {@link JsonValue}s with the semantics of
+ * {@code JSON.stringify} without the detour via a JSON string.
+ * Values which are neither plain objects, arrays nor primitives (e. g. dates or objects with a {@code toJSON}
+ * function) are converted via {@code JSON.stringify}.
+ */
+@Immutable
+final class JavaScriptJsonConverter {
+
+    private static final String TO_JSON = "toJSON";
+
+    private JavaScriptJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts the passed JavaScript value to a JsonValue.
+     *
+     * @param cx the current Rhino context.
+     * @param scope the scope the value was created in.
+     * @param value the JavaScript value.
+     * @return the JsonValue or an empty Optional if {@code JSON.stringify} would yield {@code undefined}.
+     */
+    static Optional<JsonValue> toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        if (value == null) {
+            return Optional.of(JsonFactory.nullLiteral());
+        } else if (value instanceof Undefined || value instanceof Callable) {
+            return Optional.empty();
+        } else if (value instanceof CharSequence) {
+            return Optional.of(JsonFactory.newValue(value.toString()));
+        } else if (value instanceof Boolean) {
+            return Optional.of(JsonFactory.newValue((Boolean) value));
+        } else if (value instanceof Number) {
+            return Optional.of(toJsonNumber(((Number) value).doubleValue()));
+        } else if (value instanceof NativeArray) {
+            return Optional.of(toJsonArray(cx, scope, (NativeArray) value));
+        } else if (value instanceof NativeObject && !hasToJsonFunction((NativeObject) value)) {
+            return Optional.of(toJsonObject(cx, scope, (NativeObject) value));
+        } else {
+            return stringify(cx, scope, value);
+        }
+    }
+
+    private static JsonValue toJsonNumber(final double number) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return JsonFactory.nullLiteral();
+        } else if (number == Math.rint(number) && number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+            return JsonFactory.newValue((int) number);
+        } else if (number == Math.rint(number) && number >= Long.MIN_VALUE && number <= Long.MAX_VALUE) {
+            return JsonFactory.newValue((long) number);
+        } else {
+            return JsonFactory.newValue(number);
+        }
+    }
+
+    private static JsonValue toJsonArray(final Context cx, final Scriptable scope, final NativeArray array) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        final long length = array.getLength();
+        for (int i = 0; i < length; i++) {
+            final Object element = ScriptableObject.getProperty(array, i);
+            final Object definedElement = element == Scriptable.NOT_FOUND ? null : element;
+            // like JSON.stringify, undefined and functions in arrays become null
+            builder.add(toJsonValue(cx, scope, definedElement).orElseGet(JsonFactory::nullLiteral));
+        }
+        return builder.build();
+    }
+
+    private static JsonValue toJsonObject(final Context cx, final Scriptable scope, final NativeObject object) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final Object id : object.getIds()) {
+            final Object property = id instanceof Integer
+                    ? ScriptableObject.getProperty(object, (Integer) id)
+                    : ScriptableObject.getProperty(object, id.toString());
+            if (property != Scriptable.NOT_FOUND) {
+                // like JSON.stringify, properties with undefined or function values are omitted
+                toJsonValue(cx, scope, property).ifPresent(jsonValue ->
+                        builder.set(JsonFactory.newField(JsonKey.of(id.toString()), jsonValue)));
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean hasToJsonFunction(final NativeObject object) {
+        return ScriptableObject.getProperty(object, TO_JSON) instanceof Callable;
+    }
+
+    private static Optional<JsonValue> stringify(final Context cx, final Scriptable scope, final Object value) {
+        final Object jsonString = NativeJSON.stringify(cx, scope, value, null, null);
+        if (jsonString instanceof CharSequence) {
+            return Optional.of(JsonFactory.readFrom(jsonString.toString()));
+        }
+        return Optional.empty();
+    }
+
+}
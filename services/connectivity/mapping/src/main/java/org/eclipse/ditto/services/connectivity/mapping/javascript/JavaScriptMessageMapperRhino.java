@@ -15,7 +15,12 @@ package org.eclipse.ditto.services.connectivity.mapping.javascript;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -28,7 +33,7 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
-import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.Script;
 
 /**
  * This mapper executes its mapping methods on the <b>current thread</b>. The caller should be aware of that.
@@ -44,6 +49,8 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
     private static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     private static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    private static final Map<String, Script> COMPILED_LIBRARIES = new ConcurrentHashMap<>();
+
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
@@ -79,11 +86,12 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
                 javaScriptConfig.getMaxScriptStackDepth());
 
         try {
-            // create scope once and load the required libraries in order to get best performance:
+            // compile the scripts once and create the first scope in order to report script errors right away:
             contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                initLibraries(cx, scope);
-                return scope;
+                final JavaScriptScopePool scopePool = new JavaScriptScopePool(compileScripts(cx));
+                scopePool.release(scopePool.borrow(cx));
+                initMappings(scopePool);
+                return scopePool;
             });
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
@@ -102,67 +110,82 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
         return incomingMapping.apply(message);
     }
 
+    @Override
+    public List<Optional<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        return incomingMapping.applyAll(messages);
+    }
+
     @Override
     public Optional<ExternalMessage> map(final Adaptable adaptable) {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope) {
+    private List<Script> compileScripts(final Context cx) {
+        final List<Script> scripts = new ArrayList<>();
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            scripts.add(compileJavascriptLibrary(cx, WEBJARS_LONG));
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            scripts.add(compileJavascriptLibrary(cx, WEBJARS_BYTEBUFFER));
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        scripts.add(compileJavascriptLibrary(cx, DITTO_SCOPE_SCRIPT));
+        scripts.add(compileJavascriptLibrary(cx, INCOMING_SCRIPT));
+        scripts.add(compileJavascriptLibrary(cx, OUTGOING_SCRIPT));
 
-        final String userIncomingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
-                .orElse("");
-        if (userIncomingScript.isEmpty()) {
+        getUserIncomingScript().ifPresent(userIncomingScript -> scripts.add(cx.compileString(userIncomingScript,
+                JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null)));
+        getUserOutgoingScript().ifPresent(userOutgoingScript -> scripts.add(cx.compileString(userOutgoingScript,
+                JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null)));
+
+        return scripts;
+    }
+
+    private void initMappings(final JavaScriptScopePool scopePool) {
+        if (getUserIncomingScript().isPresent()) {
+            incomingMapping = new ScriptedIncomingMapping(contextFactory, scopePool);
+        } else {
             // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
             incomingMapping = DefaultIncomingMapping.get();
-        } else {
-            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
         }
 
-        final String userOutgoingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
-                .orElse("");
-        if (userOutgoingScript.isEmpty()) {
+        if (getUserOutgoingScript().isPresent()) {
+            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scopePool);
+        } else {
             // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
             outgoingMapping = DefaultOutgoingMapping.get();
-        } else {
-            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
         }
     }
 
+    private Optional<String> getUserIncomingScript() {
+        return getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
+                .filter(script -> !script.isEmpty());
+    }
+
+    private Optional<String> getUserOutgoingScript() {
+        return getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
+                .filter(script -> !script.isEmpty());
+    }
+
     private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
         return Optional.ofNullable(configuration);
     }
 
-    private static void loadJavascriptLibrary(final Context cx,
-            final Scriptable scope,
-            final Reader reader,
-            final String libraryName) {
-
-        try {
-            cx.evaluateReader(scope, reader, libraryName, 1, null);
-        } catch (final IOException e) {
-            throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
-        }
+    /**
+     * Compiles a library script shipped with the mapper. The library scripts do not depend on the configuration and
+     * are therefore compiled only once for all mappers.
+     */
+    private static Script compileJavascriptLibrary(final Context cx, final String libraryName) {
+        return COMPILED_LIBRARIES.computeIfAbsent(libraryName, name -> {
+            try (final Reader reader = new InputStreamReader(
+                    JavaScriptMessageMapperRhino.class.getResourceAsStream(name), StandardCharsets.UTF_8)) {
+                return cx.compileReader(reader, name, 1, null);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not load script <" + name + ">", e);
+            }
+        });
     }
 
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * Pool of Rhino scopes in which the compiled mapping scripts were executed.
+ * <p>
+ * Rhino scopes must not be used by several threads at the same time. Each mapping borrows a scope for its duration
+ * so that messages can be mapped in parallel, while the scripts are compiled only once and shared by all scopes.
+ * The standard objects of each scope are sealed so that a script cannot modify them.
+ * </p>
+ */
+@ThreadSafe
+final class JavaScriptScopePool {
+
+    private final List<Script> scripts;
+    private final Queue<Scriptable> scopes;
+
+    /**
+     * Creates a new pool of scopes.
+     *
+     * @param scripts the compiled scripts to execute in each new scope in the given order.
+     */
+    JavaScriptScopePool(final List<Script> scripts) {
+        this.scripts = Collections.unmodifiableList(new ArrayList<>(scripts));
+        scopes = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Borrows a scope from this pool or creates a new one if none is available.
+     * The scope has to be given back by {@link #release(Scriptable)}.
+     *
+     * @param cx the current Rhino context.
+     * @return the scope.
+     * @throws org.mozilla.javascript.RhinoException if a script fails to execute in a new scope.
+     */
+    Scriptable borrow(final Context cx) {
+        final Scriptable scope = scopes.poll();
+        return scope != null ? scope : newScope(cx);
+    }
+
+    /**
+     * Gives a borrowed scope back to this pool.
+     *
+     * @param scope the scope.
+     */
+    void release(final Scriptable scope) {
+        scopes.offer(scope);
+    }
+
+    private Scriptable newScope(final Context cx) {
+        // the safe standard objects disable "print, exit, quit", etc.
+        final ScriptableObject scope = cx.initSafeStandardObjects(null, true);
+        for (final Script script : scripts) {
+            script.exec(cx, scope);
+        }
+        return scope;
+    }
+
+}
@@ -13,20 +13,23 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -47,66 +50,114 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     @Nullable
     private ContextFactory contextFactory;
     @Nullable
-    private Scriptable scope;
+    private JavaScriptScopePool scopePool;
 
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory,
+            @Nullable final JavaScriptScopePool scopePool) {
         this.contextFactory = contextFactory;
-        this.scope = scope;
+        this.scopePool = scopePool;
     }
 
     @Override
     public Optional<Adaptable> apply(final ExternalMessage message) {
         try {
             return Optional.ofNullable((Adaptable) contextFactory.call(cx -> {
-                final NativeObject headersObj = new NativeObject();
-                message.getHeaders().forEach((key, value) -> headersObj.put(key, headersObj, value));
-
-                final NativeArrayBuffer bytePayload;
-                if (message.getBytePayload().isPresent()) {
-                    final ByteBuffer byteBuffer = message.getBytePayload().get();
-                    final byte[] array = byteBuffer.array();
-                    bytePayload = new NativeArrayBuffer(array.length);
-                    for (int a = 0; a < array.length; a++) {
-                        bytePayload.getBuffer()[a] = array[a];
+                final Scriptable scope = scopePool.borrow(cx);
+                try {
+                    return map(cx, scope, message);
+                } finally {
+                    scopePool.release(scope);
+                }
+            }));
+        } catch (final RhinoException e) {
+            throw buildMessageMappingFailedException(e, message);
+        } catch (final Throwable e) {
+            throw buildUnexpectedMappingFailedException(e, message);
+        }
+    }
+
+    @Override
+    public List<Optional<Adaptable>> applyAll(final List<ExternalMessage> messages) {
+        final List<Optional<Adaptable>> adaptables = new ArrayList<>(messages.size());
+        try {
+            // enter the context and borrow a scope only once for the whole batch
+            contextFactory.call(cx -> {
+                final Scriptable scope = scopePool.borrow(cx);
+                try {
+                    for (final ExternalMessage message : messages) {
+                        adaptables.add(Optional.ofNullable(map(cx, scope, message)));
                     }
-                } else {
-                    bytePayload = null;
+                } finally {
+                    scopePool.release(scope);
                 }
+                return null;
+            });
+        } catch (final RhinoException e) {
+            throw buildMessageMappingFailedException(e, messages.get(adaptables.size()));
+        } catch (final Throwable e) {
+            throw buildUnexpectedMappingFailedException(e, messages.get(adaptables.size()));
+        }
+        return adaptables;
+    }
 
-                final String contentType = message.getHeaders().get(ExternalMessage.CONTENT_TYPE_HEADER);
-                final String textPayload = message.getTextPayload().orElse(null);
+    private MessageMappingFailedException buildMessageMappingFailedException(final RhinoException e,
+            final ExternalMessage message) {
 
-                final NativeObject externalMessage = new NativeObject();
-                externalMessage.put(EXTERNAL_MESSAGE_HEADERS, externalMessage, headersObj);
-                externalMessage.put(EXTERNAL_MESSAGE_TEXT_PAYLOAD, externalMessage, textPayload);
-                externalMessage.put(EXTERNAL_MESSAGE_BYTE_PAYLOAD, externalMessage, bytePayload);
-                externalMessage.put(EXTERNAL_MESSAGE_CONTENT_TYPE, externalMessage, contentType);
+        return buildMessageMappingFailedException(e, message.findContentType().orElse(""),
+                DittoHeaders.of(message.getHeaders()));
+    }
 
-                final org.mozilla.javascript.Function
-                        mapToDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
-                final Object result = mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[] {externalMessage});
+    private static MessageMappingFailedException buildUnexpectedMappingFailedException(final Throwable e,
+            final ExternalMessage message) {
 
-                if (result == null) {
-                    // return null if result is null causing the wrapping Optional to be empty
-                    return null;
-                }
+        return MessageMappingFailedException.newBuilder(message.findContentType().orElse(null))
+                .description(e.getMessage())
+                .dittoHeaders(DittoHeaders.of(message.getHeaders()))
+                .cause(e)
+                .build();
+    }
 
-                final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
+    @Nullable
+    private static Adaptable map(final Context cx, final Scriptable scope, final ExternalMessage message) {
+        final NativeObject headersObj = new NativeObject();
+        message.getHeaders().forEach((key, value) -> headersObj.put(key, headersObj, value));
+
+        final NativeArrayBuffer bytePayload;
+        if (message.getBytePayload().isPresent()) {
+            // Rhino's ArrayBuffer owns its byte array, hence copy the remaining bytes at once
+            final ByteBuffer byteBuffer = message.getBytePayload().get().duplicate();
+            bytePayload = new NativeArrayBuffer(byteBuffer.remaining());
+            byteBuffer.get(bytePayload.getBuffer());
+        } else {
+            bytePayload = null;
+        }
 
-                return DittoJsonException.wrapJsonRuntimeException(() -> {
-                    final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
-                    return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
-                });
-            }));
-        } catch (final RhinoException e) {
-            throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
-                    DittoHeaders.of(message.getHeaders()));
-        } catch (final Throwable e) {
-            throw MessageMappingFailedException.newBuilder(message.findContentType().orElse(null))
-                    .description(e.getMessage())
-                    .dittoHeaders(DittoHeaders.of(message.getHeaders()))
-                    .cause(e)
-                    .build();
+        final String contentType = message.getHeaders().get(ExternalMessage.CONTENT_TYPE_HEADER);
+        final String textPayload = message.getTextPayload().orElse(null);
+
+        final NativeObject externalMessage = new NativeObject();
+        externalMessage.put(EXTERNAL_MESSAGE_HEADERS, externalMessage, headersObj);
+        externalMessage.put(EXTERNAL_MESSAGE_TEXT_PAYLOAD, externalMessage, textPayload);
+        externalMessage.put(EXTERNAL_MESSAGE_BYTE_PAYLOAD, externalMessage, bytePayload);
+        externalMessage.put(EXTERNAL_MESSAGE_CONTENT_TYPE, externalMessage, contentType);
+
+        final org.mozilla.javascript.Function
+                mapToDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
+        final Object result = mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[] {externalMessage});
+
+        if (result == null) {
+            // return null if result is null causing the wrapping Optional to be empty
+            return null;
         }
+
+        return DittoJsonException.wrapJsonRuntimeException(() -> {
+            final JsonObject jsonObject = JavaScriptJsonConverter.toJsonValue(cx, scope, result)
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .orElseThrow(() -> new JsonParseException(
+                            "The incoming mapping script did not return a Ditto Protocol message object."));
+            return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
+        });
     }
+
 }
@@ -58,11 +58,12 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
 
     @Nullable private final ContextFactory contextFactory;
-    @Nullable private final Scriptable scope;
+    @Nullable private final JavaScriptScopePool scopePool;
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory,
+            @Nullable final JavaScriptScopePool scopePool) {
         this.contextFactory = contextFactory;
-        this.scope = scope;
+        this.scopePool = scopePool;
     }
 
     @Override
@@ -70,55 +71,12 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
             return Optional.ofNullable((ExternalMessage) contextFactory.call(cx -> {
-                final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
-
-                final org.mozilla.javascript.Function
-                        mapFromDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
-                final NativeObject result =
-                        (NativeObject) mapFromDittoProtocolMsgWrapper.call(cx, scope, scope,
-                                new Object[]{dittoProtocolMessage});
-
-                if (result == null) {
-                    // return null if result is null causing the wrapping Optional to be empty
-                    return null;
+                final Scriptable scope = scopePool.borrow(cx);
+                try {
+                    return map(cx, scope, adaptable, jsonifiableAdaptable);
+                } finally {
+                    scopePool.release(scope);
                 }
-
-                final Object contentType = result.get(EXTERNAL_MESSAGE_CONTENT_TYPE);
-                final Object textPayload = result.get(EXTERNAL_MESSAGE_TEXT_PAYLOAD);
-                final Object bytePayload = result.get(EXTERNAL_MESSAGE_BYTE_PAYLOAD);
-                final Object mappingHeaders = result.get(EXTERNAL_MESSAGE_HEADERS);
-
-                final Map<String, String> headers;
-                if (mappingHeaders != null && !(mappingHeaders instanceof Undefined)) {
-                    headers = new HashMap<>();
-                    final Map jsHeaders = (Map) mappingHeaders;
-                    jsHeaders.forEach((key, value) -> headers.put((String) key, value.toString()));
-                } else {
-                    headers = Collections.emptyMap();
-                }
-
-                final ExternalMessageBuilder messageBuilder =
-                        ExternalMessageFactory.newExternalMessageBuilder(headers);
-
-                if (!(contentType instanceof Undefined)) {
-                    messageBuilder.withAdditionalHeaders(ExternalMessage.CONTENT_TYPE_HEADER,
-                            ((CharSequence) contentType).toString());
-                }
-
-                final Optional<ByteBuffer> byteBuffer = convertToByteBuffer(bytePayload);
-                if (byteBuffer.isPresent()) {
-                    messageBuilder.withBytes(byteBuffer.get());
-                } else if (!(textPayload instanceof Undefined)) {
-                    messageBuilder.withText(((CharSequence) textPayload).toString());
-                } else {
-                    throw MessageMappingFailedException.newBuilder("")
-                            .description("Neither <bytePayload> nor <textPayload> were defined in the outgoing script")
-                            .dittoHeaders(adaptable.getHeaders().orElse(DittoHeaders.empty()))
-                            .build();
-                }
-
-                return messageBuilder.build();
             }));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, MessageMapper.findContentType(adaptable).orElse(""),
@@ -132,6 +90,61 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         }
     }
 
+    @Nullable
+    private static ExternalMessage map(final Context cx, final Scriptable scope, final Adaptable adaptable,
+            final JsonifiableAdaptable jsonifiableAdaptable) {
+
+        final Object dittoProtocolMessage =
+                NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+
+        final org.mozilla.javascript.Function
+                mapFromDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
+        final NativeObject result =
+                (NativeObject) mapFromDittoProtocolMsgWrapper.call(cx, scope, scope,
+                        new Object[]{dittoProtocolMessage});
+
+        if (result == null) {
+            // return null if result is null causing the wrapping Optional to be empty
+            return null;
+        }
+
+        final Object contentType = result.get(EXTERNAL_MESSAGE_CONTENT_TYPE);
+        final Object textPayload = result.get(EXTERNAL_MESSAGE_TEXT_PAYLOAD);
+        final Object bytePayload = result.get(EXTERNAL_MESSAGE_BYTE_PAYLOAD);
+        final Object mappingHeaders = result.get(EXTERNAL_MESSAGE_HEADERS);
+
+        final Map<String, String> headers;
+        if (mappingHeaders != null && !(mappingHeaders instanceof Undefined)) {
+            headers = new HashMap<>();
+            final Map jsHeaders = (Map) mappingHeaders;
+            jsHeaders.forEach((key, value) -> headers.put((String) key, value.toString()));
+        } else {
+            headers = Collections.emptyMap();
+        }
+
+        final ExternalMessageBuilder messageBuilder =
+                ExternalMessageFactory.newExternalMessageBuilder(headers);
+
+        if (!(contentType instanceof Undefined)) {
+            messageBuilder.withAdditionalHeaders(ExternalMessage.CONTENT_TYPE_HEADER,
+                    ((CharSequence) contentType).toString());
+        }
+
+        final Optional<ByteBuffer> byteBuffer = convertToByteBuffer(bytePayload);
+        if (byteBuffer.isPresent()) {
+            messageBuilder.withBytes(byteBuffer.get());
+        } else if (!(textPayload instanceof Undefined)) {
+            messageBuilder.withText(((CharSequence) textPayload).toString());
+        } else {
+            throw MessageMappingFailedException.newBuilder("")
+                    .description("Neither <bytePayload> nor <textPayload> were defined in the outgoing script")
+                    .dittoHeaders(adaptable.getHeaders().orElse(DittoHeaders.empty()))
+                    .build();
+        }
+
+        return messageBuilder.build();
+    }
+
     private static Optional<ByteBuffer> convertToByteBuffer(final Object obj) {
         if (obj instanceof NativeArrayBuffer) {
             return Optional.of(ByteBuffer.wrap(((NativeArrayBuffer) obj).getBuffer()));
@@ -16,6 +16,8 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
+
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptConfig;
 import org.junit.BeforeClass;
@@ -70,6 +72,24 @@ public final class DefaultMappingConfigTest {
         softly.assertThat(underTest.getFactoryName()).isEqualTo("org.test.mappers.MessageMapperFactory");
     }
 
+    @Test
+    public void getBatchSettingsReturnsDefaultValuesIfConfigIsEmpty() {
+        final DefaultMappingConfig underTest = DefaultMappingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getMaxBatchSize())
+                .isEqualTo(MappingConfig.MappingConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchDelay())
+                .isEqualTo(MappingConfig.MappingConfigValue.MAX_BATCH_DELAY.getDefaultValue());
+    }
+
+    @Test
+    public void getBatchSettingsReturnsValuesOfConfigurationFile() {
+        final DefaultMappingConfig underTest = DefaultMappingConfig.of(mappingTestConfig);
+
+        softly.assertThat(underTest.getMaxBatchSize()).isEqualTo(100);
+        softly.assertThat(underTest.getMaxBatchDelay()).isEqualTo(Duration.ofMillis(42L));
+    }
+
     @Test
     public void toStringContainsExpected() {
         final DefaultMappingConfig underTest = DefaultMappingConfig.of(mappingTestConfig);
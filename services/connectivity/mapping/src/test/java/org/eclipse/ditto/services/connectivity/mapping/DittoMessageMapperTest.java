@@ -16,8 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -63,6 +65,15 @@ public final class DittoMessageMapperTest {
         createValidIncomingMappings().forEach((in, out) -> assertThat(underTest.map(in)).isEqualTo(out));
     }
 
+    @Test
+    public void mapMessageBatch() {
+        final Map<ExternalMessage, Optional<Adaptable>> mappings = createValidIncomingMappings();
+        final List<ExternalMessage> messages = new ArrayList<>(mappings.keySet());
+        final List<Optional<Adaptable>> expected = messages.stream().map(mappings::get).collect(Collectors.toList());
+
+        assertThat(underTest.mapBatch(messages)).isEqualTo(expected);
+    }
+
     @Test
     public void mapMessageFails() {
         createInvalidIncomingMappings().forEach((in, e) -> assertThatExceptionOfType(e.getClass()).isThrownBy(
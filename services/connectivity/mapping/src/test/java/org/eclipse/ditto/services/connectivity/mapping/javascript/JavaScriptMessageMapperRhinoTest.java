@@ -16,11 +16,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -593,6 +599,30 @@ public final class JavaScriptMessageMapperRhinoTest {
         });
     }
 
+    @Test
+    public void testBinaryJavascriptIncomingMappingInParallel() throws Exception {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(HEADER_CORRELATION_ID, UUID.randomUUID().toString());
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_BINARY);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withBytes(MAPPING_INCOMING_PAYLOAD_BYTES)
+                .build();
+        final Optional<Adaptable> expected = javaScriptRhinoMapperBinary.map(message);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Optional<Adaptable>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executorService.submit(() -> javaScriptRhinoMapperBinary.map(message)));
+            }
+            for (final Future<Optional<Adaptable>> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(expected);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void testBinaryJavascriptOutgoingMapping() {
         final ThingId thingId = ThingId.of("org.eclipse.ditto:foo-bar-binary");
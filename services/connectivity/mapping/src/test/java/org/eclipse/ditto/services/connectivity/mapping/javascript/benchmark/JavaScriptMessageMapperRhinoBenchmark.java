@@ -19,7 +19,9 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
@@ -33,6 +35,7 @@ public class JavaScriptMessageMapperRhinoBenchmark {
     private static final int MEASUREMENT_ITERATIONS = 10;
     private static final int WARMUP_TIME = 1000;
     private static final int MEASUREMENT_TIME = 1000;
+    private static final int PARALLEL_THREADS = 4;
 
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
@@ -76,9 +79,42 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test5DecodeBinaryToDittoConfiguredOnce(final ConfiguredTest5DecodeBinaryToDitto scenario) {
+        scenario.messageMapper.map(scenario.externalMessage);
+    }
+
+    @Benchmark
+    @Threads(PARALLEL_THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test5DecodeBinaryToDittoConfiguredOnceParallel(final ConfiguredTest5DecodeBinaryToDitto scenario) {
+        scenario.messageMapper.map(scenario.externalMessage);
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         messageMapper.map(externalMessage);
     }
+
+    /**
+     * Scenario of {@link Test5DecodeBinaryToDitto} with a mapper which is configured only once and shared by all
+     * benchmark threads, so that only the mapping itself is measured.
+     */
+    @State(Scope.Benchmark)
+    public static class ConfiguredTest5DecodeBinaryToDitto {
+
+        private MessageMapper messageMapper;
+        private ExternalMessage externalMessage;
+
+        @Setup
+        public void setup() {
+            final Test5DecodeBinaryToDitto scenario = new Test5DecodeBinaryToDitto();
+            messageMapper = scenario.getMessageMapper();
+            externalMessage = scenario.getExternalMessage();
+        }
+    }
 }
@@ -15,8 +15,14 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.model.base.headers.DittoHeaderDefinition.CORRELATION_ID;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -57,6 +63,7 @@ public final class MessageMappingProcessor {
 
     private static final String TIMER_NAME = "connectivity_message_mapping";
     private static final String INBOUND = "inbound";
+    private static final String INBOUND_BATCH = "inbound_batch";
     private static final String OUTBOUND = "outbound";
     private static final String PAYLOAD_SEGMENT_NAME = "payload";
     private static final String PROTOCOL_SEGMENT_NAME = "protocol";
@@ -135,6 +142,39 @@ public final class MessageMappingProcessor {
         return withTimer(overAllProcessingTimer, () -> convertMessage(message, overAllProcessingTimer));
     }
 
+    /**
+     * Processes a batch of ExternalMessages to Signals. The messages of the batch are mapped by one call of each
+     * message mapper involved. If a mapper fails to map its part of the batch, those messages are processed one by one
+     * so that each failure is attributed to the message causing it.
+     *
+     * @param messages the messages
+     * @return for each message in the order of {@code messages}, a supplier of the signal which throws the exception
+     * of processing the message if that failed
+     */
+    List<Supplier<Optional<InboundExternalMessage>>> process(final List<ExternalMessage> messages) {
+        final Map<MessageMapper, List<Integer>> indexesByMapper = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            indexesByMapper.computeIfAbsent(getMapper(messages.get(i)), mapper -> new ArrayList<>()).add(i);
+        }
+
+        final List<Supplier<Optional<InboundExternalMessage>>> results =
+                new ArrayList<>(Collections.nCopies(messages.size(), null));
+        indexesByMapper.forEach((mapper, indexes) -> {
+            final List<ExternalMessage> batch = indexes.stream().map(messages::get).collect(Collectors.toList());
+            final List<Optional<Adaptable>> adaptableOpts = mapBatch(mapper, batch);
+            for (int i = 0; i < batch.size(); i++) {
+                final ExternalMessage message = batch.get(i);
+                if (adaptableOpts != null) {
+                    final Optional<Adaptable> adaptableOpt = adaptableOpts.get(i);
+                    results.set(indexes.get(i), () -> convertMappedMessage(message, adaptableOpt));
+                } else {
+                    results.set(indexes.get(i), () -> process(message));
+                }
+            }
+        });
+        return results;
+    }
+
     /**
      * Processes a Signal to an ExternalMessage.
      *
@@ -158,28 +198,70 @@ public final class MessageMappingProcessor {
                     overAllProcessingTimer.startNewSegment(PAYLOAD_SEGMENT_NAME),
                     () -> getMapper(message).map(message));
 
-            return adaptableOpt.map(adaptable -> {
-                enhanceLogFromAdaptable(adaptable);
-                final Signal<?> signal = MessageMappingProcessor.<Signal<?>>withTimer(
-                        overAllProcessingTimer.startNewSegment(PROTOCOL_SEGMENT_NAME),
-                        () -> protocolAdapter.fromAdaptable(adaptable));
-
-                dittoHeadersSizeChecker.check(signal.getDittoHeaders());
-
-                return MappedInboundExternalMessage.of(message, adaptable.getTopicPath(), signal);
-            });
+            return adaptableOpt.map(adaptable -> toInboundExternalMessage(message, adaptable, overAllProcessingTimer));
         } catch (final DittoRuntimeException e) {
             throw e;
         } catch (final Exception e) {
-            throw MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
-                    .description("Could not map ExternalMessage due to unknown problem: " +
-                            e.getClass().getSimpleName() + " " + e.getMessage())
-                    .dittoHeaders(DittoHeaders.of(message.getHeaders()))
-                    .cause(e)
-                    .build();
+            throw toMessageMappingFailedException(message, e);
+        }
+    }
+
+    @Nullable
+    private List<Optional<Adaptable>> mapBatch(final MessageMapper mapper, final List<ExternalMessage> batch) {
+        final StartedTimer batchProcessingTimer = startNewTimer().tag(DIRECTION_TAG_NAME, INBOUND_BATCH);
+        try {
+            final List<Optional<Adaptable>> adaptableOpts =
+                    withTimer(batchProcessingTimer.startNewSegment(PAYLOAD_SEGMENT_NAME), () -> mapper.mapBatch(batch));
+            batchProcessingTimer.tag(TracingTags.MAPPING_SUCCESS, true).stop();
+            return adaptableOpts;
+        } catch (final Exception e) {
+            log.debug("Mapping batch of <{}> messages failed with <{}>, mapping them one by one.", batch.size(),
+                    e.getClass().getSimpleName());
+            batchProcessingTimer.tag(TracingTags.MAPPING_SUCCESS, false).stop();
+            return null;
         }
     }
 
+    private Optional<InboundExternalMessage> convertMappedMessage(final ExternalMessage message,
+            final Optional<Adaptable> adaptableOpt) {
+
+        final StartedTimer overAllProcessingTimer = startNewTimer().tag(DIRECTION_TAG_NAME, INBOUND);
+        return withTimer(overAllProcessingTimer, () -> {
+            try {
+                return adaptableOpt.map(adaptable ->
+                        toInboundExternalMessage(message, adaptable, overAllProcessingTimer));
+            } catch (final DittoRuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw toMessageMappingFailedException(message, e);
+            }
+        });
+    }
+
+    private InboundExternalMessage toInboundExternalMessage(final ExternalMessage message, final Adaptable adaptable,
+            final StartedTimer overAllProcessingTimer) {
+
+        enhanceLogFromAdaptable(adaptable);
+        final Signal<?> signal = MessageMappingProcessor.<Signal<?>>withTimer(
+                overAllProcessingTimer.startNewSegment(PROTOCOL_SEGMENT_NAME),
+                () -> protocolAdapter.fromAdaptable(adaptable));
+
+        dittoHeadersSizeChecker.check(signal.getDittoHeaders());
+
+        return MappedInboundExternalMessage.of(message, adaptable.getTopicPath(), signal);
+    }
+
+    private static MessageMappingFailedException toMessageMappingFailedException(final ExternalMessage message,
+            final Exception e) {
+
+        return MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
+                .description("Could not map ExternalMessage due to unknown problem: " +
+                        e.getClass().getSimpleName() + " " + e.getMessage())
+                .dittoHeaders(DittoHeaders.of(message.getHeaders()))
+                .cause(e)
+                .build();
+    }
+
     private Optional<ExternalMessage> convertToExternalMessage(
             final Signal signal,
             final Supplier<Adaptable> adaptableSupplier,
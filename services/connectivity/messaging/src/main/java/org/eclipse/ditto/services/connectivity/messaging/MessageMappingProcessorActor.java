@@ -18,7 +18,9 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -67,8 +70,10 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
@@ -85,7 +90,8 @@ import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 
-import akka.actor.AbstractActor;
+import akka.Done;
+import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
@@ -95,7 +101,7 @@ import akka.japi.pf.ReceiveBuilder;
 /**
  * This Actor processes incoming {@link Signal}s and dispatches them.
  */
-public final class MessageMappingProcessorActor extends AbstractActor {
+public final class MessageMappingProcessorActor extends AbstractActorWithTimers {
 
     /**
      * The name of this Actor in the ActorSystem.
@@ -124,6 +130,11 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     private final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitor responseMappedMonitor;
 
+    private final int maxBatchSize;
+    private final Duration maxBatchDelay;
+    private final List<ExternalMessage> inboundBatch;
+    private final List<ActorRef> inboundBatchAcknowledgementRecipients;
+
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef publisherActor,
             final ActorRef conciergeForwarder,
@@ -146,13 +157,20 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         applySignalIdEnforcement = new ApplySignalIdEnforcement(log);
         replaceTargetAddressPlaceholders = new PlaceholderInTargetAddressSubstitution();
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
+        final DittoConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        );
+        final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
         this.connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDispatchedMonitor = connectionMonitorRegistry.forResponseDispatched(connectionId);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(connectionId);
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(connectionId);
+
+        final MappingConfig mappingConfig = connectivityConfig.getMappingConfig();
+        maxBatchSize = mappingConfig.getMaxBatchSize();
+        maxBatchDelay = mappingConfig.getMaxBatchDelay();
+        inboundBatch = new ArrayList<>();
+        inboundBatchAcknowledgementRecipients = new ArrayList<>();
     }
 
     /**
@@ -173,10 +191,20 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 connectionId);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (!inboundBatch.isEmpty()) {
+            flushInboundBatch();
+        }
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
-                .match(ExternalMessage.class, this::handleInboundMessage)
+                .match(ExternalMessage.class, externalMessage -> handleInboundMessage(externalMessage, null))
+                .match(AcknowledgeableMessage.class, this::handleAcknowledgeableMessage)
+                .matchEquals(Control.FLUSH_INBOUND_BATCH, flush -> flushInboundBatch())
                 .match(CommandResponse.class, this::handleCommandResponse)
                 .match(OutboundSignal.class, this::handleOutboundSignal)
                 .match(Signal.class, this::handleSignal)
@@ -189,13 +217,83 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 }).build();
     }
 
-    private void handleInboundMessage(final ExternalMessage externalMessage) {
+    /*
+     * Handles a message of a consumer which waits for the acknowledgement of the message before it consumes further
+     * messages. The acknowledgement is sent after the message was mapped and forwarded, or failed to be.
+     */
+    private void handleAcknowledgeableMessage(final AcknowledgeableMessage acknowledgeableMessage) {
+        final Object message = acknowledgeableMessage.getMessage();
+        if (message instanceof ExternalMessage) {
+            handleInboundMessage((ExternalMessage) message, getSender());
+        } else {
+            if (message instanceof DittoRuntimeException) {
+                handleDittoRuntimeException((DittoRuntimeException) message);
+            }
+            acknowledge(getSender());
+        }
+    }
+
+    private void handleInboundMessage(final ExternalMessage externalMessage,
+            @Nullable final ActorRef acknowledgementRecipient) {
+
         ConditionChecker.checkNotNull(externalMessage);
+        if (maxBatchSize > 1) {
+            inboundBatch.add(externalMessage);
+            if (acknowledgementRecipient != null) {
+                inboundBatchAcknowledgementRecipients.add(acknowledgementRecipient);
+            }
+            if (inboundBatch.size() >= maxBatchSize) {
+                flushInboundBatch();
+            } else if (inboundBatch.size() == 1) {
+                getTimers().startSingleTimer(Control.FLUSH_INBOUND_BATCH, Control.FLUSH_INBOUND_BATCH,
+                        maxBatchDelay);
+            }
+        } else {
+            withInboundErrorHandling(externalMessage, () -> {
+                final ExternalMessage messageWithAuthSubject = placeholderSubstitution.apply(externalMessage);
+                mapExternalMessageToSignalAndForwardToConcierge(messageWithAuthSubject,
+                        () -> messageMappingProcessor.process(messageWithAuthSubject));
+            });
+            if (acknowledgementRecipient != null) {
+                acknowledge(acknowledgementRecipient);
+            }
+        }
+    }
+
+    private void flushInboundBatch() {
+        getTimers().cancel(Control.FLUSH_INBOUND_BATCH);
+        final List<ExternalMessage> externalMessages = new ArrayList<>(inboundBatch.size());
+        final List<ExternalMessage> messagesWithAuthSubject = new ArrayList<>(inboundBatch.size());
+        for (final ExternalMessage externalMessage : inboundBatch) {
+            withInboundErrorHandling(externalMessage, () -> {
+                messagesWithAuthSubject.add(placeholderSubstitution.apply(externalMessage));
+                externalMessages.add(externalMessage);
+            });
+        }
+        inboundBatch.clear();
+
+        final List<Supplier<Optional<InboundExternalMessage>>> inboundMappings =
+                messageMappingProcessor.process(messagesWithAuthSubject);
+        for (int i = 0; i < externalMessages.size(); i++) {
+            final ExternalMessage messageWithAuthSubject = messagesWithAuthSubject.get(i);
+            final Supplier<Optional<InboundExternalMessage>> inboundMapping = inboundMappings.get(i);
+            withInboundErrorHandling(externalMessages.get(i),
+                    () -> mapExternalMessageToSignalAndForwardToConcierge(messageWithAuthSubject, inboundMapping));
+        }
+        inboundBatchAcknowledgementRecipients.forEach(this::acknowledge);
+        inboundBatchAcknowledgementRecipients.clear();
+    }
+
+    private void acknowledge(final ActorRef acknowledgementRecipient) {
+        acknowledgementRecipient.tell(Done.getInstance(), getSelf());
+    }
+
+    private void withInboundErrorHandling(final ExternalMessage externalMessage, final Runnable inboundProcessing) {
         final String correlationId = externalMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
         ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, correlationId, connectionId);
         log.debug("Handling ExternalMessage: {}", externalMessage);
         try {
-            mapExternalMessageToSignalAndForwardToConcierge(externalMessage);
+            inboundProcessing.run();
         } catch (final DittoRuntimeException e) {
             responseMappedMonitor.getLogger()
                     .failure("Got exception {0} when processing external message: {1}", e.getErrorCode(),
@@ -208,14 +306,15 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         }
     }
 
-    private void mapExternalMessageToSignalAndForwardToConcierge(final ExternalMessage externalMessage) {
-        final String source = externalMessage.getSourceAddress().orElse("unknown");
-        final ExternalMessage messageWithAuthSubject = placeholderSubstitution.apply(externalMessage);
+    private void mapExternalMessageToSignalAndForwardToConcierge(final ExternalMessage messageWithAuthSubject,
+            final Supplier<Optional<InboundExternalMessage>> inboundMapping) {
+
+        final String source = messageWithAuthSubject.getSourceAddress().orElse("unknown");
 
         final Optional<InboundExternalMessage> inboundMessageOpt =
                 connectionMonitorRegistry.forInboundMapped(connectionId, source)
                         .wrapExecution(messageWithAuthSubject)
-                        .execute(() -> messageMappingProcessor.process(messageWithAuthSubject));
+                        .execute(inboundMapping);
 
         if (inboundMessageOpt.isPresent()) {
             final InboundExternalMessage inboundMessage = inboundMessageOpt.get();
@@ -630,4 +729,8 @@ public final class MessageMappingProcessorActor extends AbstractActor {
 
     }
 
+    private enum Control {
+        FLUSH_INBOUND_BATCH
+    }
+
 }
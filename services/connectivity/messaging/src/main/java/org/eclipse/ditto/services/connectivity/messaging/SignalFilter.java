@@ -35,6 +35,7 @@ import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.filter.CriteriaCache;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
@@ -42,6 +43,7 @@ import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
+import org.eclipse.ditto.services.utils.cache.ParsedCriteriaCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -61,6 +63,14 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
  */
 final class SignalFilter {
 
+    private static final long MAX_CACHED_FILTER_LENGTH = 1024L * 1024L;
+
+    /**
+     * Parsed filters of the targets of all connections of this instance.
+     */
+    private static final CriteriaCache CRITERIA_CACHE =
+            ParsedCriteriaCache.of(MAX_CACHED_FILTER_LENGTH, "connectivity_rql_filters");
+
     private final Connection connection;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
@@ -75,7 +85,8 @@ final class SignalFilter {
         final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
         final ThingsFieldExpressionFactory fieldExpressionFactory =
                 new ModelBasedThingsFieldExpressionFactory();
-        queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+        queryFilterCriteriaFactory =
+                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory, CRITERIA_CACHE);
         this.connectionMonitorRegistry = connectionMonitorRegistry;
     }
 
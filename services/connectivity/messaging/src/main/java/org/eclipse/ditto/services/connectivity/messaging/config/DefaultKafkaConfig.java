@@ -12,14 +12,16 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * This class is the default implementation of {@link KafkaConfig}.
@@ -30,9 +32,23 @@ public final class DefaultKafkaConfig implements KafkaConfig {
     private static final String CONFIG_PATH = "kafka";
 
     private final Config internalProducerConfig;
+    private final Config internalConsumerConfig;
+    private final Config internalCommitterConfig;
+    private final int consumerMaxPartitions;
+    private final int consumerParallelism;
+    private final Duration consumerThrottlingInterval;
+    private final int consumerThrottlingLimit;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        internalConsumerConfig = getConfigOrEmpty(kafkaScopedConfig, "consumer.internal");
+        internalCommitterConfig = getConfigOrEmpty(kafkaScopedConfig, "committer.internal");
+        consumerMaxPartitions = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_MAX_PARTITIONS.getConfigPath());
+        consumerParallelism = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_PARALLELISM.getConfigPath());
+        consumerThrottlingInterval =
+                kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_THROTTLING_INTERVAL.getConfigPath());
+        consumerThrottlingLimit =
+                kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_THROTTLING_LIMIT.getConfigPath());
     }
 
     /**
@@ -43,7 +59,14 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
+    }
+
+    private static Config getConfigOrEmpty(final ScopedConfig kafkaScopedConfig, final String path) {
+        if (kafkaScopedConfig.hasPath(path)) {
+            return kafkaScopedConfig.getConfig(path);
+        }
+        return ConfigFactory.empty();
     }
 
     @Override
@@ -51,6 +74,36 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Config getInternalCommitterConfig() {
+        return internalCommitterConfig;
+    }
+
+    @Override
+    public int getConsumerMaxPartitions() {
+        return consumerMaxPartitions;
+    }
+
+    @Override
+    public int getConsumerParallelism() {
+        return consumerParallelism;
+    }
+
+    @Override
+    public Duration getConsumerThrottlingInterval() {
+        return consumerThrottlingInterval;
+    }
+
+    @Override
+    public int getConsumerThrottlingLimit() {
+        return consumerThrottlingLimit;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +113,31 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return consumerMaxPartitions == that.consumerMaxPartitions &&
+                consumerParallelism == that.consumerParallelism &&
+                consumerThrottlingLimit == that.consumerThrottlingLimit &&
+                Objects.equals(consumerThrottlingInterval, that.consumerThrottlingInterval) &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(internalCommitterConfig, that.internalCommitterConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, internalConsumerConfig, internalCommitterConfig,
+                consumerMaxPartitions, consumerParallelism, consumerThrottlingInterval, consumerThrottlingLimit);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", internalCommitterConfig=" + internalCommitterConfig +
+                ", consumerMaxPartitions=" + consumerMaxPartitions +
+                ", consumerParallelism=" + consumerParallelism +
+                ", consumerThrottlingInterval=" + consumerThrottlingInterval +
+                ", consumerThrottlingLimit=" + consumerThrottlingLimit +
                 "]";
     }
 
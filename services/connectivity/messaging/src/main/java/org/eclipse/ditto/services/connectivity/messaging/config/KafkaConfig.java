@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +34,99 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the Config for committing consumed offsets needed by akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#committer-sink">akka-stream-kafka Committer sink</a>
+     * @return internal committer configuration needed by akka-stream-kafka client.
+     */
+    Config getInternalCommitterConfig();
+
+    /**
+     * Returns the maximum number of partitions assigned to one Kafka consumer which are processed in parallel.
+     *
+     * @return the maximum number of partitions.
+     */
+    int getConsumerMaxPartitions();
+
+    /**
+     * Returns the maximum number of messages of one partition which are forwarded to message mapping without having
+     * been acknowledged.
+     *
+     * @return the parallelism per partition.
+     */
+    int getConsumerParallelism();
+
+    /**
+     * Returns the consumer throttling interval meaning in which duration may the configured
+     * {@link #getConsumerThrottlingLimit() limit} be forwarded to message mapping before throttling further messages.
+     *
+     * @return the consumer throttling interval.
+     */
+    Duration getConsumerThrottlingInterval();
+
+    /**
+     * Returns the consumer throttling limit defining forwarded messages per configured
+     * {@link #getConsumerThrottlingInterval() interval}. A limit of 0 disables throttling.
+     *
+     * @return the consumer throttling limit.
+     */
+    int getConsumerThrottlingLimit();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of partitions assigned to one Kafka consumer which are processed in parallel.
+         */
+        CONSUMER_MAX_PARTITIONS("consumer.max-partitions", 64),
+
+        /**
+         * The maximum number of unacknowledged messages per partition.
+         */
+        CONSUMER_PARALLELISM("consumer.parallelism", 16),
+
+        /**
+         * The consumer throttling interval meaning in which duration may the configured
+         * {@link #CONSUMER_THROTTLING_LIMIT limit} be forwarded before throttling further messages.
+         */
+        CONSUMER_THROTTLING_INTERVAL("consumer.throttling.interval", Duration.ofSeconds(1)),
+
+        /**
+         * The consumer throttling limit defining forwarded messages per configured
+         * {@link #CONSUMER_THROTTLING_INTERVAL interval}; disabled by default.
+         */
+        CONSUMER_THROTTLING_LIMIT("consumer.throttling.limit", 0);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import java.util.Objects;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * Wraps a message which a consumer actor forwards to the
+ * {@link org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor} and for which the sender
+ * expects an acknowledgement: the mapping processor replies {@link akka.Done} to the sender once it handled the
+ * message, so that consumers may wait for the mapping before consuming further messages.
+ */
+public final class AcknowledgeableMessage {
+
+    private final Object message;
+
+    private AcknowledgeableMessage(final Object message) {
+        this.message = message;
+    }
+
+    /**
+     * Wraps an external message to be mapped.
+     *
+     * @param externalMessage the external message.
+     * @return the acknowledgeable message.
+     */
+    public static AcknowledgeableMessage of(final ExternalMessage externalMessage) {
+        return new AcknowledgeableMessage(externalMessage);
+    }
+
+    /**
+     * Wraps an error which occurred while consuming a message and has to be answered.
+     *
+     * @param dittoRuntimeException the error.
+     * @return the acknowledgeable message.
+     */
+    public static AcknowledgeableMessage of(final DittoRuntimeException dittoRuntimeException) {
+        return new AcknowledgeableMessage(dittoRuntimeException);
+    }
+
+    /**
+     * @return the wrapped {@link ExternalMessage} or {@link DittoRuntimeException}.
+     */
+    public Object getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AcknowledgeableMessage that = (AcknowledgeableMessage) o;
+        return Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "message=" + message +
+                "]";
+    }
+
+}
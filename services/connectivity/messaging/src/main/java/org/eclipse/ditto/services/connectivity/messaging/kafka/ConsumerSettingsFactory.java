@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Creates {@link akka.kafka.ConsumerSettings} and {@link akka.kafka.CommitterSettings} from a given
+ * {@link org.eclipse.ditto.model.connectivity.Connection} configuration.
+ */
+final class ConsumerSettingsFactory {
+
+    private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
+            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
+                    KafkaBootstrapServerSpecificConfig.getInstance()));
+
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
+
+    private static final String AKKA_KAFKA_CONSUMER_PATH = "akka.kafka.consumer";
+    private static final String AKKA_KAFKA_COMMITTER_PATH = "akka.kafka.committer";
+
+    private final Connection connection;
+    private final KafkaConfig kafkaConfig;
+
+    private ConsumerSettingsFactory(final Connection connection, final KafkaConfig kafkaConfig) {
+        this.connection = checkNotNull(connection, "connection");
+        this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
+    }
+
+    /**
+     * Returns an instance of the ConsumerSettings factory.
+     *
+     * @param connection the Kafka connection.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ConsumerSettingsFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+        return new ConsumerSettingsFactory(connection, kafkaConfig);
+    }
+
+    /**
+     * Returns the settings of one Kafka consumer of the connection. All consumers of the connection share the
+     * connection ID as consumer group so that the partitions of the source topics are distributed among them.
+     *
+     * @param clientIdSuffix the suffix which distinguishes the client ID of the consumer from the ones of the other
+     * consumers of the same connection and instance.
+     * @return the consumer settings.
+     */
+    ConsumerSettings<String, String> getConsumerSettings(final String clientIdSuffix) {
+        final Config consumerConfig = kafkaConfig.getInternalConsumerConfig()
+                .withFallback(ConfigFactory.defaultReference().getConfig(AKKA_KAFKA_CONSUMER_PATH));
+        ConsumerSettings<String, String> settings =
+                ConsumerSettings.create(consumerConfig, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+
+        settings = addMetadata(settings, clientIdSuffix);
+        settings = addSecurityProtocol(settings);
+        settings = addSpecificConfigs(settings);
+
+        return settings;
+    }
+
+    /**
+     * Returns the settings of committing the offsets of consumed messages in batches.
+     *
+     * @return the committer settings.
+     */
+    CommitterSettings getCommitterSettings() {
+        final Config committerConfig = kafkaConfig.getInternalCommitterConfig()
+                .withFallback(ConfigFactory.defaultReference().getConfig(AKKA_KAFKA_COMMITTER_PATH));
+        return CommitterSettings.create(committerConfig);
+    }
+
+    private ConsumerSettings<String, String> addMetadata(final ConsumerSettings<String, String> settings,
+            final String clientIdSuffix) {
+
+        // identify the connected Kafka client by the connectionId followed by the instance index and the suffix
+        // (in order to be able to differentiate if a clientCount >1 or consumerCount >1 was configured):
+        final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+
+        return settings.withGroupId(connection.getId().toString())
+                .withProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false")
+                .withProperty(CommonClientConfigs.CLIENT_ID_CONFIG,
+                        connection.getId() + "-" + instanceIdentifierSupplier.get() + "-" + clientIdSuffix);
+    }
+
+    private ConsumerSettings<String, String> addSpecificConfigs(final ConsumerSettings<String, String> settings) {
+        ConsumerSettings<String, String> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
+        }
+        return currentSettings;
+    }
+
+    private ConsumerSettings<String, String> addSecurityProtocol(final ConsumerSettings<String, String> settings) {
+        final boolean isConnectionAuthenticated =
+                KafkaAuthenticationSpecificConfig.getInstance().isApplicable(connection);
+        final boolean isConnectionSecure = "ssl".equals(connection.getProtocol());
+        final String securityProtocol;
+        if (isConnectionAuthenticated) {
+            securityProtocol = isConnectionSecure ? "SASL_SSL" : "SASL_PLAINTEXT";
+        } else {
+            securityProtocol = isConnectionSecure ? "SSL" : "PLAINTEXT";
+        }
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, securityProtocol);
+    }
+
+}
@@ -12,28 +12,47 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.HashSet;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
+import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
 import akka.kafka.ProducerSettings;
+import akka.kafka.Subscriptions;
+import akka.kafka.javadsl.Committer;
+import akka.kafka.javadsl.Consumer;
 import akka.kafka.javadsl.Producer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sources and sinks.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private final Connection connection;
     private final ProducerSettings<String, String> settings;
+    private final ConsumerSettingsFactory consumerSettingsFactory;
+    private final CommitterSettings committerSettings;
 
     private DefaultKafkaConnectionFactory(final Connection connection,
-            final ProducerSettings<String, String> producerSettings) {
+            final ProducerSettings<String, String> producerSettings,
+            final ConsumerSettingsFactory consumerSettingsFactory) {
 
         this.connection = connection;
         settings = producerSettings;
+        this.consumerSettingsFactory = consumerSettingsFactory;
+        committerSettings = consumerSettingsFactory.getCommitterSettings();
     }
 
     /**
@@ -46,7 +65,8 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
     static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
         final ProducerSettingsFactory settingsFactory = ProducerSettingsFactory.getInstance(connection, kafkaConfig);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerSettings());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerSettings(),
+                ConsumerSettingsFactory.getInstance(connection, kafkaConfig));
     }
 
     @Override
@@ -59,4 +79,19 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         return Producer.flexiFlow(settings);
     }
 
+    @Override
+    public akka.stream.javadsl.Source<Pair<TopicPartition,
+            akka.stream.javadsl.Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>,
+            Consumer.Control> newPartitionedSource(final Source kafkaSource, final int consumerIndex) {
+
+        final String clientIdSuffix = kafkaSource.getIndex() + "-" + consumerIndex;
+        return Consumer.committablePartitionedSource(consumerSettingsFactory.getConsumerSettings(clientIdSuffix),
+                Subscriptions.topics(new HashSet<>(kafkaSource.getAddresses())));
+    }
+
+    @Override
+    public Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink() {
+        return Committer.sink(committerSettings);
+    }
+
 }
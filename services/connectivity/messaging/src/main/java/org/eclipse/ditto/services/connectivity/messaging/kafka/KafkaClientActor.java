@@ -12,7 +12,10 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -21,8 +24,10 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
@@ -33,10 +38,19 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconne
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 
+import akka.Done;
+import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.pf.FSMStateFunctionBuilder;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Flow;
+import scala.util.Either;
 
 /**
  * Actor which handles connection to Kafka server.
@@ -50,6 +64,10 @@ public final class KafkaClientActor extends BaseClientActor {
 
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final Duration consumerAskTimeout;
+    private final ActorMaterializer materializer;
+    private final Map<ActorRef, Consumer.Control> consumerControls;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
 
@@ -61,10 +79,13 @@ public final class KafkaClientActor extends BaseClientActor {
 
         super(connection, desiredConnectionStatus, conciergeForwarder);
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
-        final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
+        kafkaConfig = connectionConfig.getKafkaConfig();
+        consumerAskTimeout = connectionConfig.getClientActorAskTimeout();
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        materializer = ActorMaterializer.create(getContext());
+        consumerControls = new HashMap<>();
     }
 
     /**
@@ -145,14 +166,31 @@ public final class KafkaClientActor extends BaseClientActor {
 
     /**
      * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Consumers of the sources are started afterwards unless this is a dry run.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      */
     private void connectClient(final boolean dryRun) {
         // start publisher
         startKafkaPublisher(dryRun);
-        startMessageMappingProcessorActor();
-        // no command consumers as we don't support consuming from sources yet
+        final Either<DittoRuntimeException, ActorRef> messageMappingProcessor = startMessageMappingProcessorActor();
+
+        if (dryRun) {
+            // consuming in a dry run would commit the offsets of records which are never processed
+            log.info("Not starting consumption in dry run.");
+        } else if (isConsuming()) {
+            if (messageMappingProcessor.isLeft()) {
+                final DittoRuntimeException e = messageMappingProcessor.left().get();
+                log.warning("failed to start mapping processor due to {}", e);
+            } else {
+                final ActorRef mappingActor = messageMappingProcessor.right().get();
+                // ensure no previous consumers stay in memory
+                stopKafkaConsumers();
+                connection().getSources().forEach(source -> startKafkaConsumers(mappingActor, source));
+            }
+        } else {
+            log.info("Not starting consumption because there is no source.");
+        }
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
@@ -165,12 +203,105 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    /**
+     * Starts the consumers of a source. Each consumer is a member of the consumer group of the connection and
+     * processes the partitions assigned to it in parallel: the records of one partition are forwarded in order via
+     * the consumer actor to the mapping processor, which acknowledges each record after it was mapped. Only
+     * acknowledged offsets are committed, in batches, so records which were not mapped yet are consumed again after
+     * a restart.
+     * <p>
+     * The number of unacknowledged records per partition is bounded, so a busy mapping processor slows down the
+     * consumption. The throughput scales with the number of partitions and the size of the mapping processor pool,
+     * as the records are distributed to the mapping processors by their key. Optionally, the records forwarded by
+     * each consumer are throttled as configured.
+     * </p>
+     */
+    private void startKafkaConsumers(final ActorRef messageMappingProcessorActor, final Source source) {
+        if (source.getConsumerCount() <= 0) {
+            log.info("source #{} has {} consumer - not starting stream", source.getIndex(), source.getConsumerCount());
+            return;
+        }
+
+        for (int i = 0; i < source.getConsumerCount(); i++) {
+            log.debug("Starting {}. consumer actor for source <{}> on connection <{}>.", i, source.getIndex(),
+                    connectionFactory.connectionId());
+
+            final String actorNamePrefix = KafkaConsumerActor.ACTOR_NAME_PREFIX + source.getIndex() + "-" + i;
+            final Props kafkaConsumerActorProps =
+                    KafkaConsumerActor.props(connectionId(), messageMappingProcessorActor,
+                            source.getAuthorizationContext(),
+                            source.getEnforcement().orElse(null),
+                            source.getHeaderMapping().orElse(null),
+                            String.join(";", source.getAddresses()));
+            final ActorRef kafkaConsumerActor =
+                    startChildActorConflictFree(actorNamePrefix, kafkaConsumerActorProps);
+
+            final Consumer.Control control = connectionFactory.newPartitionedSource(source, i)
+                    .flatMapMerge(kafkaConfig.getConsumerMaxPartitions(),
+                            partition -> forward(partition.second(), kafkaConsumerActor))
+                    .via(throttle())
+                    .toMat(connectionFactory.newCommitterSink(), (consumerControl, done) -> {
+                        reportConsumerStreamFailure(done, source, kafkaConsumerActor);
+                        return consumerControl;
+                    })
+                    .run(materializer);
+            consumerControls.put(kafkaConsumerActor, control);
+        }
+        connectionLogger.success("Consumers of topics {0} started.", source.getAddresses());
+    }
+
+    private akka.stream.javadsl.Source<ConsumerMessage.Committable, NotUsed> forward(
+            final akka.stream.javadsl.Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed> partition,
+            final ActorRef kafkaConsumerActor) {
+
+        return partition.mapAsync(kafkaConfig.getConsumerParallelism(), message ->
+                Patterns.ask(kafkaConsumerActor, message.record(), consumerAskTimeout)
+                        .thenApply(ack -> (ConsumerMessage.Committable) message.committableOffset()));
+    }
+
+    /*
+     * Throttles the acknowledged records of all partitions of a consumer if configured; the partitions are
+     * backpressured, so that each of them forwards at most parallelism records ahead of the throttle.
+     */
+    private Flow<ConsumerMessage.Committable, ConsumerMessage.Committable, NotUsed> throttle() {
+        final Duration interval = kafkaConfig.getConsumerThrottlingInterval();
+        final int limit = kafkaConfig.getConsumerThrottlingLimit();
+        if (interval.isZero() || limit <= 0) {
+            return Flow.create();
+        }
+        return Flow.<ConsumerMessage.Committable>create().throttle(limit, interval);
+    }
+
+    private void reportConsumerStreamFailure(final CompletionStage<Done> streamCompletion, final Source source,
+            final ActorRef kafkaConsumerActor) {
+
+        final ActorRef self = getSelf();
+        streamCompletion.exceptionally(error -> {
+            log.info("Consumer stream of topics {} failed due to {}: {}", source.getAddresses(),
+                    error.getClass().getCanonicalName(), error.getMessage());
+            self.tell(new ImmutableConnectionFailure(null, error, "consumer stream"), kafkaConsumerActor);
+            return Done.getInstance();
+        });
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopKafkaConsumers();
         stopKafkaPublisher();
     }
 
+    private void stopKafkaConsumers() {
+        if (!consumerControls.isEmpty()) {
+            log.info("Closing consumer streams.");
+        }
+        // shutting down a consumer stream completes it after the offsets of forwarded records were committed;
+        // its consumer actor has to forward the records in flight to the mapping processor until then
+        consumerControls.forEach((kafkaConsumerActor, control) -> control.shutdown()
+                .whenComplete((done, error) -> kafkaConsumerActor.tell(PoisonPill.getInstance(), ActorRef.noSender())));
+        consumerControls.clear();
+    }
+
 
     private void stopKafkaPublisher() {
         if (kafkaPublisherActor != null) {
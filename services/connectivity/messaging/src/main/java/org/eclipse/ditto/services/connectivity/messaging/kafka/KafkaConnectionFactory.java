@@ -12,14 +12,23 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.connectivity.Source;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
+import akka.kafka.javadsl.Consumer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sources and sinks.
  */
 interface KafkaConnectionFactory {
 
@@ -38,4 +47,24 @@ interface KafkaConnectionFactory {
      */
     <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, NotUsed> newFlow();
 
+    /**
+     * Create an Akka stream source of one Kafka consumer which subscribes to the topics of a connection source.
+     * The source emits one nested source per partition assigned to the consumer; a nested source completes when its
+     * partition is revoked.
+     *
+     * @param kafkaSource connection source containing the topics to subscribe to.
+     * @param consumerIndex index of the consumer among the consumers of the connection source.
+     * @return Akka stream source that emits the committable messages of the assigned partitions.
+     */
+    akka.stream.javadsl.Source<Pair<TopicPartition,
+            akka.stream.javadsl.Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>,
+            Consumer.Control> newPartitionedSource(Source kafkaSource, int consumerIndex);
+
+    /**
+     * Create an Akka stream sink which commits the offsets of consumed messages to the broker in batches.
+     *
+     * @return Akka stream sink that commits offsets.
+     */
+    Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink();
+
 }
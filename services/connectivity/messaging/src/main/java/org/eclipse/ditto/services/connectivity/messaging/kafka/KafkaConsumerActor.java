@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Enforcement;
+import org.eclipse.ditto.model.connectivity.HeaderMapping;
+import org.eclipse.ditto.model.placeholders.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.placeholders.EnforcementFilterFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.routing.ConsistentHashingRouter;
+
+/**
+ * Actor which receives records of a Kafka source and forwards them to a {@code MessageMappingProcessorActor}.
+ * Records are forwarded as {@link AcknowledgeableMessage}s on behalf of their sender, so that the mapping processor
+ * acknowledges each of them with {@link akka.Done} after it was mapped; the consuming stream commits the offset of a
+ * record only afterwards. Records which are not forwarded are acknowledged by this actor.
+ */
+public final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+    static final String KAFKA_PARTITION_HEADER = "kafka.partition";
+    static final String KAFKA_OFFSET_HEADER = "kafka.offset";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final AuthorizationContext sourceAuthorizationContext, @Nullable final Enforcement enforcement,
+            @Nullable final HeaderMapping headerMapping, final String sourceAddress) {
+
+        super(connectionId, sourceAddress, messageMappingProcessor, sourceAuthorizationContext, headerMapping);
+
+        headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
+                .newEnforcementFilterFactory(enforcement, PlaceholderFactory.newHeadersPlaceholder()) :
+                input -> null;
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId ID of the connection this consumer belongs to
+     * @param messageMappingProcessor the ActorRef to the {@code MessageMappingProcessor}
+     * @param sourceAuthorizationContext the {@link AuthorizationContext} of the source
+     * @param enforcement the optional Enforcement to apply
+     * @param headerMapping the optional header mapping of the source
+     * @param sourceAddress the topics for which this consumer receives records
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final AuthorizationContext sourceAuthorizationContext, @Nullable final Enforcement enforcement,
+            @Nullable final HeaderMapping headerMapping, final String sourceAddress) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, messageMappingProcessor,
+                sourceAuthorizationContext, enforcement, headerMapping, sourceAddress);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumerRecord.class, this::handleConsumerRecord)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(unhandled -> {
+                    log.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    private void handleConsumerRecord(final ConsumerRecord<?, ?> record) {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        Map<String, String> headers = null;
+        boolean forwarded = false;
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Received Kafka record of topic <{}> at partition <{}> and offset <{}>.", record.topic(),
+                        record.partition(), record.offset());
+            }
+            headers = extractHeaders(record);
+            final Object value = record.value();
+            if (value == null) {
+                log.debug("Dropping Kafka record without value at offset <{}>.", record.offset());
+            } else {
+                final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                        .withText(value.toString())
+                        .withAuthorizationContext(authorizationContext)
+                        .withEnforcement(headerEnforcementFilterFactory.getFilter(headers))
+                        .withHeaderMapping(headerMapping)
+                        .withSourceAddress(sourceAddress)
+                        .build();
+                inboundMonitor.success(externalMessage);
+
+                final Object msg = new ConsistentHashingRouter.ConsistentHashableEnvelope(
+                        AcknowledgeableMessage.of(externalMessage), getHashKey(record));
+                messageMappingProcessor.tell(msg, getSender());
+                forwarded = true;
+            }
+        } catch (final DittoRuntimeException e) {
+            log.info("Failed to handle Kafka record: {}", e.getMessage());
+            if (headers != null) {
+                // forwarding to messageMappingProcessor only make sense if we were able to extract the headers,
+                // because we need a reply-to address to send the error response
+                inboundMonitor.failure(headers, e);
+                final Object msg = new ConsistentHashingRouter.ConsistentHashableEnvelope(
+                        AcknowledgeableMessage.of(e.setDittoHeaders(DittoHeaders.of(headers))), getHashKey(record));
+                messageMappingProcessor.tell(msg, getSender());
+                forwarded = true;
+            } else {
+                inboundMonitor.failure(e);
+            }
+        } catch (final Exception e) {
+            log.info("Failed to handle Kafka record: {}", e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+        } finally {
+            // a record which can not be handled is not consumed again, so it is acknowledged without mapping
+            if (!forwarded) {
+                getSender().tell(Done.getInstance(), getSelf());
+            }
+        }
+    }
+
+    private static Map<String, String> extractHeaders(final ConsumerRecord<?, ?> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (header.value() != null) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, record.topic());
+        headers.put(KAFKA_PARTITION_HEADER, String.valueOf(record.partition()));
+        headers.put(KAFKA_OFFSET_HEADER, String.valueOf(record.offset()));
+        if (record.key() != null) {
+            headers.put(KAFKA_KEY_HEADER, record.key().toString());
+        }
+        return headers;
+    }
+
+    /**
+     * Records of the same key are mapped by the same mapping processor in the order of their partition, records
+     * without key are distributed by their partition.
+     */
+    private static Object getHashKey(final ConsumerRecord<?, ?> record) {
+        if (record.key() != null) {
+            return record.key();
+        }
+        return record.topic() + ":" + record.partition();
+    }
+
+}
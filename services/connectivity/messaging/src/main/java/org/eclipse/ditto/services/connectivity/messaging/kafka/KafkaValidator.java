@@ -81,10 +81,15 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        final String placeholderReplacement = UUID.randomUUID().toString();
+        source.getAddresses().forEach(topic -> validateTopic(topic, dittoHeaders, placeholderReplacement));
+
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, newThingPlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
     }
 
     @Override
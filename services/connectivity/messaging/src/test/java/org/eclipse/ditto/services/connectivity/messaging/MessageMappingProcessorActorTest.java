@@ -56,6 +56,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -72,6 +73,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
@@ -111,6 +113,44 @@ public final class MessageMappingProcessorActorTest {
         testExternalMessageInDittoProtocolIsProcessed(null, true);
     }
 
+    @Test
+    public void testAcknowledgeableMessageIsAcknowledgedAfterMapping() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(getRef());
+            final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(modifyCommand.getDittoHeaders())
+                            .withText(ProtocolFactory
+                                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                                    .toJsonString())
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .build();
+
+            final TestKit acknowledgements = new TestKit(actorSystem);
+            messageMappingProcessorActor.tell(AcknowledgeableMessage.of(externalMessage), acknowledgements.getRef());
+
+            expectMsgClass(ModifyAttribute.class);
+            acknowledgements.expectMsg(Done.getInstance());
+        }};
+    }
+
+    @Test
+    public void testAcknowledgeableMessageIsAcknowledgedAfterFailedMapping() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(getRef());
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(createModifyAttributeCommand().getDittoHeaders())
+                            .withText("not ditto protocol")
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .build();
+
+            final TestKit acknowledgements = new TestKit(actorSystem);
+            messageMappingProcessorActor.tell(AcknowledgeableMessage.of(externalMessage), acknowledgements.getRef());
+
+            acknowledgements.expectMsg(Done.getInstance());
+        }};
+    }
+
     @Test
     public void testTopicPlaceholderInTargetIsResolved() {
         new TestKit(actorSystem) {{
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.Test;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.routing.ConsistentHashingRouter;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the {@link KafkaConsumerActor}.
+ */
+public final class KafkaConsumerActorTest extends AbstractConsumerActorTest<ConsumerRecord<String, String>> {
+
+    private static final ConnectionId CONNECTION_ID = ConnectionId.of("connection");
+    private static final String TOPIC = "ditto.commands";
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor) {
+        return KafkaConsumerActor.props(CONNECTION_ID, mappingActor, TestConstants.Authorization.AUTHORIZATION_CONTEXT,
+                ENFORCEMENT, TestConstants.HEADER_MAPPING, TOPIC);
+    }
+
+    @Override
+    protected ConsumerRecord<String, String> getInboundMessage(final Map.Entry<String, Object> header) {
+        return consumerRecord("key", TestConstants.modifyThing(), header, REPLY_TO_HEADER);
+    }
+
+    @Test
+    public void forwardsRecordToBeAcknowledgedByMappingProcessor() {
+        new TestKit(actorSystem) {
+            {
+                final TestKit stream = new TestKit(actorSystem);
+                final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(getRef()));
+
+                underTest.tell(consumerRecord("device-1", "hello world!"), stream.getRef());
+
+                final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                        expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+                // the mapping processor acknowledges the record to the stream which sent it
+                assertThat(getLastSender()).isEqualTo(stream.getRef());
+                assertThat(envelope.hashKey()).isEqualTo("device-1");
+                final ExternalMessage externalMessage =
+                        (ExternalMessage) ((AcknowledgeableMessage) envelope.message()).getMessage();
+                assertThat(externalMessage.getTextPayload()).contains("hello world!");
+                assertThat(externalMessage.getSourceAddress()).contains(TOPIC);
+                assertThat(externalMessage.getHeaders())
+                        .containsEntry(KafkaConsumerActor.KAFKA_TOPIC_HEADER, TOPIC)
+                        .containsEntry(KafkaConsumerActor.KAFKA_KEY_HEADER, "device-1")
+                        .containsEntry(KafkaConsumerActor.KAFKA_PARTITION_HEADER, "3")
+                        .containsEntry(KafkaConsumerActor.KAFKA_OFFSET_HEADER, "42");
+
+                stream.expectNoMessage();
+            }
+        };
+    }
+
+    @Test
+    public void acknowledgesRecordWithoutValueWithoutForwarding() {
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(getRef()));
+
+                underTest.tell(consumerRecord("device-1", null), getRef());
+
+                expectMsg(Done.getInstance());
+                expectNoMessage();
+            }
+        };
+    }
+
+    @SafeVarargs // varargs array is not modified or passed around
+    private static ConsumerRecord<String, String> consumerRecord(final String key, final String value,
+            final Map.Entry<String, ?>... headers) {
+
+        final RecordHeaders recordHeaders = new RecordHeaders();
+        for (final Map.Entry<String, ?> header : headers) {
+            recordHeaders.add(header.getKey(), String.valueOf(header.getValue()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new ConsumerRecord<>(TOPIC, 3, 42L, ConsumerRecord.NO_TIMESTAMP, TimestampType.NO_TIMESTAMP_TYPE,
+                (long) ConsumerRecord.NULL_CHECKSUM, ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, key, value,
+                recordHeaders);
+    }
+
+}
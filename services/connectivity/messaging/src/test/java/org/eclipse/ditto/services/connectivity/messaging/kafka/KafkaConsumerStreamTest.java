@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.signals.commands.connectivity.modify.CloseConnection;
+import org.eclipse.ditto.signals.commands.connectivity.modify.OpenConnection;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.kafka.testkit.javadsl.EmbeddedKafkaJunit4Test;
+import akka.stream.ActorMaterializer;
+import akka.stream.Materializer;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the consumer streams of {@link KafkaClientActor} against an embedded Kafka broker.
+ */
+public final class KafkaConsumerStreamTest extends EmbeddedKafkaJunit4Test {
+
+    private static final Status.Success CONNECTED_SUCCESS = new Status.Success(BaseClientState.CONNECTED);
+    private static final Status.Success DISCONNECTED_SUCCESS = new Status.Success(BaseClientState.DISCONNECTED);
+    private static final int KAFKA_PORT = findFreePort();
+    private static final String BOOTSTRAP_SERVERS = "localhost:" + KAFKA_PORT;
+    private static final int PARTITIONS = 3;
+    private static final int RECORDS = 30;
+
+    private static final ActorSystem actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.parseString(
+            "ditto.connectivity.connection.kafka.consumer.internal.kafka-clients.auto.offset.reset = earliest")
+            .withFallback(TestConstants.CONFIG));
+    private static final Materializer materializer = ActorMaterializer.create(actorSystem);
+
+    public KafkaConsumerStreamTest() {
+        super(actorSystem, materializer, KAFKA_PORT);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                false);
+    }
+
+    @Test
+    public void consumesRecordsOfAllPartitionsAndCommitsTheirOffsetsAfterMapping() throws Exception {
+        final String topic = createTopic(1, PARTITIONS, 1);
+        final Connection connection = kafkaConnection(topic);
+
+        new TestKit(actorSystem) {{
+            final TestKit conciergeForwarder = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(KafkaClientActor.props(connection,
+                    conciergeForwarder.getRef(), DefaultKafkaPublisherActorFactory.getInstance()));
+
+            underTest.tell(OpenConnection.of(connection.getId(), DittoHeaders.empty()), getRef());
+            expectMsg(CONNECTED_SUCCESS);
+
+            produceModifyThingRecords(topic);
+            for (int i = 0; i < RECORDS; i++) {
+                conciergeForwarder.expectMsgClass(Duration.ofSeconds(30), ModifyThing.class);
+            }
+
+            // closing the connection commits the offsets of all mapped records
+            underTest.tell(CloseConnection.of(connection.getId(), DittoHeaders.empty()), getRef());
+            expectMsg(Duration.ofSeconds(30), DISCONNECTED_SUCCESS);
+        }};
+
+        try (final AdminClient adminClient = AdminClient.create(Collections.<String, Object>singletonMap(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVERS))) {
+
+            await().atMost(30, TimeUnit.SECONDS).untilAsserted(() -> {
+                final Map<TopicPartition, OffsetAndMetadata> committedOffsets =
+                        adminClient.listConsumerGroupOffsets(connection.getId().toString())
+                                .partitionsToOffsetAndMetadata()
+                                .get();
+                assertThat(committedOffsets.keySet().stream().map(TopicPartition::partition)
+                        .collect(Collectors.toSet()))
+                        .hasSize(PARTITIONS);
+                assertThat(committedOffsets.values().stream().mapToLong(OffsetAndMetadata::offset).sum())
+                        .isEqualTo(RECORDS);
+            });
+        }
+    }
+
+    private static Connection kafkaConnection(final String topic) {
+        return ConnectivityModelFactory.newConnectionBuilder(TestConstants.createRandomConnectionId(),
+                ConnectionType.KAFKA, ConnectivityStatus.OPEN, "tcp://" + BOOTSTRAP_SERVERS)
+                .sources(Collections.singletonList(ConnectivityModelFactory.newSourceBuilder()
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .index(0)
+                        .consumerCount(1)
+                        .address(topic)
+                        .build()))
+                .processorPoolSize(2)
+                .specificConfig(Collections.singletonMap("bootstrapServers", BOOTSTRAP_SERVERS))
+                .build();
+    }
+
+    private static void produceModifyThingRecords(final String topic) throws Exception {
+        try (final KafkaProducer<String, String> producer = new KafkaProducer<>(
+                Collections.<String, Object>singletonMap(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVERS),
+                new StringSerializer(), new StringSerializer())) {
+
+            for (int i = 0; i < RECORDS; i++) {
+                producer.send(new ProducerRecord<>(topic, i % PARTITIONS, "device-" + i,
+                        TestConstants.modifyThing())).get();
+            }
+        }
+    }
+
+    private static int findFreePort() {
+        try (final ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -29,4 +29,12 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of verified JSON Web Tokens. Entries expire with their token at
+     * the latest.
+     *
+     * @return the config.
+     */
+    CacheConfig getJwtConfig();
+
 }
@@ -31,6 +31,7 @@ import org.eclipse.ditto.services.gateway.security.authentication.jwt.DefaultJwt
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.DittoJwtAuthorizationSubjectsProvider;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.DittoPublicKeyProvider;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtAuthenticationProvider;
+import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtAuthorizationContextCache;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtSubjectIssuerConfig;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtSubjectIssuersConfig;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.PublicKeyProvider;
@@ -50,15 +51,17 @@ public final class DittoGatewayAuthenticationDirectiveFactory implements Gateway
 
     public DittoGatewayAuthenticationDirectiveFactory(final AuthenticationConfig authConfig,
             final CacheConfig publicKeysCacheConfig,
+            final CacheConfig jwtCacheConfig,
             final HttpClientFacade httpClient,
             final Executor authenticationDispatcher) {
 
         checkNotNull(authConfig, "AuthenticationConfig");
         checkNotNull(publicKeysCacheConfig, "public keys CacheConfig");
+        checkNotNull(jwtCacheConfig, "JWT CacheConfig");
         checkNotNull(authenticationDispatcher, "authentication dispatcher");
 
         gatewayAuthenticationDirective =
-                generateGatewayAuthenticationDirective(authConfig, publicKeysCacheConfig, httpClient,
+                generateGatewayAuthenticationDirective(authConfig, publicKeysCacheConfig, jwtCacheConfig, httpClient,
                         authenticationDispatcher);
     }
 
@@ -75,6 +78,7 @@ public final class DittoGatewayAuthenticationDirectiveFactory implements Gateway
     private static GatewayAuthenticationDirective generateGatewayAuthenticationDirective(
             final AuthenticationConfig authConfig,
             final CacheConfig publicKeysCacheConfig,
+            final CacheConfig jwtCacheConfig,
             final HttpClientFacade httpClient,
             final Executor authenticationDispatcher) {
 
@@ -93,8 +97,11 @@ public final class DittoGatewayAuthenticationDirectiveFactory implements Gateway
                 DittoJwtAuthorizationSubjectsProvider.of(jwtSubjectIssuersConfig);
         final DefaultJwtAuthorizationContextProvider authorizationContextProvider =
                 DefaultJwtAuthorizationContextProvider.getInstance(authorizationSubjectsProvider);
+        final JwtAuthorizationContextCache authorizationContextCache =
+                JwtAuthorizationContextCache.of(jwtCacheConfig, "ditto_authorization_jwt_cache");
         final JwtAuthenticationProvider jwtAuthenticationProvider =
-                JwtAuthenticationProvider.getInstance(publicKeyProvider, authorizationContextProvider);
+                JwtAuthenticationProvider.getInstance(publicKeyProvider, authorizationContextProvider,
+                        authorizationContextCache);
 
         authenticationProviders.add(jwtAuthenticationProvider);
 
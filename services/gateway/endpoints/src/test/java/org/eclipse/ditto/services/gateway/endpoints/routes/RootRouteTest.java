@@ -114,7 +114,8 @@ public final class RootRouteTest extends EndpointTestBase {
         final HeaderTranslator headerTranslator = protocolAdapterProvider.getHttpHeaderTranslator();
         final DefaultHttpClientFacade httpClient = DefaultHttpClientFacade.getInstance(actorSystem, authConfig.getHttpProxyConfig());
         final GatewayAuthenticationDirectiveFactory authenticationDirectiveFactory =
-                new DittoGatewayAuthenticationDirectiveFactory(authConfig, cacheConfig, httpClient, messageDispatcher);
+                new DittoGatewayAuthenticationDirectiveFactory(authConfig, cacheConfig, cacheConfig, httpClient,
+                        messageDispatcher);
 
         final ActorRef proxyActor = createDummyResponseActor();
         final Supplier<ClusterStatus> clusterStatusSupplier = createClusterStatusSupplierMock();
@@ -152,6 +152,12 @@ public interface JsonWebToken {
         public static final JsonFieldDefinition<String> SCOPE =
                 JsonFactory.newStringFieldDefinition("scope", FieldType.REGULAR);
 
+        /**
+         * JSON field containing the expiration time in seconds since the epoch.
+         */
+        public static final JsonFieldDefinition<Long> EXPIRATION_TIME =
+                JsonFactory.newLongFieldDefinition("exp", FieldType.REGULAR);
+
         private JsonFields() {
             throw new AssertionError();
         }
@@ -18,6 +18,7 @@ import static org.eclipse.ditto.services.gateway.security.utils.HttpUtils.getReq
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
@@ -28,6 +29,8 @@ import org.eclipse.ditto.services.gateway.security.authentication.DefaultAuthent
 import org.eclipse.ditto.services.gateway.security.authentication.TimeMeasuringAuthenticationProvider;
 import org.eclipse.ditto.services.gateway.security.utils.HttpUtils;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayAuthenticationFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,16 +46,22 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthenticationProvider.class);
     private static final String AUTHENTICATION_TYPE = "JWT";
     private static final String AUTHORIZATION_JWT = "Bearer";
+    private static final String VERIFICATION_TIMER_NAME = "jwt_verification";
+    private static final String VERIFICATION_SUCCESS_TAG = "success";
 
     private final PublicKeyProvider publicKeyProvider;
     private final JwtAuthorizationContextProvider jwtAuthorizationContextProvider;
+    @Nullable
+    private final JwtAuthorizationContextCache jwtAuthorizationContextCache;
 
     private JwtAuthenticationProvider(final PublicKeyProvider publicKeyProvider,
-            final JwtAuthorizationContextProvider jwtAuthorizationContextProvider) {
+            final JwtAuthorizationContextProvider jwtAuthorizationContextProvider,
+            @Nullable final JwtAuthorizationContextCache jwtAuthorizationContextCache) {
 
         this.publicKeyProvider = checkNotNull(publicKeyProvider, "PublicKeyProvider");
         this.jwtAuthorizationContextProvider =
                 checkNotNull(jwtAuthorizationContextProvider, "JwtAuthorizationContextProvider");
+        this.jwtAuthorizationContextCache = jwtAuthorizationContextCache;
     }
 
     /**
@@ -66,7 +75,25 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     public static JwtAuthenticationProvider getInstance(final PublicKeyProvider publicKeyProvider,
             final JwtAuthorizationContextProvider jwtAuthorizationContextProvider) {
 
-        return new JwtAuthenticationProvider(publicKeyProvider, jwtAuthorizationContextProvider);
+        return new JwtAuthenticationProvider(publicKeyProvider, jwtAuthorizationContextProvider, null);
+    }
+
+    /**
+     * Creates a new instance of the JWT authentication provider which verifies each token only once as long as it
+     * is cached.
+     *
+     * @param publicKeyProvider the provider of public keys that are allowed to sign a JWT.
+     * @param jwtAuthorizationContextProvider builds the authorization context based on the JWT.
+     * @param jwtAuthorizationContextCache caches the authorization contexts of verified JWTs.
+     * @return the created instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JwtAuthenticationProvider getInstance(final PublicKeyProvider publicKeyProvider,
+            final JwtAuthorizationContextProvider jwtAuthorizationContextProvider,
+            final JwtAuthorizationContextCache jwtAuthorizationContextCache) {
+
+        return new JwtAuthenticationProvider(publicKeyProvider, jwtAuthorizationContextProvider,
+                checkNotNull(jwtAuthorizationContextCache, "JwtAuthorizationContextCache"));
     }
 
     /**
@@ -116,7 +143,17 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     private CompletableFuture<AuthorizationContext> getAuthorizationContext(final JsonWebToken jwt,
             final CharSequence correlationId) {
 
-        return jwt.validate(publicKeyProvider)
+        if (null != jwtAuthorizationContextCache) {
+            final Optional<AuthorizationContext> cachedAuthorizationContext =
+                    jwtAuthorizationContextCache.get(jwt.getToken());
+            if (cachedAuthorizationContext.isPresent()) {
+                LogUtil.enhanceLogWithCorrelationId(correlationId);
+                LOGGER.debug("Completed JWT authentication with cached authorization context.");
+                return CompletableFuture.completedFuture(cachedAuthorizationContext.get());
+            }
+        }
+
+        return validate(jwt)
                 .thenApply(validationResult -> {
                     LogUtil.enhanceLogWithCorrelationId(correlationId);
                     if (!validationResult.isValid()) {
@@ -126,11 +163,22 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
                     }
 
                     final AuthorizationContext authorizationContext = tryToGetAuthorizationContext(jwt, correlationId);
+                    if (null != jwtAuthorizationContextCache) {
+                        jwtAuthorizationContextCache.put(jwt, authorizationContext);
+                    }
                     LOGGER.info("Completed JWT authentication successfully.");
                     return authorizationContext;
                 });
     }
 
+    private CompletableFuture<BinaryValidationResult> validate(final JsonWebToken jwt) {
+        final StartedTimer timer = DittoMetrics.timer(VERIFICATION_TIMER_NAME).start();
+        return jwt.validate(publicKeyProvider)
+                .whenComplete((validationResult, throwable) -> timer
+                        .tag(VERIFICATION_SUCCESS_TAG, null != validationResult && validationResult.isValid())
+                        .stop());
+    }
+
     private AuthorizationContext tryToGetAuthorizationContext(final JsonWebToken jwt,
             final CharSequence correlationId) {
 
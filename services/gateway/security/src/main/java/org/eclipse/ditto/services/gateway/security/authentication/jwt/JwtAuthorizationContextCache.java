@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Caches the authorization contexts of verified JSON Web Tokens, so that a token which is sent with many requests is
+ * verified only once. Entries are keyed by the SHA-256 digest of the token, i. e. tokens are not kept in memory, and
+ * expire at the expiration time of the token at the latest. Tokens without expiration time are not cached.
+ */
+@ThreadSafe
+public final class JwtAuthorizationContextCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, Entry> cache;
+    private final Duration maximumLifetime;
+
+    private JwtAuthorizationContextCache(final CacheConfig cacheConfig, final String cacheName) {
+        maximumLifetime = cacheConfig.getExpireAfterWrite();
+        cache = CacheFactory.createExpiringCache(cacheConfig.getMaximumSize(), new EntryExpiry(), cacheName);
+    }
+
+    /**
+     * Returns a new {@code JwtAuthorizationContextCache}.
+     *
+     * @param cacheConfig the config of the cache. Its expire-after-write duration is the maximum lifetime of an entry.
+     * @param cacheName the name of the cache. Used as metric label.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JwtAuthorizationContextCache of(final CacheConfig cacheConfig, final String cacheName) {
+        checkNotNull(cacheConfig, "CacheConfig");
+        checkNotNull(cacheName, "cache name");
+        return new JwtAuthorizationContextCache(cacheConfig, cacheName);
+    }
+
+    /**
+     * Returns the authorization context of the given token if the token was verified before and is not expired yet.
+     *
+     * @param token the encoded token.
+     * @return the authorization context or an empty Optional.
+     */
+    public Optional<AuthorizationContext> get(final String token) {
+        @Nullable final Entry entry = cache.getIfPresent(digest(token));
+        if (null != entry && Instant.now().isBefore(entry.expirationTime)) {
+            return Optional.of(entry.authorizationContext);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the authorization context of a verified token until the token expires.
+     *
+     * @param jwt the verified token.
+     * @param authorizationContext the authorization context resolved from the token.
+     */
+    public void put(final JsonWebToken jwt, final AuthorizationContext authorizationContext) {
+        final Optional<Long> expirationTime = jwt.getBody().getValue(JsonWebToken.JsonFields.EXPIRATION_TIME);
+        if (expirationTime.isPresent()) {
+            final Instant now = Instant.now();
+            final Instant latestExpirationTime = now.plus(maximumLifetime);
+            final Instant tokenExpirationTime = Instant.ofEpochSecond(expirationTime.get());
+            if (now.isBefore(tokenExpirationTime)) {
+                final Instant entryExpirationTime = tokenExpirationTime.isBefore(latestExpirationTime)
+                        ? tokenExpirationTime
+                        : latestExpirationTime;
+                cache.put(digest(jwt.getToken()), new Entry(authorizationContext, entryExpirationTime));
+            }
+        }
+    }
+
+    private static String digest(final String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            final byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Immutable
+    private static final class Entry {
+
+        private final AuthorizationContext authorizationContext;
+        private final Instant expirationTime;
+
+        private Entry(final AuthorizationContext authorizationContext, final Instant expirationTime) {
+            this.authorizationContext = authorizationContext;
+            this.expirationTime = expirationTime;
+        }
+
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Entry entry, final long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), entry.expirationTime).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Entry entry, final long currentTime,
+                final long currentDuration) {
+
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Entry entry, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtTestConstants.ISSUER;
+import static org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtTestConstants.KEY_ID;
+import static org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtTestConstants.PRIVATE_KEY;
+import static org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtTestConstants.VALID_JWT_TOKEN;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Unit test for {@link JwtAuthorizationContextCache}.
+ */
+public final class JwtAuthorizationContextCacheTest {
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(AuthorizationSubject.newInstance("myAuthSubj"));
+
+    private JwtAuthorizationContextCache underTest;
+
+    @Before
+    public void setUp() {
+        final CacheConfig cacheConfig = mock(CacheConfig.class);
+        when(cacheConfig.getMaximumSize()).thenReturn(10L);
+        when(cacheConfig.getExpireAfterWrite()).thenReturn(Duration.ofMinutes(15L));
+        underTest = JwtAuthorizationContextCache.of(cacheConfig, "jwt-cache-test");
+    }
+
+    @Test
+    public void authorizationContextOfUnexpiredTokenIsCached() {
+        final JsonWebToken jwt = createJwt(Instant.now().plusSeconds(60L));
+
+        underTest.put(jwt, AUTHORIZATION_CONTEXT);
+
+        assertThat(underTest.get(jwt.getToken())).contains(AUTHORIZATION_CONTEXT);
+        assertThat(underTest.get(createJwt(Instant.now().plusSeconds(120L)).getToken())).isEmpty();
+    }
+
+    @Test
+    public void authorizationContextOfExpiredTokenIsNotCached() {
+        final JsonWebToken jwt = createJwt(Instant.now().minusSeconds(1L));
+
+        underTest.put(jwt, AUTHORIZATION_CONTEXT);
+
+        assertThat(underTest.get(jwt.getToken())).isEmpty();
+    }
+
+    @Test
+    public void authorizationContextOfTokenWithoutExpirationTimeIsNotCached() {
+        final JsonWebToken jwt = ImmutableJsonWebToken.fromAuthorizationString("Bearer " + VALID_JWT_TOKEN);
+
+        underTest.put(jwt, AUTHORIZATION_CONTEXT);
+
+        assertThat(underTest.get(jwt.getToken())).isEmpty();
+    }
+
+    private static JsonWebToken createJwt(final Instant expirationTime) {
+        final String token = Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setIssuer(ISSUER)
+                .setExpiration(Date.from(expirationTime))
+                .signWith(PRIVATE_KEY, SignatureAlgorithm.RS256)
+                .compact();
+        return ImmutableJsonWebToken.fromAuthorizationString("Bearer " + token);
+    }
+
+}
@@ -270,7 +270,7 @@ final class GatewayRootActor extends AbstractActor {
                 AUTHENTICATION_DISPATCHER_NAME);
         final GatewayAuthenticationDirectiveFactory authenticationDirectiveFactory =
                 new DittoGatewayAuthenticationDirectiveFactory(authConfig, cachesConfig.getPublicKeysConfig(),
-                        httpClient, authenticationDispatcher);
+                        cachesConfig.getJwtConfig(), httpClient, authenticationDispatcher);
 
         final ProtocolAdapterProvider protocolAdapterProvider =
                 ProtocolAdapterProvider.load(gatewayConfig.getProtocolConfig(), actorSystem);
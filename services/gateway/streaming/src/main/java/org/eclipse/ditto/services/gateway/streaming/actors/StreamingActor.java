@@ -52,6 +52,7 @@ public final class StreamingActor extends AbstractActor {
 
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef commandRouter;
+    private final ThingEventFilterIndex thingEventFilterIndex;
 
     private final SupervisorStrategy strategy = new OneForOneStrategy(true, DeciderBuilder
             .match(Throwable.class, e -> {
@@ -69,6 +70,7 @@ public final class StreamingActor extends AbstractActor {
     private StreamingActor(final DittoProtocolSub dittoProtocolSub, final ActorRef commandRouter) {
         this.dittoProtocolSub = dittoProtocolSub;
         this.commandRouter = commandRouter;
+        thingEventFilterIndex = new ThingEventFilterIndex();
 
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
 
@@ -116,7 +118,7 @@ public final class StreamingActor extends AbstractActor {
                     final String connectionCorrelationId = connect.getConnectionCorrelationId();
                     getContext().actorOf(
                             StreamingSessionActor.props(connectionCorrelationId, connect.getType(), dittoProtocolSub,
-                                    eventAndResponsePublisher), connectionCorrelationId);
+                                    eventAndResponsePublisher, thingEventFilterIndex), connectionCorrelationId);
                 })
                 .match(StartStreaming.class,
                         startStreaming -> forwardToSessionActor(startStreaming.getConnectionCorrelationId(),
@@ -31,8 +31,6 @@ import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
-import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
@@ -46,7 +44,6 @@ import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.messages.MessageCommand;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
-import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -68,23 +65,26 @@ final class StreamingSessionActor extends AbstractActor {
     private final String type;
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef eventAndResponsePublisher;
+    private final ThingEventFilterIndex thingEventFilterIndex;
     private final Set<StreamingType> outstandingSubscriptionAcks;
 
     private List<String> authorizationSubjects;
     private Map<StreamingType, List<String>> namespacesForStreamingTypes;
-    private Map<StreamingType, Criteria> eventFilterCriteriaForStreamingTypes;
+    private Map<StreamingType, ThingEventFilterIndex.SharedFilter> eventFiltersForStreamingTypes;
 
     @SuppressWarnings("unused")
     private StreamingSessionActor(final String connectionCorrelationId, final String type,
-            final DittoProtocolSub dittoProtocolSub, final ActorRef eventAndResponsePublisher) {
+            final DittoProtocolSub dittoProtocolSub, final ActorRef eventAndResponsePublisher,
+            final ThingEventFilterIndex thingEventFilterIndex) {
         this.connectionCorrelationId = connectionCorrelationId;
         this.type = type;
         this.dittoProtocolSub = dittoProtocolSub;
         this.eventAndResponsePublisher = eventAndResponsePublisher;
+        this.thingEventFilterIndex = thingEventFilterIndex;
         outstandingSubscriptionAcks = new HashSet<>();
         authorizationSubjects = Collections.emptyList();
         namespacesForStreamingTypes = new EnumMap<>(StreamingType.class);
-        eventFilterCriteriaForStreamingTypes = new EnumMap<>(StreamingType.class);
+        eventFiltersForStreamingTypes = new EnumMap<>(StreamingType.class);
 
         getContext().watch(eventAndResponsePublisher);
     }
@@ -94,17 +94,21 @@ final class StreamingSessionActor extends AbstractActor {
      *
      * @param dittoProtocolSub manager of subscriptions.
      * @param eventAndResponsePublisher the {@link EventAndResponsePublisher} actor.
+     * @param thingEventFilterIndex the node-local index of the filters of all sessions.
      * @return the Akka configuration Props object.
      */
     static Props props(final String connectionCorrelationId, final String type,
-            final DittoProtocolSub dittoProtocolSub, final ActorRef eventAndResponsePublisher) {
+            final DittoProtocolSub dittoProtocolSub, final ActorRef eventAndResponsePublisher,
+            final ThingEventFilterIndex thingEventFilterIndex) {
 
         return Props.create(StreamingSessionActor.class, connectionCorrelationId, type, dittoProtocolSub,
-                eventAndResponsePublisher);
+                eventAndResponsePublisher, thingEventFilterIndex);
     }
 
     @Override
     public void postStop() throws Exception {
+        eventFiltersForStreamingTypes.values().forEach(thingEventFilterIndex::release);
+        eventFiltersForStreamingTypes.clear();
         LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
         logger.info("Closing '{}' streaming session: {}", type, connectionCorrelationId);
     }
@@ -135,13 +139,16 @@ final class StreamingSessionActor extends AbstractActor {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
 
                     try {
-                        eventFilterCriteriaForStreamingTypes
-                                .put(startStreaming.getStreamingType(), startStreaming.getFilter()
-                                        .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
-                                                .correlationId(startStreaming.getConnectionCorrelationId())
-                                                .build())
-                                        )
-                                        .orElse(null));
+                        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                                .correlationId(startStreaming.getConnectionCorrelationId())
+                                .build();
+                        final ThingEventFilterIndex.SharedFilter eventFilter = startStreaming.getFilter()
+                                .map(f -> thingEventFilterIndex.acquire(f, key -> parseCriteria(key, dittoHeaders)))
+                                .orElse(null);
+                        releaseEventFilter(startStreaming.getStreamingType());
+                        if (null != eventFilter) {
+                            eventFiltersForStreamingTypes.put(startStreaming.getStreamingType(), eventFilter);
+                        }
                     } catch (final DittoRuntimeException e) {
                         logger.info(
                                 "Got 'DittoRuntimeException' <{}> session during 'StartStreaming' processing: {}: <{}>",
@@ -167,7 +174,7 @@ final class StreamingSessionActor extends AbstractActor {
                             type, stopStreaming.getStreamingType().name());
 
                     namespacesForStreamingTypes.remove(stopStreaming.getStreamingType());
-                    eventFilterCriteriaForStreamingTypes.remove(stopStreaming.getStreamingType());
+                    releaseEventFilter(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
@@ -283,22 +290,20 @@ final class StreamingSessionActor extends AbstractActor {
             final StreamingType streamingType = determineStreamingType(signal);
 
             // currently only ThingEvents may be filtered with RQL
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent) signal)
-                    .filter(thing -> doMatchFilter(streamingType, thing))
-                    .isPresent();
+            final ThingEventFilterIndex.SharedFilter eventFilter = eventFiltersForStreamingTypes.get(streamingType);
+
+            // let all events through if there was no criteria/filter set
+            return null == eventFilter || thingEventFilterIndex.matches((ThingEvent<?>) signal, eventFilter);
         } else {
             return true;
         }
     }
 
-    private boolean doMatchFilter(final StreamingType streamingType, final Thing thing) {
-
-        final Optional<Criteria> criteria =
-                Optional.ofNullable(eventFilterCriteriaForStreamingTypes.get(streamingType));
-
-        return criteria
-                .map(c -> ThingPredicateVisitor.apply(c).test(thing))
-                .orElse(true); // let all events through if there was no criteria/filter set
+    private void releaseEventFilter(final StreamingType streamingType) {
+        final ThingEventFilterIndex.SharedFilter previousFilter = eventFiltersForStreamingTypes.remove(streamingType);
+        if (null != previousFilter) {
+            thingEventFilterIndex.release(previousFilter);
+        }
     }
 
     private void acknowledgeSubscription(final StreamingType streamingType, final ActorRef self) {
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Node-local index of the RQL filters of all {@link StreamingSessionActor}s of a gateway.
+ * <p>
+ * Sessions with identical filters share one compiled predicate. As pub-sub delivers the same event instance to all
+ * sessions of a node, each event is converted to a {@link Thing} once, and each distinct filter is evaluated once per
+ * event; the results are remembered per event instance as long as sessions still hold the event.
+ * </p>
+ */
+@ThreadSafe
+final class ThingEventFilterIndex {
+
+    /**
+     * Maximum number of remembered events. Events are keyed by identity and dropped as soon as no session holds them
+     * anymore; the bound only limits the memory retained by events waiting in the mailboxes of slow sessions.
+     */
+    private static final long RECENT_EVENTS_MAXIMUM_SIZE = 10_000L;
+
+    private final Map<String, SharedFilter> filters;
+    private final Cache<ThingEvent<?>, EvaluatedEvent> recentEvents;
+    private final Counter evaluatedCounter;
+    private final Counter deliveredCounter;
+
+    ThingEventFilterIndex() {
+        filters = new ConcurrentHashMap<>();
+        // weak keys are compared by identity, which is how pub-sub shares an event among the sessions of a node
+        recentEvents = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(RECENT_EVENTS_MAXIMUM_SIZE)
+                .build();
+        evaluatedCounter = DittoMetrics.counter("streaming_filter_events").tag("result", "evaluated");
+        deliveredCounter = DittoMetrics.counter("streaming_filter_events").tag("result", "delivered");
+    }
+
+    /**
+     * Registers a session for a filter.
+     *
+     * @param filter the RQL filter string.
+     * @param parser parser of the filter; only invoked if no other session registered the same filter.
+     * @return the shared filter to evaluate events with; must be released by {@link #release(SharedFilter)}.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the filter could not be parsed.
+     */
+    SharedFilter acquire(final String filter, final Function<String, Criteria> parser) {
+        return filters.compute(filter, (key, sharedFilter) -> {
+            final SharedFilter result =
+                    null != sharedFilter ? sharedFilter : new SharedFilter(key, parser.apply(key));
+            result.sessionCount++;
+            return result;
+        });
+    }
+
+    /**
+     * Deregisters a session from a filter previously acquired. Releasing a filter which was already removed from the
+     * index has no effect on a filter acquired for the same filter string afterwards.
+     *
+     * @param sharedFilter the filter.
+     */
+    void release(final SharedFilter sharedFilter) {
+        filters.computeIfPresent(sharedFilter.filter, (key, existing) -> {
+            if (existing != sharedFilter) {
+                return existing;
+            }
+            return --existing.sessionCount <= 0 ? null : existing;
+        });
+    }
+
+    /**
+     * Tests whether a thing event matches a filter, reusing the conversion of the event and the result of the filter
+     * if other sessions tested the same event instance already.
+     *
+     * @param thingEvent the event.
+     * @param sharedFilter the filter.
+     * @return whether the event matches.
+     */
+    boolean matches(final ThingEvent<?> thingEvent, final SharedFilter sharedFilter) {
+        final boolean result = getEvaluatedEvent(thingEvent).test(sharedFilter);
+        if (result) {
+            deliveredCounter.increment();
+        }
+        return result;
+    }
+
+    private EvaluatedEvent getEvaluatedEvent(final ThingEvent<?> thingEvent) {
+        return recentEvents.get(thingEvent, EvaluatedEvent::new);
+    }
+
+    /**
+     * A compiled filter shared by all sessions with the same filter string.
+     */
+    static final class SharedFilter {
+
+        private final String filter;
+        private final Predicate<Thing> predicate;
+        private int sessionCount;
+
+        private SharedFilter(final String filter, final Criteria criteria) {
+            this.filter = filter;
+            predicate = ThingPredicateVisitor.apply(criteria);
+            sessionCount = 0;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "filter=" + filter +
+                    "]";
+        }
+
+    }
+
+    /**
+     * The Thing of an event and the results of the filters evaluated for it. It must not reference the event, which is
+     * only weakly referenced as key of the remembered events.
+     */
+    private final class EvaluatedEvent {
+
+        private final Optional<Thing> thing;
+        private final Map<SharedFilter, Boolean> results;
+
+        private EvaluatedEvent(final ThingEvent<?> thingEvent) {
+            thing = ThingEventToThingConverter.thingEventToThing(thingEvent);
+            results = new ConcurrentHashMap<>();
+        }
+
+        private boolean test(final SharedFilter sharedFilter) {
+            return results.computeIfAbsent(sharedFilter, f -> {
+                evaluatedCounter.increment();
+                return thing.filter(f.predicate).isPresent();
+            });
+        }
+
+    }
+
+}
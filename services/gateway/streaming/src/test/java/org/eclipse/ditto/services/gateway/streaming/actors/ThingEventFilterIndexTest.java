@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingEventFilterIndex}.
+ */
+public final class ThingEventFilterIndexTest {
+
+    private static final String FILTER = "eq(attributes/x,1)";
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    private ThingEventFilterIndex underTest;
+    private AtomicInteger parserInvocations;
+    private Function<String, Criteria> parser;
+
+    @Before
+    public void setUp() {
+        underTest = new ThingEventFilterIndex();
+        parserInvocations = new AtomicInteger();
+        parser = filter -> {
+            parserInvocations.incrementAndGet();
+            return CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+        };
+    }
+
+    @Test
+    public void sessionsWithIdenticalFilterShareOneCompiledFilter() {
+        final ThingEventFilterIndex.SharedFilter first = underTest.acquire(FILTER, parser);
+        final ThingEventFilterIndex.SharedFilter second = underTest.acquire(FILTER, parser);
+        final ThingEventFilterIndex.SharedFilter other = underTest.acquire("eq(attributes/x,2)", parser);
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(parserInvocations).hasValue(2);
+    }
+
+    @Test
+    public void sharedFilterEvaluatesEventsForAllSessions() {
+        final ThingEventFilterIndex.SharedFilter first = underTest.acquire(FILTER, parser);
+        final ThingEventFilterIndex.SharedFilter second = underTest.acquire(FILTER, parser);
+        final ThingCreated matching = thingCreated(1);
+        final ThingCreated notMatching = thingCreated(2);
+
+        assertThat(underTest.matches(matching, first)).isTrue();
+        assertThat(underTest.matches(matching, second)).isTrue();
+        assertThat(underTest.matches(notMatching, first)).isFalse();
+        assertThat(underTest.matches(notMatching, second)).isFalse();
+    }
+
+    @Test
+    public void releasingLastSessionRemovesFilter() {
+        final ThingEventFilterIndex.SharedFilter first = underTest.acquire(FILTER, parser);
+        final ThingEventFilterIndex.SharedFilter second = underTest.acquire(FILTER, parser);
+
+        // filter stays as long as one session holds it
+        underTest.release(first);
+        assertThat(underTest.acquire(FILTER, parser)).isSameAs(second);
+        assertThat(parserInvocations).hasValue(1);
+
+        // filter is compiled again after the last session released it
+        underTest.release(second);
+        underTest.release(second);
+        final ThingEventFilterIndex.SharedFilter third = underTest.acquire(FILTER, parser);
+        assertThat(third).isNotSameAs(second);
+        assertThat(parserInvocations).hasValue(2);
+    }
+
+    @Test
+    public void releasingRemovedFilterKeepsFilterAcquiredAfterwards() {
+        final ThingEventFilterIndex.SharedFilter removed = underTest.acquire(FILTER, parser);
+        underTest.release(removed);
+        final ThingEventFilterIndex.SharedFilter current = underTest.acquire(FILTER, parser);
+
+        underTest.release(removed);
+
+        assertThat(underTest.acquire(FILTER, parser)).isSameAs(current);
+        assertThat(parserInvocations).hasValue(2);
+    }
+
+    @Test
+    public void concurrentAcquireAndReleaseKeepHeldFilter() {
+        final ThingEventFilterIndex.SharedFilter held = underTest.acquire(FILTER, parser);
+        final int threads = 8;
+        final int iterations = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; ++i) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    boolean allShared = true;
+                    for (int j = 0; j < iterations; ++j) {
+                        final ThingEventFilterIndex.SharedFilter acquired = underTest.acquire(FILTER, parser);
+                        allShared &= acquired == held;
+                        underTest.release(acquired);
+                    }
+                    return allShared;
+                }, executor));
+            }
+            futures.forEach(future -> assertThat(future.join()).isTrue());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(parserInvocations).hasValue(1);
+
+        // all sessions but the holder released the filter
+        underTest.release(held);
+        assertThat(underTest.acquire(FILTER, parser)).isNotSameAs(held);
+        assertThat(parserInvocations).hasValue(2);
+    }
+
+    private static ThingCreated thingCreated(final int x) {
+        final Thing thing = Thing.newBuilder()
+                .setId(ThingId.of("thing:id"))
+                .setAttribute(JsonPointer.of("x"), JsonValue.of(x))
+                .build();
+        return ThingCreated.of(thing, 1L, DittoHeaders.empty());
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.models.things.commands.sudo;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -67,17 +68,29 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
             JsonFactory.newJsonArrayFieldDefinition("payload/thingIds", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    static final JsonFieldDefinition<Boolean> JSON_USE_ORIGINAL_SCHEMA_VERSION =
+            JsonFactory.newBooleanFieldDefinition("payload/useOriginalSchemaVersion", FieldType.REGULAR,
+                    JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<Long> JSON_TIMEOUT =
+            JsonFactory.newLongFieldDefinition("payload/timeout", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
     private final List<ThingId> thingIds;
     @Nullable private final JsonFieldSelector selectedFields;
+    private final boolean useOriginalSchemaVersion;
+    @Nullable private final Duration timeout;
 
     private SudoRetrieveThings(final List<ThingId> thingIds, @Nullable final JsonFieldSelector selectedFields,
-            final DittoHeaders dittoHeaders) {
+            final DittoHeaders dittoHeaders, final boolean useOriginalSchemaVersion, @Nullable final Duration timeout) {
 
         super(TYPE, dittoHeaders);
 
         requireNonNull(thingIds, "The Thing IDs must not be null!");
         this.thingIds = Collections.unmodifiableList(new ArrayList<>(thingIds));
         this.selectedFields = selectedFields;
+        this.useOriginalSchemaVersion = useOriginalSchemaVersion;
+        this.timeout = timeout;
     }
 
     /**
@@ -104,7 +117,23 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
     public static SudoRetrieveThings of(final List<ThingId> thingIds, @Nullable final JsonFieldSelector selectedFields,
             final DittoHeaders dittoHeaders) {
 
-        return new SudoRetrieveThings(thingIds, selectedFields, dittoHeaders);
+        return new SudoRetrieveThings(thingIds, selectedFields, dittoHeaders, false, null);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveThings}. The returned things are serialized using their original schema
+     * version. Things which could not be retrieved within the given timeout are omitted from the response.
+     *
+     * @param thingIds one or more Thing IDs to be retrieved.
+     * @param timeout how long to wait for the single Things before responding.
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving Things without authorization.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveThings withOriginalSchemaVersion(final List<ThingId> thingIds, final Duration timeout,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoRetrieveThings(thingIds, null, dittoHeaders, true, requireNonNull(timeout, "timeout"));
     }
 
     /**
@@ -149,7 +178,12 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
                         .build()))
                 .orElse(null);
 
-        return SudoRetrieveThings.of(extractedThingIds, extractedFieldSelector, dittoHeaders);
+        final boolean isUseOriginalSchemaVersion = jsonObject.getValue(JSON_USE_ORIGINAL_SCHEMA_VERSION).orElse(false);
+
+        final Duration extractedTimeout = jsonObject.getValue(JSON_TIMEOUT).map(Duration::ofMillis).orElse(null);
+
+        return new SudoRetrieveThings(extractedThingIds, extractedFieldSelector, dittoHeaders,
+                isUseOriginalSchemaVersion, extractedTimeout);
     }
 
     /**
@@ -171,6 +205,26 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
         return Optional.ofNullable(selectedFields);
     }
 
+    /**
+     * Indicates whether the retrieved Things should be serialized using their original schema version instead of the
+     * schema version of the command.
+     *
+     * @return whether to use the original schema version of each Thing.
+     */
+    public boolean useOriginalSchemaVersion() {
+        return useOriginalSchemaVersion;
+    }
+
+    /**
+     * Returns how long the receiver should wait for the single Things before responding with the Things retrieved so
+     * far.
+     *
+     * @return the timeout if specified.
+     */
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> thePredicate) {
@@ -187,6 +241,14 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
         if (null != selectedFields) {
             jsonObjectBuilder.set(SudoCommand.JsonFields.SELECTED_FIELDS, selectedFields.toString(), predicate);
         }
+
+        if (useOriginalSchemaVersion) {
+            jsonObjectBuilder.set(JSON_USE_ORIGINAL_SCHEMA_VERSION, true, predicate);
+        }
+
+        if (null != timeout) {
+            jsonObjectBuilder.set(JSON_TIMEOUT, timeout.toMillis(), predicate);
+        }
     }
 
     @Override
@@ -196,13 +258,13 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
 
     @Override
     public SudoRetrieveThings setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(thingIds, selectedFields, dittoHeaders);
+        return new SudoRetrieveThings(thingIds, selectedFields, dittoHeaders, useOriginalSchemaVersion, timeout);
     }
 
     @SuppressWarnings("squid:S109")
     @Override
     public int hashCode() {
-        return Objects.hash(thingIds, selectedFields, super.hashCode());
+        return Objects.hash(thingIds, selectedFields, useOriginalSchemaVersion, timeout, super.hashCode());
     }
 
     @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067", "pmd:SimplifyConditional"})
@@ -216,7 +278,9 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
         }
         final SudoRetrieveThings that = (SudoRetrieveThings) obj;
         return that.canEqual(this) && Objects.equals(thingIds, that.thingIds)
-                && Objects.equals(selectedFields, that.selectedFields) && super.equals(that);
+                && Objects.equals(selectedFields, that.selectedFields)
+                && useOriginalSchemaVersion == that.useOriginalSchemaVersion
+                && Objects.equals(timeout, that.timeout) && super.equals(that);
     }
 
     @Override
@@ -227,7 +291,8 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" + super.toString() + ", thingIds=" + thingIds + ", selectedFields="
-                + selectedFields + "]";
+                + selectedFields + ", useOriginalSchemaVersion=" + useOriginalSchemaVersion + ", timeout=" + timeout
+                + "]";
     }
 
 }
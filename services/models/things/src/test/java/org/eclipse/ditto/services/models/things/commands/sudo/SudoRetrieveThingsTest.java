@@ -17,6 +17,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -74,7 +75,8 @@ public final class SudoRetrieveThingsTest {
     public void assertImmutability() {
         assertInstancesOf(SudoRetrieveThings.class,
                 areImmutable(),
-                provided(AuthorizationContext.class, JsonFieldSelector.class, ThingId.class).isAlsoImmutable());
+                provided(AuthorizationContext.class, JsonFieldSelector.class, ThingId.class, Duration.class)
+                        .isAlsoImmutable());
     }
 
     @Test
@@ -120,6 +122,20 @@ public final class SudoRetrieveThingsTest {
         assertThat(underTest.getSelectedFields()).isEqualTo(Optional.of(getJsonFieldSelector()));
     }
 
+    @Test
+    public void jsonSerializationWorksAsExpectedWithOriginalSchemaVersion() {
+        final SudoRetrieveThings underTest =
+                SudoRetrieveThings.withOriginalSchemaVersion(getThingIds(), Duration.ofSeconds(3L),
+                        EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON.toBuilder()
+                .set(SudoRetrieveThings.JSON_USE_ORIGINAL_SCHEMA_VERSION, true)
+                .set(SudoRetrieveThings.JSON_TIMEOUT, 3000L)
+                .build());
+        assertThat(SudoRetrieveThings.fromJson(actualJson, EMPTY_DITTO_HEADERS)).isEqualTo(underTest);
+    }
+
     @Test
     public void checkSudoCommandTypeWorks() {
         final SudoRetrieveThings sudoRetrieveThings =
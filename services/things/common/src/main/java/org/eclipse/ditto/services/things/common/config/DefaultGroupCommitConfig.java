@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the group commit config.
+ */
+@Immutable
+public final class DefaultGroupCommitConfig implements GroupCommitConfig {
+
+    private static final String CONFIG_PATH = "group-commit";
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxBatchTime;
+    private final boolean coalesceModifications;
+
+    private DefaultGroupCommitConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(GroupCommitConfigValue.ENABLED.getConfigPath());
+        maxBatchSize = getMaxBatchSize(config);
+        maxBatchTime = getMaxBatchTime(config);
+        coalesceModifications = config.getBoolean(GroupCommitConfigValue.COALESCE_MODIFICATIONS.getConfigPath());
+    }
+
+    private static int getMaxBatchSize(final ScopedConfig config) {
+        final int result = config.getInt(GroupCommitConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The max batch size must be positive but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    private static Duration getMaxBatchTime(final ScopedConfig config) {
+        final Duration result = config.getDuration(GroupCommitConfigValue.MAX_BATCH_TIME.getConfigPath());
+        if (result.isNegative()) {
+            final String msgPattern = "The max batch time must not be negative but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default group commit config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the group commit config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultGroupCommitConfig of(final Config config) {
+        return new DefaultGroupCommitConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, GroupCommitConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Duration getMaxBatchTime() {
+        return maxBatchTime;
+    }
+
+    @Override
+    public boolean isCoalesceModifications() {
+        return coalesceModifications;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultGroupCommitConfig that = (DefaultGroupCommitConfig) o;
+        return enabled == that.enabled &&
+                maxBatchSize == that.maxBatchSize &&
+                Objects.equals(maxBatchTime, that.maxBatchTime) &&
+                coalesceModifications == that.coalesceModifications;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize, maxBatchTime, coalesceModifications);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxBatchTime=" + maxBatchTime +
+                ", coalesceModifications=" + coalesceModifications +
+                "]";
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the group commit of thing events, i. e. for persisting the events of several
+ * modify commands of one thing with a single write to the journal.
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether the events of a thing are persisted in batches.
+     *
+     * @return {@code true} if group commit is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events which are persisted with one write.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns how long to wait for further modify commands before the events of a batch are persisted.
+     * If zero, a batch is persisted as soon as the commands which were already waiting in the mailbox are processed.
+     *
+     * @return the maximum batch time.
+     */
+    Duration getMaxBatchTime();
+
+    /**
+     * Indicates whether a {@code ModifyAttribute} or {@code ModifyFeatureProperty} which does not require a response
+     * supersedes the not yet persisted event of the current batch which modified the same attribute or feature
+     * property.
+     *
+     * @return {@code true} if modifications are coalesced, {@code false} else.
+     */
+    boolean isCoalesceModifications();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the events of a thing are persisted in batches.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events which are persisted with one write.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100),
+
+        /**
+         * How long to wait for further modify commands before the events of a batch are persisted.
+         */
+        MAX_BATCH_TIME("max-batch-time", Duration.ZERO),
+
+        /**
+         * Determines whether modifications of the same attribute or feature property within a batch are coalesced.
+         */
+        COALESCE_MODIFICATIONS("coalesce-modifications", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -23,4 +23,12 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Returns the config of the group commit of thing events.
+     *
+     * @return the config.
+     */
+    GroupCommitConfig getGroupCommitConfig();
+
 }
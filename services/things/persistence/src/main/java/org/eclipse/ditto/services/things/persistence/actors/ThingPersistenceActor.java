@@ -13,14 +13,21 @@
 package org.eclipse.ditto.services.things.persistence.actors;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
@@ -31,6 +38,7 @@ import org.eclipse.ditto.model.things.ThingLifecycle;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.things.common.config.GroupCommitConfig;
 import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.CommandReceiveStrategy;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.CommandStrategy;
@@ -44,17 +52,24 @@ import org.eclipse.ditto.services.things.persistence.strategies.ReceiveStrategy;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cleanup.AbstractPersistentActorWithTimersAndCleanup;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
+import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.eclipse.ditto.signals.events.things.ThingModifiedEvent;
 
 import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.FI;
@@ -88,6 +103,8 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
 
     private static final CommandReceiveStrategy COMMAND_RECEIVE_STRATEGY = CommandReceiveStrategy.getInstance();
     private static final CreateThingStrategy CREATE_THING_STRATEGY = CreateThingStrategy.getInstance();
+    private static final String PERSIST_PENDING_EVENTS_TIMER_KEY = "persistPendingEvents";
+    private static final String COALESCED_MODIFICATIONS_COUNTER = "things_coalesced_modify_commands";
 
     private final DiagnosticLoggingAdapter log;
     private final ThingId thingId;
@@ -95,7 +112,10 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
     private final SnapshotAdapter<Thing> snapshotAdapter;
     private final Receive handleThingEvents;
     private final ThingConfig thingConfig;
+    private final GroupCommitConfig groupCommitConfig;
     private final boolean logIncomingMessages;
+    private final List<PendingEvent> pendingEvents;
+    private final Deque<PendingEvent> persistingEvents;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
@@ -107,6 +127,8 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
 
     private long accessCounter;
     private Thing thing;
+    @Nullable
+    private Receive thingCreatedReceive;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent> distributedPub,
@@ -123,7 +145,11 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         thingConfig = thingsConfig.getThingConfig();
+        groupCommitConfig = thingConfig.getGroupCommitConfig();
         logIncomingMessages = thingsConfig.isLogIncomingMessages();
+        pendingEvents = new ArrayList<>();
+        persistingEvents = new ArrayDeque<>();
+        thingCreatedReceive = null;
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
@@ -180,7 +206,8 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
     }
 
     private long getRevisionNumber() {
-        return lastSequenceNr();
+        // the events of the current batch are already applied to the thing
+        return lastSequenceNr() + pendingEvents.size();
     }
 
     @Override
@@ -235,6 +262,55 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
         log.error("Recovery Failure for Thing with ID <{}> and cause <{}>.", thingId, cause.getMessage());
     }
 
+    @Override
+    public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        // this actor is stopped afterwards
+        super.onPersistFailure(cause, event, seqNr);
+        failUnpersistedEvents();
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (failUnpersistedEvents()) {
+            // the thing contains events which are not in the journal: answer the commands stashed meanwhile with
+            // errors and stop, so that the thing is recovered from the journal on next access
+            final Receive batchRejectedReceive = ReceiveBuilder.create()
+                    .match(Command.class, command -> notifySender(ThingUnavailableException.newBuilder(thingId)
+                            .dittoHeaders(command.getDittoHeaders())
+                            .build()))
+                    .matchAny(message -> log.debug("Dropping <{}> after rejected batch.", message))
+                    .build();
+            // messages deferred until the batch was persisted are handled the same way
+            thingCreatedReceive = batchRejectedReceive;
+            getContext().become(batchRejectedReceive);
+            getSelf().tell(PoisonPill.getInstance(), getSelf());
+        }
+    }
+
+    /*
+     * Replies an error to the senders of all batched events which were applied to the thing but not persisted.
+     * Returns whether there were such events.
+     */
+    private boolean failUnpersistedEvents() {
+        timers().cancel(PERSIST_PENDING_EVENTS_TIMER_KEY);
+        if (persistingEvents.isEmpty() && pendingEvents.isEmpty()) {
+            return false;
+        }
+        log.warning("Failed to persist batch of <{}> events; <{}> further events were not persisted.",
+                persistingEvents.size(), pendingEvents.size());
+        Stream.concat(persistingEvents.stream(), pendingEvents.stream())
+                .flatMap(PendingEvent::withSupersededEvents)
+                .forEach(pendingEvent -> {
+                    final DittoHeaders dittoHeaders = pendingEvent.event.getDittoHeaders();
+                    notifySender(pendingEvent.sender,
+                            ThingUnavailableException.newBuilder(thingId).dittoHeaders(dittoHeaders).build());
+                });
+        persistingEvents.clear();
+        pendingEvents.clear();
+        return true;
+    }
+
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
@@ -280,6 +356,8 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
     private void becomeThingCreatedHandler() {
         final FI.UnitApply<Command> commandHandler = command -> handleCommand(command, COMMAND_RECEIVE_STRATEGY);
         final ReceiveBuilder receiveBuilder = ReceiveBuilder.create()
+                .match(PersistPendingEvents.class, message -> persistPendingEvents())
+                .match(Object.class, this::isToBeHandledAfterPendingEvents, this::handleAfterPendingEvents)
                 .match(Command.class, COMMAND_RECEIVE_STRATEGY::isDefined, commandHandler);
 
         final Receive receive = new StrategyAwareReceiveBuilder(receiveBuilder, log)
@@ -289,6 +367,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
                 .matchAny(new MatchAnyAfterInitializeStrategy())
                 .build();
 
+        thingCreatedReceive = receive;
         getContext().become(receive, true);
         getContext().getParent().tell(ThingSupervisorActor.ManualReset.INSTANCE, getSelf());
 
@@ -318,12 +397,44 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
         // Unchecked warning suppressed for `persistAndApplyConsumer`.
         // It is actually type-safe with the (infinitely-big) type parameter
         // this.<ThingModifiedEvent<? extends ThingModifiedEvent<? extends ThingModifiedEvent<... ad nauseam ...>>>>
-        final BiConsumer<ThingModifiedEvent, BiConsumer<ThingModifiedEvent, Thing>> persistAndApplyConsumer =
-                this::persistAndApplyEvent;
+        final BiConsumer<ThingModifiedEvent, BiConsumer<ThingModifiedEvent, Thing>> persistAndApplyConsumer;
+        if (isBatchable(command)) {
+            persistAndApplyConsumer = this::applyEventAndAddToBatch;
+        } else {
+            persistAndApplyConsumer = this::persistAndApplyEvent;
+        }
 
         result.apply(defaultContext, persistAndApplyConsumer, asyncNotifySender());
     }
 
+    /*
+     * Modify commands are batched if group commit is enabled. Commands which change the lifecycle of the thing are
+     * not, because they change the behaviour of this actor after their event was persisted.
+     */
+    private boolean isBatchable(final Object message) {
+        return groupCommitConfig.isEnabled() &&
+                message instanceof ThingModifyCommand &&
+                !(message instanceof CreateThing) &&
+                !(message instanceof DeleteThing) &&
+                !((ThingModifyCommand) message).getDittoHeaders().isDryRun();
+    }
+
+    /*
+     * All messages except batchable commands must see the durable state of the thing, e.g. queries and snapshots.
+     */
+    private boolean isToBeHandledAfterPendingEvents(final Object message) {
+        return !pendingEvents.isEmpty() && !isBatchable(message);
+    }
+
+    private void handleAfterPendingEvents(final Object message) {
+        persistPendingEvents();
+        defer(message, deferredMessage -> {
+            if (null != thingCreatedReceive) {
+                thingCreatedReceive.onMessage().apply(deferredMessage);
+            }
+        });
+    }
+
     private long getNextRevisionNumber() {
         return getRevisionNumber() + 1;
     }
@@ -353,19 +464,21 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
         cancelSnapshot();
     }
 
-    private <A extends ThingModifiedEvent<? extends A>> void persistAndApplyEvent(final A event,
-            final BiConsumer<A, Thing> handler) {
-
-        final A modifiedEvent;
+    private <A extends ThingModifiedEvent<? extends A>> A setSchemaVersionOfThing(final A event) {
         if (null != thing) {
             // set version of event to the version of the thing
             final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
                     .schemaVersion(thing.getImplementedSchemaVersion())
                     .build();
-            modifiedEvent = event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
+            return event.setDittoHeaders(newHeaders);
         }
+        return event;
+    }
+
+    private <A extends ThingModifiedEvent<? extends A>> void persistAndApplyEvent(final A event,
+            final BiConsumer<A, Thing> handler) {
+
+        final A modifiedEvent = setSchemaVersionOfThing(event);
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, thing);
@@ -400,6 +513,124 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
         });
     }
 
+    /*
+     * Applies the event to the thing right away, so that the next command of the batch is applied to the modified
+     * thing. The event is published and the sender is notified only after the whole batch was persisted.
+     */
+    private <A extends ThingModifiedEvent<? extends A>> void applyEventAndAddToBatch(final A event,
+            final BiConsumer<A, Thing> handler) {
+
+        final A modifiedEvent = setSchemaVersionOfThing(event);
+        if (groupCommitConfig.isCoalesceModifications() && supersedePendingEvent(modifiedEvent, handler)) {
+            return;
+        }
+        thing = EventHandleStrategy.getInstance().handle(modifiedEvent, thing, getNextRevisionNumber());
+        final Thing thingAfterEvent = thing;
+        pendingEvents.add(new PendingEvent(modifiedEvent, getSender(),
+                () -> handler.accept(modifiedEvent, thingAfterEvent)));
+
+        if (pendingEvents.size() >= groupCommitConfig.getMaxBatchSize()) {
+            persistPendingEvents();
+        } else if (1 == pendingEvents.size()) {
+            final Duration maxBatchTime = groupCommitConfig.getMaxBatchTime();
+            if (maxBatchTime.isZero()) {
+                // arrives after the commands which are already waiting in the mailbox
+                getSelf().tell(PersistPendingEvents.INSTANCE, getSelf());
+            } else {
+                timers().startSingleTimer(PERSIST_PENDING_EVENTS_TIMER_KEY, PersistPendingEvents.INSTANCE,
+                        maxBatchTime);
+            }
+        }
+    }
+
+    /*
+     * Replaces the pending event which last modified the same attribute or feature property as the given event,
+     * unless a later pending event touched it as well. The given event takes over the place and the revision of the
+     * superseded event, so that the revisions of the batch stay consecutive. As the given event overwrites the value
+     * of the superseded one, the thing is the same as if both events were persisted. The sender of the superseded
+     * event is answered as usual once the batch was persisted.
+     */
+    private <A extends ThingModifiedEvent<? extends A>> boolean supersedePendingEvent(final A event,
+            final BiConsumer<A, Thing> handler) {
+
+        if (!isCoalescable(event)) {
+            return false;
+        }
+        final JsonPointer resourcePath = event.getResourcePath();
+        for (int i = pendingEvents.size() - 1; 0 <= i; i--) {
+            final PendingEvent pendingEvent = pendingEvents.get(i);
+            final JsonPointer pendingResourcePath = pendingEvent.event.getResourcePath();
+            if (overlaps(resourcePath, pendingResourcePath)) {
+                if (pendingEvent.event.getClass() != event.getClass() ||
+                        !resourcePath.equals(pendingResourcePath) ||
+                        !isCoalescable(pendingEvent.event)) {
+                    return false;
+                }
+                final A supersedingEvent = event.setRevision(pendingEvent.event.getRevision());
+                thing = EventHandleStrategy.getInstance().handle(supersedingEvent, thing, getRevisionNumber());
+                final Thing thingAfterEvent = thing;
+                pendingEvents.set(i, new PendingEvent(supersedingEvent, getSender(),
+                        () -> handler.accept(supersedingEvent, thingAfterEvent), pendingEvent));
+                log.debug("Coalescing <{}> of revision <{}>.", event.getType(), supersedingEvent.getRevision());
+                DittoMetrics.counter(COALESCED_MODIFICATIONS_COUNTER)
+                        .tag("namespace", thingId.getNamespace())
+                        .increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCoalescable(final ThingModifiedEvent<?> event) {
+        if (event instanceof AttributeModified || event instanceof FeaturePropertyModified) {
+            final DittoHeaders dittoHeaders = event.getDittoHeaders();
+            return !dittoHeaders.isResponseRequired() &&
+                    !dittoHeaders.getIfMatch().isPresent() &&
+                    !dittoHeaders.getIfNoneMatch().isPresent();
+        }
+        return false;
+    }
+
+    /*
+     * Two resource paths overlap if one of them is a prefix of the other.
+     */
+    private static boolean overlaps(final JsonPointer resourcePath, final JsonPointer otherResourcePath) {
+        final int commonLevelCount = Math.min(resourcePath.getLevelCount(), otherResourcePath.getLevelCount());
+        for (int level = 0; level < commonLevelCount; level++) {
+            if (!resourcePath.get(level).equals(otherResourcePath.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void persistPendingEvents() {
+        timers().cancel(PERSIST_PENDING_EVENTS_TIMER_KEY);
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+        final int batchSize = pendingEvents.size();
+        final List<ThingModifiedEvent> events = pendingEvents.stream()
+                .map(pendingEvent -> pendingEvent.event)
+                .collect(Collectors.toList());
+        persistingEvents.addAll(pendingEvents);
+        pendingEvents.clear();
+        log.debug("Persisting batch of <{}> events.", batchSize);
+
+        persistAll(events, persistedEvent -> {
+            final PendingEvent pendingEvent = persistingEvents.remove();
+            notifySubscribers(pendingEvent.event);
+            pendingEvent.handlePersisted();
+
+            if (persistingEvents.isEmpty()) {
+                log.info("Successfully persisted batch of <{}> events.", batchSize);
+                if (snapshotThresholdPassed()) {
+                    takeSnapshot("snapshot threshold is reached");
+                }
+            }
+        });
+    }
+
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
         if (thing != null && lastSnapshotRevision != revision) {
@@ -664,4 +895,52 @@ public final class ThingPersistenceActor extends AbstractPersistentActorWithTime
 
     private static final class TakeSnapshot {}
 
+    private static final class PersistPendingEvents {
+
+        private static final PersistPendingEvents INSTANCE = new PersistPendingEvents();
+
+        private PersistPendingEvents() {}
+
+    }
+
+    /**
+     * An event of the current batch which was applied to the thing but is not persisted yet, together with the
+     * pending event it superseded, if any.
+     */
+    private static final class PendingEvent {
+
+        private final ThingModifiedEvent event;
+        private final ActorRef sender;
+        private final Runnable onPersisted;
+        @Nullable private final PendingEvent superseded;
+
+        private PendingEvent(final ThingModifiedEvent event, final ActorRef sender, final Runnable onPersisted) {
+            this(event, sender, onPersisted, null);
+        }
+
+        private PendingEvent(final ThingModifiedEvent event, final ActorRef sender, final Runnable onPersisted,
+                @Nullable final PendingEvent superseded) {
+
+            this.event = event;
+            this.sender = sender;
+            this.onPersisted = onPersisted;
+            this.superseded = superseded;
+        }
+
+        private void handlePersisted() {
+            if (null != superseded) {
+                superseded.handlePersisted();
+            }
+            onPersisted.run();
+        }
+
+        private Stream<PendingEvent> withSupersededEvents() {
+            if (null == superseded) {
+                return Stream.of(this);
+            }
+            return Stream.concat(superseded.withSupersededEvents(), Stream.of(this));
+        }
+
+    }
+
 }
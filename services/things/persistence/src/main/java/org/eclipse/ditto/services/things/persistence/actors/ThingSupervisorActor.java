@@ -18,16 +18,28 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.persistence.strategies.AbstractReceiveStrategy;
 import org.eclipse.ditto.services.things.persistence.strategies.ReceiveStrategy;
@@ -45,9 +57,11 @@ import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.SupervisorStrategy;
 import akka.actor.Terminated;
+import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.DeciderBuilder;
+import akka.pattern.Patterns;
 import scala.concurrent.duration.FiniteDuration;
 
 /**
@@ -67,8 +81,10 @@ public final class ThingSupervisorActor extends AbstractActor {
     private final Props persistenceActorProps;
     private final ExponentialBackOffConfig exponentialBackOffConfig;
     private final ShutdownBehaviour shutdownBehaviour;
+    @Nullable private ActorRef thingsShardRegion;
 
     @Nullable private ActorRef child;
+    private boolean childStarted;
     private long restartCount;
 
     private final SupervisorStrategy supervisorStrategy = new OneForOneStrategy(true, DeciderBuilder
@@ -85,7 +101,8 @@ public final class ThingSupervisorActor extends AbstractActor {
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory) {
+            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory,
+            @Nullable final ActorRef thingsShardRegion) {
 
         final DittoThingsConfig thingsConfig = DittoThingsConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
@@ -99,8 +116,10 @@ public final class ThingSupervisorActor extends AbstractActor {
         exponentialBackOffConfig = thingsConfig.getThingConfig().getSupervisorConfig().getExponentialBackOffConfig();
 
         shutdownBehaviour = ShutdownBehaviour.fromId(thingId, pubSubMediator, getSelf());
+        this.thingsShardRegion = thingsShardRegion;
 
         child = null;
+        childStarted = false;
         restartCount = 0L;
     }
 
@@ -121,14 +140,35 @@ public final class ThingSupervisorActor extends AbstractActor {
             final DistributedPub<ThingEvent> distributedPub,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
-        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory, null);
+    }
+
+    /**
+     * Props for creating a {@code ThingSupervisorActor} which retrieves the things of {@link SudoRetrieveThings}
+     * commands from the given actor instead of the things shard region of the cluster node.
+     *
+     * @param distributedPub distributed-pub access for publishing thing events.
+     * @param propsFactory factory for creating Props to be used for creating
+     * {@link ThingPersistenceActor}s.
+     * @param thingsShardRegion the actor to retrieve single things from.
+     * @return the {@link Props} to create this actor.
+     */
+    static Props props(
+            final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent> distributedPub,
+            final ThingPersistenceActorPropsFactory propsFactory,
+            final ActorRef thingsShardRegion) {
+
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory,
+                thingsShardRegion);
     }
 
     private Collection<ReceiveStrategy<?>> initReceiveStrategies() {
-        final Collection<ReceiveStrategy<?>> result = new ArrayList<>(3);
+        final Collection<ReceiveStrategy<?>> result = new ArrayList<>(4);
         result.add(new StartChildStrategy());
         result.add(new ChildTerminatedStrategy());
         result.add(new ManualResetStrategy());
+        result.add(new SudoRetrieveThingsStrategy());
 
         return result;
     }
@@ -138,12 +178,6 @@ public final class ThingSupervisorActor extends AbstractActor {
         return supervisorStrategy;
     }
 
-    @Override
-    public void preStart() throws Exception {
-        super.preStart();
-        startChild();
-    }
-
     @Override
     public Receive createReceive() {
         final Collection<ReceiveStrategy<?>> receiveStrategies = initReceiveStrategies();
@@ -166,7 +200,16 @@ public final class ThingSupervisorActor extends AbstractActor {
             log.debug("Starting persistence actor for Thing with ID <{}>.", thingId);
             final ActorRef childRef = getContext().actorOf(persistenceActorProps, "pa");
             child = getContext().watch(childRef);
+            childStarted = true;
+        }
+    }
+
+    private ActorRef getThingsShardRegion() {
+        if (null == thingsShardRegion) {
+            thingsShardRegion = ClusterSharding.get(getContext().getSystem())
+                    .shardRegion(ThingsMessagingConstants.SHARD_REGION);
         }
+        return thingsShardRegion;
     }
 
     /**
@@ -266,9 +309,69 @@ public final class ThingSupervisorActor extends AbstractActor {
 
     }
 
+    /**
+     * This strategy handles a {@link SudoRetrieveThings} command routed to this actor as the representative of its
+     * shard. The things of the batch are retrieved from the shard region of this cluster node and the things retrieved
+     * within the timeout of the command are answered with one {@link SudoRetrieveThingsResponse}. Things which could
+     * not be retrieved are omitted. The persistence actor of this actor's own thing is not started for the command;
+     * if it was not started before, this actor passivates itself after answering.
+     */
+    @NotThreadSafe
+    private final class SudoRetrieveThingsStrategy extends AbstractReceiveStrategy<SudoRetrieveThings> {
+
+        SudoRetrieveThingsStrategy() {
+            super(SudoRetrieveThings.class, log);
+        }
+
+        @Override
+        public void doApply(final SudoRetrieveThings command) {
+            final DittoHeaders dittoHeaders = command.getDittoHeaders();
+            final Duration timeout = command.getTimeout().orElse(null);
+            if (null == timeout) {
+                log.warning("Got <{}> without timeout, cannot retrieve the things.", command.getType());
+                getSender().tell(ThingUnavailableException.newBuilder(thingId).dittoHeaders(dittoHeaders).build(),
+                        getSelf());
+                passivateIfChildNotStarted();
+                return;
+            }
+            final ActorRef shardRegion = getThingsShardRegion();
+            final JsonFieldSelector selectedFields = command.getSelectedFields().orElse(null);
+
+            final List<CompletableFuture<Object>> retrievals = command.getThingIds()
+                    .stream()
+                    .map(id -> command.useOriginalSchemaVersion()
+                            ? SudoRetrieveThing.withOriginalSchemaVersion(id, selectedFields, dittoHeaders)
+                            : SudoRetrieveThing.of(id, selectedFields, dittoHeaders))
+                    .map(sudoRetrieveThing ->
+                            Patterns.ask(shardRegion, sudoRetrieveThing, timeout)
+                                    .toCompletableFuture()
+                                    .exceptionally(error -> error))
+                    .collect(Collectors.toList());
+
+            final CompletionStage<SudoRetrieveThingsResponse> responseFuture =
+                    CompletableFuture.allOf(retrievals.toArray(new CompletableFuture[0]))
+                            .thenApply(unused -> SudoRetrieveThingsResponse.of(retrievals.stream()
+                                    .map(CompletableFuture::join)
+                                    .filter(SudoRetrieveThingResponse.class::isInstance)
+                                    .map(response -> ((SudoRetrieveThingResponse) response).getEntity())
+                                    .collect(JsonCollectors.valuesToArray()), dittoHeaders));
+
+            Patterns.pipe(responseFuture, getContext().getDispatcher()).to(getSender());
+            passivateIfChildNotStarted();
+        }
+
+        private void passivateIfChildNotStarted() {
+            if (!childStarted) {
+                passivate(Control.PASSIVATE);
+            }
+        }
+
+    }
+
     /**
      * This strategy handles all other messages by forwarding all messages to the child if it is active or by replying
-     * immediately with a {@link ThingUnavailableException} if the child has terminated (fail fast).
+     * immediately with a {@link ThingUnavailableException} if the child has terminated (fail fast). The child is
+     * started with the first message it is to handle.
      */
     @NotThreadSafe
     private final class MatchAnyStrategy extends AbstractReceiveStrategy<Object> {
@@ -279,6 +382,9 @@ public final class ThingSupervisorActor extends AbstractActor {
 
         @Override
         public void doApply(final Object message) {
+            if (!childStarted) {
+                startChild();
+            }
             if (null != child) {
                 if (child.equals(getSender())) {
                     log.warning("Received unhandled message from child actor '{}': {}", thingId, message);
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.collection.JavaConverters;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+/**
+ * In-memory journal which records the number of events of each atomic write, e.g. of each {@code persistAll},
+ * rejects writes of selected persistence IDs and holds back writes of selected persistence IDs until they are
+ * released, which simulates a slow journal.
+ */
+final class RecordingJournalPlugin extends AsyncWriteJournal {
+
+    /**
+     * Config to use this journal for things.
+     */
+    static final String CONFIG = "akka-contrib-mongodb-persistence-things-journal.class = \"" +
+            RecordingJournalPlugin.class.getName() + "\"";
+
+    private static final Map<String, List<PersistentRepr>> EVENTS = new ConcurrentHashMap<>();
+    private static final Map<String, List<Integer>> WRITE_SIZES = new ConcurrentHashMap<>();
+    private static final Set<String> REJECTING_PERSISTENCE_IDS = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Promise<Void>> HELD_PERSISTENCE_IDS = new ConcurrentHashMap<>();
+    private static final Set<String> PERSISTENCE_IDS_WITH_HELD_WRITES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param persistenceId the persistence ID.
+     * @return the number of events of each accepted atomic write of the persistence ID in the order of writing.
+     */
+    static List<Integer> getWriteSizes(final String persistenceId) {
+        return new ArrayList<>(WRITE_SIZES.getOrDefault(persistenceId, Collections.emptyList()));
+    }
+
+    /**
+     * Reject writes of a persistence ID or accept them again.
+     *
+     * @param persistenceId the persistence ID.
+     * @param reject whether to reject its writes.
+     */
+    static void rejectWrites(final String persistenceId, final boolean reject) {
+        if (reject) {
+            REJECTING_PERSISTENCE_IDS.add(persistenceId);
+        } else {
+            REJECTING_PERSISTENCE_IDS.remove(persistenceId);
+        }
+    }
+
+    /**
+     * Hold back the writes of a persistence ID until {@link #releaseWrites(String)} is called for it.
+     *
+     * @param persistenceId the persistence ID.
+     */
+    static void holdWrites(final String persistenceId) {
+        HELD_PERSISTENCE_IDS.putIfAbsent(persistenceId, Futures.promise());
+    }
+
+    /**
+     * Complete the held back writes of a persistence ID and do not hold back its further writes.
+     *
+     * @param persistenceId the persistence ID.
+     */
+    static void releaseWrites(final String persistenceId) {
+        PERSISTENCE_IDS_WITH_HELD_WRITES.remove(persistenceId);
+        final Promise<Void> release = HELD_PERSISTENCE_IDS.remove(persistenceId);
+        if (null != release) {
+            release.trySuccess(null);
+        }
+    }
+
+    /**
+     * @param persistenceId the persistence ID.
+     * @return whether a write of the persistence ID is held back.
+     */
+    static boolean isHoldingWritesOf(final String persistenceId) {
+        return PERSISTENCE_IDS_WITH_HELD_WRITES.contains(persistenceId);
+    }
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final Optional<String> heldPersistenceId = StreamSupport.stream(messages.spliterator(), false)
+                .map(AtomicWrite::persistenceId)
+                .filter(HELD_PERSISTENCE_IDS::containsKey)
+                .findAny();
+        final Optional<Promise<Void>> release = heldPersistenceId.map(HELD_PERSISTENCE_IDS::get);
+        if (release.isPresent()) {
+            PERSISTENCE_IDS_WITH_HELD_WRITES.add(heldPersistenceId.get());
+            return release.get().future().map(new Mapper<Void, Iterable<Optional<Exception>>>() {
+                @Override
+                public Iterable<Optional<Exception>> apply(final Void released) {
+                    return writeAll(messages);
+                }
+            }, context().dispatcher());
+        }
+        return Future.successful(writeAll(messages));
+    }
+
+    private static Iterable<Optional<Exception>> writeAll(final Iterable<AtomicWrite> messages) {
+        return StreamSupport.stream(messages.spliterator(), false)
+                .map(RecordingJournalPlugin::write)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        EVENTS.computeIfPresent(persistenceId, (id, events) -> events.stream()
+                .filter(event -> event.sequenceNr() > toSequenceNr)
+                .collect(Collectors.toList()));
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        EVENTS.getOrDefault(persistenceId, Collections.emptyList())
+                .stream()
+                .filter(event -> fromSequenceNr <= event.sequenceNr() && event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        final long highestSequenceNr = EVENTS.getOrDefault(persistenceId, Collections.emptyList())
+                .stream()
+                .mapToLong(PersistentRepr::sequenceNr)
+                .max()
+                .orElse(0L);
+        return Future.successful(highestSequenceNr);
+    }
+
+    private static Optional<Exception> write(final AtomicWrite atomicWrite) {
+        final String persistenceId = atomicWrite.persistenceId();
+        if (REJECTING_PERSISTENCE_IDS.contains(persistenceId)) {
+            return Optional.of(new IllegalStateException("Rejecting writes of <" + persistenceId + ">"));
+        }
+        final List<PersistentRepr> events = JavaConverters.seqAsJavaList(atomicWrite.payload());
+        EVENTS.merge(persistenceId, new ArrayList<>(events), (existing, added) -> {
+            final List<PersistentRepr> merged = new ArrayList<>(existing);
+            merged.addAll(added);
+            return merged;
+        });
+        WRITE_SIZES.merge(persistenceId, Collections.singletonList(events.size()), (existing, added) -> {
+            final List<Integer> merged = new ArrayList<>(existing);
+            merged.addAll(added);
+            return merged;
+        });
+        return Optional.empty();
+    }
+
+}
@@ -28,6 +28,7 @@ import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveThingResponse;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -87,7 +88,9 @@ import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAcl;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAclEntry;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributesResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
@@ -751,6 +754,209 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifyAttributesWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, max-batch-size = 3 }")
+                .withFallback(ConfigFactory.parseString(RecordingJournalPlugin.CONFIG)));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final String persistenceId = ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+        final int numberOfModifications = 10;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // send all commands at once so that they are waiting in the mailbox and are persisted in batches
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final JsonPointer attributeKey = JsonPointer.of("counter" + i);
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final JsonPointer attributeKey = JsonPointer.of("counter" + i);
+                    expectMsgEquals(
+                            modifyAttributeResponse(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2, true));
+                }
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = ThingsModelFactory.newThing(retrieveThingResponse.getEntity().asObject());
+                Assertions.assertThat(retrievedThing.getRevision())
+                        .contains(ThingRevision.newInstance(1L + numberOfModifications));
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final JsonPointer attributeKey = JsonPointer.of("counter" + i);
+                    Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                            .contains(JsonValue.of(i));
+                }
+
+                // the modifications were written in batches of at most max-batch-size after the creation
+                final List<Integer> writeSizes = RecordingJournalPlugin.getWriteSizes(persistenceId);
+                Assertions.assertThat(writeSizes.get(0)).isEqualTo(1);
+                final List<Integer> batchSizes = writeSizes.subList(1, writeSizes.size());
+                Assertions.assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum())
+                        .isEqualTo(numberOfModifications);
+                Assertions.assertThat(batchSizes).allMatch(size -> size <= 3);
+                Assertions.assertThat(batchSizes.size()).isLessThan(numberOfModifications);
+            }
+        };
+    }
+
+    @Test
+    public void rejectedBatchIsAnsweredWithErrorsAndNotApplied() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, max-batch-size = 3 }")
+                .withFallback(ConfigFactory.parseString(RecordingJournalPlugin.CONFIG)));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final String persistenceId = ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+        final int numberOfModifications = 3;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                watch(underTest);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // WHEN: the batch of modifications is rejected by the journal
+                RecordingJournalPlugin.rejectWrites(persistenceId, true);
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final JsonPointer attributeKey = JsonPointer.of("rejected" + i);
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+
+                // THEN: each sender gets an error and the actor stops, dropping the modifications it applied
+                for (int i = 0; i < numberOfModifications; i++) {
+                    expectMsgClass(ThingUnavailableException.class);
+                }
+                expectTerminated(underTest);
+
+                // THEN: the recovered thing does not contain the rejected modifications
+                RecordingJournalPlugin.rejectWrites(persistenceId, false);
+                final ActorRef recovered = createPersistenceActorFor(thing);
+                recovered.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = ThingsModelFactory.newThing(retrieveThingResponse.getEntity().asObject());
+                Assertions.assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(1L));
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final JsonPointer attributeKey = JsonPointer.of("rejected" + i);
+                    Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                            .isEmpty();
+                }
+            }
+        };
+    }
+
+    @Test
+    public void coalesceModificationsOfSameAttributeWaitingForJournalWrite() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, " +
+                "coalesce-modifications = true }")
+                .withFallback(ConfigFactory.parseString(RecordingJournalPlugin.CONFIG)));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final String persistenceId = ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+        final JsonPointer attributeKey = JsonPointer.of("coalesced");
+        final DittoHeaders noResponseRequired = dittoHeadersV2.toBuilder().responseRequired(false).build();
+        final int numberOfModifications = 5;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // GIVEN: the journal is slow, so that commands wait while the event creating the attribute is written
+                RecordingJournalPlugin.holdWrites(persistenceId);
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(-1), dittoHeadersV2),
+                        getRef());
+                awaitCond(() -> RecordingJournalPlugin.isHoldingWritesOf(persistenceId));
+
+                // WHEN: modifications of the same attribute arrive during the write
+                for (int i = 0; i < numberOfModifications; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), noResponseRequired),
+                            getRef());
+                }
+                RecordingJournalPlugin.releaseWrites(persistenceId);
+
+                // THEN: every sender is answered
+                for (int i = 0; i <= numberOfModifications; i++) {
+                    expectMsgClass(ModifyAttributeResponse.class);
+                }
+
+                // THEN: the modifications of the same attribute were coalesced into one event
+                Assertions.assertThat(RecordingJournalPlugin.getWriteSizes(persistenceId)).containsExactly(1, 1, 1);
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = ThingsModelFactory.newThing(retrieveThingResponse.getEntity().asObject());
+                Assertions.assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(3L));
+                Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                        .contains(JsonValue.of(numberOfModifications - 1));
+            }
+        };
+    }
+
+    @Test
+    public void doNotCoalesceModificationsOfAttributeModifiedInBetween() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, " +
+                "coalesce-modifications = true }")
+                .withFallback(ConfigFactory.parseString(RecordingJournalPlugin.CONFIG)));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final String persistenceId = ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+        final JsonPointer attributeKey = JsonPointer.of("coalesced");
+        final DittoHeaders noResponseRequired = dittoHeadersV2.toBuilder().responseRequired(false).build();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                RecordingJournalPlugin.holdWrites(persistenceId);
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(-1), dittoHeadersV2),
+                        getRef());
+                awaitCond(() -> RecordingJournalPlugin.isHoldingWritesOf(persistenceId));
+
+                // WHEN: all attributes are replaced between two modifications of the same attribute
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(0), noResponseRequired),
+                        getRef());
+                underTest.tell(ModifyAttributes.of(thingId, ThingsModelFactory.newAttributesBuilder()
+                        .set(attributeKey, 1)
+                        .build(), noResponseRequired), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(2), noResponseRequired),
+                        getRef());
+                RecordingJournalPlugin.releaseWrites(persistenceId);
+
+                // THEN: nothing is coalesced
+                expectMsgClass(ModifyAttributeResponse.class);
+                expectMsgClass(ModifyAttributeResponse.class);
+                expectMsgClass(ModifyAttributesResponse.class);
+                expectMsgClass(ModifyAttributeResponse.class);
+                Assertions.assertThat(RecordingJournalPlugin.getWriteSizes(persistenceId)).containsExactly(1, 1, 3);
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = ThingsModelFactory.newThing(retrieveThingResponse.getEntity().asObject());
+                Assertions.assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(5L));
+                Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                        .contains(JsonValue.of(2));
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
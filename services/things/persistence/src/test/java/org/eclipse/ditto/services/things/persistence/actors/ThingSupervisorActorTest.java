@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorIdentity;
+import akka.actor.ActorRef;
+import akka.actor.Identify;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ThingSupervisorActor}.
+ */
+public final class ThingSupervisorActorTest extends PersistenceActorTestBase {
+
+    private static final Duration RETRIEVAL_TIMEOUT = Duration.ofSeconds(1L);
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.empty());
+    }
+
+    @Test
+    public void sudoRetrieveThingsRespondsWithThingsRetrievedWithinTimeout() {
+        new TestKit(actorSystem) {{
+            final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+            final ActorRef underTest = childActorOf(supervisorProps(thingsShardRegion.ref()), THING_ID.toString());
+
+            final ThingId otherThingId = ThingId.of("org.eclipse.ditto", "otherThingId");
+            final ThingId slowThingId = ThingId.of("org.eclipse.ditto", "slowThingId");
+            final List<ThingId> thingIds = Arrays.asList(THING_ID, otherThingId, slowThingId);
+            underTest.tell(SudoRetrieveThings.withOriginalSchemaVersion(thingIds, RETRIEVAL_TIMEOUT, dittoHeadersV2),
+                    getRef());
+
+            // the things of the batch are retrieved one by one; the slow thing does not answer in time
+            final JsonObject thing = thingJson(THING_ID);
+            final JsonObject otherThing = thingJson(otherThingId);
+            assertThat(thingsShardRegion.expectMsgClass(SudoRetrieveThing.class).getEntityId())
+                    .isEqualTo(THING_ID);
+            thingsShardRegion.reply(SudoRetrieveThingResponse.of(thing, dittoHeadersV2));
+            assertThat(thingsShardRegion.expectMsgClass(SudoRetrieveThing.class).getEntityId())
+                    .isEqualTo(otherThingId);
+            thingsShardRegion.reply(SudoRetrieveThingResponse.of(otherThing, dittoHeadersV2));
+            assertThat(thingsShardRegion.expectMsgClass(SudoRetrieveThing.class).getEntityId())
+                    .isEqualTo(slowThingId);
+
+            // the supervisor passivates as its own persistence actor was not needed
+            expectMsgClass(ShardRegion.Passivate.class);
+
+            final SudoRetrieveThingsResponse response = expectMsgClass(SudoRetrieveThingsResponse.class);
+            assertThat(response.getEntity()).isEqualTo(JsonArray.of(thing, otherThing));
+
+            actorSystem.actorSelection(underTest.path().child("pa")).tell(new Identify(1), getRef());
+            assertThat(expectMsgClass(ActorIdentity.class).getActorRef()).isEmpty();
+        }};
+    }
+
+    @Test
+    public void persistenceActorIsStartedByFirstMessageForIt() {
+        new TestKit(actorSystem) {{
+            final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+            final ActorRef underTest = childActorOf(supervisorProps(thingsShardRegion.ref()), THING_ID.toString());
+
+            underTest.tell(SudoRetrieveThings.withOriginalSchemaVersion(Collections.singletonList(THING_ID),
+                    RETRIEVAL_TIMEOUT, dittoHeadersV2), getRef());
+            thingsShardRegion.expectMsgClass(SudoRetrieveThing.class);
+            thingsShardRegion.reply(SudoRetrieveThingResponse.of(thingJson(THING_ID), dittoHeadersV2));
+            expectMsgClass(ShardRegion.Passivate.class);
+            expectMsgClass(SudoRetrieveThingsResponse.class);
+
+            underTest.tell(RetrieveThing.of(THING_ID, dittoHeadersV2), getRef());
+            expectMsgClass(ThingNotAccessibleException.class);
+
+            actorSystem.actorSelection(underTest.path().child("pa")).tell(new Identify(2), getRef());
+            assertThat(expectMsgClass(ActorIdentity.class).getActorRef()).isPresent();
+        }};
+    }
+
+    private Props supervisorProps(final ActorRef thingsShardRegion) {
+        return ThingSupervisorActor.props(pubSubMediator, getDistributedPub(), ThingPersistenceActor::props,
+                thingsShardRegion);
+    }
+
+    private static JsonObject thingJson(final ThingId thingId) {
+        return JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.ID, thingId.toString())
+                .build();
+    }
+
+}
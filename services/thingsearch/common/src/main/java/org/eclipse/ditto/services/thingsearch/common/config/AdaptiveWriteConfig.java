@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the adaptive write interval and bulk size of the search updater stream.
+ * The write interval and the bulk size are adjusted in an additive-increase/multiplicative-decrease manner
+ * according to the observed bulk write latency and the number of queued changes.
+ */
+@Immutable
+public interface AdaptiveWriteConfig {
+
+    /**
+     * Indicates whether the write interval and the bulk size are adjusted at runtime. If disabled, the configured
+     * write interval and maximum bulk size are used throughout.
+     *
+     * @return {@code true} if the adaptive write interval and bulk size are enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the bulk write latency which should not be exceeded. A slower bulk write shrinks the bulk size and
+     * lengthens the write interval.
+     *
+     * @return the target latency.
+     */
+    Duration getTargetLatency();
+
+    /**
+     * Returns the lower bound of the adaptive write interval.
+     *
+     * @return the minimum write interval.
+     */
+    Duration getMinWriteInterval();
+
+    /**
+     * Returns the upper bound of the adaptive write interval.
+     *
+     * @return the maximum write interval.
+     */
+    Duration getMaxWriteInterval();
+
+    /**
+     * Returns the amount by which the write interval is shortened after a bulk write within the target latency or
+     * after a write interval without changes.
+     *
+     * @return the write interval decrement.
+     */
+    Duration getWriteIntervalDecrement();
+
+    /**
+     * Returns the lower bound of the adaptive bulk size. The upper bound is the maximum bulk size of the
+     * persistence stream.
+     *
+     * @return the minimum bulk size.
+     */
+    int getMinBulkSize();
+
+    /**
+     * Returns the amount by which the bulk size is increased after a bulk write within the target latency while
+     * more changes are queued than fit into one bulk.
+     *
+     * @return the bulk size increment.
+     */
+    int getBulkSizeIncrement();
+
+    /**
+     * Returns the factor by which the bulk size is divided and the write interval is multiplied after a bulk write
+     * exceeding the target latency.
+     *
+     * @return the backoff factor, greater than 1.
+     */
+    double getBackoffFactor();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code AdaptiveWriteConfig}.
+     */
+    enum AdaptiveWriteConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the write interval and the bulk size are adjusted at runtime.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The bulk write latency which should not be exceeded.
+         */
+        TARGET_LATENCY("target-latency", Duration.ofMillis(500L)),
+
+        /**
+         * The lower bound of the adaptive write interval.
+         */
+        MIN_WRITE_INTERVAL("min-write-interval", Duration.ofMillis(100L)),
+
+        /**
+         * The upper bound of the adaptive write interval.
+         */
+        MAX_WRITE_INTERVAL("max-write-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * The amount by which the write interval is shortened.
+         */
+        WRITE_INTERVAL_DECREMENT("write-interval-decrement", Duration.ofMillis(100L)),
+
+        /**
+         * The lower bound of the adaptive bulk size.
+         */
+        MIN_BULK_SIZE("min-bulk-size", 10),
+
+        /**
+         * The amount by which the bulk size is increased.
+         */
+        BULK_SIZE_INCREMENT("bulk-size-increment", 10),
+
+        /**
+         * The factor by which the bulk size is divided and the write interval is multiplied.
+         */
+        BACKOFF_FACTOR("backoff-factor", 2.0);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private AdaptiveWriteConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the change queue of the search updater stream.
+ */
+@Immutable
+public interface ChangeQueueConfig {
+
+    /**
+     * Indicates whether queued changes are written to an append log on local disk so that they survive a restart.
+     *
+     * @return {@code true} if the change queue is persistent.
+     */
+    boolean isPersistent();
+
+    /**
+     * Returns the directory of the append log of the persistent change queue.
+     *
+     * @return the directory.
+     */
+    String getDirectory();
+
+    /**
+     * Returns the number of records in the append log above which the log is compacted to the pending changes.
+     *
+     * @return the compaction threshold.
+     */
+    int getCompactionThreshold();
+
+    /**
+     * Returns how long to wait for the acknowledgement of a dumped change before assuming that it did not result in
+     * a write into the search index.
+     *
+     * @return the acknowledgement timeout.
+     */
+    Duration getAcknowledgementTimeout();
+
+    /**
+     * Returns the interval in which the depth and the age of the change queue are reported.
+     *
+     * @return the interval.
+     */
+    Duration getMetricsInterval();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code ChangeQueueConfig}.
+     */
+    enum ChangeQueueConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether queued changes are written to an append log on local disk.
+         */
+        PERSISTENT("persistent", false),
+
+        /**
+         * The directory of the append log.
+         */
+        DIRECTORY("directory", "/var/tmp/ditto/things-search/change-queue"),
+
+        /**
+         * The number of records in the append log above which the log is compacted.
+         */
+        COMPACTION_THRESHOLD("compaction-threshold", 100_000),
+
+        /**
+         * How long to wait for the acknowledgement of a dumped change.
+         */
+        ACKNOWLEDGEMENT_TIMEOUT("acknowledgement-timeout", Duration.ofMinutes(5L)),
+
+        /**
+         * The interval in which the depth and the age of the change queue are reported.
+         */
+        METRICS_INTERVAL("metrics-interval", Duration.ofSeconds(10L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private ChangeQueueConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
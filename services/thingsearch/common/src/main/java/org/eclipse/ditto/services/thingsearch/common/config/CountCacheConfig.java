@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the cache of search counts which serves count requests that accept
+ * approximate results.
+ */
+@Immutable
+public interface CountCacheConfig {
+
+    /**
+     * Indicates whether count requests which accept approximate results may be served from the cache.
+     *
+     * @return {@code true} if the count cache is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of cached counts.
+     *
+     * @return the maximum size of the cache.
+     */
+    long getMaximumSize();
+
+    /**
+     * Returns the maximum age of a cached count. Cached counts are counted again after this duration at the latest.
+     *
+     * @return the maximum staleness of a cached count.
+     */
+    Duration getMaxStaleness();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * CountCacheConfig.
+     */
+    enum CountCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether count requests which accept approximate results may be served from the cache.
+         */
+        ENABLED("enabled", true),
+
+        /**
+         * The maximum number of cached counts.
+         */
+        MAXIMUM_SIZE("maximum-size", 1000L),
+
+        /**
+         * The maximum age of a cached count.
+         */
+        MAX_STALENESS("max-staleness", Duration.ofSeconds(30L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountCacheConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link AdaptiveWriteConfig}.
+ */
+@Immutable
+public final class DefaultAdaptiveWriteConfig implements AdaptiveWriteConfig {
+
+    private static final String CONFIG_PATH = "adaptive-write";
+
+    private final boolean enabled;
+    private final Duration targetLatency;
+    private final Duration minWriteInterval;
+    private final Duration maxWriteInterval;
+    private final Duration writeIntervalDecrement;
+    private final int minBulkSize;
+    private final int bulkSizeIncrement;
+    private final double backoffFactor;
+
+    private DefaultAdaptiveWriteConfig(final ConfigWithFallback adaptiveWriteScopedConfig) {
+        enabled = adaptiveWriteScopedConfig.getBoolean(AdaptiveWriteConfigValue.ENABLED.getConfigPath());
+        targetLatency = adaptiveWriteScopedConfig.getDuration(AdaptiveWriteConfigValue.TARGET_LATENCY.getConfigPath());
+        minWriteInterval =
+                adaptiveWriteScopedConfig.getDuration(AdaptiveWriteConfigValue.MIN_WRITE_INTERVAL.getConfigPath());
+        maxWriteInterval =
+                adaptiveWriteScopedConfig.getDuration(AdaptiveWriteConfigValue.MAX_WRITE_INTERVAL.getConfigPath());
+        writeIntervalDecrement = adaptiveWriteScopedConfig.getDuration(
+                AdaptiveWriteConfigValue.WRITE_INTERVAL_DECREMENT.getConfigPath());
+        minBulkSize = adaptiveWriteScopedConfig.getInt(AdaptiveWriteConfigValue.MIN_BULK_SIZE.getConfigPath());
+        bulkSizeIncrement =
+                adaptiveWriteScopedConfig.getInt(AdaptiveWriteConfigValue.BULK_SIZE_INCREMENT.getConfigPath());
+        backoffFactor = adaptiveWriteScopedConfig.getDouble(AdaptiveWriteConfigValue.BACKOFF_FACTOR.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultAdaptiveWriteConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the adaptive write config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultAdaptiveWriteConfig of(final Config config) {
+        return new DefaultAdaptiveWriteConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, AdaptiveWriteConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    @Override
+    public Duration getMinWriteInterval() {
+        return minWriteInterval;
+    }
+
+    @Override
+    public Duration getMaxWriteInterval() {
+        return maxWriteInterval;
+    }
+
+    @Override
+    public Duration getWriteIntervalDecrement() {
+        return writeIntervalDecrement;
+    }
+
+    @Override
+    public int getMinBulkSize() {
+        return minBulkSize;
+    }
+
+    @Override
+    public int getBulkSizeIncrement() {
+        return bulkSizeIncrement;
+    }
+
+    @Override
+    public double getBackoffFactor() {
+        return backoffFactor;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultAdaptiveWriteConfig that = (DefaultAdaptiveWriteConfig) o;
+        return enabled == that.enabled &&
+                minBulkSize == that.minBulkSize &&
+                bulkSizeIncrement == that.bulkSizeIncrement &&
+                Double.compare(that.backoffFactor, backoffFactor) == 0 &&
+                targetLatency.equals(that.targetLatency) &&
+                minWriteInterval.equals(that.minWriteInterval) &&
+                maxWriteInterval.equals(that.maxWriteInterval) &&
+                writeIntervalDecrement.equals(that.writeIntervalDecrement);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, targetLatency, minWriteInterval, maxWriteInterval, writeIntervalDecrement,
+                minBulkSize, bulkSizeIncrement, backoffFactor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", targetLatency=" + targetLatency +
+                ", minWriteInterval=" + minWriteInterval +
+                ", maxWriteInterval=" + maxWriteInterval +
+                ", writeIntervalDecrement=" + writeIntervalDecrement +
+                ", minBulkSize=" + minBulkSize +
+                ", bulkSizeIncrement=" + bulkSizeIncrement +
+                ", backoffFactor=" + backoffFactor +
+                "]";
+    }
+
+}
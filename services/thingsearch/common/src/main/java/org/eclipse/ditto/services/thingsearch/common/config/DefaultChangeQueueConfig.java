@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ChangeQueueConfig}.
+ */
+@Immutable
+public final class DefaultChangeQueueConfig implements ChangeQueueConfig {
+
+    private static final String CONFIG_PATH = "change-queue";
+
+    private final boolean persistent;
+    private final String directory;
+    private final int compactionThreshold;
+    private final Duration acknowledgementTimeout;
+    private final Duration metricsInterval;
+
+    private DefaultChangeQueueConfig(final ConfigWithFallback changeQueueScopedConfig) {
+        persistent = changeQueueScopedConfig.getBoolean(ChangeQueueConfigValue.PERSISTENT.getConfigPath());
+        directory = changeQueueScopedConfig.getString(ChangeQueueConfigValue.DIRECTORY.getConfigPath());
+        compactionThreshold =
+                changeQueueScopedConfig.getInt(ChangeQueueConfigValue.COMPACTION_THRESHOLD.getConfigPath());
+        acknowledgementTimeout =
+                changeQueueScopedConfig.getDuration(ChangeQueueConfigValue.ACKNOWLEDGEMENT_TIMEOUT.getConfigPath());
+        metricsInterval = changeQueueScopedConfig.getDuration(ChangeQueueConfigValue.METRICS_INTERVAL.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultChangeQueueConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the change queue config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultChangeQueueConfig of(final Config config) {
+        return new DefaultChangeQueueConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ChangeQueueConfigValue.values()));
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    @Override
+    public String getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    @Override
+    public Duration getAcknowledgementTimeout() {
+        return acknowledgementTimeout;
+    }
+
+    @Override
+    public Duration getMetricsInterval() {
+        return metricsInterval;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultChangeQueueConfig that = (DefaultChangeQueueConfig) o;
+        return persistent == that.persistent &&
+                compactionThreshold == that.compactionThreshold &&
+                directory.equals(that.directory) &&
+                acknowledgementTimeout.equals(that.acknowledgementTimeout) &&
+                metricsInterval.equals(that.metricsInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persistent, directory, compactionThreshold, acknowledgementTimeout, metricsInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "persistent=" + persistent +
+                ", directory=" + directory +
+                ", compactionThreshold=" + compactionThreshold +
+                ", acknowledgementTimeout=" + acknowledgementTimeout +
+                ", metricsInterval=" + metricsInterval +
+                "]";
+    }
+
+}
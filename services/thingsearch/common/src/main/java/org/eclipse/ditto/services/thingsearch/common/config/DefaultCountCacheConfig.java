@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link CountCacheConfig}.
+ */
+@Immutable
+public final class DefaultCountCacheConfig implements CountCacheConfig {
+
+    /**
+     * Path where the count cache config values are expected.
+     */
+    static final String CONFIG_PATH = "count-cache";
+
+    private final boolean enabled;
+    private final long maximumSize;
+    private final Duration maxStaleness;
+
+    private DefaultCountCacheConfig(final ConfigWithFallback countCacheScopedConfig) {
+        enabled = countCacheScopedConfig.getBoolean(CountCacheConfigValue.ENABLED.getConfigPath());
+        maximumSize = countCacheScopedConfig.getLong(CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath());
+        maxStaleness = countCacheScopedConfig.getDuration(CountCacheConfigValue.MAX_STALENESS.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultCountCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count cache config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountCacheConfig of(final Config config) {
+        return new DefaultCountCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CountCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountCacheConfig that = (DefaultCountCacheConfig) o;
+        return enabled == that.enabled &&
+                maximumSize == that.maximumSize &&
+                Objects.equals(maxStaleness, that.maxStaleness);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maximumSize, maxStaleness);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", maxStaleness=" + maxStaleness +
+                "]";
+    }
+
+}
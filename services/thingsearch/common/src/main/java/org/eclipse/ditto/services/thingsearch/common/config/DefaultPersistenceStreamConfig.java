@@ -31,12 +31,21 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private static final String CONFIG_PATH = "persistence";
 
     private final int maxBulkSize;
+    private final int incrementalUpdateCacheSize;
+    private final double incrementalUpdateMaxDiffRatio;
+    private final int skipUnchangedCacheSize;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
             final DefaultStreamStageConfig defaultStreamStageConfig) {
 
         maxBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        incrementalUpdateCacheSize = persistenceStreamScopedConfig.getInt(
+                PersistenceStreamConfigValue.INCREMENTAL_UPDATE_CACHE_SIZE.getConfigPath());
+        incrementalUpdateMaxDiffRatio = persistenceStreamScopedConfig.getDouble(
+                PersistenceStreamConfigValue.INCREMENTAL_UPDATE_MAX_DIFF_RATIO.getConfigPath());
+        skipUnchangedCacheSize = persistenceStreamScopedConfig.getInt(
+                PersistenceStreamConfigValue.SKIP_UNCHANGED_CACHE_SIZE.getConfigPath());
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -58,6 +67,21 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return maxBulkSize;
     }
 
+    @Override
+    public int getIncrementalUpdateCacheSize() {
+        return incrementalUpdateCacheSize;
+    }
+
+    @Override
+    public double getIncrementalUpdateMaxDiffRatio() {
+        return incrementalUpdateMaxDiffRatio;
+    }
+
+    @Override
+    public int getSkipUnchangedCacheSize() {
+        return skipUnchangedCacheSize;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -78,18 +102,25 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         }
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
+                incrementalUpdateCacheSize == that.incrementalUpdateCacheSize &&
+                Double.compare(that.incrementalUpdateMaxDiffRatio, incrementalUpdateMaxDiffRatio) == 0 &&
+                skipUnchangedCacheSize == that.skipUnchangedCacheSize &&
                 defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, incrementalUpdateCacheSize, incrementalUpdateMaxDiffRatio,
+                skipUnchangedCacheSize, defaultStreamStageConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxBulkSize=" + maxBulkSize +
+                ", incrementalUpdateCacheSize=" + incrementalUpdateCacheSize +
+                ", incrementalUpdateMaxDiffRatio=" + incrementalUpdateMaxDiffRatio +
+                ", skipUnchangedCacheSize=" + skipUnchangedCacheSize +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
@@ -33,17 +33,26 @@ public final class DefaultStreamConfig implements StreamConfig {
     private final int maxArraySize;
     private final Duration writeInterval;
     private final Duration askTimeout;
+    private final int retrievalBatchSize;
+    private final Duration retrievalBatchTimeout;
     private final DefaultStreamStageConfig retrievalConfig;
     private final DefaultPersistenceStreamConfig persistenceStreamConfig;
     private final DefaultStreamCacheConfig streamCacheConfig;
+    private final DefaultChangeQueueConfig changeQueueConfig;
+    private final DefaultAdaptiveWriteConfig adaptiveWriteConfig;
 
     private DefaultStreamConfig(final ConfigWithFallback streamScopedConfig) {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getDuration(StreamConfigValue.WRITE_INTERVAL.getConfigPath());
         askTimeout = streamScopedConfig.getDuration(StreamConfigValue.ASK_TIMEOUT.getConfigPath());
+        retrievalBatchSize = streamScopedConfig.getInt(StreamConfigValue.RETRIEVAL_BATCH_SIZE.getConfigPath());
+        retrievalBatchTimeout =
+                streamScopedConfig.getDuration(StreamConfigValue.RETRIEVAL_BATCH_TIMEOUT.getConfigPath());
         retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
         streamCacheConfig = DefaultStreamCacheConfig.of(streamScopedConfig);
+        changeQueueConfig = DefaultChangeQueueConfig.of(streamScopedConfig);
+        adaptiveWriteConfig = DefaultAdaptiveWriteConfig.of(streamScopedConfig);
     }
 
     /**
@@ -72,6 +81,16 @@ public final class DefaultStreamConfig implements StreamConfig {
         return askTimeout;
     }
 
+    @Override
+    public int getRetrievalBatchSize() {
+        return retrievalBatchSize;
+    }
+
+    @Override
+    public Duration getRetrievalBatchTimeout() {
+        return retrievalBatchTimeout;
+    }
+
     @Override
     public StreamStageConfig getRetrievalConfig() {
         return retrievalConfig;
@@ -87,6 +106,16 @@ public final class DefaultStreamConfig implements StreamConfig {
         return streamCacheConfig;
     }
 
+    @Override
+    public ChangeQueueConfig getChangeQueueConfig() {
+        return changeQueueConfig;
+    }
+
+    @Override
+    public AdaptiveWriteConfig getAdaptiveWriteConfig() {
+        return adaptiveWriteConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -99,15 +128,19 @@ public final class DefaultStreamConfig implements StreamConfig {
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
                 askTimeout.equals(that.askTimeout) &&
+                retrievalBatchSize == that.retrievalBatchSize &&
+                retrievalBatchTimeout.equals(that.retrievalBatchTimeout) &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
-                streamCacheConfig.equals(that.streamCacheConfig);
+                streamCacheConfig.equals(that.streamCacheConfig) &&
+                changeQueueConfig.equals(that.changeQueueConfig) &&
+                adaptiveWriteConfig.equals(that.adaptiveWriteConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalConfig, persistenceStreamConfig,
-                streamCacheConfig);
+        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalBatchSize, retrievalBatchTimeout,
+                retrievalConfig, persistenceStreamConfig, streamCacheConfig, changeQueueConfig, adaptiveWriteConfig);
     }
 
     @Override
@@ -116,9 +149,13 @@ public final class DefaultStreamConfig implements StreamConfig {
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
                 ", askTimeout=" + askTimeout +
+                ", retrievalBatchSize=" + retrievalBatchSize +
+                ", retrievalBatchTimeout=" + retrievalBatchTimeout +
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
                 ", streamCacheConfig=" + streamCacheConfig +
+                ", changeQueueConfig=" + changeQueueConfig +
+                ", adaptiveWriteConfig=" + adaptiveWriteConfig +
                 "]";
     }
 
@@ -29,6 +29,30 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns how many search index documents to remember for computing incremental updates.
+     * A value of 0 disables incremental updates so that whole documents are always replaced.
+     *
+     * @return the maximum number of remembered search index documents.
+     */
+    int getIncrementalUpdateCacheSize();
+
+    /**
+     * Returns the maximum ratio of values written by an incremental update to the values of the whole search index
+     * document. Updates exceeding it are written as replacement of the whole document.
+     *
+     * @return the maximum ratio of an incremental update.
+     */
+    double getIncrementalUpdateMaxDiffRatio();
+
+    /**
+     * Returns how many hashes of written search index documents to remember for suppressing writes of unchanged
+     * documents. A value of 0 disables the suppression.
+     *
+     * @return the maximum number of remembered document hashes.
+     */
+    int getSkipUnchangedCacheSize();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +63,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * How many search index documents to remember for computing incremental updates.
+         */
+        INCREMENTAL_UPDATE_CACHE_SIZE("incremental-update-cache-size", 0),
+
+        /**
+         * Maximum ratio of values written by an incremental update to the values of the whole search index document.
+         */
+        INCREMENTAL_UPDATE_MAX_DIFF_RATIO("incremental-update-max-diff-ratio", 0.5),
+
+        /**
+         * How many hashes of written search index documents to remember for suppressing unchanged writes.
+         */
+        SKIP_UNCHANGED_CACHE_SIZE("skip-unchanged-cache-size", 0);
 
         private final String configPath;
         private final Object defaultValue;
@@ -61,6 +61,13 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings of the cache of search counts.
+     *
+     * @return the config.
+     */
+    CountCacheConfig getCountCacheConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -45,6 +45,24 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the maximum number of Things to retrieve with one {@code SudoRetrieveThings} command from a Things
+     * shard. A value of 1 or less disables the batched retrieval and each Thing is retrieved with an own
+     * {@code SudoRetrieveThing} command.
+     *
+     * @return the maximum batch size.
+     */
+    int getRetrievalBatchSize();
+
+    /**
+     * Returns the timeout for retrieving one batch of Things from a Things shard. The Things service responds with
+     * the Things retrieved within this timeout; the response itself is awaited for at most this timeout plus the
+     * {@link #getAskTimeout() ask timeout}.
+     *
+     * @return the timeout.
+     */
+    Duration getRetrievalBatchTimeout();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -66,6 +84,20 @@ public interface StreamConfig {
      */
     StreamCacheConfig getCacheConfig();
 
+    /**
+     * Returns the configuration settings of the change queue.
+     *
+     * @return the config.
+     */
+    ChangeQueueConfig getChangeQueueConfig();
+
+    /**
+     * Returns the configuration settings of the adaptive write interval and bulk size.
+     *
+     * @return the config.
+     */
+    AdaptiveWriteConfig getAdaptiveWriteConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for {@code StreamConfig}.
      */
@@ -84,7 +116,17 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum number of Things to retrieve with one command from a Things shard.
+         */
+        RETRIEVAL_BATCH_SIZE("retrieval-batch-size", 1),
+
+        /**
+         * The timeout for retrieving one batch of Things from a Things shard.
+         */
+        RETRIEVAL_BATCH_TIMEOUT("retrieval-batch-timeout", Duration.ofSeconds(30L));
 
         private final String configPath;
         private final Object defaultValue;
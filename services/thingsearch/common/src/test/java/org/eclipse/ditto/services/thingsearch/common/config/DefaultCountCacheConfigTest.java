@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.CountCacheConfig.CountCacheConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultCountCacheConfig}.
+ */
+public final class DefaultCountCacheConfigTest {
+
+    private static Config countCacheTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        countCacheTestConfig = ConfigFactory.load("count-cache-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountCacheConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultCountCacheConfig underTest = DefaultCountCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CountCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(CountCacheConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaximumSize())
+                .as(CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CountCacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxStaleness())
+                .as(CountCacheConfigValue.MAX_STALENESS.getConfigPath())
+                .isEqualTo(CountCacheConfigValue.MAX_STALENESS.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultCountCacheConfig underTest = DefaultCountCacheConfig.of(countCacheTestConfig);
+        final Config countCacheScopedRawConfig = countCacheTestConfig.getConfig(DefaultCountCacheConfig.CONFIG_PATH);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CountCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(countCacheScopedRawConfig.getBoolean(CountCacheConfigValue.ENABLED.getConfigPath()));
+        softly.assertThat(underTest.getMaximumSize())
+                .as(CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(countCacheScopedRawConfig.getLong(CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath()));
+        softly.assertThat(underTest.getMaxStaleness())
+                .as(CountCacheConfigValue.MAX_STALENESS.getConfigPath())
+                .isEqualTo(
+                        countCacheScopedRawConfig.getDuration(CountCacheConfigValue.MAX_STALENESS.getConfigPath()));
+    }
+
+}
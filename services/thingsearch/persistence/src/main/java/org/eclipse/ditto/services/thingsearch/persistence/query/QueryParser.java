@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.query;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -23,31 +24,43 @@ import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.rql.ParserException;
+import org.eclipse.ditto.model.thingsearch.Option;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.query.filter.ParameterOptionVisitor;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.ParsedCriteriaCache;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 /**
  * Create Query objects from search commands.
  */
 public final class QueryParser {
 
+    private static final long MAX_CACHED_FILTER_LENGTH = 1024L * 1024L;
+    private static final long MAX_CACHED_OPTIONS_LENGTH = 64L * 1024L;
+
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
     private final RqlOptionParser rqlOptionParser;
+    private final Cache<String, List<Option>> optionsCache;
 
     private QueryParser(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory,
             final QueryBuilderFactory queryBuilderFactory) {
 
-        this.queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+        this.queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory,
+                ParsedCriteriaCache.of(MAX_CACHED_FILTER_LENGTH, "search_rql_filters"));
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
         rqlOptionParser = new RqlOptionParser();
+        optionsCache = CacheFactory.createWeightedCache(MAX_CACHED_OPTIONS_LENGTH,
+                (optionsString, options) -> optionsString.length(), "search_rql_options");
     }
 
     /**
@@ -119,7 +132,7 @@ public final class QueryParser {
     private void setOptions(final String options, final QueryBuilder queryBuilder, final DittoHeaders headers) {
         try {
             final ParameterOptionVisitor visitor = new ParameterOptionVisitor(fieldExpressionFactory, queryBuilder);
-            visitor.visitAll(rqlOptionParser.parse(options));
+            visitor.visitAll(optionsCache.get(options, rqlOptionParser::parse));
         } catch (final ParserException | IllegalArgumentException e) {
             throw InvalidOptionException.newBuilder()
                     .message(e.getMessage())
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Computes a MongoDB update document with {@code $set} and {@code $unset} operators which transforms one BSON
+ * document into another one.
+ * <p>
+ * Documents are compared field by field. Arrays are compared element by element as long as they do not shrink;
+ * otherwise they are set as a whole. Documents with keys that are not usable in MongoDB field paths are set as a whole.
+ * </p>
+ */
+@NotThreadSafe
+final class BsonDiff {
+
+    private static final String SET = AbstractWriteModel.SET;
+    private static final String UNSET = "$unset";
+    private static final String DOT = ".";
+
+    private final BsonDocument set;
+    private final BsonDocument unset;
+    private int diffSize;
+
+    private BsonDiff() {
+        set = new BsonDocument();
+        unset = new BsonDocument();
+        diffSize = 0;
+    }
+
+    /**
+     * Compute the update transforming a previous document into the next one.
+     *
+     * @param previous the previous document.
+     * @param next the next document.
+     * @param maxDiffRatio maximum ratio of the number of values written by the update to the number of values in the
+     * next document.
+     * @return the update document, or an empty Optional if the update would write more values than permitted by
+     * {@code maxDiffRatio} or if there is no difference at all.
+     */
+    static Optional<BsonDocument> minimalUpdate(final BsonDocument previous, final BsonDocument next,
+            final double maxDiffRatio) {
+
+        final BsonDiff diff = new BsonDiff();
+        diff.diffDocuments("", previous, next);
+        if (diff.diffSize == 0 || diff.diffSize > maxDiffRatio * countValues(next)) {
+            return Optional.empty();
+        }
+        final BsonDocument update = new BsonDocument();
+        if (!diff.set.isEmpty()) {
+            update.append(SET, diff.set);
+        }
+        if (!diff.unset.isEmpty()) {
+            update.append(UNSET, diff.unset);
+        }
+        return Optional.of(update);
+    }
+
+    private void diffDocuments(final String path, final BsonDocument previous, final BsonDocument next) {
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String fieldPath = concat(path, entry.getKey());
+            final BsonValue previousValue = previous.get(entry.getKey());
+            if (previousValue == null) {
+                setValue(fieldPath, entry.getValue());
+            } else {
+                diffValues(fieldPath, previousValue, entry.getValue());
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                unset.append(concat(path, key), new BsonString(""));
+                diffSize++;
+            }
+        }
+    }
+
+    private void diffArrays(final String path, final BsonArray previous, final BsonArray next) {
+        for (int i = 0; i < next.size(); ++i) {
+            final String elementPath = concat(path, String.valueOf(i));
+            if (i < previous.size()) {
+                diffValues(elementPath, previous.get(i), next.get(i));
+            } else {
+                setValue(elementPath, next.get(i));
+            }
+        }
+    }
+
+    private void diffValues(final String path, final BsonValue previous, final BsonValue next) {
+        if (previous.equals(next)) {
+            return;
+        }
+        if (previous.isDocument() && next.isDocument() && hasPathCompatibleKeys(previous.asDocument()) &&
+                hasPathCompatibleKeys(next.asDocument())) {
+            diffDocuments(path, previous.asDocument(), next.asDocument());
+        } else if (previous.isArray() && next.isArray() && previous.asArray().size() <= next.asArray().size()) {
+            diffArrays(path, previous.asArray(), next.asArray());
+        } else {
+            setValue(path, next);
+        }
+    }
+
+    private void setValue(final String path, final BsonValue value) {
+        set.append(path, value);
+        diffSize += countValues(value);
+    }
+
+    private static boolean hasPathCompatibleKeys(final BsonDocument document) {
+        return document.keySet()
+                .stream()
+                .noneMatch(key -> key.isEmpty() || key.contains(DOT) || key.startsWith("$"));
+    }
+
+    private static String concat(final String path, final String key) {
+        return path.isEmpty() ? key : path + DOT + key;
+    }
+
+    private static int countValues(final BsonValue value) {
+        if (value.isDocument()) {
+            return Math.max(1, value.asDocument().values().stream().mapToInt(BsonDiff::countValues).sum());
+        } else if (value.isArray()) {
+            return Math.max(1, value.asArray().stream().mapToInt(BsonDiff::countValues).sum());
+        } else {
+            return 1;
+        }
+    }
+
+}
@@ -12,14 +12,25 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 
@@ -52,6 +63,35 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
     }
 
+    /**
+     * Convert this write model into an incremental update of the search index document last written for the same
+     * Thing. The update only matches if the search index document still has the revision and policy revision of the
+     * last written document and is not marked as deleted.
+     *
+     * @param lastWrittenDocument the search index document last written for the Thing of this write model.
+     * @param maxDiffRatio maximum ratio of the number of values written by the update to the number of values in the
+     * Thing document.
+     * @return the incremental update, or an empty Optional if a replacement of the whole document should be written.
+     */
+    public Optional<WriteModel<Document>> toIncrementalMongo(final Document lastWrittenDocument,
+            final double maxDiffRatio) {
+
+        final BsonDocument previous = BsonUtil.toBsonDocument(lastWrittenDocument);
+        final BsonDocument next = BsonUtil.toBsonDocument(thingDocument);
+        final BsonValue previousRevision = previous.get(FIELD_REVISION);
+        final BsonValue previousPolicyRevision = previous.get(FIELD_POLICY_REVISION);
+        if (previousRevision == null || previousPolicyRevision == null) {
+            return Optional.empty();
+        }
+        final Bson filter = Filters.and(getFilter(),
+                Filters.eq(FIELD_REVISION, previousRevision),
+                Filters.eq(FIELD_POLICY_REVISION, previousPolicyRevision),
+                Filters.exists(FIELD_DELETE_AT, false));
+
+        return BsonDiff.minimalUpdate(previous, next, maxDiffRatio)
+                .map(update -> new UpdateOneModel<>(filter, update));
+    }
+
     /**
      * @return the Thing document to be written in the persistence.
      */
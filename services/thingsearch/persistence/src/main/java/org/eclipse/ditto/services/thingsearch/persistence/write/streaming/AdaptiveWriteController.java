@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.thingsearch.common.config.AdaptiveWriteConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Controller of the write interval and the bulk size of the search updater stream.
+ * <p>
+ * While bulk writes complete within the target latency, the write interval is decreased and, if more changes are
+ * queued than fit into one bulk, the bulk size is increased additively. A bulk write exceeding the target latency or
+ * failing divides the bulk size and multiplies the write interval by the backoff factor. Both values stay within the
+ * configured bounds. A controller created by {@link #fixed(int, Duration)} never changes its values.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveWriteController {
+
+    private static final String GAUGE_BULK_SIZE = "things_search_updater_adaptive_bulk_size";
+    private static final String GAUGE_WRITE_INTERVAL = "things_search_updater_adaptive_write_interval_millis";
+
+    @Nullable private final AdaptiveWriteConfig config;
+    private final int minBulkSize;
+    private final int maxBulkSize;
+    private final Duration minWriteInterval;
+    private final Duration maxWriteInterval;
+    @Nullable private final Gauge bulkSizeGauge;
+    @Nullable private final Gauge writeIntervalGauge;
+
+    private int bulkSize;
+    private Duration writeInterval;
+    private int queuedChanges;
+
+    private AdaptiveWriteController(@Nullable final AdaptiveWriteConfig config,
+            final int minBulkSize,
+            final int maxBulkSize,
+            final Duration minWriteInterval,
+            final Duration maxWriteInterval,
+            final int bulkSize,
+            final Duration writeInterval) {
+
+        this.config = config;
+        this.minBulkSize = minBulkSize;
+        this.maxBulkSize = maxBulkSize;
+        this.minWriteInterval = minWriteInterval;
+        this.maxWriteInterval = maxWriteInterval;
+        this.bulkSize = bulkSize;
+        this.writeInterval = writeInterval;
+        queuedChanges = 0;
+        if (config != null) {
+            bulkSizeGauge = DittoMetrics.gauge(GAUGE_BULK_SIZE);
+            writeIntervalGauge = DittoMetrics.gauge(GAUGE_WRITE_INTERVAL);
+            reportMetrics();
+        } else {
+            bulkSizeGauge = null;
+            writeIntervalGauge = null;
+        }
+    }
+
+    /**
+     * Create a controller which always returns the given bulk size and write interval.
+     *
+     * @param bulkSize the bulk size.
+     * @param writeInterval the write interval.
+     * @return the controller.
+     */
+    static AdaptiveWriteController fixed(final int bulkSize, final Duration writeInterval) {
+        return new AdaptiveWriteController(null, bulkSize, bulkSize, writeInterval, writeInterval, bulkSize,
+                writeInterval);
+    }
+
+    /**
+     * Create a controller according to the adaptive write config. The controller starts with the maximum bulk size
+     * and the configured write interval; it is fixed if adaptive writes are disabled.
+     *
+     * @param config the adaptive write config.
+     * @param maxBulkSize the maximum bulk size.
+     * @param writeInterval the configured write interval.
+     * @return the controller.
+     */
+    static AdaptiveWriteController of(final AdaptiveWriteConfig config, final int maxBulkSize,
+            final Duration writeInterval) {
+
+        if (!config.isEnabled()) {
+            return fixed(maxBulkSize, writeInterval);
+        }
+        final int minBulkSize = Math.max(1, Math.min(config.getMinBulkSize(), maxBulkSize));
+        final Duration minWriteInterval = config.getMinWriteInterval();
+        final Duration maxWriteInterval = max(minWriteInterval, config.getMaxWriteInterval());
+        return new AdaptiveWriteController(config, minBulkSize, Math.max(minBulkSize, maxBulkSize),
+                minWriteInterval, maxWriteInterval, Math.max(minBulkSize, maxBulkSize),
+                clamp(writeInterval, minWriteInterval, maxWriteInterval));
+    }
+
+    /**
+     * @return whether this controller changes the bulk size and the write interval.
+     */
+    boolean isAdaptive() {
+        return config != null;
+    }
+
+    /**
+     * @return the current bulk size.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return the current write interval.
+     */
+    synchronized Duration getWriteInterval() {
+        return writeInterval;
+    }
+
+    /**
+     * Report the number of changes taken from the change queue. An empty queue shortens the write interval so that
+     * changes are written with less delay when the search index is idle.
+     *
+     * @param numberOfChanges the number of changes.
+     */
+    synchronized void onDump(final int numberOfChanges) {
+        if (config != null) {
+            queuedChanges = numberOfChanges;
+            if (numberOfChanges == 0) {
+                decreaseWriteInterval();
+                reportMetrics();
+            }
+        }
+    }
+
+    /**
+     * Report the latency of a bulk write.
+     *
+     * @param latency how long the bulk write took.
+     */
+    synchronized void onBulkWrite(final Duration latency) {
+        if (config != null) {
+            if (latency.compareTo(config.getTargetLatency()) > 0) {
+                backOff();
+            } else {
+                if (queuedChanges > bulkSize) {
+                    bulkSize = Math.min(maxBulkSize, bulkSize + config.getBulkSizeIncrement());
+                }
+                decreaseWriteInterval();
+            }
+            reportMetrics();
+        }
+    }
+
+    /**
+     * Report a bulk write which failed entirely or for some of its write models.
+     */
+    synchronized void onBulkWriteFailure() {
+        if (config != null) {
+            backOff();
+            reportMetrics();
+        }
+    }
+
+    private void backOff() {
+        if (config != null) {
+            final double backoffFactor = Math.max(1.0, config.getBackoffFactor());
+            bulkSize = Math.max(minBulkSize, (int) (bulkSize / backoffFactor));
+            final Duration multiplied = Duration.ofNanos((long) (writeInterval.toNanos() * backoffFactor));
+            writeInterval = clamp(max(multiplied, writeInterval.plus(config.getWriteIntervalDecrement())),
+                    minWriteInterval, maxWriteInterval);
+        }
+    }
+
+    private void decreaseWriteInterval() {
+        if (config != null) {
+            writeInterval =
+                    clamp(writeInterval.minus(config.getWriteIntervalDecrement()), minWriteInterval, maxWriteInterval);
+        }
+    }
+
+    private void reportMetrics() {
+        if (bulkSizeGauge != null && writeIntervalGauge != null) {
+            bulkSizeGauge.set((long) bulkSize);
+            writeIntervalGauge.set(writeInterval.toMillis());
+        }
+    }
+
+    private static Duration clamp(final Duration duration, final Duration min, final Duration max) {
+        return max(min, duration.compareTo(max) > 0 ? max : duration);
+    }
+
+    private static Duration max(final Duration d1, final Duration d2) {
+        return d1.compareTo(d2) >= 0 ? d1 : d2;
+    }
+
+}
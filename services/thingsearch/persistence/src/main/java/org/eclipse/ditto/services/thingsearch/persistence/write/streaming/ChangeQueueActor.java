@@ -12,17 +12,31 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeQueueConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.NotUsed;
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
 import akka.japi.function.Function;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.PatternsCS;
@@ -32,8 +46,12 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * <p>
+ * If configured to be persistent, each change is also appended to a log on local disk until the search updater stream
+ * acknowledges that it was written. Changes not acknowledged before a restart are enqueued again on start.
+ * </p>
  */
-public final class ChangeQueueActor extends AbstractActor {
+public final class ChangeQueueActor extends AbstractActorWithTimers {
 
     /**
      * Name of this actor.
@@ -42,6 +60,12 @@ public final class ChangeQueueActor extends AbstractActor {
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
+    private static final String GAUGE_QUEUE_DEPTH = "things_search_change_queue_depth";
+    private static final String GAUGE_QUEUE_AGE = "things_search_change_queue_age_millis";
+    private static final String GAUGE_UNACKNOWLEDGED = "things_search_change_queue_unacknowledged";
+
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
     /**
      * Caching changes of 1 Thing per key.
      * Change type values according to caching strategy;
@@ -49,22 +73,89 @@ public final class ChangeQueueActor extends AbstractActor {
      */
     private Map<ThingId, Metadata> cache = new HashMap<>();
 
+    /**
+     * Enqueue time in milliseconds of the oldest change in the cache.
+     */
+    private long oldestEnqueueTime;
+
+    /**
+     * Changes enqueued but not yet acknowledged as written, if the change queue is persistent.
+     */
+    private final Map<ThingId, Metadata> unacknowledged = new LinkedHashMap<>();
+
+    /**
+     * Dump time in milliseconds of unacknowledged changes which are not in the cache any more.
+     */
+    private final Map<ThingId, Long> dumpTimes = new HashMap<>();
+
+    @Nullable private final ChangeQueueConfig changeQueueConfig;
+    @Nullable private ChangeQueueLog changeQueueLog;
+
+    private final Gauge queueDepthGauge;
+    private final Gauge queueAgeGauge;
+    private final Gauge unacknowledgedGauge;
+
+    @SuppressWarnings("unused")
     private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+        this(null);
+    }
+
+    @SuppressWarnings("unused")
+    private ChangeQueueActor(@Nullable final ChangeQueueConfig changeQueueConfig) {
+        this.changeQueueConfig = changeQueueConfig;
+        changeQueueLog = null;
+        oldestEnqueueTime = 0L;
+        queueDepthGauge = DittoMetrics.gauge(GAUGE_QUEUE_DEPTH);
+        queueAgeGauge = DittoMetrics.gauge(GAUGE_QUEUE_AGE);
+        unacknowledgedGauge = DittoMetrics.gauge(GAUGE_UNACKNOWLEDGED);
     }
 
     /**
-     * @return Props of a ChangeQueueActor.
+     * @return Props of a ChangeQueueActor which keeps its changes in memory only.
      */
     public static Props props() {
         return Props.create(ChangeQueueActor.class);
     }
 
+    /**
+     * Create Props of a ChangeQueueActor.
+     *
+     * @param changeQueueConfig the configuration of the change queue.
+     * @return Props of a ChangeQueueActor.
+     */
+    public static Props props(final ChangeQueueConfig changeQueueConfig) {
+        return Props.create(ChangeQueueActor.class, changeQueueConfig);
+    }
+
+    @Override
+    public void preStart() {
+        if (changeQueueConfig != null) {
+            if (changeQueueConfig.isPersistent()) {
+                openChangeQueueLog(changeQueueConfig);
+            }
+            getTimers().startPeriodicTimer(Control.REPORT_METRICS, Control.REPORT_METRICS,
+                    changeQueueConfig.getMetricsInterval());
+        }
+    }
+
+    @Override
+    public void postStop() {
+        if (changeQueueLog != null) {
+            try {
+                changeQueueLog.close();
+            } catch (final IOException e) {
+                log.error(e, "Failed to close change queue log");
+            }
+        }
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Metadata.class, this::enqueue)
+                .match(Acknowledgement.class, this::acknowledge)
                 .matchEquals(Control.DUMP, this::dump)
+                .matchEquals(Control.REPORT_METRICS, this::expireAndReportMetrics)
                 .build();
     }
 
@@ -74,7 +165,43 @@ public final class ChangeQueueActor extends AbstractActor {
      * @param metadata a description of the change.
      */
     private void enqueue(final Metadata metadata) {
+        if (cache.isEmpty()) {
+            oldestEnqueueTime = System.currentTimeMillis();
+        }
         cache.put(metadata.getThingId(), metadata);
+        if (changeQueueLog != null) {
+            dumpTimes.remove(metadata.getThingId());
+            unacknowledged.put(metadata.getThingId(), metadata);
+            try {
+                changeQueueLog.appendEnqueued(metadata);
+            } catch (final IOException e) {
+                log.error(e, "Failed to append change <{}> to change queue log", metadata);
+            }
+        }
+    }
+
+    /**
+     * Remove written changes from the change queue log. The written changes are described by the metadata of the
+     * write models, which may differ from the metadata of the enqueued changes, e. g. in the policy revision. A change
+     * is therefore acknowledged if a revision of its Thing at least as recent as the enqueued one was written.
+     *
+     * @param acknowledgement the written changes.
+     */
+    private void acknowledge(final Acknowledgement acknowledgement) {
+        if (changeQueueLog != null) {
+            final List<Metadata> acknowledged = new ArrayList<>(acknowledgement.metadataList.size());
+            for (final Metadata written : acknowledgement.metadataList) {
+                final ThingId thingId = written.getThingId();
+                final Metadata enqueued = unacknowledged.get(thingId);
+                if (enqueued != null && written.getThingRevision() >= enqueued.getThingRevision()) {
+                    unacknowledged.remove(thingId);
+                    dumpTimes.remove(thingId);
+                    // the log replays acknowledgements by the enqueued metadata
+                    acknowledged.add(enqueued);
+                }
+            }
+            appendAcknowledged(changeQueueLog, acknowledged);
+        }
     }
 
     /**
@@ -94,11 +221,104 @@ public final class ChangeQueueActor extends AbstractActor {
                 .filter(map -> !map.isEmpty());
     }
 
+    /**
+     * Create a source of nonempty queue snapshots such that the queue content is cleared after each snapshot.
+     * The delay between snapshots is the current write interval of the controller, which is informed about the
+     * number of changes in each snapshot.
+     *
+     * @param changeQueueActor reference to this actor
+     * @param writeController controller of the delays between cache dumps.
+     * @return source of queue snapshots.
+     */
+    static Source<Map<ThingId, Metadata>, NotUsed> createSource(
+            final ActorRef changeQueueActor,
+            final AdaptiveWriteController writeController) {
+
+        if (!writeController.isAdaptive()) {
+            return createSource(changeQueueActor, writeController.getWriteInterval());
+        }
+        return Source.repeat(Control.DUMP)
+                .flatMapConcat(dump -> Source.single(dump).initialDelay(writeController.getWriteInterval()))
+                .flatMapConcat(ChangeQueueActor.askSelf(changeQueueActor))
+                .map(map -> {
+                    writeController.onDump(map.size());
+                    return map;
+                })
+                .filter(map -> !map.isEmpty());
+    }
+
+    /**
+     * Create a message acknowledging that changes were written into the search index.
+     *
+     * @param metadataList the written changes.
+     * @return the message to send to the change queue actor.
+     */
+    static Object acknowledgement(final Collection<Metadata> metadataList) {
+        return new Acknowledgement(new ArrayList<>(metadataList));
+    }
+
     private void dump(final Control dump) {
+        if (changeQueueLog != null) {
+            final Long now = System.currentTimeMillis();
+            cache.keySet().forEach(thingId -> dumpTimes.put(thingId, now));
+        }
         getSender().tell(cache, getSelf());
         cache = new HashMap<>();
     }
 
+    private void expireAndReportMetrics(final Control reportMetrics) {
+        if (changeQueueLog != null && changeQueueConfig != null) {
+            final long expiry = System.currentTimeMillis() - changeQueueConfig.getAcknowledgementTimeout().toMillis();
+            final List<Metadata> expired = new ArrayList<>();
+            dumpTimes.entrySet().removeIf(entry -> {
+                if (entry.getValue() < expiry) {
+                    final Metadata metadata = unacknowledged.remove(entry.getKey());
+                    if (metadata != null) {
+                        expired.add(metadata);
+                    }
+                    return true;
+                }
+                return false;
+            });
+            if (!expired.isEmpty()) {
+                log.debug("Removing <{}> changes without acknowledgement from change queue log", expired.size());
+                appendAcknowledged(changeQueueLog, expired);
+            }
+        }
+
+        queueDepthGauge.set((long) cache.size());
+        queueAgeGauge.set(cache.isEmpty() ? 0L : System.currentTimeMillis() - oldestEnqueueTime);
+        unacknowledgedGauge.set((long) unacknowledged.size());
+    }
+
+    private void openChangeQueueLog(final ChangeQueueConfig config) {
+        try {
+            changeQueueLog = ChangeQueueLog.open(Paths.get(config.getDirectory()), unacknowledged);
+            if (!unacknowledged.isEmpty()) {
+                log.info("Replaying <{}> unacknowledged changes from change queue log", unacknowledged.size());
+                oldestEnqueueTime = System.currentTimeMillis();
+                cache.putAll(unacknowledged);
+            }
+        } catch (final IOException e) {
+            log.error(e, "Failed to open change queue log in <{}>, keeping changes in memory only",
+                    config.getDirectory());
+            unacknowledged.clear();
+        }
+    }
+
+    private void appendAcknowledged(final ChangeQueueLog changeQueueLog, final List<Metadata> acknowledged) {
+        try {
+            changeQueueLog.appendAcknowledged(acknowledged);
+            if (changeQueueConfig != null && changeQueueLog.getNumberOfRecords() >
+                    Math.max(changeQueueConfig.getCompactionThreshold(), 2 * unacknowledged.size())) {
+                changeQueueLog.compact(unacknowledged.values());
+            }
+        } catch (final IOException e) {
+            log.error(e, "Failed to append acknowledgements of <{}> changes to change queue log",
+                    acknowledged.size());
+        }
+    }
+
     private static Function<Control, Source<Map<ThingId, Metadata>, NotUsed>> askSelf(final ActorRef self) {
         return message ->
                 Source.fromSourceCompletionStage(
@@ -113,7 +333,21 @@ public final class ChangeQueueActor extends AbstractActor {
                         .mapMaterializedValue(whatever -> NotUsed.getInstance());
     }
 
+    /**
+     * Message acknowledging that changes were written into the search index.
+     */
+    private static final class Acknowledgement {
+
+        private final List<Metadata> metadataList;
+
+        private Acknowledgement(final List<Metadata> metadataList) {
+            this.metadataList = Collections.unmodifiableList(metadataList);
+        }
+
+    }
+
     private enum Control {
-        DUMP
+        DUMP,
+        REPORT_METRICS
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+
+/**
+ * Append log on local disk of the changes of a {@link ChangeQueueActor}.
+ * <p>
+ * Each enqueued change and each acknowledgement of a written change is appended as one record. Replaying the log
+ * yields the changes which were enqueued but not acknowledged. Compaction rewrites the log to contain only those
+ * pending changes, so that the log does not grow without bounds.
+ * </p>
+ */
+@NotThreadSafe
+final class ChangeQueueLog implements Closeable {
+
+    private static final String LOG_FILE_NAME = "changes.log";
+    private static final String COMPACTION_FILE_NAME = "changes.log.compaction";
+
+    private static final byte ENQUEUED = 1;
+    private static final byte ACKNOWLEDGED = 2;
+
+    private final Path logFile;
+    private final Path compactionFile;
+    private DataOutputStream output;
+    private int numberOfRecords;
+
+    private ChangeQueueLog(final Path logFile, final Path compactionFile) throws IOException {
+        this.logFile = logFile;
+        this.compactionFile = compactionFile;
+        numberOfRecords = 0;
+        output = openForAppending(logFile);
+    }
+
+    /**
+     * Open the append log in a directory and replay the pending changes in it.
+     * The log is compacted right away so that a record cut off by a crash is not followed by new records.
+     *
+     * @param directory the directory of the append log. It is created if it does not exist.
+     * @param pendingChanges map to put the pending changes of the log into in the order of their records.
+     * @return the opened log.
+     * @throws IOException if the log could not be read or opened.
+     */
+    static ChangeQueueLog open(final Path directory, final Map<ThingId, Metadata> pendingChanges)
+            throws IOException {
+
+        Files.createDirectories(directory);
+        final Path logFile = directory.resolve(LOG_FILE_NAME);
+        if (Files.exists(logFile)) {
+            replay(logFile, pendingChanges);
+        }
+        final ChangeQueueLog changeQueueLog = new ChangeQueueLog(logFile, directory.resolve(COMPACTION_FILE_NAME));
+        changeQueueLog.compact(pendingChanges.values());
+        return changeQueueLog;
+    }
+
+    /**
+     * Append an enqueued change.
+     *
+     * @param metadata the change.
+     * @throws IOException if the record could not be written.
+     */
+    void appendEnqueued(final Metadata metadata) throws IOException {
+        writeRecord(output, ENQUEUED, metadata);
+        output.flush();
+        ++numberOfRecords;
+    }
+
+    /**
+     * Append acknowledgements of written changes.
+     *
+     * @param metadataList the written changes.
+     * @throws IOException if the records could not be written.
+     */
+    void appendAcknowledged(final Collection<Metadata> metadataList) throws IOException {
+        for (final Metadata metadata : metadataList) {
+            writeRecord(output, ACKNOWLEDGED, metadata);
+        }
+        output.flush();
+        numberOfRecords += metadataList.size();
+    }
+
+    /**
+     * @return the number of records in the log.
+     */
+    int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    /**
+     * Replace the log by one containing only the pending changes.
+     * The compacted log is written completely before it atomically replaces the current one.
+     *
+     * @param pendingChanges the changes enqueued but not acknowledged.
+     * @throws IOException if the compacted log could not be written.
+     */
+    void compact(final Collection<Metadata> pendingChanges) throws IOException {
+        output.close();
+        try (final FileOutputStream fileOutputStream = new FileOutputStream(compactionFile.toFile());
+                final DataOutputStream compactionOutput =
+                        new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+            for (final Metadata metadata : pendingChanges) {
+                writeRecord(compactionOutput, ENQUEUED, metadata);
+            }
+            compactionOutput.flush();
+            fileOutputStream.getFD().sync();
+        }
+        Files.move(compactionFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        numberOfRecords = pendingChanges.size();
+        output = openForAppending(logFile);
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private static DataOutputStream openForAppending(final Path logFile) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile.toFile(), true)));
+    }
+
+    private static void replay(final Path logFile, final Map<ThingId, Metadata> pendingChanges) throws IOException {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(logFile));
+                final DataInputStream input = new DataInputStream(inputStream)) {
+            while (true) {
+                final int recordType = input.read();
+                if (recordType < 0) {
+                    break;
+                }
+                final Metadata metadata = readMetadata(input);
+                if (recordType == ENQUEUED) {
+                    pendingChanges.put(metadata.getThingId(), metadata);
+                } else if (recordType == ACKNOWLEDGED) {
+                    pendingChanges.remove(metadata.getThingId(), metadata);
+                } else {
+                    throw new IOException("Unknown record type <" + recordType + "> in <" + logFile + ">");
+                }
+            }
+        } catch (final EOFException e) {
+            // the last record was not written completely before the updater stopped; it is dropped.
+        }
+    }
+
+    private static void writeRecord(final DataOutputStream output, final byte recordType, final Metadata metadata)
+            throws IOException {
+
+        output.writeByte(recordType);
+        output.writeUTF(metadata.getThingId().toString());
+        output.writeLong(metadata.getThingRevision());
+        final String policyId = metadata.getPolicyId().orElse(null);
+        output.writeBoolean(policyId != null);
+        if (policyId != null) {
+            output.writeUTF(policyId);
+        }
+        output.writeLong(metadata.getPolicyRevision());
+    }
+
+    private static Metadata readMetadata(final DataInputStream input) throws IOException {
+        final ThingId thingId = ThingId.of(input.readUTF());
+        final long thingRevision = input.readLong();
+        final String policyId = input.readBoolean() ? input.readUTF() : null;
+        final long policyRevision = input.readLong();
+        return Metadata.of(thingId, thingRevision, policyId, policyRevision);
+    }
+
+}
@@ -13,8 +13,10 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -23,7 +25,9 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -32,6 +36,8 @@ import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
@@ -43,6 +49,10 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -65,27 +75,46 @@ final class EnforcementFlow {
 
     private static final Source<Entry<Enforcer>, NotUsed> ENFORCER_NONEXISTENT = Source.single(Entry.nonexistent());
 
+    private static final String COUNT_RETRIEVAL_ROUND_TRIPS = "things_search_updater_retrieval_round_trips";
+    private static final String COUNT_RETRIEVAL_ROUND_TRIPS_SAVED = "things_search_updater_retrieval_round_trips_saved";
+    private static final String RETRIEVAL_MODE_TAG = "retrieval_mode";
+
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
+    private final ShardRegionExtractor shardRegionExtractor;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
     private final Duration thingsTimeout;
+    private final int retrievalBatchSize;
+    private final Duration retrievalBatchTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
     private final boolean deleteEvent;
+    private final Counter singleRoundTripsCounter;
+    private final Counter batchRoundTripsCounter;
+    private final Counter roundTripsSavedCounter;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
+            final int retrievalBatchSize,
+            final Duration retrievalBatchTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
             final boolean deleteEvent) {
 
         this.thingsShardRegion = thingsShardRegion;
+        this.shardRegionExtractor = shardRegionExtractor;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
+        this.retrievalBatchSize = retrievalBatchSize;
+        this.retrievalBatchTimeout = retrievalBatchTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
         this.deleteEvent = deleteEvent;
+        singleRoundTripsCounter = DittoMetrics.counter(COUNT_RETRIEVAL_ROUND_TRIPS).tag(RETRIEVAL_MODE_TAG, "single");
+        batchRoundTripsCounter = DittoMetrics.counter(COUNT_RETRIEVAL_ROUND_TRIPS).tag(RETRIEVAL_MODE_TAG, "batch");
+        roundTripsSavedCounter = DittoMetrics.counter(COUNT_RETRIEVAL_ROUND_TRIPS_SAVED);
     }
 
     /**
@@ -93,12 +122,14 @@ final class EnforcementFlow {
      *
      * @param updaterStreamConfig configuration of the updater stream.
      * @param thingsShardRegion the shard region to retrieve things from.
+     * @param shardRegionExtractor the shard region extractor of the things shard region to group things by shard.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher,
             final boolean deleteEvent) {
@@ -112,59 +143,137 @@ final class EnforcementFlow {
                 CacheFactory.createCache(policyEnforcerCacheLoader, streamCacheConfig,
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
+        return new EnforcementFlow(thingsShardRegion, shardRegionExtractor, policyEnforcerCache, askTimeout,
+                updaterStreamConfig.getRetrievalBatchSize(), updaterStreamConfig.getRetrievalBatchTimeout(),
                 streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
     }
 
     /**
      * Create a flow from Thing changes to write models by retrieving data from Things shard region and enforcer cache.
      *
-     * @param parallelism how many SudoRetrieveThing commands to send in parallel.
+     * @param parallelism how many SudoRetrieveThing or SudoRetrieveThings commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(final int parallelism) {
         return Flow.<Map<ThingId, Metadata>>create().map(changeMap -> {
             log.info("Updating search index of <{}> things", changeMap.size());
             final Set<ThingId> thingIds = changeMap.keySet();
-            return sudoRetrieveThingJsons(parallelism, thingIds).flatMapConcat(responseMap ->
+            return sudoRetrieveThingJsons(parallelism, thingIds).flatMapConcat(thingJsonMap ->
                     Source.fromIterator(changeMap.values()::iterator).flatMapMerge(parallelism, metadataRef ->
-                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
+                            computeWriteModel(metadataRef, thingJsonMap.get(metadataRef.getThingId())))
             );
         });
 
     }
 
-    private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
+    private Source<Map<ThingId, JsonObject>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Collection<ThingId> thingIds) {
 
-        return Source.fromIterator(thingIds::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
-                .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
-                    map.put(getThingId(response), response);
+        final Source<JsonObject, NotUsed> thingJsons;
+        if (retrievalBatchSize > 1) {
+            thingJsons = Source.from(groupIntoBatchesByShard(thingIds))
+                    .flatMapMerge(parallelism, this::sudoRetrieveThingBatch);
+        } else {
+            thingJsons = Source.fromIterator(thingIds::iterator)
+                    .flatMapMerge(parallelism, this::sudoRetrieveThing);
+        }
+
+        return thingJsons.<Map<ThingId, JsonObject>>fold(new HashMap<>(), (map, thingJson) -> {
+                    map.put(getThingId(thingJson), thingJson);
                     return map;
                 })
                 .map(result -> {
-                    log.info("Got SudoRetrieveThingResponse <{}> times", result.size());
+                    log.info("Retrieved <{}> things", result.size());
                     return result;
                 });
     }
 
-    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final ThingId thingId) {
+    /**
+     * Group thing IDs by the shard of the Things shard region hosting them and split each group into batches of at
+     * most {@code retrievalBatchSize} thing IDs.
+     *
+     * @param thingIds the thing IDs.
+     * @return the batches.
+     */
+    private List<List<ThingId>> groupIntoBatchesByShard(final Collection<ThingId> thingIds) {
+        final Map<String, List<ThingId>> thingIdsByShard = new HashMap<>();
+        for (final ThingId thingId : thingIds) {
+            thingIdsByShard.computeIfAbsent(shardRegionExtractor.shardIdOfEntityId(thingId), k -> new ArrayList<>())
+                    .add(thingId);
+        }
+        final List<List<ThingId>> batches = new ArrayList<>();
+        for (final List<ThingId> shardThingIds : thingIdsByShard.values()) {
+            for (int i = 0; i < shardThingIds.size(); i += retrievalBatchSize) {
+                batches.add(shardThingIds.subList(i, Math.min(i + retrievalBatchSize, shardThingIds.size())));
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Retrieve a batch of things belonging to the same shard with one SudoRetrieveThings command. The command is
+     * addressed to the first thing of the batch so that it is handled on the cluster node hosting the shard; the
+     * supervisor of that thing answers it without starting the thing's persistence actor. Things not retrieved within
+     * the retrieval batch timeout are missing from the response just like things which could not be retrieved on
+     * their own. If the batch could not be retrieved at all, each thing of the batch is retrieved on its own.
+     *
+     * @param thingIds IDs of things in the same shard.
+     * @return source of the JSON of the retrieved things.
+     */
+    private Source<JsonObject, NotUsed> sudoRetrieveThingBatch(final List<ThingId> thingIds) {
+        if (thingIds.size() == 1) {
+            return sudoRetrieveThing(thingIds.get(0));
+        }
+        final SudoRetrieveThings command =
+                SudoRetrieveThings.withOriginalSchemaVersion(thingIds, retrievalBatchTimeout, DittoHeaders.empty());
+        final ShardedMessageEnvelope envelope = ShardedMessageEnvelope.of(thingIds.get(0), command.getType(),
+                command.toJson(command.getImplementedSchemaVersion(), FieldType.regularOrSpecial()),
+                command.getDittoHeaders());
+        batchRoundTripsCounter.increment();
+        final CompletionStage<Source<JsonObject, NotUsed>> responseFuture =
+                // using default thread-pool for asking Things shard region
+                // allow for the round trip to the things shard on top of the time given to the things service
+                Patterns.ask(thingsShardRegion, envelope, retrievalBatchTimeout.plus(thingsTimeout))
+                        .handle((response, error) -> {
+                            if (response instanceof SudoRetrieveThingsResponse) {
+                                roundTripsSavedCounter.increment(thingIds.size() - 1L);
+                                final JsonValue things = ((SudoRetrieveThingsResponse) response).getEntity();
+                                return Source.from(things.asArray())
+                                        .filter(JsonValue::isObject)
+                                        .map(JsonValue::asObject);
+                            } else {
+                                if (error != null) {
+                                    log.error("Failed " + command + ", retrieving things one by one", error);
+                                } else {
+                                    log.error("Unexpected response for <{}>: <{}>, retrieving things one by one",
+                                            command, response);
+                                }
+                                return Source.from(thingIds).flatMapConcat(this::sudoRetrieveThing);
+                            }
+                        });
+
+        return Source.fromSourceCompletionStage(responseFuture)
+                .viaMat(Flow.create(), Keep.none());
+    }
+
+    private Source<JsonObject, NotUsed> sudoRetrieveThing(final ThingId thingId) {
         final SudoRetrieveThing command =
                 SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
-        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+        singleRoundTripsCounter.increment();
+        final CompletionStage<Source<JsonObject, NotUsed>> responseFuture =
                 // using default thread-pool for asking Things shard region
                 Patterns.ask(thingsShardRegion, command, thingsTimeout)
                         .handle((response, error) -> {
                             if (response instanceof SudoRetrieveThingResponse) {
-                                return Source.single((SudoRetrieveThingResponse) response);
+                                return Source.single(
+                                        ((SudoRetrieveThingResponse) response).getEntity().asObject());
                             } else {
                                 if (error != null) {
                                     log.error("Failed " + command, error);
                                 } else if (!(response instanceof ThingNotAccessibleException)) {
                                     log.error("Unexpected response for <{}>: <{}>", command, response);
                                 }
-                                return Source.empty();
+                                return Source.<JsonObject>empty();
                             }
                         });
 
@@ -173,15 +282,13 @@ final class EnforcementFlow {
     }
 
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+            @Nullable final JsonObject thing) {
 
-        if (sudoRetrieveThingResponse == null) {
+        if (thing == null) {
             return deleteEvent
                     ? Source.single(ThingDeleteModel.of(metadata))
                     : Source.empty(); // TODO: refactor config.
         } else {
-            final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
-
             return getEnforcer(metadata, thing)
                     .map(entry -> {
                         if (entry.exists()) {
@@ -246,14 +353,14 @@ final class EnforcementFlow {
     }
 
     /**
-     * Extract Thing ID from SudoRetrieveThingResponse.
+     * Extract Thing ID from the JSON of a retrieved thing.
      * This is needed because SudoRetrieveThingResponse#id() is always the empty string.
      *
-     * @param response the SudoRetrieveThingResponse.
+     * @param thingJson the JSON of the retrieved thing.
      * @return the extracted Thing ID.
      */
-    private static ThingId getThingId(final SudoRetrieveThingResponse response) {
-        final String thingId = response.getEntity().asObject().getValueOrThrow(Thing.JsonFields.ID);
+    private static ThingId getThingId(final JsonObject thingJson) {
+        final String thingId = thingJson.getValueOrThrow(Thing.JsonFields.ID);
         return ThingId.of(thingId);
     }
 
@@ -15,15 +15,34 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.WriteModel;
@@ -31,6 +50,7 @@ import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 import akka.NotUsed;
+import akka.actor.ActorRef;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.Attributes;
@@ -46,8 +66,6 @@ import akka.stream.javadsl.Source;
 import akka.stream.javadsl.Zip;
 import kamon.Kamon;
 
-import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
-
 /**
  * Flow mapping write models to write results via the search persistence.
  */
@@ -56,23 +74,70 @@ final class MongoSearchUpdaterFlow {
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String COUNT_INCREMENTAL_UPDATES = "things_search_thing_incremental_updates";
+    private static final String COUNT_INCREMENTAL_UPDATE_FALLBACKS = "things_search_thing_incremental_update_fallbacks";
+    private static final String COUNT_SUPPRESSED_UNCHANGED_WRITES = "things_search_thing_suppressed_unchanged_writes";
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    @Nullable private final Cache<ThingId, Document> lastWrittenDocuments;
+    private final double incrementalUpdateMaxDiffRatio;
+    @Nullable private final ThingDocumentHashes thingDocumentHashes;
+    @Nullable private final ActorRef changeQueueActor;
+    private final Counter incrementalUpdatesCounter;
+    private final Counter incrementalUpdateFallbacksCounter;
+    private final Counter suppressedUnchangedWritesCounter;
+
+    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection,
+            final int incrementalUpdateCacheSize,
+            final double incrementalUpdateMaxDiffRatio,
+            final int skipUnchangedCacheSize,
+            @Nullable final ActorRef changeQueueActor) {
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
         this.collection = collection;
+        this.changeQueueActor = changeQueueActor;
+        if (incrementalUpdateCacheSize > 0) {
+            lastWrittenDocuments = Caffeine.newBuilder().maximumSize(incrementalUpdateCacheSize).build();
+        } else {
+            lastWrittenDocuments = null;
+        }
+        this.incrementalUpdateMaxDiffRatio = incrementalUpdateMaxDiffRatio;
+        thingDocumentHashes = skipUnchangedCacheSize > 0 ? ThingDocumentHashes.of(skipUnchangedCacheSize) : null;
+        incrementalUpdatesCounter = DittoMetrics.counter(COUNT_INCREMENTAL_UPDATES);
+        incrementalUpdateFallbacksCounter = DittoMetrics.counter(COUNT_INCREMENTAL_UPDATE_FALLBACKS);
+        suppressedUnchangedWritesCounter = DittoMetrics.counter(COUNT_SUPPRESSED_UNCHANGED_WRITES);
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which always replaces whole search index documents.
      *
      * @param database the MongoDB database.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), 0, 0.0, 0, null);
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which writes incremental updates of search index documents it wrote
+     * before and suppresses writes of unchanged documents as configured. Processed changes are acknowledged to the
+     * change queue actor.
+     *
+     * @param database the MongoDB database.
+     * @param persistenceConfig the configuration of the persistence stream.
+     * @param changeQueueActor the change queue actor to acknowledge processed changes to.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorRef changeQueueActor) {
+
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME),
+                persistenceConfig.getIncrementalUpdateCacheSize(),
+                persistenceConfig.getIncrementalUpdateMaxDiffRatio(),
+                persistenceConfig.getSkipUnchangedCacheSize(),
+                changeQueueActor);
     }
 
 
@@ -89,46 +154,301 @@ final class MongoSearchUpdaterFlow {
             final int maxBulkSize,
             final Duration writeInterval) {
 
-        final Flow<Source<AbstractWriteModel, NotUsed>, List<WriteModel<Document>>, NotUsed> batchFlow =
+        return start(parallelism, AdaptiveWriteController.fixed(maxBulkSize, writeInterval));
+    }
+
+    /**
+     * Create a new flow through the search persistence whose bulk size and delay between bulk operation requests are
+     * determined by a controller which is informed about the latency of each bulk write.
+     * No logging or recovery is attempted.
+     *
+     * @param parallelism How many write operations may run in parallel for this sink.
+     * @param writeController Controller of the bulk size and the write interval. MongoDB backpressure is insufficient.
+     * @return the sink.
+     */
+    Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(final int parallelism,
+            final AdaptiveWriteController writeController) {
+
+        final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo).grouped(maxBulkSize));
+                        .flatMapConcat(source -> source.grouped(writeController.getBulkSize()));
 
-        final Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> throttleFlow;
-        if (Duration.ZERO.minus(writeInterval).isNegative()) {
-            throttleFlow = Flow.<List<WriteModel<Document>>>create()
-                    .delay(writeInterval, DelayOverflowStrategy.backpressure());
-        } else {
-            throttleFlow = Flow.create();
-        }
+        final Flow<List<AbstractWriteModel>, List<AbstractWriteModel>, NotUsed> throttleFlow =
+                createThrottleFlow(writeController);
 
-        final Flow<List<WriteModel<Document>>, BulkWriteResult, NotUsed> writeFlow =
-                throttleFlow.flatMapMerge(parallelism, this::executeBulkWrite)
+        final Flow<List<AbstractWriteModel>, BulkWriteResult, NotUsed> writeFlow =
+                throttleFlow.flatMapMerge(parallelism, writeModels -> {
+                    final long startNanos = System.nanoTime();
+                    return executeBulkWrite(writeModels)
+                            .map(resultAndFailures -> {
+                                if (resultAndFailures.second().isEmpty()) {
+                                    writeController.onBulkWrite(Duration.ofNanos(System.nanoTime() - startNanos));
+                                } else {
+                                    writeController.onBulkWriteFailure();
+                                }
+                                return acknowledge(writeModels, resultAndFailures.first(), resultAndFailures.second());
+                            })
+                            .mapError(new PFBuilder<Throwable, Throwable>()
+                                    .matchAny(error -> {
+                                        writeController.onBulkWriteFailure();
+                                        return error;
+                                    })
+                                    .build());
+                })
                         // never initiate more than "parallelism" writes against the persistence
                         .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
 
-        final Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> startTimerFlow = createStartTimerFlow();
+        final Flow<List<AbstractWriteModel>, StartedTimer, NotUsed> startTimerFlow = createStartTimerFlow();
         final Flow<Pair<BulkWriteResult, StartedTimer>, BulkWriteResult, NotUsed> stopTimerFlow = createStopTimerFlow();
 
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, startTimerFlow, stopTimerFlow));
     }
 
-    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel) {
+    private static Flow<List<AbstractWriteModel>, List<AbstractWriteModel>, NotUsed> createThrottleFlow(
+            final AdaptiveWriteController writeController) {
+
+        if (writeController.isAdaptive()) {
+            // the write interval changes with each bulk write
+            return Flow.<List<AbstractWriteModel>>create()
+                    .flatMapConcat(writeModels -> {
+                        final Duration writeInterval = writeController.getWriteInterval();
+                        return isPositive(writeInterval)
+                                ? Source.single(writeModels).initialDelay(writeInterval)
+                                : Source.single(writeModels);
+                    });
+        }
+        final Duration writeInterval = writeController.getWriteInterval();
+        if (isPositive(writeInterval)) {
+            return Flow.<List<AbstractWriteModel>>create()
+                    .delay(writeInterval, DelayOverflowStrategy.backpressure());
+        } else {
+            return Flow.create();
+        }
+    }
+
+    private static boolean isPositive(final Duration duration) {
+        return Duration.ZERO.minus(duration).isNegative();
+    }
+
+    /**
+     * Execute the bulk write of the write models of one bulk.
+     *
+     * @param writeModelsOfBulk the write models of the bulk.
+     * @return source of the bulk write result paired with the write models which failed to be written.
+     */
+    private Source<Pair<BulkWriteResult, List<AbstractWriteModel>>, NotUsed> executeBulkWrite(
+            final List<AbstractWriteModel> writeModelsOfBulk) {
+
+        if (lastWrittenDocuments == null && thingDocumentHashes == null) {
+            final List<WriteModel<Document>> writeModels = writeModelsOfBulk.stream()
+                    .map(AbstractWriteModel::toMongo)
+                    .collect(Collectors.toList());
+            return executeMongoBulkWrite(writeModels).map(resultAndErrors -> Pair.create(resultAndErrors.first(),
+                    getFailedWriteModels(resultAndErrors.second(), writeModelsOfBulk)));
+        }
+
+        final Map<ThingId, byte[]> documentHashes = new HashMap<>();
+        final List<AbstractWriteModel> abstractWriteModels = suppressUnchangedWrites(writeModelsOfBulk, documentHashes);
+        if (abstractWriteModels.isEmpty()) {
+            return Source.single(Pair.create(BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList()),
+                    Collections.<AbstractWriteModel>emptyList()));
+        }
+
+        final List<WriteModel<Document>> writeModels = new ArrayList<>(abstractWriteModels.size());
+        final List<AbstractWriteModel> incrementalUpdates = new ArrayList<>();
+        for (final AbstractWriteModel abstractWriteModel : abstractWriteModels) {
+            final Optional<WriteModel<Document>> incrementalUpdate = toIncrementalMongo(abstractWriteModel);
+            if (incrementalUpdate.isPresent()) {
+                writeModels.add(incrementalUpdate.get());
+                incrementalUpdates.add(abstractWriteModel);
+            } else {
+                writeModels.add(abstractWriteModel.toMongo());
+            }
+        }
+        incrementalUpdatesCounter.increment(incrementalUpdates.size());
+
+        return executeMongoBulkWrite(writeModels).flatMapConcat(resultAndErrors -> {
+            final BulkWriteResult result = resultAndErrors.first();
+            final List<AbstractWriteModel> failedWriteModels =
+                    getFailedWriteModels(resultAndErrors.second(), abstractWriteModels);
+            if (resultAndErrors.second().isEmpty() && isEveryWriteModelMatched(result, writeModels.size())) {
+                rememberWrittenDocuments(abstractWriteModels, documentHashes);
+                return Source.single(Pair.create(result, failedWriteModels));
+            }
+            forgetWrittenDocuments(abstractWriteModels);
+            if (incrementalUpdates.isEmpty()) {
+                return Source.single(Pair.create(result, failedWriteModels));
+            }
+            // an incremental update may have missed its document; write the whole documents again
+            log.info("Not all of <{}> write models matched, replacing documents of <{}> incremental updates",
+                    writeModels.size(), incrementalUpdates.size());
+            incrementalUpdateFallbacksCounter.increment(incrementalUpdates.size());
+            final List<WriteModel<Document>> replacements = incrementalUpdates.stream()
+                    .map(AbstractWriteModel::toMongo)
+                    .collect(Collectors.toList());
+            // the outcome of the incremental updates is decided by the replacements
+            failedWriteModels.removeIf(incrementalUpdates::contains);
+            return executeMongoBulkWrite(replacements).map(replacementResultAndErrors -> {
+                failedWriteModels.addAll(getFailedWriteModels(replacementResultAndErrors.second(), incrementalUpdates));
+                return Pair.create(result, failedWriteModels);
+            });
+        });
+    }
+
+    /**
+     * Find the write models whose writes failed.
+     *
+     * @param writeErrors errors of a bulk write.
+     * @param writeModels the write models in the order they were passed to the bulk write.
+     * @return the write models whose writes failed.
+     */
+    private static List<AbstractWriteModel> getFailedWriteModels(final List<BulkWriteError> writeErrors,
+            final List<AbstractWriteModel> writeModels) {
+
+        final List<AbstractWriteModel> failedWriteModels = new ArrayList<>(writeErrors.size());
+        for (final BulkWriteError writeError : writeErrors) {
+            final int index = writeError.getIndex();
+            if (index >= 0 && index < writeModels.size()) {
+                failedWriteModels.add(writeModels.get(index));
+            }
+        }
+        return failedWriteModels;
+    }
+
+    /**
+     * Acknowledge the changes of a bulk to the change queue actor after the bulk was written or its write models were
+     * suppressed. Changes whose writes failed are not acknowledged.
+     *
+     * @param writeModelsOfBulk the write models of the bulk.
+     * @param result result of the bulk write.
+     * @param failedWriteModels the write models of the bulk whose writes failed.
+     * @return the result of the bulk write.
+     */
+    private BulkWriteResult acknowledge(final List<AbstractWriteModel> writeModelsOfBulk,
+            final BulkWriteResult result, final List<AbstractWriteModel> failedWriteModels) {
+
+        if (changeQueueActor != null) {
+            final List<Metadata> metadataList = writeModelsOfBulk.stream()
+                    .filter(writeModel -> !failedWriteModels.contains(writeModel))
+                    .map(AbstractWriteModel::getMetadata)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            changeQueueActor.tell(ChangeQueueActor.acknowledgement(metadataList), ActorRef.noSender());
+        }
+        return result;
+    }
+
+    /**
+     * Drop write models of search index documents identical to the documents last written for the same things.
+     *
+     * @param abstractWriteModels the write models of a bulk.
+     * @param documentHashes map to collect the hashes of the documents to write.
+     * @return the write models to write.
+     */
+    private List<AbstractWriteModel> suppressUnchangedWrites(final List<AbstractWriteModel> abstractWriteModels,
+            final Map<ThingId, byte[]> documentHashes) {
+
+        if (thingDocumentHashes == null) {
+            return abstractWriteModels;
+        }
+        final List<AbstractWriteModel> changedWriteModels = new ArrayList<>(abstractWriteModels.size());
+        for (final AbstractWriteModel abstractWriteModel : abstractWriteModels) {
+            if (abstractWriteModel instanceof ThingWriteModel) {
+                final ThingId thingId = abstractWriteModel.getMetadata().getThingId();
+                final byte[] hash = ThingDocumentHashes.hash(((ThingWriteModel) abstractWriteModel).getThingDocument());
+                if (thingDocumentHashes.isUnchanged(thingId, hash)) {
+                    continue;
+                }
+                documentHashes.put(thingId, hash);
+            }
+            changedWriteModels.add(abstractWriteModel);
+        }
+        suppressedUnchangedWritesCounter.increment(abstractWriteModels.size() - changedWriteModels.size());
+        return changedWriteModels;
+    }
+
+    private Optional<WriteModel<Document>> toIncrementalMongo(final AbstractWriteModel abstractWriteModel) {
+        if (lastWrittenDocuments != null && abstractWriteModel instanceof ThingWriteModel) {
+            final Document lastWrittenDocument =
+                    lastWrittenDocuments.getIfPresent(abstractWriteModel.getMetadata().getThingId());
+            if (lastWrittenDocument != null) {
+                return ((ThingWriteModel) abstractWriteModel).toIncrementalMongo(lastWrittenDocument,
+                        incrementalUpdateMaxDiffRatio);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void rememberWrittenDocuments(final List<AbstractWriteModel> abstractWriteModels,
+            final Map<ThingId, byte[]> documentHashes) {
+
+        for (final AbstractWriteModel abstractWriteModel : abstractWriteModels) {
+            if (abstractWriteModel instanceof ThingWriteModel) {
+                final ThingId thingId = abstractWriteModel.getMetadata().getThingId();
+                if (lastWrittenDocuments != null) {
+                    lastWrittenDocuments.put(thingId, ((ThingWriteModel) abstractWriteModel).getThingDocument());
+                }
+                final byte[] hash = documentHashes.get(thingId);
+                if (thingDocumentHashes != null && hash != null) {
+                    thingDocumentHashes.remember(thingId, hash);
+                }
+            } else if (abstractWriteModel instanceof ThingDeleteModel) {
+                forget(abstractWriteModel.getMetadata().getThingId());
+            }
+        }
+    }
+
+    private void forgetWrittenDocuments(final List<AbstractWriteModel> abstractWriteModels) {
+        for (final AbstractWriteModel abstractWriteModel : abstractWriteModels) {
+            if (abstractWriteModel instanceof ThingWriteModel || abstractWriteModel instanceof ThingDeleteModel) {
+                forget(abstractWriteModel.getMetadata().getThingId());
+            }
+        }
+    }
+
+    private void forget(final ThingId thingId) {
+        if (lastWrittenDocuments != null) {
+            lastWrittenDocuments.invalidate(thingId);
+        }
+        if (thingDocumentHashes != null) {
+            thingDocumentHashes.forget(thingId);
+        }
+    }
+
+    private static boolean isEveryWriteModelMatched(final BulkWriteResult result, final int numberOfWriteModels) {
+        return result.wasAcknowledged() &&
+                result.getMatchedCount() + result.getUpserts().size() >= numberOfWriteModels;
+    }
+
+    /**
+     * Execute a bulk write.
+     *
+     * @param writeModel the write models.
+     * @return source of the bulk write result paired with the errors of single writes, which are empty if the bulk
+     * write completed without error.
+     */
+    private Source<Pair<BulkWriteResult, List<BulkWriteError>>, NotUsed> executeMongoBulkWrite(
+            final List<WriteModel<Document>> writeModel) {
+
         return Source.fromPublisher(collection.bulkWrite(writeModel, new BulkWriteOptions().ordered(false)))
-                .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
-                        .match(MongoBulkWriteException.class, bulkWriteException -> {
-                            log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
-                                    bulkWriteException);
-                            return Source.single(bulkWriteException.getWriteResult());
-                        })
-                        .matchAny(error -> {
-                            log.error("Unexpected error", error);
-                            return Source.failed(error);
-                        })
-                        .build());
+                .map(result -> Pair.create(result, Collections.<BulkWriteError>emptyList()))
+                .recoverWithRetries(1,
+                        new PFBuilder<Throwable, Source<Pair<BulkWriteResult, List<BulkWriteError>>, NotUsed>>()
+                                .match(MongoBulkWriteException.class, bulkWriteException -> {
+                                    log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
+                                            bulkWriteException);
+                                    return Source.single(Pair.create(bulkWriteException.getWriteResult(),
+                                            bulkWriteException.getWriteErrors()));
+                                })
+                                .matchAny(error -> {
+                                    log.error("Unexpected error", error);
+                                    return Source.failed(error);
+                                })
+                                .build());
 
     }
 
-    private static Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> createStartTimerFlow() {
+    private static Flow<List<AbstractWriteModel>, StartedTimer, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
             Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
             return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
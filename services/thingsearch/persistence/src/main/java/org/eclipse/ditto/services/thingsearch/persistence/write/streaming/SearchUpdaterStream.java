@@ -12,7 +12,6 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -27,6 +26,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.bulk.BulkWriteResult;
@@ -58,6 +58,7 @@ public final class SearchUpdaterStream {
     private final MongoSearchUpdaterFlow mongoSearchUpdaterFlow;
     private final ActorRef changeQueueActor;
     private final BlockedNamespaces blockedNamespaces;
+    private final AdaptiveWriteController writeController;
 
     private SearchUpdaterStream(final SearchConfig searchConfig,
             final EnforcementFlow enforcementFlow,
@@ -70,6 +71,10 @@ public final class SearchUpdaterStream {
         this.mongoSearchUpdaterFlow = mongoSearchUpdaterFlow;
         this.changeQueueActor = changeQueueActor;
         this.blockedNamespaces = blockedNamespaces;
+
+        final StreamConfig streamConfig = searchConfig.getStreamConfig();
+        writeController = AdaptiveWriteController.of(streamConfig.getAdaptiveWriteConfig(),
+                streamConfig.getPersistenceConfig().getMaxBulkSize(), streamConfig.getWriteInterval());
     }
 
     /**
@@ -101,11 +106,16 @@ public final class SearchUpdaterStream {
         final DeleteConfig deleteConfig = searchConfig.getDeleteConfig();
         final boolean deleteEvent = deleteConfig.isDeleteEvent();
 
+        final ShardRegionExtractor thingsShardRegionExtractor =
+                ShardRegionExtractor.of(searchConfig.getClusterConfig().getNumberOfShards(), actorSystem);
+
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
-                        deleteEvent);
+                EnforcementFlow.of(streamConfig, thingsShard, thingsShardRegionExtractor, policiesShard,
+                        messageDispatcher, deleteEvent);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final PersistenceStreamConfig persistenceConfig = streamConfig.getPersistenceConfig();
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database, persistenceConfig,
+                changeQueueActor);
 
         return new SearchUpdaterStream(searchConfig, enforcementFlow, mongoSearchUpdaterFlow, changeQueueActor,
                 blockedNamespaces);
@@ -131,7 +141,7 @@ public final class SearchUpdaterStream {
         final StreamStageConfig retrievalConfig = streamConfig.getRetrievalConfig();
 
         final Source<Source<AbstractWriteModel, NotUsed>, NotUsed> source =
-                ChangeQueueActor.createSource(changeQueueActor, streamConfig.getWriteInterval())
+                ChangeQueueActor.createSource(changeQueueActor, writeController)
                         .via(filterMapKeysByBlockedNamespaces())
                         .via(enforcementFlow.create(retrievalConfig.getParallelism())
                                 .map(writeModelSource -> writeModelSource.via(
@@ -148,10 +158,8 @@ public final class SearchUpdaterStream {
         final PersistenceStreamConfig persistenceConfig = streamConfig.getPersistenceConfig();
 
         final int parallelism = persistenceConfig.getParallelism();
-        final int maxBulkSize = persistenceConfig.getMaxBulkSize();
-        final Duration writeInterval = streamConfig.getWriteInterval();
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
-                mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval)
+                mongoSearchUpdaterFlow.start(parallelism, writeController)
                         .map(SearchUpdaterStream::logResult)
                         .log("SearchUpdaterStream/BulkWriteResult")
                         .withAttributes(Attributes.logLevels(
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded store of hashes of the search index documents last written per Thing.
+ * <p>
+ * The hash covers the whole document including the Thing revision and modification timestamp, so that only writes
+ * of identical documents, e. g. of a Thing which is indexed again without having changed, are suppressed. Documents
+ * which differ only in revision and modification timestamp are written; with incremental updates enabled, such a
+ * write only sets the changed revision and timestamps.
+ * </p>
+ */
+@ThreadSafe
+final class ThingDocumentHashes {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final Cache<ThingId, byte[]> hashes;
+
+    private ThingDocumentHashes(final Cache<ThingId, byte[]> hashes) {
+        this.hashes = hashes;
+    }
+
+    /**
+     * Create a store of document hashes which evicts least recently used entries.
+     *
+     * @param maxSize how many hashes to store at most.
+     * @return the store.
+     */
+    static ThingDocumentHashes of(final int maxSize) {
+        return new ThingDocumentHashes(Caffeine.newBuilder().maximumSize(maxSize).build());
+    }
+
+    /**
+     * Compute the hash of a search index document.
+     *
+     * @param thingDocument the search index document.
+     * @return the hash.
+     */
+    static byte[] hash(final Document thingDocument) {
+        final BsonDocument bsonDocument = BsonUtil.toBsonDocument(thingDocument);
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), bsonDocument,
+                EncoderContext.builder().build());
+        return newMessageDigest().digest(buffer.toByteArray());
+    }
+
+    /**
+     * Test whether the search index document of a Thing is unchanged.
+     *
+     * @param thingId the Thing ID.
+     * @param hash hash of the search index document to write.
+     * @return whether the hash is equal to the one of the document last written for the Thing.
+     */
+    boolean isUnchanged(final ThingId thingId, final byte[] hash) {
+        final byte[] lastWrittenHash = hashes.getIfPresent(thingId);
+        return lastWrittenHash != null && MessageDigest.isEqual(lastWrittenHash, hash);
+    }
+
+    /**
+     * Remember the hash of a written search index document.
+     *
+     * @param thingId the Thing ID.
+     * @param hash hash of the written search index document.
+     */
+    void remember(final ThingId thingId, final byte[] hash) {
+        hashes.put(thingId, hash);
+    }
+
+    /**
+     * Forget the hash of the search index document of a Thing, e. g. because it was deleted or its write failed.
+     *
+     * @param thingId the Thing ID.
+     */
+    void forget(final ThingId thingId) {
+        hashes.invalidate(thingId);
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Hash algorithm <" + HASH_ALGORITHM + "> is not available!", e);
+        }
+    }
+
+}
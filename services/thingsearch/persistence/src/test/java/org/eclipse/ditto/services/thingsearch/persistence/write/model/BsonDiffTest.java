@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BsonDiff}.
+ */
+public final class BsonDiffTest {
+
+    @Test
+    public void changedNestedValueIsSetByPath() {
+        final BsonDocument previous = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":1,\"b\":{\"c\":2,\"d\":3}}}");
+        final BsonDocument next = BsonDocument.parse("{\"_revision\":2,\"s\":{\"a\":1,\"b\":{\"c\":4,\"d\":3}}}");
+
+        final Optional<BsonDocument> update = BsonDiff.minimalUpdate(previous, next, 1.0);
+
+        assertThat(update).contains(BsonDocument.parse("{\"$set\":{\"_revision\":2,\"s.b.c\":4}}"));
+    }
+
+    @Test
+    public void removedFieldIsUnset() {
+        final BsonDocument previous = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":1,\"b\":2}}");
+        final BsonDocument next = BsonDocument.parse("{\"_revision\":2,\"s\":{\"a\":1}}");
+
+        final Optional<BsonDocument> update = BsonDiff.minimalUpdate(previous, next, 1.0);
+
+        assertThat(update).contains(BsonDocument.parse("{\"$set\":{\"_revision\":2},\"$unset\":{\"s.b\":\"\"}}"));
+    }
+
+    @Test
+    public void changedAndAppendedArrayElementsAreSetByIndex() {
+        final BsonDocument previous = BsonDocument.parse("{\"d\":[{\"k\":\"a\",\"v\":1},{\"k\":\"b\",\"v\":2}]}");
+        final BsonDocument next =
+                BsonDocument.parse("{\"d\":[{\"k\":\"a\",\"v\":1},{\"k\":\"b\",\"v\":3},{\"k\":\"c\",\"v\":4}]}");
+
+        final Optional<BsonDocument> update = BsonDiff.minimalUpdate(previous, next, 1.0);
+
+        assertThat(update).contains(
+                BsonDocument.parse("{\"$set\":{\"d.1.v\":3,\"d.2\":{\"k\":\"c\",\"v\":4}}}"));
+    }
+
+    @Test
+    public void shrunkArrayIsSetAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"d\":[1,2,3]}");
+        final BsonDocument next = BsonDocument.parse("{\"d\":[1,2]}");
+
+        final Optional<BsonDocument> update = BsonDiff.minimalUpdate(previous, next, 1.0);
+
+        assertThat(update).contains(BsonDocument.parse("{\"$set\":{\"d\":[1,2]}}"));
+    }
+
+    @Test
+    public void documentWithDottedKeysIsSetAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"s\":{\"a.b\":1}}");
+        final BsonDocument next = BsonDocument.parse("{\"s\":{\"a.b\":2}}");
+
+        final Optional<BsonDocument> update = BsonDiff.minimalUpdate(previous, next, 1.0);
+
+        assertThat(update).contains(BsonDocument.parse("{\"$set\":{\"s\":{\"a.b\":2}}}"));
+    }
+
+    @Test
+    public void noUpdateIfDiffExceedsRatio() {
+        final BsonDocument previous = BsonDocument.parse("{\"a\":1,\"b\":2,\"c\":3,\"d\":4}");
+        final BsonDocument next = BsonDocument.parse("{\"a\":5,\"b\":6,\"c\":7,\"d\":4}");
+
+        assertThat(BsonDiff.minimalUpdate(previous, next, 0.5)).isEmpty();
+        assertThat(BsonDiff.minimalUpdate(previous, next, 0.75)).isNotEmpty();
+    }
+
+    @Test
+    public void noUpdateIfDocumentsAreEqual() {
+        final BsonDocument document = BsonDocument.parse("{\"a\":1,\"s\":{\"b\":[1,2]}}");
+
+        assertThat(BsonDiff.minimalUpdate(document, document.clone(), 1.0)).isEmpty();
+    }
+
+}
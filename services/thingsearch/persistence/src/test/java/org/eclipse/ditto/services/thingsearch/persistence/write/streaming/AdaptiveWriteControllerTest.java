@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.thingsearch.common.config.AdaptiveWriteConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultAdaptiveWriteConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link AdaptiveWriteController}.
+ */
+public final class AdaptiveWriteControllerTest {
+
+    private static final AdaptiveWriteConfig CONFIG = DefaultAdaptiveWriteConfig.of(ConfigFactory.parseString(
+            "adaptive-write {\n" +
+                    "  enabled = true\n" +
+                    "  target-latency = 500ms\n" +
+                    "  min-write-interval = 100ms\n" +
+                    "  max-write-interval = 4s\n" +
+                    "  write-interval-decrement = 100ms\n" +
+                    "  min-bulk-size = 10\n" +
+                    "  bulk-size-increment = 10\n" +
+                    "  backoff-factor = 2.0\n" +
+                    "}"));
+
+    private static final Duration FAST = Duration.ofMillis(100L);
+    private static final Duration SLOW = Duration.ofSeconds(1L);
+
+    @Test
+    public void fixedControllerNeverChanges() {
+        final AdaptiveWriteController underTest = AdaptiveWriteController.fixed(100, Duration.ofSeconds(1L));
+        underTest.onDump(1000);
+        underTest.onBulkWrite(SLOW);
+        underTest.onBulkWrite(FAST);
+        underTest.onBulkWriteFailure();
+
+        assertThat(underTest.isAdaptive()).isFalse();
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofSeconds(1L));
+    }
+
+    @Test
+    public void slowBulkWriteBacksOffMultiplicatively() {
+        final AdaptiveWriteController underTest = AdaptiveWriteController.of(CONFIG, 100, Duration.ofSeconds(1L));
+        underTest.onBulkWrite(SLOW);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofSeconds(2L));
+
+        underTest.onBulkWrite(SLOW);
+        underTest.onBulkWrite(SLOW);
+        underTest.onBulkWrite(SLOW);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofSeconds(4L));
+    }
+
+    @Test
+    public void failedBulkWriteBacksOffMultiplicatively() {
+        final AdaptiveWriteController underTest = AdaptiveWriteController.of(CONFIG, 100, Duration.ofSeconds(1L));
+        underTest.onBulkWriteFailure();
+
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofSeconds(2L));
+    }
+
+    @Test
+    public void fastBulkWriteIncreasesBulkSizeAdditivelyOnlyWithBacklog() {
+        final AdaptiveWriteController underTest = AdaptiveWriteController.of(CONFIG, 100, Duration.ofSeconds(1L));
+        underTest.onBulkWrite(SLOW);
+        underTest.onDump(20);
+        underTest.onBulkWrite(FAST);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(1900L));
+
+        underTest.onDump(1000);
+        underTest.onBulkWrite(FAST);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(60);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(1800L));
+    }
+
+    @Test
+    public void valuesStayWithinBounds() {
+        final AdaptiveWriteController underTest = AdaptiveWriteController.of(CONFIG, 100, Duration.ofSeconds(1L));
+        for (int i = 0; i < 100; ++i) {
+            underTest.onDump(1000);
+            underTest.onBulkWrite(FAST);
+        }
+
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(100L));
+    }
+
+    @Test
+    public void emptyDumpShortensWriteInterval() {
+        final AdaptiveWriteController underTest = AdaptiveWriteController.of(CONFIG, 100, Duration.ofSeconds(1L));
+        underTest.onDump(0);
+
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(900L));
+    }
+
+    @Test
+    public void disabledConfigYieldsFixedController() {
+        final AdaptiveWriteConfig disabled = DefaultAdaptiveWriteConfig.of(ConfigFactory.empty());
+        final AdaptiveWriteController underTest = AdaptiveWriteController.of(disabled, 100, Duration.ofSeconds(1L));
+
+        assertThat(underTest.isAdaptive()).isFalse();
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+    }
+
+}
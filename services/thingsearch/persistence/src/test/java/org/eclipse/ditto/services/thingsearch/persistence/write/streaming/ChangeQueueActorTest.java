@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeQueueConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultChangeQueueConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the acknowledgement of written changes by {@link ChangeQueueActor}.
+ */
+public final class ChangeQueueActorTest {
+
+    private static final Metadata CHANGE_1 = Metadata.of(ThingId.of("thing:1"), 2L, "policy:1", 1L);
+    private static final Metadata CHANGE_2 = Metadata.of(ThingId.of("thing:2"), 5L, null, 5L);
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Nullable private ActorSystem actorSystem;
+    @Nullable private ActorMaterializer materializer;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+        materializer = ActorMaterializer.create(actorSystem);
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void writtenChangeWithOtherPolicyRevisionIsAcknowledged() throws Exception {
+        final Metadata written = Metadata.of(CHANGE_1.getThingId(), CHANGE_1.getThingRevision(), "policy:1", 2L);
+
+        final Map<ThingId, Metadata> replayed = enqueueAcknowledgeAndRestart(written);
+
+        assertThat(replayed).containsOnlyKeys(CHANGE_2.getThingId());
+    }
+
+    @Test
+    public void writtenNewerRevisionIsAcknowledged() throws Exception {
+        final Metadata written = Metadata.of(CHANGE_1.getThingId(), CHANGE_1.getThingRevision() + 1, "policy:1", 1L);
+
+        final Map<ThingId, Metadata> replayed = enqueueAcknowledgeAndRestart(written);
+
+        assertThat(replayed).containsOnlyKeys(CHANGE_2.getThingId());
+    }
+
+    @Test
+    public void writtenOlderRevisionIsNotAcknowledged() throws Exception {
+        final Metadata written = Metadata.of(CHANGE_1.getThingId(), CHANGE_1.getThingRevision() - 1, "policy:1", 1L);
+
+        final Map<ThingId, Metadata> replayed = enqueueAcknowledgeAndRestart(written);
+
+        assertThat(replayed).containsOnlyKeys(CHANGE_1.getThingId(), CHANGE_2.getThingId());
+        assertThat(replayed.get(CHANGE_1.getThingId())).isEqualTo(CHANGE_1);
+    }
+
+    private Map<ThingId, Metadata> enqueueAcknowledgeAndRestart(final Metadata written) throws Exception {
+        final ChangeQueueConfig config = DefaultChangeQueueConfig.of(ConfigFactory.empty()
+                .withValue("change-queue.persistent", ConfigValueFactory.fromAnyRef(true))
+                .withValue("change-queue.directory",
+                        ConfigValueFactory.fromAnyRef(temporaryFolder.getRoot().getAbsolutePath())));
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(ChangeQueueActor.props(config));
+            watch(underTest);
+            underTest.tell(CHANGE_1, getRef());
+            underTest.tell(CHANGE_2, getRef());
+            underTest.tell(ChangeQueueActor.acknowledgement(Collections.singletonList(written)), getRef());
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+        }};
+
+        // the restarted change queue actor replays the unacknowledged changes
+        final ActorRef restarted = actorSystem.actorOf(ChangeQueueActor.props(config));
+        return ChangeQueueActor.createSource(restarted, Duration.ofMillis(10L))
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link ChangeQueueLog}.
+ */
+public final class ChangeQueueLogTest {
+
+    private static final Metadata CHANGE_1 = Metadata.of(ThingId.of("thing:1"), 1L, "policy:1", 1L);
+    private static final Metadata CHANGE_2 = Metadata.of(ThingId.of("thing:2"), 5L, null, 5L);
+    private static final Metadata CHANGE_1_UPDATED = Metadata.of(ThingId.of("thing:1"), 2L, "policy:1", 1L);
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void unacknowledgedChangesAreReplayed() throws IOException {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (final ChangeQueueLog underTest = ChangeQueueLog.open(directory, new LinkedHashMap<>())) {
+            underTest.appendEnqueued(CHANGE_1);
+            underTest.appendEnqueued(CHANGE_2);
+            underTest.appendAcknowledged(Collections.singletonList(CHANGE_2));
+        }
+
+        final Map<ThingId, Metadata> replayed = new LinkedHashMap<>();
+        ChangeQueueLog.open(directory, replayed).close();
+
+        assertThat(replayed).containsOnlyKeys(CHANGE_1.getThingId());
+        assertThat(replayed.get(CHANGE_1.getThingId())).isEqualTo(CHANGE_1);
+    }
+
+    @Test
+    public void acknowledgementOfOutdatedChangeDoesNotRemoveNewerChange() throws IOException {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (final ChangeQueueLog underTest = ChangeQueueLog.open(directory, new LinkedHashMap<>())) {
+            underTest.appendEnqueued(CHANGE_1);
+            underTest.appendEnqueued(CHANGE_1_UPDATED);
+            underTest.appendAcknowledged(Collections.singletonList(CHANGE_1));
+        }
+
+        final Map<ThingId, Metadata> replayed = new LinkedHashMap<>();
+        ChangeQueueLog.open(directory, replayed).close();
+
+        assertThat(replayed.get(CHANGE_1.getThingId())).isEqualTo(CHANGE_1_UPDATED);
+    }
+
+    @Test
+    public void compactionKeepsOnlyPendingChanges() throws IOException {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (final ChangeQueueLog underTest = ChangeQueueLog.open(directory, new LinkedHashMap<>())) {
+            underTest.appendEnqueued(CHANGE_1);
+            underTest.appendEnqueued(CHANGE_2);
+            underTest.appendAcknowledged(Arrays.asList(CHANGE_1, CHANGE_2));
+            underTest.appendEnqueued(CHANGE_1_UPDATED);
+            assertThat(underTest.getNumberOfRecords()).isEqualTo(5);
+
+            underTest.compact(Collections.singletonList(CHANGE_1_UPDATED));
+            assertThat(underTest.getNumberOfRecords()).isEqualTo(1);
+        }
+
+        final Map<ThingId, Metadata> replayed = new LinkedHashMap<>();
+        ChangeQueueLog.open(directory, replayed).close();
+
+        assertThat(replayed).containsOnlyKeys(CHANGE_1_UPDATED.getThingId());
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultStreamConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the batched retrieval of things of {@link EnforcementFlow}.
+ */
+public final class EnforcementFlowTest {
+
+    private static final ThingId THING_ID_1 = ThingId.of("org.eclipse.ditto", "thing1");
+    private static final ThingId THING_ID_2 = ThingId.of("org.eclipse.ditto", "thing2");
+    private static final ThingId THING_ID_3 = ThingId.of("org.eclipse.ditto", "thing3");
+
+    private static final StreamConfig STREAM_CONFIG = DefaultStreamConfig.of(ConfigFactory.parseString(
+            "stream {\n" +
+                    "  ask-timeout = 3s\n" +
+                    "  retrieval-batch-size = 10\n" +
+                    "  retrieval-batch-timeout = 2s\n" +
+                    "}"));
+
+    @Nullable private ActorSystem actorSystem;
+    @Nullable private ActorMaterializer materializer;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+        materializer = ActorMaterializer.create(actorSystem);
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void thingsOfOneShardAreRetrievedWithOneCommand() throws Exception {
+        new TestKit(actorSystem) {{
+            final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+            final CompletionStage<List<AbstractWriteModel>> writeModels = runEnforcementFlow(thingsShardRegion);
+
+            final SudoRetrieveThings command = expectSudoRetrieveThings(thingsShardRegion);
+            assertThat(command.getThingIds()).containsExactlyInAnyOrder(THING_ID_1, THING_ID_2, THING_ID_3);
+            assertThat(command.getTimeout()).contains(STREAM_CONFIG.getRetrievalBatchTimeout());
+            assertThat(command.useOriginalSchemaVersion()).isTrue();
+
+            // thing 3 was not retrieved in time by the things service and is missing from the response
+            thingsShardRegion.reply(SudoRetrieveThingsResponse.of(
+                    JsonArray.of(thingJson(THING_ID_1), thingJson(THING_ID_2)), DittoHeaders.empty()));
+
+            assertThat(getThingIds(writeModels)).containsExactlyInAnyOrder(THING_ID_1, THING_ID_2);
+            thingsShardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void thingsAreRetrievedOneByOneIfBatchFails() throws Exception {
+        new TestKit(actorSystem) {{
+            final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+            final CompletionStage<List<AbstractWriteModel>> writeModels = runEnforcementFlow(thingsShardRegion);
+
+            expectSudoRetrieveThings(thingsShardRegion);
+            thingsShardRegion.reply(new Status.Failure(new IllegalStateException("expected")));
+
+            for (int i = 0; i < 3; i++) {
+                final SudoRetrieveThing sudoRetrieveThing = thingsShardRegion.expectMsgClass(SudoRetrieveThing.class);
+                final ThingId thingId = ThingId.of(sudoRetrieveThing.getEntityId());
+                thingsShardRegion.reply(SudoRetrieveThingResponse.of(thingJson(thingId), DittoHeaders.empty()));
+            }
+
+            assertThat(getThingIds(writeModels)).containsExactlyInAnyOrder(THING_ID_1, THING_ID_2, THING_ID_3);
+        }};
+    }
+
+    private CompletionStage<List<AbstractWriteModel>> runEnforcementFlow(final TestProbe thingsShardRegion) {
+        final TestProbe policiesShardRegion = TestProbe.apply(actorSystem);
+        final ShardRegionExtractor shardRegionExtractor =
+                ShardRegionExtractor.of(1, MappingStrategiesBuilder.newInstance().build());
+        final EnforcementFlow underTest = EnforcementFlow.of(STREAM_CONFIG, thingsShardRegion.ref(),
+                shardRegionExtractor, policiesShardRegion.ref(),
+                actorSystem.dispatchers().lookup("akka.actor.default-dispatcher"), false);
+
+        final Map<ThingId, Metadata> changeMap = new LinkedHashMap<>();
+        changeMap.put(THING_ID_1, Metadata.of(THING_ID_1, 1L, null, 1L));
+        changeMap.put(THING_ID_2, Metadata.of(THING_ID_2, 1L, null, 1L));
+        changeMap.put(THING_ID_3, Metadata.of(THING_ID_3, 1L, null, 1L));
+
+        return Source.single(changeMap)
+                .via(underTest.create(16))
+                .flatMapConcat(writeModelSource -> writeModelSource)
+                .runWith(Sink.seq(), materializer);
+    }
+
+    private static SudoRetrieveThings expectSudoRetrieveThings(final TestProbe thingsShardRegion) {
+        final ShardedMessageEnvelope envelope = thingsShardRegion.expectMsgClass(ShardedMessageEnvelope.class);
+        assertThat(envelope.getType()).isEqualTo(SudoRetrieveThings.TYPE);
+        return SudoRetrieveThings.fromJson(envelope.getMessage(), envelope.getDittoHeaders());
+    }
+
+    private static List<ThingId> getThingIds(final CompletionStage<List<AbstractWriteModel>> writeModels)
+            throws Exception {
+
+        final List<AbstractWriteModel> result = writeModels.toCompletableFuture().get(10L, TimeUnit.SECONDS);
+        // the things have neither ACL nor policy, hence each retrieved thing results in a delete model
+        assertThat(result).allMatch(ThingDeleteModel.class::isInstance);
+        return result.stream()
+                .map(writeModel -> writeModel.getMetadata().getThingId())
+                .collect(Collectors.toList());
+    }
+
+    private static JsonObject thingJson(final ThingId thingId) {
+        return JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.ID, thingId.toString())
+                .build();
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.AclEnforcer;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingDocumentHashes}.
+ */
+public final class ThingDocumentHashesTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+
+    @Test
+    public void identicalDocumentIsUnchanged() {
+        final ThingDocumentHashes underTest = ThingDocumentHashes.of(10);
+        underTest.remember(THING_ID, ThingDocumentHashes.hash(document(1L, 1L, "value")));
+
+        assertThat(underTest.isUnchanged(THING_ID, ThingDocumentHashes.hash(document(1L, 1L, "value")))).isTrue();
+    }
+
+    @Test
+    public void documentDifferingOnlyInRevisionIsChanged() {
+        final ThingDocumentHashes underTest = ThingDocumentHashes.of(10);
+        underTest.remember(THING_ID, ThingDocumentHashes.hash(document(1L, 1L, "value")));
+
+        assertThat(underTest.isUnchanged(THING_ID, ThingDocumentHashes.hash(document(2L, 1L, "value")))).isFalse();
+    }
+
+    @Test
+    public void documentWithOtherPolicyRevisionIsChanged() {
+        final ThingDocumentHashes underTest = ThingDocumentHashes.of(10);
+        underTest.remember(THING_ID, ThingDocumentHashes.hash(document(1L, 1L, "value")));
+
+        assertThat(underTest.isUnchanged(THING_ID, ThingDocumentHashes.hash(document(1L, 2L, "value")))).isFalse();
+    }
+
+    @Test
+    public void documentWithOtherValueIsChanged() {
+        final ThingDocumentHashes underTest = ThingDocumentHashes.of(10);
+        underTest.remember(THING_ID, ThingDocumentHashes.hash(document(1L, 1L, "value")));
+
+        assertThat(underTest.isUnchanged(THING_ID, ThingDocumentHashes.hash(document(2L, 1L, "other")))).isFalse();
+    }
+
+    @Test
+    public void forgottenDocumentIsChanged() {
+        final ThingDocumentHashes underTest = ThingDocumentHashes.of(10);
+        final byte[] hash = ThingDocumentHashes.hash(document(1L, 1L, "value"));
+        underTest.remember(THING_ID, hash);
+        underTest.forget(THING_ID);
+
+        assertThat(underTest.isUnchanged(THING_ID, hash)).isFalse();
+    }
+
+    @Test
+    public void mappedThingDifferingOnlyInRevisionAndModifiedIsChanged() {
+        final ThingDocumentHashes underTest = ThingDocumentHashes.of(10);
+        underTest.remember(THING_ID, ThingDocumentHashes.hash(mappedThing(1L, "2019-11-01T10:00:00Z", "value")));
+
+        assertThat(underTest.isUnchanged(THING_ID,
+                ThingDocumentHashes.hash(mappedThing(1L, "2019-11-01T10:00:00Z", "value")))).isTrue();
+        assertThat(underTest.isUnchanged(THING_ID,
+                ThingDocumentHashes.hash(mappedThing(1L, "2019-11-01T10:00:05Z", "value")))).isFalse();
+        assertThat(underTest.isUnchanged(THING_ID,
+                ThingDocumentHashes.hash(mappedThing(2L, "2019-11-01T10:00:00Z", "value")))).isFalse();
+    }
+
+    private static Document mappedThing(final long revision, final String modified, final String value) {
+        final JsonObject thing = JsonFactory.newObjectBuilder()
+                .set("thingId", THING_ID.toString())
+                .set("_revision", revision)
+                .set("_modified", modified)
+                .set("attributes", JsonFactory.newObjectBuilder().set("a", value).build())
+                .build();
+        final Enforcer enforcer = AclEnforcer.of(ThingsModelFactory.newAcl("{\n" +
+                "  \"grant:read\": {\n" +
+                "    \"READ\": true,\n" +
+                "    \"WRITE\": true,\n" +
+                "    \"ADMINISTRATE\": true\n" +
+                "  }\n" +
+                "}"));
+        return EnforcedThingMapper.toWriteModel(thing, enforcer, 0L).getThingDocument();
+    }
+
+    private static Document document(final long revision, final long policyRevision, final String value) {
+        return new Document().append("_id", THING_ID.toString())
+                .append("_revision", revision)
+                .append("__policyRev", policyRevision)
+                .append("s", new Document().append("attributes", new Document().append("a", value)));
+    }
+
+}
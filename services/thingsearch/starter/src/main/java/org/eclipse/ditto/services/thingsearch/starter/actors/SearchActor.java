@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +35,7 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.common.config.CountCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -75,6 +77,9 @@ import scala.concurrent.ExecutionContextExecutor;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * Counts with the header {@value #COUNT_APPROXIMATE_HEADER} set to {@code true} may be answered from a cache of
+ * counts which are at most as old as the configured staleness bound.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -83,6 +88,11 @@ public final class SearchActor extends AbstractActor {
      */
     static final String ACTOR_NAME = "thingsSearch";
 
+    /**
+     * Header with which count requests accept a cached count which may be outdated by the configured staleness bound.
+     */
+    static final String COUNT_APPROXIMATE_HEADER = "count-approximate";
+
     private static final String SEARCH_DISPATCHER_ID = "search-dispatcher";
 
     private static final String TRACING_THINGS_SEARCH = "things_search_query";
@@ -97,21 +107,28 @@ public final class SearchActor extends AbstractActor {
     private final ThingsSearchPersistence searchPersistence;
     private final ActorMaterializer materializer;
     private final ExecutionContextExecutor dispatcher;
+    @Nullable private final SearchCountCache countCache;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            @Nullable final CountCacheConfig countCacheConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        if (countCacheConfig != null && countCacheConfig.isEnabled()) {
+            countCache = SearchCountCache.of(countCacheConfig);
+        } else {
+            countCache = null;
+        }
         materializer = ActorMaterializer.create(getContext().system());
 
         dispatcher = getContext().system().dispatchers().lookup(SEARCH_DISPATCHER_ID);
     }
 
     /**
-     * Creates Akka configuration object Props for this SearchActor.
+     * Creates Akka configuration object Props for this SearchActor which counts on every count request.
      *
      * @param queryFactory factory of query objects.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
@@ -121,7 +138,24 @@ public final class SearchActor extends AbstractActor {
             final QueryParser queryFactory,
             final ThingsSearchPersistence searchPersistence) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence);
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, null);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchActor which answers count requests accepting
+     * approximate counts from a cache as configured.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param countCacheConfig the configuration of the count cache.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(
+            final QueryParser queryFactory,
+            final ThingsSearchPersistence searchPersistence,
+            final CountCacheConfig countCacheConfig) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, countCacheConfig);
     }
 
     @Override
@@ -146,15 +180,16 @@ public final class SearchActor extends AbstractActor {
     }
 
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        executeCount(countThings, queryParser::parse, countThings.getNamespaces().orElse(null), false);
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, null, true);
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
+            @Nullable final Set<String> namespaces,
             final boolean isSudo) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
@@ -169,25 +204,44 @@ public final class SearchActor extends AbstractActor {
         final StartedTimer queryParsingTimer = countTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
 
         final ActorRef sender = getSender();
+        final SearchCountCache cache = countCache;
+        final boolean isApproximate = Boolean.parseBoolean(dittoHeaders.get(COUNT_APPROXIMATE_HEADER));
 
         final Source<Object, ?> replySource = createQuerySource(queryParseFunction, countCommand)
                 .flatMapConcat(query -> {
                     LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
                     stopTimer(queryParsingTimer);
+
+                    final List<String> authorizationSubjects = isSudo
+                            ? Collections.emptyList()
+                            : countCommand.getDittoHeaders().getAuthorizationSubjects();
+                    final SearchCountCache.Key cacheKey =
+                            SearchCountCache.key(query.getCriteria(), namespaces, authorizationSubjects, isSudo);
+                    if (cache != null && isApproximate) {
+                        final Optional<Long> cachedCount = cache.get(cacheKey);
+                        if (cachedCount.isPresent()) {
+                            log.debug("Answering count from cache: {}", cachedCount.get());
+                            return Source.single(CountThingsResponse.of(cachedCount.get(), dittoHeaders));
+                        }
+                    }
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
                     final Source<Long, NotUsed> countResultSource = isSudo
                             ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationSubjects());
+                            : searchPersistence.count(query, authorizationSubjects);
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
                                 stopTimer(databaseAccessTimer);
                                 return result;
                             }))
-                            .map(count -> CountThingsResponse.of(count, dittoHeaders));
+                            .map(count -> {
+                                if (cache != null) {
+                                    cache.put(cacheKey, count);
+                                }
+                                return CountThingsResponse.of(count, dittoHeaders);
+                            });
                 })
                 .<Object>map(result -> {
                     stopTimer(countTimer);
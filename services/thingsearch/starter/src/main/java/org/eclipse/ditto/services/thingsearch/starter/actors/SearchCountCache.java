@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.services.thingsearch.common.config.CountCacheConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of search counts keyed by the parsed filter criteria, the requested namespaces and the authorization
+ * subjects of a count request. Cached counts are approximate: they are not dropped on writes to the search index but
+ * expire after the configured staleness bound.
+ */
+final class SearchCountCache {
+
+    private static final String COUNT_CACHE_HITS = "things_search_count_cache_hits";
+    private static final String COUNT_CACHE_MISSES = "things_search_count_cache_misses";
+
+    private final Cache<Key, Long> counts;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+
+    private SearchCountCache(final CountCacheConfig countCacheConfig) {
+        counts = Caffeine.newBuilder()
+                .maximumSize(countCacheConfig.getMaximumSize())
+                .expireAfterWrite(countCacheConfig.getMaxStaleness())
+                .build();
+        hitsCounter = DittoMetrics.counter(COUNT_CACHE_HITS);
+        missesCounter = DittoMetrics.counter(COUNT_CACHE_MISSES);
+    }
+
+    /**
+     * Create a count cache.
+     *
+     * @param countCacheConfig the configuration of the count cache.
+     * @return the count cache.
+     */
+    static SearchCountCache of(final CountCacheConfig countCacheConfig) {
+        return new SearchCountCache(countCacheConfig);
+    }
+
+    /**
+     * Create the key of a count.
+     *
+     * @param criteria the parsed filter criteria of the count including the restriction to namespaces.
+     * @param namespaces the requested namespaces, or {@code null} if the count is not restricted to namespaces.
+     * @param authorizationSubjects the authorization subjects of the count request.
+     * @param isSudo whether the count ignores authorization.
+     * @return the key.
+     */
+    static Key key(final Criteria criteria, @Nullable final Set<String> namespaces,
+            final Collection<String> authorizationSubjects, final boolean isSudo) {
+
+        return new Key(criteria, namespaces, authorizationSubjects, isSudo);
+    }
+
+    /**
+     * Look up a count which is not older than the staleness bound.
+     *
+     * @param key key of the count.
+     * @return the cached count, if any.
+     */
+    Optional<Long> get(final Key key) {
+        final Long cachedCount = counts.getIfPresent(key);
+        if (cachedCount != null) {
+            hitsCounter.increment();
+            return Optional.of(cachedCount);
+        } else {
+            missesCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Cache a count.
+     *
+     * @param key key of the count.
+     * @param count the count.
+     */
+    void put(final Key key, final long count) {
+        counts.put(key, count);
+    }
+
+    /**
+     * Key of a cached count.
+     */
+    static final class Key {
+
+        private final Criteria criteria;
+        @Nullable private final Set<String> namespaces;
+        private final Set<String> authorizationSubjects;
+        private final boolean isSudo;
+
+        private Key(final Criteria criteria, @Nullable final Set<String> namespaces,
+                final Collection<String> authorizationSubjects, final boolean isSudo) {
+
+            this.criteria = criteria;
+            this.namespaces = namespaces != null ? Collections.unmodifiableSet(new HashSet<>(namespaces)) : null;
+            // the order of authorization subjects does not change the count
+            this.authorizationSubjects = Collections.unmodifiableSet(new TreeSet<>(authorizationSubjects));
+            this.isSudo = isSudo;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return isSudo == that.isSudo &&
+                    Objects.equals(criteria, that.criteria) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    Objects.equals(authorizationSubjects, that.authorizationSubjects);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(criteria, namespaces, authorizationSubjects, isSudo);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "criteria=" + criteria +
+                    ", namespaces=" + namespaces +
+                    ", authorizationSubjects=" + authorizationSubjects +
+                    ", isSudo=" + isSudo +
+                    "]";
+        }
+
+    }
+
+}
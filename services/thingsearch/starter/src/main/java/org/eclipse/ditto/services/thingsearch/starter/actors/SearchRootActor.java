@@ -108,7 +108,7 @@ public final class SearchRootActor extends AbstractActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence thingsSyncPersistence =
@@ -165,12 +165,13 @@ public final class SearchRootActor extends AbstractActor {
                 .orElse(persistence);
     }
 
-    private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+    private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig);
+        final QueryParser queryParser = getQueryParser(searchConfig.getLimitsConfig());
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME,
+                SearchActor.props(queryParser, thingsSearchPersistence, searchConfig.getCountCacheConfig()));
     }
 
     static QueryParser getQueryParser(final LimitsConfig limitsConfig) {
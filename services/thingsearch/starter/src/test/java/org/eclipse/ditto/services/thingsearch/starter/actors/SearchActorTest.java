@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountCacheConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the count cache of {@link SearchActor}.
+ */
+public final class SearchActorTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(AuthorizationSubject.newInstance("ditto:ditto")))
+            .build();
+    private static final DittoHeaders APPROXIMATE_DITTO_HEADERS = DITTO_HEADERS.toBuilder()
+            .putHeader(SearchActor.COUNT_APPROXIMATE_HEADER, "true")
+            .build();
+
+    private ActorSystem actorSystem;
+    private ThingsSearchPersistence searchPersistence;
+    private AtomicLong counts;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(),
+                ConfigFactory.parseString("search-dispatcher.type = Dispatcher"));
+        counts = new AtomicLong();
+        searchPersistence = mock(ThingsSearchPersistence.class);
+        // each count in the persistence returns the number of counts so far
+        when(searchPersistence.count(any(Query.class), anyList()))
+                .thenAnswer(invocation -> Source.single(counts.incrementAndGet()));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void approximateCountsAreAnsweredFromCacheWithinMaxStaleness() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(
+                    SearchRootActor.getQueryParser(DefaultLimitsConfig.of(ConfigFactory.empty())),
+                    searchPersistence,
+                    DefaultCountCacheConfig.of(ConfigFactory.parseString("count-cache.max-staleness = 1h"))));
+
+            underTest.tell(countThings(APPROXIMATE_DITTO_HEADERS), getRef());
+            expectCount(this, 1L);
+
+            underTest.tell(countThings(APPROXIMATE_DITTO_HEADERS), getRef());
+            expectCount(this, 1L);
+
+            // exact counts always count in the persistence and refresh the cache
+            underTest.tell(countThings(DITTO_HEADERS), getRef());
+            expectCount(this, 2L);
+
+            underTest.tell(countThings(APPROXIMATE_DITTO_HEADERS), getRef());
+            expectCount(this, 2L);
+
+            verify(searchPersistence, times(2)).count(any(Query.class), anyList());
+        }};
+    }
+
+    @Test
+    public void countsWithoutApproximateHeaderAreNotAnsweredFromCache() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(
+                    SearchRootActor.getQueryParser(DefaultLimitsConfig.of(ConfigFactory.empty())),
+                    searchPersistence,
+                    DefaultCountCacheConfig.of(ConfigFactory.parseString("count-cache.max-staleness = 1h"))));
+
+            underTest.tell(countThings(DITTO_HEADERS), getRef());
+            expectCount(this, 1L);
+
+            underTest.tell(countThings(DITTO_HEADERS), getRef());
+            expectCount(this, 2L);
+        }};
+    }
+
+    private static void expectCount(final TestKit testKit, final long count) {
+        assertThat(testKit.expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(count);
+    }
+
+    private static CountThings countThings(final DittoHeaders dittoHeaders) {
+        return CountThings.of("eq(attributes/x,1)", Collections.singleton("foo"), dittoHeaders);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountCacheConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link SearchCountCache}.
+ */
+public final class SearchCountCacheTest {
+
+    private static final CriteriaFactory CRITERIA_FACTORY = new CriteriaFactoryImpl();
+    private static final Criteria CRITERIA = CRITERIA_FACTORY.any();
+
+    private SearchCountCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = SearchCountCache.of(DefaultCountCacheConfig.of(
+                ConfigFactory.parseString("count-cache { maximum-size = 10, max-staleness = 1h }")));
+    }
+
+    @Test
+    public void testHashCodeAndEqualsOfKey() {
+        EqualsVerifier.forClass(SearchCountCache.Key.class)
+                .withPrefabValues(Criteria.class, CRITERIA, CRITERIA_FACTORY.nor(CRITERIA))
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void keyIgnoresOrderOfAuthorizationSubjects() {
+        final SearchCountCache.Key key = SearchCountCache.key(CRITERIA, null, Arrays.asList("a", "b"), false);
+        underTest.put(key, 42L);
+
+        assertThat(underTest.get(SearchCountCache.key(CRITERIA, null, Arrays.asList("b", "a"), false)))
+                .contains(42L);
+        assertThat(underTest.get(SearchCountCache.key(CRITERIA, null, Arrays.asList("b", "a"), true))).isEmpty();
+        assertThat(underTest.get(SearchCountCache.key(CRITERIA_FACTORY.nor(CRITERIA), null,
+                Arrays.asList("b", "a"), false))).isEmpty();
+    }
+
+    @Test
+    public void countsOfDifferentNamespacesAreCachedSeparately() {
+        final SearchCountCache.Key fooKey =
+                SearchCountCache.key(CRITERIA, Collections.singleton("foo"), Collections.singletonList("a"), false);
+        final SearchCountCache.Key fooBarKey =
+                SearchCountCache.key(CRITERIA, new HashSet<>(Arrays.asList("foo", "bar")),
+                        Collections.singletonList("a"), false);
+        final SearchCountCache.Key allKey = SearchCountCache.key(CRITERIA, null, Collections.singletonList("a"), false);
+        underTest.put(fooKey, 1L);
+        underTest.put(fooBarKey, 2L);
+
+        assertThat(underTest.get(fooKey)).contains(1L);
+        assertThat(underTest.get(fooBarKey)).contains(2L);
+        assertThat(underTest.get(allKey)).isEmpty();
+    }
+
+    @Test
+    public void laterCountReplacesEarlierOne() {
+        final SearchCountCache.Key key =
+                SearchCountCache.key(CRITERIA, Collections.singleton("foo"), Collections.singletonList("a"), false);
+
+        underTest.put(key, 1L);
+        underTest.put(key, 2L);
+
+        assertThat(underTest.get(key)).contains(2L);
+    }
+
+    @Test
+    public void countsExpireAfterMaxStaleness() throws InterruptedException {
+        final SearchCountCache shortLivedCache = SearchCountCache.of(DefaultCountCacheConfig.of(
+                ConfigFactory.parseString("count-cache { maximum-size = 10, max-staleness = 50ms }")));
+        final SearchCountCache.Key key = SearchCountCache.key(CRITERIA, null, Collections.singletonList("a"), false);
+        shortLivedCache.put(key, 1L);
+
+        TimeUnit.MILLISECONDS.sleep(200L);
+
+        assertThat(shortLivedCache.get(key)).isEmpty();
+    }
+
+}
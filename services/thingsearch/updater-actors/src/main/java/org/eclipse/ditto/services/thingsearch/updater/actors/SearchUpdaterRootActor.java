@@ -97,7 +97,9 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(), ChangeQueueActor.ACTOR_NAME);
+        final ActorRef changeQueueActor = getContext().actorOf(
+                ChangeQueueActor.props(searchConfig.getStreamConfig().getChangeQueueConfig()),
+                ChangeQueueActor.ACTOR_NAME);
         updaterStreamKillSwitch =
                 startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
                         changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
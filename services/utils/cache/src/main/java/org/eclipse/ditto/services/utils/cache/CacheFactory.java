@@ -14,7 +14,9 @@ package org.eclipse.ditto.services.utils.cache;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -23,6 +25,8 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig}.
@@ -96,6 +100,72 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a synchronous cache bounded by the total weight of its entries, e. g. for values which are cheap to
+     * compute but are requested often. Hits, misses and evictions are reported via {@link MetricsStatsCounter}.
+     *
+     * @param maximumWeight the maximum total weight of all entries.
+     * @param weigher computes the weight of an entry.
+     * @param cacheName the name of the cache. Used as metric label.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> com.github.benmanes.caffeine.cache.Cache<K, V> createWeightedCache(final long maximumWeight,
+            final Weigher<K, V> weigher,
+            final String cacheName) {
+
+        checkNotNull(weigher, "Weigher");
+        checkNotNull(cacheName, "cache name");
+        final AtomicReference<com.github.benmanes.caffeine.cache.Cache<K, V>> cacheReference =
+                new AtomicReference<>();
+        final MetricsStatsCounter metricsStatsCounter = MetricsStatsCounter.of(cacheName, () -> maximumWeight,
+                () -> Optional.ofNullable(cacheReference.get())
+                        .map(com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                        .orElse(0L));
+        final com.github.benmanes.caffeine.cache.Cache<K, V> cache = Caffeine.newBuilder()
+                .recordStats(() -> metricsStatsCounter)
+                .maximumWeight(maximumWeight)
+                .weigher(weigher)
+                .build();
+        cacheReference.set(cache);
+        return cache;
+    }
+
+    /**
+     * Creates a synchronous cache whose entries expire individually, e. g. at the expiration time of the credentials
+     * they were derived from. Hits, misses and evictions are reported via {@link MetricsStatsCounter}.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @param expiry computes the lifetime of each entry.
+     * @param cacheName the name of the cache. Used as metric label.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> com.github.benmanes.caffeine.cache.Cache<K, V> createExpiringCache(final long maximumSize,
+            final Expiry<K, V> expiry,
+            final String cacheName) {
+
+        checkNotNull(expiry, "Expiry");
+        checkNotNull(cacheName, "cache name");
+        final AtomicReference<com.github.benmanes.caffeine.cache.Cache<K, V>> cacheReference =
+                new AtomicReference<>();
+        final MetricsStatsCounter metricsStatsCounter = MetricsStatsCounter.of(cacheName, () -> maximumSize,
+                () -> Optional.ofNullable(cacheReference.get())
+                        .map(com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                        .orElse(0L));
+        final com.github.benmanes.caffeine.cache.Cache<K, V> cache = Caffeine.newBuilder()
+                .recordStats(() -> metricsStatsCounter)
+                .maximumSize(maximumSize)
+                .expireAfter(expiry)
+                .build();
+        cacheReference.set(cache);
+        return cache;
+    }
+
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
         checkNotNull(cacheConfig, "CacheConfig");
         checkNotNull(executor, "Executor");
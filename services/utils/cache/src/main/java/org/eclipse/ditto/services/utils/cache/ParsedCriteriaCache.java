@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.filter.CriteriaCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * {@link CriteriaCache} bounded by the total length of the cached filter strings. Parse failures are not cached.
+ */
+@ThreadSafe
+public final class ParsedCriteriaCache implements CriteriaCache {
+
+    private final Cache<Key, Criteria> cache;
+
+    private ParsedCriteriaCache(final Cache<Key, Criteria> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a new ParsedCriteriaCache.
+     *
+     * @param maximumFilterLength the maximum total length of all cached filter strings.
+     * @param cacheName the name of the cache. Used as metric label.
+     * @return the cache.
+     * @throws NullPointerException if {@code cacheName} is {@code null}.
+     */
+    public static ParsedCriteriaCache of(final long maximumFilterLength, final String cacheName) {
+        return new ParsedCriteriaCache(
+                CacheFactory.createWeightedCache(maximumFilterLength, (key, criteria) -> key.filter.length(),
+                        cacheName));
+    }
+
+    @Override
+    public Criteria get(final String filter, final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final Function<String, Criteria> parser) {
+
+        checkNotNull(filter, "filter");
+        checkNotNull(fieldExpressionFactory, "fieldExpressionFactory");
+        return cache.get(new Key(filter, fieldExpressionFactory), key -> parser.apply(key.filter));
+    }
+
+    private static final class Key {
+
+        private final String filter;
+        private final ThingsFieldExpressionFactory fieldExpressionFactory;
+
+        private Key(final String filter, final ThingsFieldExpressionFactory fieldExpressionFactory) {
+            this.filter = filter;
+            this.fieldExpressionFactory = fieldExpressionFactory;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return filter.equals(that.filter) && fieldExpressionFactory.equals(that.fieldExpressionFactory);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, fieldExpressionFactory);
+        }
+
+    }
+
+}
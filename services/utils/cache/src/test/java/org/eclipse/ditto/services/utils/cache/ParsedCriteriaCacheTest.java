@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.model.query.filter.CriteriaCache;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ParsedCriteriaCache}.
+ */
+public final class ParsedCriteriaCacheTest {
+
+    private static final String FILTER = "and(eq(thingId,\"ns:id\"),exists(attributes/location))";
+    private static final CriteriaFactory CRITERIA_FACTORY = new CriteriaFactoryImpl();
+
+    private CriteriaCache underTest;
+    private AtomicInteger parseCount;
+
+    @Before
+    public void setUp() {
+        final ParsedCriteriaCache parsedCriteriaCache = ParsedCriteriaCache.of(1024L, "test_rql_filters");
+        parseCount = new AtomicInteger();
+        underTest = (filter, fieldExpressionFactory, parser) ->
+                parsedCriteriaCache.get(filter, fieldExpressionFactory, f -> {
+                    parseCount.incrementAndGet();
+                    return parser.apply(f);
+                });
+    }
+
+    @Test
+    public void equalFiltersAreParsedOnce() {
+        final Criteria first = newModelBasedFactory().filterCriteria(FILTER, DittoHeaders.empty());
+        final Criteria second = newModelBasedFactory().filterCriteria(FILTER, DittoHeaders.empty());
+
+        assertThat(second).isSameAs(first);
+        assertThat(parseCount).hasValue(1);
+    }
+
+    @Test
+    public void differentFieldExpressionFactoriesDoNotShareCriteria() {
+        final Criteria modelBased = newModelBasedFactory().filterCriteria(FILTER, DittoHeaders.empty());
+        final Criteria mongoBased =
+                new QueryFilterCriteriaFactory(CRITERIA_FACTORY, new ThingsFieldExpressionFactoryImpl(), underTest)
+                        .filterCriteria(FILTER, DittoHeaders.empty());
+
+        assertThat(mongoBased).isNotEqualTo(modelBased);
+        assertThat(parseCount).hasValue(2);
+    }
+
+    @Test
+    public void parseFailuresAreNotCached() {
+        final String invalidFilter = "eq(thingId";
+
+        for (int i = 0; i < 2; ++i) {
+            assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                    .isThrownBy(() -> newModelBasedFactory().filterCriteria(invalidFilter, DittoHeaders.empty()));
+        }
+        assertThat(parseCount).hasValue(2);
+    }
+
+    private QueryFilterCriteriaFactory newModelBasedFactory() {
+        return new QueryFilterCriteriaFactory(CRITERIA_FACTORY, new ModelBasedThingsFieldExpressionFactory(),
+                underTest);
+    }
+
+}
@@ -14,7 +14,10 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
@@ -41,6 +44,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,14 +61,17 @@ import akka.serialization.SerializerWithStringManifest;
 
 /**
  * Abstract {@link SerializerWithStringManifest} which handles serializing and deserializing {@link Jsonifiable}s
- * {@link WithDittoHeaders}.
+ * {@link WithDittoHeaders}. Subclasses define the wire format of the JSON object holding DittoHeaders and payload.
  */
 public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends SerializerWithStringManifest
         implements ByteBufferSerializer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractJsonifiableWithDittoHeadersSerializer.class);
 
-    private static final Charset UTF8_CHARSET = StandardCharsets.UTF_8;
+    /**
+     * The charset used for encoding and decoding JSON strings.
+     */
+    protected static final Charset UTF8_CHARSET = StandardCharsets.UTF_8;
 
     private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
             JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
@@ -75,12 +82,16 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
             "akka.actor.serializers-json.direct-buffer-pool-limit";
+    private static final String CONFIG_MAX_BUFFER_SIZE = "akka.actor.serializers-json.max-buffer-size";
 
     private static final Config FALLBACK_CONF = ConfigFactory.empty()
             .withValue(CONFIG_DIRECT_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
-            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
+            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"))
+            .withValue(CONFIG_MAX_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("16 MiB"));
 
     private static final String METRIC_NAME = "json_serializer_messages";
+    private static final String METRIC_NAME_SIZE = "json_serializer_message_size";
+    private static final String METRIC_NAME_BUFFER_GROWTH = "json_serializer_buffer_growth";
     private static final String METRIC_DIRECTION = "direction";
 
     private final int identifier;
@@ -88,8 +99,12 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Function<Object, String> manifestProvider;
     private final BufferPool byteBufferPool;
     private final Long defaultBufferSize;
+    private final Long maxBufferSize;
     private final Counter inCounter;
     private final Counter outCounter;
+    private final Histogram inSizeHistogram;
+    private final Histogram outSizeHistogram;
+    private final Counter bufferGrowthCounter;
 
     /**
      * Constructs a new {@code AbstractJsonifiableWithDittoHeadersSerializer} object.
@@ -107,11 +122,18 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
         final int maxPoolEntries = config.withFallback(FALLBACK_CONF).getInt(CONFIG_DIRECT_BUFFER_POOL_LIMIT);
         byteBufferPool = new DirectByteBufferPool(defaultBufferSize.intValue(), maxPoolEntries);
+        maxBufferSize = Math.min(Integer.MAX_VALUE,
+                Math.max(defaultBufferSize, config.withFallback(FALLBACK_CONF).getBytes(CONFIG_MAX_BUFFER_SIZE)));
 
         inCounter = DittoMetrics.counter(METRIC_NAME)
                 .tag(METRIC_DIRECTION, "in");
         outCounter = DittoMetrics.counter(METRIC_NAME)
                 .tag(METRIC_DIRECTION, "out");
+        inSizeHistogram = DittoMetrics.histogram(METRIC_NAME_SIZE)
+                .tag(METRIC_DIRECTION, "in");
+        outSizeHistogram = DittoMetrics.histogram(METRIC_NAME_SIZE)
+                .tag(METRIC_DIRECTION, "out");
+        bufferGrowthCounter = DittoMetrics.counter(METRIC_NAME_BUFFER_GROWTH);
     }
 
     @Override
@@ -127,59 +149,130 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
-            final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final String jsonStr = jsonObjectBuilder.build().toString();
+            final JsonObject jsonObject = toJsonObject((Jsonifiable) object);
+            final int startPosition = buf.position();
 
             try {
-                buf.put(UTF8_CHARSET.encode(jsonStr));
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonStr);
+                serializeIntoByteBuffer(jsonObject, buf);
+                LOG.trace("toBinary JSON about to send 'out': {}", jsonObject);
                 outCounter.increment();
+                outSizeHistogram.record((long) (buf.position() - startPosition));
             } catch (final BufferOverflowException e) {
-                LOG.warn("Could not put bytes of JSON string <{}> into ByteBuffer due to BufferOverflow", jsonStr, e);
+                LOG.warn("Could not put bytes of JSON <{}> into ByteBuffer due to BufferOverflow", jsonObject, e);
                 throw e;
             }
         } else {
-            LOG.error("Could not serialize class <{}> as it does not implement <{}>!", object.getClass(),
-                    Jsonifiable.WithPredicate.class);
-            final String error = new NotSerializableException(object.getClass().getName()).getMessage();
-            buf.put(UTF8_CHARSET.encode(error));
+            buf.put(encodeNotSerializable(object));
         }
     }
 
+    private static JsonObject toJsonObject(final Jsonifiable jsonifiable) {
+        final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(jsonifiable);
+        jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
+
+        final JsonValue jsonValue;
+
+        if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion =
+                    dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+
+            jsonValue = ((Jsonifiable.WithPredicate) jsonifiable).toJson(schemaVersion, FieldType.regularOrSpecial());
+        } else {
+            jsonValue = jsonifiable.toJson();
+        }
+
+        jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
+        return jsonObjectBuilder.build();
+    }
+
+    private static ByteBuffer encodeNotSerializable(final Object object) {
+        LOG.error("Could not serialize class <{}> as it does not implement <{}>!", object.getClass(),
+                Jsonifiable.WithPredicate.class);
+        final String error = new NotSerializableException(object.getClass().getName()).getMessage();
+        return UTF8_CHARSET.encode(error);
+    }
+
+    /**
+     * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer} in the wire format of this
+     * serializer.
+     *
+     * @param jsonObject the JSON object containing the DittoHeaders and the payload to serialize.
+     * @param byteBuffer the ByteBuffer to write into.
+     * @throws BufferOverflowException if {@code byteBuffer} has not enough space left.
+     */
+    protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer);
+
+    /**
+     * Serializes the passed {@code jsonObject} into the passed {@code outputStream} in the same wire format as
+     * {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}. The stream is neither flushed nor closed.
+     *
+     * @param jsonObject the JSON object containing the DittoHeaders and the payload to serialize.
+     * @param outputStream the stream to write to.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    protected abstract void serializeIntoOutputStream(JsonObject jsonObject, OutputStream outputStream)
+            throws IOException;
+
+    /**
+     * Deserializes the content of the passed {@code byteBuffer} which was written by
+     * {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)} back into a JSON object.
+     *
+     * @param byteBuffer the ByteBuffer to read from.
+     * @return the deserialized JSON object containing the DittoHeaders and the payload.
+     * @throws JsonRuntimeException if the content of {@code byteBuffer} could not be deserialized.
+     */
+    protected abstract JsonObject deserializeFromByteBuffer(ByteBuffer byteBuffer);
+
+    /**
+     * Serializes the passed object into a byte array. The object is serialized in a single pass into a chain of
+     * pooled direct buffers of the configured {@code direct-buffer-size}, which may grow up to the configured
+     * {@code max-buffer-size}. The serialized bytes are copied exactly once into the resulting array.
+     *
+     * @param object the object to serialize.
+     * @return the serialized bytes.
+     * @throws IllegalArgumentException if the serialized object exceeds the configured {@code max-buffer-size}.
+     */
     @Override
     public byte[] toBinary(final Object object) {
-        final ByteBuffer buf = byteBufferPool.acquire();
+        if (!(object instanceof Jsonifiable)) {
+            return toByteArray(encodeNotSerializable(object));
+        }
 
-        try {
-            toBinary(object, buf);
-            buf.flip();
-            final byte[] bytes = new byte[buf.remaining()];
-            buf.get(bytes);
-            return bytes;
+        final JsonObject jsonObject = toJsonObject((Jsonifiable) object);
+        final byte[] bytes = serializeIntoPooledSegments(object, jsonObject);
+        LOG.trace("toBinary JSON about to send 'out': {}", jsonObject);
+        outCounter.increment();
+        outSizeHistogram.record((long) bytes.length);
+        return bytes;
+    }
+
+    private byte[] serializeIntoPooledSegments(final Object object, final JsonObject jsonObject) {
+        try (final PooledSegmentsOutputStream outputStream =
+                     new PooledSegmentsOutputStream(byteBufferPool, maxBufferSize)) {
+            serializeIntoOutputStream(jsonObject, outputStream);
+            final int numberOfSegments = outputStream.getNumberOfSegments();
+            if (numberOfSegments > 1) {
+                bufferGrowthCounter.increment(numberOfSegments - 1L);
+                LOG.debug("Serialized object <{}> into <{}> pooled segments.", object.getClass(), numberOfSegments);
+            }
+            return outputStream.toByteArray();
         } catch (final BufferOverflowException e) {
             LOG.error("BufferOverflow when serializing object <{}>, max buffer size was: <{}>", object,
-                    defaultBufferSize, e);
+                    maxBufferSize, e);
             throw new IllegalArgumentException(e);
-        } finally {
-            byteBufferPool.release(buf);
+        } catch (final IOException e) {
+            // the pooled segments never fail to be written
+            throw new UncheckedIOException(e);
         }
     }
 
+    private static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return bytes;
+    }
+
     private static DittoHeaders getDittoHeadersOrEmpty(final Object object) {
         if (object instanceof WithDittoHeaders) {
             @Nullable final DittoHeaders dittoHeaders = ((WithDittoHeaders) object).getDittoHeaders();
@@ -194,10 +287,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
-        final String json = UTF8_CHARSET.decode(buf).toString();
+        inSizeHistogram.record((long) buf.remaining());
         try {
-            final Jsonifiable jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, json);
-            LOG.trace("fromBinary json which got 'in': {}", json);
+            final Jsonifiable jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
             inCounter.increment();
             return jsonifiable;
         } catch (final NotSerializableException e) {
@@ -210,18 +302,18 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return fromBinary(ByteBuffer.wrap(bytes), manifest);
     }
 
-    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final ByteBuffer byteBuffer)
             throws NotSerializableException {
         try {
-            return createJsonifiableFrom(manifest, json);
+            return createJsonifiableFrom(manifest, byteBuffer);
         } catch (final DittoRuntimeException | JsonRuntimeException e) {
-            LOG.error("Got <{}> during fromBinary(byte[],String) deserialization for manifest <{}> and JSON: '{}'",
-                    e.getClass().getSimpleName(), manifest, json, e);
+            LOG.error("Got <{}> during fromBinary(byte[],String) deserialization for manifest <{}>: {}",
+                    e.getClass().getSimpleName(), manifest, e.getMessage(), e);
             throw new NotSerializableException(manifest);
         }
     }
 
-    private Jsonifiable createJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable createJsonifiableFrom(final String manifest, final ByteBuffer byteBuffer)
             throws NotSerializableException {
 
         final Optional<MappingStrategy> mappingStrategy = this.mappingStrategies.getMappingStrategyFor(manifest);
@@ -231,7 +323,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             throw new NotSerializableException(manifest);
         }
 
-        final JsonObject jsonObject = JsonFactory.newObject(json);
+        final JsonObject jsonObject = deserializeFromByteBuffer(byteBuffer);
+        LOG.trace("fromBinary JSON which got 'in': {}", jsonObject);
 
         final JsonObject payload = getPayload(jsonObject);
 
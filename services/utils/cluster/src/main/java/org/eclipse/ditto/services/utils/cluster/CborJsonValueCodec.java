@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Writes {@link JsonValue}s directly into a {@link ByteBuffer} or an {@link OutputStream} in the binary CBOR format
+ * (RFC 7049) and reads them back again from a {@code ByteBuffer}. Only the subset of CBOR needed to represent JSON is
+ * supported: unsigned and negative integers, text strings, definite length arrays and maps, booleans, {@code null} and
+ * double precision floats.
+ * <p>
+ * Strings are UTF-8 encoded into the target buffer character by character so that no intermediate {@code String} or
+ * {@code byte[]} representation of the whole JSON is created.
+ * </p>
+ */
+@Immutable
+final class CborJsonValueCodec {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INT = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INT = 1;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_SIMPLE_OR_FLOAT = 7;
+
+    private static final int ADDITIONAL_INFO_ONE_BYTE = 24;
+    private static final int ADDITIONAL_INFO_TWO_BYTES = 25;
+    private static final int ADDITIONAL_INFO_FOUR_BYTES = 26;
+    private static final int ADDITIONAL_INFO_EIGHT_BYTES = 27;
+
+    private static final byte FALSE = (byte) 0xf4;
+    private static final byte TRUE = (byte) 0xf5;
+    private static final byte NULL = (byte) 0xf6;
+    private static final byte DOUBLE = (byte) 0xfb;
+
+    private static final char REPLACEMENT_CHAR = '?';
+
+    private CborJsonValueCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Writes the CBOR representation of the given JSON value at the current position of the given buffer.
+     *
+     * @param jsonValue the JSON value to write.
+     * @param byteBuffer the buffer to write into.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough space left.
+     */
+    static void writeValue(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        new ByteBufferWriter(byteBuffer).writeValue(jsonValue);
+    }
+
+    /**
+     * Writes the CBOR representation of the given JSON value to the given stream. The stream is neither flushed nor
+     * closed.
+     *
+     * @param jsonValue the JSON value to write.
+     * @param outputStream the stream to write to.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    static void writeValue(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        try {
+            new OutputStreamWriter(outputStream).writeValue(jsonValue);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads one CBOR encoded JSON value from the current position of the given buffer.
+     *
+     * @param byteBuffer the buffer to read from.
+     * @return the read JSON value.
+     * @throws JsonParseException if the buffer does not contain a valid CBOR encoded JSON value.
+     */
+    static JsonValue readValue(final ByteBuffer byteBuffer) {
+        try {
+            return readValueOrThrow(byteBuffer);
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to read CBOR encoded JSON value: unexpected end of input or invalid length.")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue readValueOrThrow(final ByteBuffer byteBuffer) {
+        final int initialByte = byteBuffer.get() & 0xff;
+        final int majorType = initialByte >>> 5;
+        final int additionalInfo = initialByte & 0x1f;
+
+        switch (majorType) {
+            case MAJOR_TYPE_UNSIGNED_INT:
+                return toJsonNumber(readArgument(additionalInfo, byteBuffer), false);
+            case MAJOR_TYPE_NEGATIVE_INT:
+                return toJsonNumber(readArgument(additionalInfo, byteBuffer), true);
+            case MAJOR_TYPE_TEXT_STRING:
+                return JsonFactory.newValue(readString(additionalInfo, byteBuffer));
+            case MAJOR_TYPE_ARRAY:
+                return readArray(additionalInfo, byteBuffer);
+            case MAJOR_TYPE_MAP:
+                return readObject(additionalInfo, byteBuffer);
+            case MAJOR_TYPE_SIMPLE_OR_FLOAT:
+                return readSimpleOrFloat(initialByte, byteBuffer);
+            default:
+                throw unsupported(initialByte);
+        }
+    }
+
+    private static JsonValue toJsonNumber(final long argument, final boolean negative) {
+        if (argument < 0) {
+            // the unsigned argument does not fit into a signed long
+            throw JsonParseException.newBuilder()
+                    .message("CBOR integer exceeds the range of a 64 bit signed integer.")
+                    .build();
+        }
+        final long value = negative ? -1L - argument : argument;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return JsonFactory.newValue((int) value);
+        }
+        return JsonFactory.newValue(value);
+    }
+
+    private static String readString(final int additionalInfo, final ByteBuffer byteBuffer) {
+        final int length = toLength(readArgument(additionalInfo, byteBuffer));
+        if (length > byteBuffer.remaining()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("CBOR text string of length <{0}> exceeds the <{1}> remaining bytes!",
+                            length, byteBuffer.remaining()))
+                    .build();
+        }
+        final String result;
+        if (byteBuffer.hasArray()) {
+            final int position = byteBuffer.position();
+            result = new String(byteBuffer.array(), byteBuffer.arrayOffset() + position, length,
+                    StandardCharsets.UTF_8);
+            byteBuffer.position(position + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    private static JsonArray readArray(final int additionalInfo, final ByteBuffer byteBuffer) {
+        final int size = toLength(readArgument(additionalInfo, byteBuffer));
+        final List<JsonValue> values = new ArrayList<>(Math.min(size, byteBuffer.remaining()));
+        for (int i = 0; i < size; i++) {
+            values.add(readValueOrThrow(byteBuffer));
+        }
+        return JsonFactory.newArrayBuilder(values).build();
+    }
+
+    private static JsonObject readObject(final int additionalInfo, final ByteBuffer byteBuffer) {
+        final int size = toLength(readArgument(additionalInfo, byteBuffer));
+        final List<JsonField> fields = new ArrayList<>(Math.min(size, byteBuffer.remaining()));
+        for (int i = 0; i < size; i++) {
+            final int keyInitialByte = byteBuffer.get() & 0xff;
+            if (keyInitialByte >>> 5 != MAJOR_TYPE_TEXT_STRING) {
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("CBOR map key with initial byte <{0}> is not a text string!",
+                                keyInitialByte))
+                        .build();
+            }
+            final String key = readString(keyInitialByte & 0x1f, byteBuffer);
+            fields.add(JsonFactory.newField(JsonFactory.newKey(key), readValueOrThrow(byteBuffer)));
+        }
+        return JsonFactory.newObject(fields);
+    }
+
+    private static JsonValue readSimpleOrFloat(final int initialByte, final ByteBuffer byteBuffer) {
+        switch ((byte) initialByte) {
+            case FALSE:
+                return JsonFactory.newValue(false);
+            case TRUE:
+                return JsonFactory.newValue(true);
+            case NULL:
+                return JsonFactory.nullLiteral();
+            case DOUBLE:
+                return JsonFactory.newValue(byteBuffer.getDouble());
+            default:
+                throw unsupported(initialByte);
+        }
+    }
+
+    private static long readArgument(final int additionalInfo, final ByteBuffer byteBuffer) {
+        if (additionalInfo < ADDITIONAL_INFO_ONE_BYTE) {
+            return additionalInfo;
+        }
+        switch (additionalInfo) {
+            case ADDITIONAL_INFO_ONE_BYTE:
+                return byteBuffer.get() & 0xffL;
+            case ADDITIONAL_INFO_TWO_BYTES:
+                return byteBuffer.getShort() & 0xffffL;
+            case ADDITIONAL_INFO_FOUR_BYTES:
+                return byteBuffer.getInt() & 0xffffffffL;
+            case ADDITIONAL_INFO_EIGHT_BYTES:
+                return byteBuffer.getLong();
+            default:
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Indefinite or reserved CBOR length <{0}> is not supported!",
+                                additionalInfo))
+                        .build();
+        }
+    }
+
+    private static int toLength(final long argument) {
+        if (argument < 0 || argument > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("CBOR length out of range: " + argument);
+        }
+        return (int) argument;
+    }
+
+    private static JsonParseException unsupported(final int initialByte) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("CBOR data item with initial byte <{0}> is not supported!",
+                        initialByte))
+                .build();
+    }
+
+    /**
+     * Writes the CBOR representation of JSON values byte by byte to a target.
+     */
+    private abstract static class CborWriter {
+
+        /**
+         * Writes a single byte.
+         *
+         * @param b the byte.
+         */
+        abstract void put(int b);
+
+        private void putShort(final short value) {
+            put(value >> 8);
+            put(value);
+        }
+
+        private void putInt(final int value) {
+            putShort((short) (value >> 16));
+            putShort((short) value);
+        }
+
+        private void putLong(final long value) {
+            putInt((int) (value >> 32));
+            putInt((int) value);
+        }
+
+        void writeValue(final JsonValue jsonValue) {
+            if (jsonValue.isNull()) {
+                put(NULL);
+            } else if (jsonValue.isBoolean()) {
+                put(jsonValue.asBoolean() ? TRUE : FALSE);
+            } else if (jsonValue.isString()) {
+                writeString(jsonValue.asString());
+            } else if (jsonValue.isNumber()) {
+                writeNumber(jsonValue);
+            } else if (jsonValue.isObject()) {
+                writeObject(jsonValue.asObject());
+            } else if (jsonValue.isArray()) {
+                writeArray(jsonValue.asArray());
+            } else {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("JSON value <{0}> has an unknown type!", jsonValue));
+            }
+        }
+
+        private void writeNumber(final JsonValue jsonNumber) {
+            // whole-number doubles report isLong() as well; they keep the float encoding so that the number type
+            // survives a round trip like with the JSON serializer
+            if (jsonNumber.isLong() && !JsonFactory.isFloatingPointNumber(jsonNumber)) {
+                final long value = jsonNumber.asLong();
+                if (value >= 0) {
+                    writeHead(MAJOR_TYPE_UNSIGNED_INT, value);
+                } else {
+                    writeHead(MAJOR_TYPE_NEGATIVE_INT, -1L - value);
+                }
+            } else {
+                put(DOUBLE);
+                putLong(Double.doubleToLongBits(jsonNumber.asDouble()));
+            }
+        }
+
+        private void writeObject(final JsonObject jsonObject) {
+            writeHead(MAJOR_TYPE_MAP, jsonObject.getSize());
+            for (final JsonField jsonField : jsonObject) {
+                writeString(jsonField.getKeyName());
+                writeValue(jsonField.getValue());
+            }
+        }
+
+        private void writeArray(final JsonArray jsonArray) {
+            writeHead(MAJOR_TYPE_ARRAY, jsonArray.getSize());
+            for (final JsonValue jsonValue : jsonArray) {
+                writeValue(jsonValue);
+            }
+        }
+
+        private void writeString(final String string) {
+            writeHead(MAJOR_TYPE_TEXT_STRING, getUtf8Length(string));
+            final int length = string.length();
+            for (int i = 0; i < length; i++) {
+                final char c = string.charAt(i);
+                if (c < 0x80) {
+                    put((byte) c);
+                } else if (c < 0x800) {
+                    put((byte) (0xc0 | (c >> 6)));
+                    put((byte) (0x80 | (c & 0x3f)));
+                } else if (Character.isSurrogate(c)) {
+                    if (isSurrogatePair(string, i)) {
+                        final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                        put((byte) (0xf0 | (codePoint >> 18)));
+                        put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                        put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                        put((byte) (0x80 | (codePoint & 0x3f)));
+                    } else {
+                        // unpaired surrogates are not representable in UTF-8; mimic String#getBytes
+                        put((byte) REPLACEMENT_CHAR);
+                    }
+                } else {
+                    put((byte) (0xe0 | (c >> 12)));
+                    put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                    put((byte) (0x80 | (c & 0x3f)));
+                }
+            }
+        }
+
+        private static int getUtf8Length(final String string) {
+            final int length = string.length();
+            int result = 0;
+            for (int i = 0; i < length; i++) {
+                final char c = string.charAt(i);
+                if (c < 0x80) {
+                    result += 1;
+                } else if (c < 0x800) {
+                    result += 2;
+                } else if (Character.isSurrogate(c)) {
+                    if (isSurrogatePair(string, i)) {
+                        result += 4;
+                        i++;
+                    } else {
+                        result += 1;
+                    }
+                } else {
+                    result += 3;
+                }
+            }
+            return result;
+        }
+
+        private static boolean isSurrogatePair(final String string, final int index) {
+            return Character.isHighSurrogate(string.charAt(index)) && index + 1 < string.length() &&
+                    Character.isLowSurrogate(string.charAt(index + 1));
+        }
+
+        private void writeHead(final int majorType, final long argument) {
+            final int shiftedMajorType = majorType << 5;
+            if (argument < ADDITIONAL_INFO_ONE_BYTE) {
+                put((byte) (shiftedMajorType | argument));
+            } else if (argument <= 0xffL) {
+                put((byte) (shiftedMajorType | ADDITIONAL_INFO_ONE_BYTE));
+                put((byte) argument);
+            } else if (argument <= 0xffffL) {
+                put((byte) (shiftedMajorType | ADDITIONAL_INFO_TWO_BYTES));
+                putShort((short) argument);
+            } else if (argument <= 0xffffffffL) {
+                put((byte) (shiftedMajorType | ADDITIONAL_INFO_FOUR_BYTES));
+                putInt((int) argument);
+            } else {
+                put((byte) (shiftedMajorType | ADDITIONAL_INFO_EIGHT_BYTES));
+                putLong(argument);
+            }
+        }
+
+    }
+
+    private static final class ByteBufferWriter extends CborWriter {
+
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferWriter(final ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        void put(final int b) {
+            byteBuffer.put((byte) b);
+        }
+
+    }
+
+    private static final class OutputStreamWriter extends CborWriter {
+
+        private final OutputStream outputStream;
+
+        private OutputStreamWriter(final OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        void put(final int b) {
+            try {
+                outputStream.write(b);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Serializer for Commands and Events of Eclipse Ditto which uses the binary CBOR format as wire format.
+ * <p>
+ * The JSON values are written directly into the target ByteBuffer without creating an intermediate JSON string.
+ * As the serializer has an own identifier, it may be registered alongside {@link JsonifiableSerializer} on all cluster
+ * nodes before the {@code serialization-bindings} are switched over to it.
+ * </p>
+ */
+@NotThreadSafe
+public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
+
+    private static final int UNIQUE_IDENTIFIER = 784456218;
+
+    /**
+     * Constructs a new {@code CborJsonifiableSerializer} object.
+     */
+    public CborJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance());
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
+        CborJsonValueCodec.writeValue(jsonObject, byteBuffer);
+    }
+
+    @Override
+    protected void serializeIntoOutputStream(final JsonObject jsonObject, final OutputStream outputStream)
+            throws IOException {
+
+        CborJsonValueCodec.writeValue(jsonObject, outputStream);
+    }
+
+    @Override
+    protected JsonObject deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        final JsonValue jsonValue = CborJsonValueCodec.readValue(byteBuffer);
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("CBOR encoded JSON value <{0}> is not an object!", jsonValue))
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
+}
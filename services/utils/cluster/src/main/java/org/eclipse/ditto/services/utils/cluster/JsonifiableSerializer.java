@@ -12,12 +12,23 @@
  */
 package org.eclipse.ditto.services.utils.cluster;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
 import akka.actor.ExtendedActorSystem;
 
 /**
- * Serializer for Commands and Events of Eclipse Ditto.
+ * Serializer for Commands and Events of Eclipse Ditto which uses UTF-8 encoded JSON strings as wire format.
+ * The JSON is written to and parsed from the bytes directly, i. e. without creating an intermediate string.
  */
 @NotThreadSafe
 public final class JsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
@@ -31,4 +42,27 @@ public final class JsonifiableSerializer extends AbstractJsonifiableWithDittoHea
         super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance());
     }
 
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
+        JsonFactory.writeTo(jsonObject, byteBuffer);
+    }
+
+    @Override
+    protected void serializeIntoOutputStream(final JsonObject jsonObject, final OutputStream outputStream)
+            throws IOException {
+
+        JsonFactory.writeTo(jsonObject, outputStream);
+    }
+
+    @Override
+    protected JsonObject deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        final JsonValue jsonValue = JsonFactory.readFrom(byteBuffer);
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("UTF-8 encoded JSON value <{0}> is not an object!", jsonValue))
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import akka.io.BufferPool;
+
+/**
+ * Output stream which writes into a chain of buffers acquired from a {@link BufferPool}. The written bytes are copied
+ * exactly once when {@link #toByteArray()} is called; the buffers are given back to the pool on {@link #close()}.
+ */
+@NotThreadSafe
+final class PooledSegmentsOutputStream extends OutputStream {
+
+    private final BufferPool bufferPool;
+    private final long maxSize;
+    private final List<ByteBuffer> segments;
+    @Nullable private ByteBuffer currentSegment;
+    private long size;
+
+    /**
+     * Creates a new output stream.
+     *
+     * @param bufferPool the pool to acquire the segments from.
+     * @param maxSize the maximum number of bytes which may be written.
+     */
+    PooledSegmentsOutputStream(final BufferPool bufferPool, final long maxSize) {
+        this.bufferPool = bufferPool;
+        this.maxSize = maxSize;
+        segments = new ArrayList<>();
+        currentSegment = null;
+        size = 0L;
+    }
+
+    /**
+     * @throws BufferOverflowException if more than the maximum number of bytes would be written.
+     */
+    @Override
+    public void write(final int b) {
+        ensureCapacity(1);
+        getSegmentWithRemaining().put((byte) b);
+        size++;
+    }
+
+    /**
+     * @throws BufferOverflowException if more than the maximum number of bytes would be written.
+     */
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        ensureCapacity(length);
+        int written = 0;
+        while (written < length) {
+            final ByteBuffer segment = getSegmentWithRemaining();
+            final int chunkSize = Math.min(length - written, segment.remaining());
+            segment.put(bytes, offset + written, chunkSize);
+            written += chunkSize;
+        }
+        size += length;
+    }
+
+    /**
+     * Returns the number of pooled segments written into so far.
+     *
+     * @return the number of segments.
+     */
+    int getNumberOfSegments() {
+        return segments.size();
+    }
+
+    /**
+     * Copies the written bytes of all segments into one array.
+     *
+     * @return the written bytes.
+     */
+    byte[] toByteArray() {
+        final byte[] result = new byte[(int) size];
+        int offset = 0;
+        for (final ByteBuffer segment : segments) {
+            final ByteBuffer writtenBytes = (ByteBuffer) segment.duplicate().flip();
+            final int length = writtenBytes.remaining();
+            writtenBytes.get(result, offset, length);
+            offset += length;
+        }
+        return result;
+    }
+
+    /**
+     * Gives all segments back to the pool. The stream must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        for (final ByteBuffer segment : segments) {
+            bufferPool.release(segment);
+        }
+        segments.clear();
+        currentSegment = null;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (size + length > maxSize) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    private ByteBuffer getSegmentWithRemaining() {
+        if (currentSegment == null || !currentSegment.hasRemaining()) {
+            final ByteBuffer segment = bufferPool.acquire();
+            segment.clear();
+            segments.add(segment);
+            currentSegment = segment;
+        }
+        return currentSegment;
+    }
+
+}
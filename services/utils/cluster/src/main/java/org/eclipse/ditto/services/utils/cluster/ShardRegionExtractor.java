@@ -98,19 +98,30 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         return entity;
     }
 
-    @SuppressWarnings({"squid:S2676"})
     @Override
     public String shardId(final Object message) {
         final String entityId = entityId(message);
         if (entityId != null) {
-            final int hashcode = entityId.hashCode();
-            // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
-            final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
-            return Integer.toString(nonNegativeHashcode % numberOfShards);
+            return shardIdOfEntityId(entityId);
         }
         return null;
     }
 
+    /**
+     * Computes the ID of the shard which hosts the entity with the given ID.
+     *
+     * @param entityId the ID of the entity.
+     * @return the shard ID.
+     * @throws NullPointerException if {@code entityId} is {@code null}.
+     */
+    @SuppressWarnings({"squid:S2676"})
+    public String shardIdOfEntityId(final CharSequence entityId) {
+        final int hashcode = entityId.toString().hashCode();
+        // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
+        final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
+        return Integer.toString(nonNegativeHashcode % numberOfShards);
+    }
+
     /**
      * Get shard IDs that are not active.
      *
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Unit test for {@link CborJsonifiableSerializer}
+ */
+public final class CborJsonifiableSerializerTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationSubjects("authSubject")
+            .correlationId("correlationId")
+            .source("source")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .build();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "myThing");
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setAttributes(JsonFactory.newObjectBuilder()
+                    .set("int", 42)
+                    .set("negativeLong", Long.MIN_VALUE)
+                    .set("double", 23.5)
+                    .set("bool", true)
+                    .set("string", "ä€😀")
+                    .set("null", JsonValue.nullLiteral())
+                    .set("array", JsonFactory.newArrayBuilder().add(1, 2, 300000).add("x").build())
+                    .set("nested", JsonFactory.newObjectBuilder().set("deep", JsonObject.empty()).build())
+                    .build())
+            .build();
+
+    private CborJsonifiableSerializer underTest;
+
+    @Before
+    public void setUp() {
+        final ExtendedActorSystem actorSystem =
+                (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.empty()
+                        .withValue("ditto.mapping-strategy.implementation",
+                                ConfigValueFactory.fromAnyRef(
+                                        JsonifiableSerializerTest.ThingCommandsStrategy.class.getName())));
+        underTest = new CborJsonifiableSerializer(actorSystem);
+    }
+
+    @Test
+    public void thingCommandSerializationWorksAsExpected() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        final byte[] serialized = underTest.toBinary(createThing);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+        assertThat(deserialized)
+                .isInstanceOf(CreateThing.class)
+                .isEqualTo(createThing);
+    }
+
+    @Test
+    public void thingCommandResponseSerializationWorksAsExpected() {
+        final CreateThingResponse createThingResponse = CreateThingResponse.of(THING, DITTO_HEADERS);
+
+        final byte[] serialized = underTest.toBinary(createThingResponse);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThingResponse));
+
+        assertThat(deserialized)
+                .isInstanceOf(CreateThingResponse.class)
+                .isEqualTo(createThingResponse);
+    }
+
+    @Test
+    public void serializationIntoDirectByteBufferWorksAsExpected() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4096);
+
+        underTest.toBinary(createThing, byteBuffer);
+        byteBuffer.flip();
+        final Object deserialized = underTest.fromBinary(byteBuffer, underTest.manifest(createThing));
+
+        assertThat(deserialized).isEqualTo(createThing);
+    }
+
+    @Test
+    public void cborIsMoreCompactThanJson() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        final byte[] serialized = underTest.toBinary(createThing);
+
+        assertThat(serialized.length).isLessThan(createThing.toJsonString().length());
+    }
+
+    @Test
+    public void wholeNumberDoubleKeepsItsNumberType() {
+        final JsonValue wholeNumberDouble = JsonFactory.newValue(1.0);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+
+        CborJsonValueCodec.writeValue(wholeNumberDouble, byteBuffer);
+        byteBuffer.flip();
+        final JsonValue read = CborJsonValueCodec.readValue(byteBuffer);
+
+        assertThat(read.toString()).isEqualTo(wholeNumberDouble.toString());
+    }
+
+    @Test
+    public void readingTruncatedStringThrowsJsonParseException() {
+        // text string announcing 3 bytes of which only 1 is present
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[]{0x63, 0x61});
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CborJsonValueCodec.readValue(byteBuffer));
+    }
+
+    @Test
+    public void deserializingGarbageReturnsNotSerializableException() {
+        final Object deserialized = underTest.fromBinary(new byte[]{(byte) 0xa3, 0x61}, CreateThing.TYPE);
+
+        assertThat(deserialized).isInstanceOf(NotSerializableException.class);
+    }
+
+}
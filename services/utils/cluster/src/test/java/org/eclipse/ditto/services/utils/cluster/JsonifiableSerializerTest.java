@@ -13,9 +13,13 @@
 package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -117,6 +121,44 @@ public final class JsonifiableSerializerTest {
                 .isEqualTo(createThingResponse);
     }
 
+    @Test
+    public void serializationOfMessageLargerThanDirectBufferSizeWorks() {
+        final ExtendedActorSystem actorSystem =
+                (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.empty()
+                        .withValue("ditto.mapping-strategy.implementation",
+                                ConfigValueFactory.fromAnyRef(ThingCommandsStrategy.class.getName()))
+                        .withValue("akka.actor.serializers-json.direct-buffer-size",
+                                ConfigValueFactory.fromAnyRef("1 KiB")));
+        final JsonifiableSerializer underTest = new JsonifiableSerializer(actorSystem);
+        final Thing largeThing =
+                THING.setAttribute("large", JsonValue.of(String.join("", Collections.nCopies(10_000, "x"))));
+        final CreateThing createThing = CreateThing.of(largeThing, null, DITTO_HEADERS);
+
+        final byte[] serialized = underTest.toBinary(createThing);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+        assertThat(deserialized).isEqualTo(createThing);
+    }
+
+    @Test
+    public void serializationOfMessageLargerThanMaxBufferSizeFails() {
+        final ExtendedActorSystem actorSystem =
+                (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.empty()
+                        .withValue("ditto.mapping-strategy.implementation",
+                                ConfigValueFactory.fromAnyRef(ThingCommandsStrategy.class.getName()))
+                        .withValue("akka.actor.serializers-json.direct-buffer-size",
+                                ConfigValueFactory.fromAnyRef("1 KiB"))
+                        .withValue("akka.actor.serializers-json.max-buffer-size",
+                                ConfigValueFactory.fromAnyRef("4 KiB")));
+        final JsonifiableSerializer underTest = new JsonifiableSerializer(actorSystem);
+        final Thing largeThing =
+                THING.setAttribute("large", JsonValue.of(String.join("", Collections.nCopies(10_000, "x"))));
+        final CreateThing createThing = CreateThing.of(largeThing, null, DITTO_HEADERS);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> underTest.toBinary(createThing));
+    }
+
     @Test
     public void shardedMessageEnvelopeSerializationWorksAsExpected() {
         final EntityId id = DefaultEntityId.generateRandom();
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import akka.io.BufferPool;
+import akka.io.DirectByteBufferPool;
+
+/**
+ * Unit test for {@link PooledSegmentsOutputStream}.
+ */
+public final class PooledSegmentsOutputStreamTest {
+
+    private static final int SEGMENT_SIZE = 4;
+
+    @Test
+    public void writesAcrossSegmentsAndCopiesOnce() {
+        final byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        try (final PooledSegmentsOutputStream underTest =
+                     new PooledSegmentsOutputStream(new DirectByteBufferPool(SEGMENT_SIZE, 8), 100)) {
+            underTest.write(0);
+            underTest.write(bytes, 0, bytes.length);
+            underTest.write(11);
+
+            assertThat(underTest.getNumberOfSegments()).isEqualTo(3);
+            assertThat(underTest.toByteArray()).isEqualTo(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11});
+        }
+    }
+
+    @Test
+    public void writingMoreThanMaxSizeFails() {
+        try (final PooledSegmentsOutputStream underTest =
+                     new PooledSegmentsOutputStream(new DirectByteBufferPool(SEGMENT_SIZE, 8), 5)) {
+            underTest.write(new byte[5], 0, 5);
+
+            assertThatExceptionOfType(BufferOverflowException.class).isThrownBy(() -> underTest.write(0));
+        }
+    }
+
+    @Test
+    public void closeReleasesAllSegments() {
+        final RecordingBufferPool bufferPool = new RecordingBufferPool();
+        final PooledSegmentsOutputStream underTest = new PooledSegmentsOutputStream(bufferPool, 100);
+        underTest.write(new byte[9], 0, 9);
+
+        underTest.close();
+
+        assertThat(bufferPool.released).containsExactlyElementsOf(bufferPool.acquired);
+        assertThat(bufferPool.acquired).hasSize(3);
+    }
+
+    private static final class RecordingBufferPool implements BufferPool {
+
+        private final List<ByteBuffer> acquired = new ArrayList<>();
+        private final List<ByteBuffer> released = new ArrayList<>();
+
+        @Override
+        public ByteBuffer acquire() {
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(SEGMENT_SIZE);
+            acquired.add(byteBuffer);
+            return byteBuffer;
+        }
+
+        @Override
+        public void release(final ByteBuffer buf) {
+            released.add(buf);
+        }
+
+    }
+
+}
@@ -117,4 +117,15 @@ public final class ShardRegionExtractorTest {
         assertThat(actual).isEqualTo(errorResponse);
     }
 
+    @Test
+    public void shardIdOfEntityIdIsEqualToShardIdOfMessage() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder().setId(THING_ID).build(), null,
+                DITTO_HEADERS);
+        final ShardedMessageEnvelope messageEnvelope = ShardedMessageEnvelope.of(THING_ID, createThing.getType(),
+                createThing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()),
+                createThing.getDittoHeaders());
+
+        assertThat(underTest.shardIdOfEntityId(THING_ID)).isEqualTo(underTest.shardId(messageEnvelope));
+    }
+
 }
@@ -21,16 +21,31 @@ import java.util.stream.Collectors;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
+import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriberIndex;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.ddata.Replicator;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 
 /**
  * Publishes messages according to topic Bloom filters.
+ * <p>
+ * The subscribers are looked up in a local snapshot of the distributed data, which is read again whenever the
+ * replicator notifies about changes or the data was written through this node. Each snapshot carries the write
+ * version of the distributed data read before it. Since notifications are delayed by the replicator's notification
+ * interval, messages are published according to a fresh read of the distributed data if the snapshot is older than
+ * the current write version, so that subscriptions acknowledged through this node receive the messages published
+ * afterwards. A snapshot of the current write version is authoritative: messages without subscribers in it are
+ * dropped. Remote subscribers filter messages by their local subscriptions; outdated subscribers in the snapshot only
+ * cost wasted messaging.
+ * </p>
  *
  * @param <T> representation of topics in the distributed data.
  */
@@ -47,6 +62,13 @@ public final class Publisher<T> extends AbstractActor {
 
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
+    private final Counter snapshotMissCounter = DittoMetrics.counter("pubsub-publisher-snapshot-misses");
+    private final Histogram publishLatency = DittoMetrics.histogram("pubsub-publish-latency-nanos");
+
+    private SubscriberIndex<T> subscriberIndex = SubscriberIndex.empty();
+    private long subscriberIndexVersion = -1L;
+    private boolean subscriberIndexReading = false;
+    private boolean subscriberIndexOutdated = false;
 
     private CompletionStage<Void> currentPublication = CompletableFuture.completedFuture(null);
 
@@ -67,34 +89,112 @@ public final class Publisher<T> extends AbstractActor {
         return Props.create(Publisher.class, ddataReader);
     }
 
+    @Override
+    public void preStart() {
+        ddataReader.receiveChanges(getSelf());
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Publish.class, this::publish)
+                .match(Replicator.Changed.class, changed -> readSubscriberIndex())
+                .match(SubscriberIndexRead.class, this::updateSubscriberIndex)
+                .match(Status.Failure.class, this::subscriberIndexReadFailed)
                 .matchAny(this::logUnhandled)
                 .build();
     }
 
     private void publish(final Publish publish) {
+        final long startNanos = System.nanoTime();
         messageCounter.increment();
         topicCounter.increment(publish.getTopics().size());
         final List<T> hashes = publish.getTopics().stream().map(ddataReader::approximate).collect(Collectors.toList());
         final Object message = publish.getMessage();
         final ActorRef sender = getSender();
-        currentPublication = currentPublication.thenCompose(_void ->
-                ddataReader.getSubscribers(hashes)
-                        .thenAccept(subscribers -> subscribers.forEach(subscriber -> subscriber.tell(message, sender)))
-                        .exceptionally(e -> {
-                            log.error(e, "Failed: <{}>", publish);
-                            return null;
-                        })
-        );
+        final CompletionStage<Collection<ActorRef>> subscribersFuture;
+        if (subscriberIndexVersion == ddataReader.getWriteVersion()) {
+            final Collection<ActorRef> subscribers = subscriberIndex.getSubscribers(hashes);
+            if (subscribers.isEmpty()) {
+                // the snapshot is up to date: there is nobody to publish to
+                publishLatency.record(System.nanoTime() - startNanos);
+                return;
+            } else if (currentPublication.toCompletableFuture().isDone()) {
+                // fast path: no publication waits for the distributed data, the snapshot may be used right away
+                tellSubscribers(subscribers, message, sender, startNanos);
+                return;
+            }
+            // retain the order of publications
+            subscribersFuture = currentPublication.thenApply(_void -> subscribers);
+        } else {
+            // writes through this node, e. g. acknowledged subscriptions, are not in the snapshot yet
+            readSubscriberIndex();
+            snapshotMissCounter.increment();
+            subscribersFuture = currentPublication.thenCompose(_void -> ddataReader.getSubscribers(hashes));
+        }
+        currentPublication = subscribersFuture
+                .thenAccept(result -> tellSubscribers(result, message, sender, startNanos))
+                .exceptionally(e -> {
+                    log.error(e, "Failed: <{}>", publish);
+                    return null;
+                });
+    }
+
+    private void tellSubscribers(final Collection<ActorRef> subscribers, final Object message, final ActorRef sender,
+            final long startNanos) {
+
+        subscribers.forEach(subscriber -> subscriber.tell(message, sender));
+        publishLatency.record(System.nanoTime() - startNanos);
+    }
+
+    private void readSubscriberIndex() {
+        if (subscriberIndexReading) {
+            subscriberIndexOutdated = true;
+        } else {
+            subscriberIndexReading = true;
+            subscriberIndexOutdated = false;
+            // read the version first: the index read afterwards contains at least the writes counted so far
+            final long version = ddataReader.getWriteVersion();
+            final CompletionStage<SubscriberIndexRead> indexRead = ddataReader.getSubscriberIndex()
+                    .thenApply(index -> new SubscriberIndexRead(version, index));
+            Patterns.pipe(indexRead, getContext().dispatcher()).to(getSelf());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateSubscriberIndex(final SubscriberIndexRead indexRead) {
+        subscriberIndex = (SubscriberIndex<T>) indexRead.index;
+        subscriberIndexVersion = indexRead.version;
+        subscriberIndexReadFinished();
+    }
+
+    private void subscriberIndexReadFailed(final Status.Failure failure) {
+        log.error(failure.cause(), "Failed to read subscribers");
+        subscriberIndexReadFinished();
+    }
+
+    private void subscriberIndexReadFinished() {
+        subscriberIndexReading = false;
+        if (subscriberIndexOutdated) {
+            readSubscriberIndex();
+        }
     }
 
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
 
+    private static final class SubscriberIndexRead {
+
+        private final long version;
+        private final SubscriberIndex<?> index;
+
+        private SubscriberIndexRead(final long version, final SubscriberIndex<?> index) {
+            this.version = version;
+            this.index = index;
+        }
+    }
+
     /**
      * Command for the publisher to publish a message.
      * Only the message is sent across the cluster.
@@ -39,4 +39,28 @@ public interface DDataReader<T> {
      * @return its approximation in the distributed data.
      */
     T approximate(String topic);
+
+    /**
+     * Request {@code Replicator.Changed} notifications when the distributed data changes.
+     * The current value is sent right away if it exists.
+     *
+     * @param recipient whom to notify of changes.
+     */
+    void receiveChanges(ActorRef recipient);
+
+    /**
+     * Read all subscribers from the local replica of the distributed data and index them by topic approximation.
+     *
+     * @return future index of subscribers.
+     */
+    CompletionStage<SubscriberIndex<T>> getSubscriberIndex();
+
+    /**
+     * Get the number of writes to the distributed data through this node which completed so far.
+     * A write is counted before its future completes, so that an index read after a write was acknowledged is
+     * associated with a version that covers the write.
+     *
+     * @return the current version of writes through this node.
+     */
+    long getWriteVersion();
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import akka.actor.ActorRef;
+
+/**
+ * Immutable snapshot of the distributed subscriptions indexed by topic approximation, so that the subscribers of
+ * published messages can be looked up in memory.
+ *
+ * @param <T> type of topic approximations.
+ */
+@Immutable
+public final class SubscriberIndex<T> {
+
+    private final Map<T, List<ActorRef>> topicToSubscribers;
+    private final int subscriberCount;
+
+    private SubscriberIndex(final Map<T, List<ActorRef>> topicToSubscribers, final int subscriberCount) {
+        this.topicToSubscribers = topicToSubscribers;
+        this.subscriberCount = subscriberCount;
+    }
+
+    /**
+     * @param <T> type of topic approximations.
+     * @return an index without subscribers.
+     */
+    public static <T> SubscriberIndex<T> empty() {
+        return new SubscriberIndex<>(Collections.emptyMap(), 0);
+    }
+
+    /**
+     * Index a relation between subscribers and the approximations of the topics they subscribe to.
+     *
+     * @param subscriberToTopics the relation.
+     * @param <T> type of topic approximations.
+     * @return the index.
+     */
+    public static <T> SubscriberIndex<T> of(final Map<ActorRef, ? extends Collection<T>> subscriberToTopics) {
+        final Map<T, List<ActorRef>> topicToSubscribers = new HashMap<>();
+        subscriberToTopics.forEach((subscriber, topics) -> {
+            for (final T topic : topics) {
+                topicToSubscribers.computeIfAbsent(topic, t -> new ArrayList<>()).add(subscriber);
+            }
+        });
+        topicToSubscribers.replaceAll((topic, subscribers) -> Collections.unmodifiableList(subscribers));
+        return new SubscriberIndex<>(Collections.unmodifiableMap(topicToSubscribers), subscriberToTopics.size());
+    }
+
+    /**
+     * Look up the subscribers of any of the given topic approximations.
+     *
+     * @param topics the topic approximations.
+     * @return subscribers of at least one of the topics, each listed once.
+     */
+    public Collection<ActorRef> getSubscribers(final Collection<T> topics) {
+        if (topics.size() == 1) {
+            return topicToSubscribers.getOrDefault(topics.iterator().next(), Collections.emptyList());
+        }
+        final Set<ActorRef> subscribers = new LinkedHashSet<>();
+        for (final T topic : topics) {
+            subscribers.addAll(topicToSubscribers.getOrDefault(topic, Collections.emptyList()));
+        }
+        return subscribers;
+    }
+
+    /**
+     * @return the number of subscribers in this index.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "topics=" + topicToSubscribers.size() +
+                ", subscriberCount=" + subscriberCount +
+                "]";
+    }
+
+}
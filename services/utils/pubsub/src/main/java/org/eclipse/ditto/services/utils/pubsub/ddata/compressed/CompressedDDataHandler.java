@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
@@ -28,6 +29,7 @@ import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataWriter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.Hashes;
+import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriberIndex;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
@@ -54,6 +56,7 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
     private final List<Integer> seeds;
 
     private final Gauge ddataMetrics = DittoMetrics.gauge("pubsub-ddata-entries");
+    private final AtomicLong writeVersion = new AtomicLong();
 
     private CompressedDDataHandler(final DistributedDataConfig config,
             final ActorRefFactory actorRefFactory,
@@ -111,6 +114,26 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         });
     }
 
+    @Override
+    public void receiveChanges(final ActorRef recipient) {
+        subscribeForChanges(recipient);
+    }
+
+    @Override
+    public CompletionStage<SubscriberIndex<ByteString>> getSubscriberIndex() {
+        return get(Replicator.readLocal()).thenApply(optional -> {
+            final SubscriberIndex<ByteString> index = optional.map(mmap -> SubscriberIndex.of(mmap.getEntries()))
+                    .orElseGet(SubscriberIndex::empty);
+            ddataMetrics.set((long) index.getSubscriberCount());
+            return index;
+        });
+    }
+
+    @Override
+    public long getWriteVersion() {
+        return writeVersion.get();
+    }
+
     /**
      * Lossy-compress a topic into a ByteString consisting of hash codes from the family of hash functions.
      *
@@ -132,7 +155,7 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
     @Override
     public CompletionStage<Void> removeAddress(final Address address,
             final Replicator.WriteConsistency writeConsistency) {
-        return update(writeConsistency, mmap -> {
+        return countWrite(update(writeConsistency, mmap -> {
             ORMultiMap<ActorRef, ByteString> result = mmap;
             for (final ActorRef subscriber : mmap.getEntries().keySet()) {
                 if (subscriber.path().address().equals(address)) {
@@ -140,7 +163,7 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
                 }
             }
             return result;
-        });
+        }));
     }
 
     @Override
@@ -149,10 +172,11 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
 
         if (topics.shouldReplaceAll()) {
             // complete replacement
-            return update(writeConsistency, mmap -> mmap.put(selfUniqueAddress, ownSubscriber, topics.getInserts()));
+            return countWrite(update(writeConsistency,
+                    mmap -> mmap.put(selfUniqueAddress, ownSubscriber, topics.getInserts())));
         } else {
             // incremental update
-            return update(writeConsistency, mmap -> {
+            return countWrite(update(writeConsistency, mmap -> {
                 ORMultiMap<ActorRef, ByteString> result = mmap;
                 for (final ByteString inserted : topics.getInserts()) {
                     result = result.addBinding(selfUniqueAddress, ownSubscriber, inserted);
@@ -161,14 +185,19 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
                     result = result.removeBinding(selfUniqueAddress, ownSubscriber, deleted);
                 }
                 return result;
-            });
+            }));
         }
     }
 
     @Override
     public CompletionStage<Void> removeSubscriber(final ActorRef subscriber,
             final Replicator.WriteConsistency writeConsistency) {
-        return update(writeConsistency, mmap -> mmap.remove(selfUniqueAddress, subscriber));
+        return countWrite(update(writeConsistency, mmap -> mmap.remove(selfUniqueAddress, subscriber)));
+    }
+
+    private CompletionStage<Void> countWrite(final CompletionStage<Void> write) {
+        // increment before dependent stages run, e. g. acknowledgement of subscriptions
+        return write.whenComplete((result, error) -> writeVersion.incrementAndGet());
     }
 
     @Override
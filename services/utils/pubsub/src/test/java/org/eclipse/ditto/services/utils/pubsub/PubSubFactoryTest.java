@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 import org.awaitility.Awaitility;
@@ -41,6 +42,7 @@ import akka.testkit.TestActorRef;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Tests Ditto pub-sub as a whole.
@@ -120,6 +122,32 @@ public final class PubSubFactoryTest {
         }};
     }
 
+    @Test
+    public void subscribeThenPublishReachesSubscriberMissingInSnapshot() {
+        new TestKit(system1) {{
+            final DistributedPub<String> pub = factory1.startDistributedPub();
+            final DistributedSub sub = factory1.startDistributedSub();
+            final TestProbe publisher = TestProbe.apply(system1);
+            final TestProbe subscriber1 = TestProbe.apply(system1);
+            final TestProbe subscriber2 = TestProbe.apply(system1);
+
+            // GIVEN: a subscriber of a topic is in the snapshot of the publisher
+            sub.subscribeWithAck(singleton("hello"), subscriber1.ref()).toCompletableFuture().join();
+            pub.publish("hello", publisher.ref());
+            subscriber1.expectMsg("hello");
+            // wait for the change notification of the replicator
+            subscriber1.expectNoMessage(FiniteDuration.create(1L, TimeUnit.SECONDS));
+
+            // WHEN: another actor subscribes to the same topic and a message is published right after acknowledgement
+            sub.subscribeWithAck(singleton("hello"), subscriber2.ref()).toCompletableFuture().join();
+            pub.publish("hello world", publisher.ref());
+
+            // THEN: both subscribers receive the message
+            subscriber1.expectMsg("hello world");
+            subscriber2.expectMsg("hello world");
+        }};
+    }
+
     @Test
     public void broadcastMessageToManySubscribers() {
         new TestKit(system2) {{
@@ -197,13 +197,13 @@ public abstract class AbstractSubscriptionsTest<H, T, S extends AbstractSubscrip
         return new HashSet<>(Arrays.asList(elements));
     }
 
-    private static final class MockActorRef extends ActorRef {
+    static final class MockActorRef extends ActorRef {
 
         private static final String GUARDIAN = "akka://user@hostname:1234/user/";
 
         private final String path;
 
-        private MockActorRef(final String name) {
+        MockActorRef(final String name) {
             path = GUARDIAN + name;
         }
 
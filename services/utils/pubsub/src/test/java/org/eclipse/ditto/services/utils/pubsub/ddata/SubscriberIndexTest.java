@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+
+/**
+ * Tests {@link SubscriberIndex}.
+ */
+public final class SubscriberIndexTest {
+
+    private static final ActorRef ACTOR1 = new AbstractSubscriptionsTest.MockActorRef("actor1");
+    private static final ActorRef ACTOR2 = new AbstractSubscriptionsTest.MockActorRef("actor2");
+    private static final ActorRef ACTOR3 = new AbstractSubscriptionsTest.MockActorRef("actor3");
+
+    @Test
+    public void emptyIndexHasNoSubscribers() {
+        final SubscriberIndex<String> underTest = SubscriberIndex.empty();
+
+        assertThat(underTest.getSubscriberCount()).isZero();
+        assertThat(underTest.getSubscribers(asList("1", "2"))).isEmpty();
+    }
+
+    @Test
+    public void lookUpSubscribersOfTopics() {
+        final Map<ActorRef, Set<String>> subscriberToTopics = new HashMap<>();
+        subscriberToTopics.put(ACTOR1, asSet("1", "2"));
+        subscriberToTopics.put(ACTOR2, asSet("2", "3"));
+        subscriberToTopics.put(ACTOR3, asSet("4"));
+        final SubscriberIndex<String> underTest = SubscriberIndex.of(subscriberToTopics);
+
+        assertThat(underTest.getSubscriberCount()).isEqualTo(3);
+        assertThat(underTest.getSubscribers(singleton("2"))).containsExactlyInAnyOrder(ACTOR1, ACTOR2);
+        assertThat(underTest.getSubscribers(asList("1", "2", "3"))).containsExactlyInAnyOrder(ACTOR1, ACTOR2);
+        assertThat(underTest.getSubscribers(asList("3", "4"))).containsExactlyInAnyOrder(ACTOR2, ACTOR3);
+        assertThat(underTest.getSubscribers(singleton("5"))).isEmpty();
+    }
+
+    @Test
+    public void indexIsNotAffectedByLaterChangesOfItsSource() {
+        final Map<ActorRef, Set<String>> subscriberToTopics = new HashMap<>();
+        subscriberToTopics.put(ACTOR1, asSet("1"));
+        final SubscriberIndex<String> underTest = SubscriberIndex.of(subscriberToTopics);
+
+        subscriberToTopics.put(ACTOR2, asSet("1"));
+        subscriberToTopics.get(ACTOR1).add("2");
+
+        assertThat(underTest.getSubscribers(asList("1", "2"))).containsExactly(ACTOR1);
+    }
+
+    private static Set<String> asSet(final String... elements) {
+        return new HashSet<>(asList(elements));
+    }
+
+}